@@ -0,0 +1,22 @@
+package com.example.courseapi.config;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RequiredArgsConstructor
+@Data
+@ConfigurationProperties("access-log")
+public class AccessLogProperties {
+    private boolean enabled = true;
+    /**
+     * Share of successful requests that are logged, requests answered with 4xx or 5xx are always logged.
+     */
+    private double sampleRate = 1.0;
+    /**
+     * Records waiting for the writer thread, rounded up to a power of two. Records are dropped when it is full.
+     */
+    private int bufferSize = 8192;
+}
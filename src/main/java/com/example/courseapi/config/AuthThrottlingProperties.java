@@ -0,0 +1,53 @@
+package com.example.courseapi.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+@Data
+@ConfigurationProperties("security.throttling")
+public class AuthThrottlingProperties {
+    private boolean enabled = true;
+    /**
+     * Upper bound of buckets kept per endpoint and key type, the least recently used ones are dropped first.
+     */
+    private long maxKeys = 100_000;
+    private Endpoint login = new Endpoint(new Limit(20, Duration.ofSeconds(3)), new Limit(5, Duration.ofMinutes(1)));
+    private Endpoint signup = new Endpoint(new Limit(5, Duration.ofMinutes(1)), new Limit(3, Duration.ofMinutes(10)));
+    private Endpoint refreshToken = new Endpoint(new Limit(30, Duration.ofSeconds(1)), null);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Endpoint {
+        /**
+         * Bucket per client IP, not applied when unset.
+         */
+        private Limit perIp;
+        /**
+         * Bucket per account email, not applied when unset.
+         */
+        private Limit perAccount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        /**
+         * Requests allowed in a burst.
+         */
+        private int capacity;
+        /**
+         * Time to refill one request.
+         */
+        private Duration refillPeriod;
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 @Data
@@ -13,6 +15,11 @@ public class JwtProperties {
     private String signingKey;
     private Long accessTokenExpiration;
     private Long refreshTokenExpiration;
+    /**
+     * How long a user's token version is trusted before it is read again, which bounds how long a revoked
+     * access token keeps working on other instances.
+     */
+    private Duration tokenVersionTtl = Duration.ofSeconds(30);
 
     public Long getTokenTimeout(boolean isAccessToken) {
         return isAccessToken ? accessTokenExpiration : refreshTokenExpiration;
@@ -0,0 +1,25 @@
+package com.example.courseapi.config;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+@Data
+@ConfigurationProperties("security.password")
+public class PasswordEncoderProperties {
+    /**
+     * BCrypt cost factor, stored hashes with another cost are rehashed on the next successful login.
+     */
+    private int strength = 10;
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 100;
+    /**
+     * Value of the Retry-After header sent when the pool is saturated.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
@@ -0,0 +1,17 @@
+package com.example.courseapi.config;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+@Data
+@ConfigurationProperties("security.user-details-cache")
+public class UserDetailsCacheProperties {
+    private long maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+}
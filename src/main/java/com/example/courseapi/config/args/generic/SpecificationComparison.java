@@ -4,8 +4,10 @@ import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public enum SpecificationComparison {
@@ -16,11 +18,21 @@ public enum SpecificationComparison {
     IN(set("in")),
     EQUALS(set("equals", "=")),
     CONTAINS(set("contains")),
+    SEARCH(set("search")),
     LESS_THAN_OR_EQUAL(set("lessThanOrEqual", "<=")),
     LESS_THAN(set("lessThan", "<")),
     GREATER_THAN_OR_EQUAL(set("greaterThanOrEqual", ">=")),
     GREATER_THAN(set("greaterThan", ">")),
     NOT_IN(set("notIn"));
+
+    private static final Map<String, SpecificationComparison> BY_ALIAS = new HashMap<>();
+
+    static {
+        for (SpecificationComparison comparison : values()) {
+            comparison.aliases.forEach(alias -> BY_ALIAS.put(alias, comparison));
+        }
+    }
+
     private final Set<String> aliases;
 
     private static Set<String> set(final String... args) {
@@ -28,10 +40,8 @@ public enum SpecificationComparison {
     }
 
     public static SpecificationComparison getByAlias(final String alias) {
-        return Stream.of(SpecificationComparison.values())
-                .filter(s -> s.aliases.contains(alias))
-                .findAny()
-                .orElseThrow(() -> new SystemException("Unable to locate comparison param for alias " + alias, ErrorCode.NOT_FOUND));
+        return Optional.ofNullable(BY_ALIAS.get(alias))
+                .orElseThrow(() -> new SystemException("Unable to locate comparison param for alias " + alias, ErrorCode.BAD_REQUEST));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,446 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.config.args.generic.Filter;
+import com.example.courseapi.config.args.generic.Filters;
+import com.example.courseapi.config.args.generic.SpecificationComparison;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Turns request {@link Filters} into a {@link Specification}, checking every filter against the JPA metamodel
+ * before any query runs.
+ * <p>
+ * The property path, the comparison and the value type of a filter are resolved once per
+ * (entity, path, comparison) and cached as a {@link CompiledFilter}, so a request only converts its values and
+ * creates the predicates. Unknown properties, comparisons that do not apply to the property type and values that
+ * cannot be converted are rejected with {@link ErrorCode#BAD_REQUEST}.
+ * <p>
+ * Joins are shared by the filters of a request and paths through collections become {@code EXISTS} subqueries,
+ * see {@link FilterSpecification}.
+ */
+@Log4j2
+@Component
+public class FilterCompiler {
+    private static final int MAXIMUM_COMPILED_FILTERS = 1024;
+    private static final Splitter PATH_SPLITTER = Splitter.on('.');
+    private static final Splitter LIST_SPLITTER = Splitter.on(',').trimResults();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE;
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_DATE_TIME;
+
+    private static final Set<SpecificationComparison> TEXT_COMPARISONS = EnumSet.of(
+            SpecificationComparison.CONTAINS, SpecificationComparison.STARTS_WITH, SpecificationComparison.ENDS_WITH);
+    private static final Set<SpecificationComparison> ORDER_COMPARISONS = EnumSet.of(
+            SpecificationComparison.GREATER_THAN, SpecificationComparison.GREATER_THAN_OR_EQUAL,
+            SpecificationComparison.LESS_THAN, SpecificationComparison.LESS_THAN_OR_EQUAL);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Cache<FilterKey, CompiledFilter> compiledFilters;
+
+    public FilterCompiler(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.compiledFilters = CacheBuilder.newBuilder()
+                .maximumSize(MAXIMUM_COMPILED_FILTERS)
+                .build();
+    }
+
+    /**
+     * Compiles the filters into one conjunction. Filters without a value are skipped, as before.
+     *
+     * @return the specification, or {@code null} when there is nothing to filter by
+     * @throws SystemException with {@link ErrorCode#BAD_REQUEST} if a filter does not apply to the entity
+     */
+    public <T> Specification<T> compile(final Class<T> entityType, final Filters filters) {
+        List<BoundFilter> boundFilters = new ArrayList<>();
+        if (Objects.nonNull(filters)) {
+            for (Filter filter : filters) {
+                if (Objects.nonNull(filter.value())) {
+                    CompiledFilter compiled = compiledFilter(entityType, filter);
+                    boundFilters.add(new BoundFilter(compiled, compiled.binder().apply(filter.value())));
+                }
+            }
+        }
+        return boundFilters.isEmpty() ? null : new FilterSpecification<>(boundFilters);
+    }
+
+    private CompiledFilter compiledFilter(final Class<?> entityType, final Filter filter) {
+        FilterKey key = new FilterKey(entityType, filter.name(), filter.comparison());
+        CompiledFilter compiled = compiledFilters.getIfPresent(key);
+        if (Objects.isNull(compiled)) {
+            compiled = compile(key);
+            compiledFilters.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    private CompiledFilter compile(final FilterKey key) {
+        log.debug("Compiling filter {} {} for {}", key.path(), key.comparison(), key.entityType().getSimpleName());
+        if (Objects.isNull(key.comparison())) {
+            throw badFilter(key, "has no comparison");
+        }
+        List<String> segments = PATH_SPLITTER.splitToList(Objects.toString(key.path(), ""));
+        if (segments.stream().anyMatch(StringUtils::isBlank)) {
+            throw badFilter(key, "has an invalid property path");
+        }
+        ManagedType<?> type = managedType(key);
+        int collectionIndex = -1;
+        List<String> joins = segments.subList(0, segments.size() - 1);
+        for (int index = 0; index < joins.size(); index++) {
+            Attribute<?, ?> association = attribute(key, type, joins.get(index));
+            if (association.isCollection() && collectionIndex < 0) {
+                collectionIndex = index;
+            }
+            type = associationTarget(key, association);
+        }
+        Attribute<?, ?> attribute = attribute(key, type, segments.get(segments.size() - 1));
+        if (!(attribute instanceof SingularAttribute<?, ?> singular)
+                || singular.getType().getPersistenceType() != Type.PersistenceType.BASIC) {
+            throw badFilter(key, "does not point to a basic property");
+        }
+        Class<?> javaType = ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType());
+        return new CompiledFilter(List.copyOf(joins), collectionIndex, singular,
+                binder(key, javaType), predicateFactory(key.comparison()));
+    }
+
+    private ManagedType<?> managedType(final FilterKey key) {
+        try {
+            return entityManagerFactory.getMetamodel().managedType(key.entityType());
+        } catch (IllegalArgumentException e) {
+            throw badFilter(key, "targets an unknown entity");
+        }
+    }
+
+    private static Attribute<?, ?> attribute(final FilterKey key, final ManagedType<?> type, final String name) {
+        try {
+            return type.getAttribute(name);
+        } catch (IllegalArgumentException e) {
+            throw badFilter(key, "refers to unknown property " + name);
+        }
+    }
+
+    private static ManagedType<?> associationTarget(final FilterKey key, final Attribute<?, ?> attribute) {
+        if (attribute.isAssociation()) {
+            if (attribute instanceof PluralAttribute<?, ?, ?> plural
+                    && plural.getElementType() instanceof ManagedType<?> target) {
+                return target;
+            } else if (attribute instanceof SingularAttribute<?, ?> singular
+                    && singular.getType() instanceof ManagedType<?> target) {
+                return target;
+            }
+        }
+        throw badFilter(key, "traverses " + attribute.getName() + ", which is not an association");
+    }
+
+    /**
+     * Chooses how the raw filter value is turned into the predicate operand: a single value, a list for
+     * {@code in} and {@code notIn}, a pair of optional bounds for {@code inRange} or a like pattern.
+     */
+    private static Function<Object, Object> binder(final FilterKey key, final Class<?> javaType) {
+        SpecificationComparison comparison = key.comparison();
+        if (TEXT_COMPARISONS.contains(comparison)) {
+            if (javaType != String.class) {
+                throw badFilter(key, "applies a text comparison to a non text property");
+            }
+            String prefix = comparison == SpecificationComparison.STARTS_WITH ? "" : "%";
+            String suffix = comparison == SpecificationComparison.ENDS_WITH ? "" : "%";
+            return value -> prefix + value.toString().toLowerCase() + suffix;
+        }
+        if (comparison == SpecificationComparison.SEARCH) {
+            if (javaType != String.class) {
+                throw badFilter(key, "applies a full-text search to a non text property");
+            }
+            return value -> value.toString().trim();
+        }
+        if (ORDER_COMPARISONS.contains(comparison) && !Comparable.class.isAssignableFrom(javaType)) {
+            throw badFilter(key, "applies an ordering comparison to a property without order");
+        }
+        boolean lowerBound = comparison == SpecificationComparison.GREATER_THAN
+                || comparison == SpecificationComparison.GREATER_THAN_OR_EQUAL;
+        return switch (comparison) {
+            case EQUALS -> converter(key, javaType, null);
+            case GREATER_THAN, GREATER_THAN_OR_EQUAL, LESS_THAN, LESS_THAN_OR_EQUAL ->
+                    converter(key, javaType, lowerBound);
+            case IN, NOT_IN -> listBinder(converter(key, javaType, null));
+            case IN_RANGE -> rangeBinder(key, javaType);
+            default -> throw badFilter(key, "uses an unsupported comparison");
+        };
+    }
+
+    private static Function<Object, Object> listBinder(final Function<Object, Object> converter) {
+        return value -> {
+            Collection<?> values = value instanceof Collection<?> collection ? collection
+                    : StringUtils.isEmpty(value.toString()) ? List.of() : LIST_SPLITTER.splitToList(value.toString());
+            return values.stream().map(converter).toList();
+        };
+    }
+
+    private static Function<Object, Object> rangeBinder(final FilterKey key, final Class<?> javaType) {
+        boolean numeric = Number.class.isAssignableFrom(javaType);
+        if (!numeric && javaType != LocalDate.class && javaType != LocalDateTime.class) {
+            throw badFilter(key, "applies a range to a property that is neither a number nor a date");
+        }
+        Function<Object, Object> from = converter(key, javaType, true);
+        Function<Object, Object> to = converter(key, javaType, false);
+        return value -> {
+            String range = value.toString();
+            // numeric ranges were historically written as "from-to"
+            List<String> bounds = Splitter.on(numeric && !range.contains(",") ? '-' : ',')
+                    .trimResults().splitToList(range);
+            if (bounds.size() != 2) {
+                throw new SystemException("Range of filter %s must have two bounds".formatted(key.path()),
+                        ErrorCode.BAD_REQUEST);
+            }
+            Object lower = isOpenBound(bounds.get(0)) ? null : from.apply(bounds.get(0));
+            Object upper = isOpenBound(bounds.get(1)) ? null : to.apply(bounds.get(1));
+            if (Objects.isNull(lower) && Objects.isNull(upper)) {
+                throw new SystemException("Range of filter %s has no bounds".formatted(key.path()),
+                        ErrorCode.BAD_REQUEST);
+            }
+            return new Object[]{lower, upper};
+        };
+    }
+
+    private static boolean isOpenBound(final String bound) {
+        return StringUtils.isBlank(bound) || "null".equals(bound);
+    }
+
+    /**
+     * @param lowerBound for date-time properties, whether a bare date means its start ({@code true}), its end
+     *                   ({@code false}) or is not accepted ({@code null})
+     */
+    private static Function<Object, Object> converter(
+            final FilterKey key, final Class<?> javaType, final Boolean lowerBound) {
+        Function<String, Object> parser = parser(key, javaType, lowerBound);
+        return value -> {
+            if (javaType.isInstance(value)) {
+                return value;
+            }
+            try {
+                return parser.apply(value.toString());
+            } catch (RuntimeException e) {
+                throw new SystemException("Invalid value %s for filter %s".formatted(value, key.path()),
+                        ErrorCode.BAD_REQUEST);
+            }
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<String, Object> parser(
+            final FilterKey key, final Class<?> javaType, final Boolean lowerBound) {
+        if (javaType == String.class) {
+            return value -> value;
+        } else if (javaType == Long.class) {
+            return Long::valueOf;
+        } else if (javaType == Integer.class) {
+            return Integer::valueOf;
+        } else if (javaType == Short.class) {
+            return Short::valueOf;
+        } else if (javaType == Double.class) {
+            return Double::valueOf;
+        } else if (javaType == Float.class) {
+            return Float::valueOf;
+        } else if (javaType == BigDecimal.class) {
+            return BigDecimal::new;
+        } else if (javaType == BigInteger.class) {
+            return BigInteger::new;
+        } else if (javaType == Boolean.class) {
+            return value -> Optional.ofNullable(BooleanUtils.toBooleanObject(value))
+                    .orElseThrow(() -> new IllegalArgumentException("Not a boolean: " + value));
+        } else if (javaType == LocalDate.class) {
+            return value -> LocalDate.from(DATE_FORMATTER.parse(value));
+        } else if (javaType == LocalDateTime.class) {
+            return value -> parseDateTime(value, lowerBound);
+        } else if (javaType.isEnum()) {
+            return value -> Enum.valueOf((Class<? extends Enum>) javaType, value);
+        }
+        throw badFilter(key, "targets a property of unsupported type " + javaType.getSimpleName());
+    }
+
+    /**
+     * Parses an ISO date-time. A bare ISO date is accepted for bounds and extended to the start or the end of
+     * that day.
+     */
+    private static LocalDateTime parseDateTime(final String value, final Boolean lowerBound) {
+        try {
+            return LocalDateTime.from(DATE_TIME_FORMATTER.parse(value));
+        } catch (DateTimeParseException e) {
+            if (Objects.isNull(lowerBound)) {
+                throw e;
+            }
+            LocalDate date = LocalDate.from(DATE_FORMATTER.parse(value));
+            return lowerBound ? date.atStartOfDay() : date.atTime(LocalTime.MAX);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static PredicateFactory predicateFactory(final SpecificationComparison comparison) {
+        return switch (comparison) {
+            case EQUALS -> CriteriaBuilder::equal;
+            case GREATER_THAN -> (builder, path, operand) ->
+                    builder.greaterThan((Expression<Comparable>) path, (Comparable) operand);
+            case GREATER_THAN_OR_EQUAL -> (builder, path, operand) ->
+                    builder.greaterThanOrEqualTo((Expression<Comparable>) path, (Comparable) operand);
+            case LESS_THAN -> (builder, path, operand) ->
+                    builder.lessThan((Expression<Comparable>) path, (Comparable) operand);
+            case LESS_THAN_OR_EQUAL -> (builder, path, operand) ->
+                    builder.lessThanOrEqualTo((Expression<Comparable>) path, (Comparable) operand);
+            case CONTAINS, STARTS_WITH, ENDS_WITH -> (builder, path, operand) ->
+                    builder.like(builder.lower((Expression<String>) path), (String) operand);
+            // bound as a parameter, criteria literals in function arguments are rendered into the SQL
+            case SEARCH -> (builder, path, operand) -> builder.isTrue(builder.function(TextSearchFunctions.TEXT_SEARCH,
+                    Boolean.class, path, ((HibernateCriteriaBuilder) builder).value((String) operand)));
+            case IN -> (builder, path, operand) -> path.in((Collection<?>) operand);
+            case NOT_IN -> (builder, path, operand) -> builder.not(path.in((Collection<?>) operand));
+            case IN_RANGE -> (builder, path, operand) -> {
+                Object[] bounds = (Object[]) operand;
+                Expression<Comparable> comparable = (Expression<Comparable>) path;
+                if (Objects.isNull(bounds[0])) {
+                    return builder.lessThanOrEqualTo(comparable, (Comparable) bounds[1]);
+                } else if (Objects.isNull(bounds[1])) {
+                    return builder.greaterThanOrEqualTo(comparable, (Comparable) bounds[0]);
+                }
+                return builder.between(comparable, (Comparable) bounds[0], (Comparable) bounds[1]);
+            };
+        };
+    }
+
+    private static SystemException badFilter(final FilterKey key, final String reason) {
+        return new SystemException("Filter %s on %s %s".formatted(key.path(), key.entityType().getSimpleName(), reason),
+                ErrorCode.BAD_REQUEST);
+    }
+
+    @FunctionalInterface
+    private interface PredicateFactory {
+        Predicate create(final CriteriaBuilder builder, final Path<?> path, final Object operand);
+    }
+
+    private record FilterKey(Class<?> entityType, String path, SpecificationComparison comparison) {
+    }
+
+    /**
+     * A filter resolved against the metamodel: the associations to join, the first of them that is a collection
+     * ({@code -1} if none), the property to compare, how to convert its value and how to build its predicate.
+     */
+    private record CompiledFilter(List<String> joins, int collectionIndex, SingularAttribute<?, ?> attribute,
+                                  Function<Object, Object> binder, PredicateFactory predicateFactory) {
+    }
+
+    private record BoundFilter(CompiledFilter compiled, Object operand) {
+    }
+
+    /**
+     * Creates the predicates of all filters of a request together, so they can share their joins.
+     * <p>
+     * Paths over single valued associations are joined once per query. A path through a collection would multiply
+     * the rows and break the page totals, so the filters sharing its first collection association are evaluated in
+     * one correlated {@code EXISTS} subquery instead, where they also share their joins.
+     */
+    @RequiredArgsConstructor
+    private static final class FilterSpecification<T> implements Specification<T> {
+        @Serial
+        private static final long serialVersionUID = -3183917412043329781L;
+
+        private final transient List<BoundFilter> filters;
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate toPredicate(final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+            JoinScope rootScope = new JoinScope(root);
+            Map<String, ExistsScope> existsScopes = new LinkedHashMap<>();
+            List<Predicate> predicates = new ArrayList<>();
+            for (BoundFilter filter : filters) {
+                CompiledFilter compiled = filter.compiled();
+                From<?, ?> from;
+                List<Predicate> target = predicates;
+                if (compiled.collectionIndex() < 0) {
+                    from = rootScope.join(compiled.joins());
+                } else {
+                    List<String> collectionPath = compiled.joins().subList(0, compiled.collectionIndex() + 1);
+                    ExistsScope exists = existsScopes.computeIfAbsent(String.join(".", collectionPath),
+                            path -> new ExistsScope(root, query));
+                    from = exists.scope().join(compiled.joins());
+                    target = exists.predicates();
+                }
+                Path<?> path = from.get((SingularAttribute) compiled.attribute());
+                target.add(compiled.predicateFactory().create(builder, path, filter.operand()));
+            }
+            existsScopes.values().forEach(exists -> predicates.add(exists.toPredicate(builder)));
+            return predicates.size() == 1 ? predicates.get(0) : builder.and(predicates.toArray(Predicate[]::new));
+        }
+    }
+
+    /**
+     * Joins of one query scope, keyed by their dotted path.
+     */
+    private static final class JoinScope {
+        private final From<?, ?> root;
+        private final Map<String, From<?, ?>> joins = new HashMap<>();
+
+        JoinScope(final From<?, ?> root) {
+            this.root = root;
+        }
+
+        From<?, ?> join(final List<String> path) {
+            From<?, ?> current = root;
+            for (int index = 0; index < path.size(); index++) {
+                From<?, ?> parent = current;
+                String association = path.get(index);
+                current = joins.computeIfAbsent(String.join(".", path.subList(0, index + 1)),
+                        key -> parent.join(association));
+            }
+            return current;
+        }
+    }
+
+    /**
+     * A correlated {@code EXISTS} joining the collection straight from the outer root, so the subquery reads the
+     * join table and the collection's table without another scan of the root's table.
+     */
+    private static final class ExistsScope {
+        private final Subquery<Integer> subquery;
+        private final JoinScope scope;
+        private final List<Predicate> predicates = new ArrayList<>();
+
+        ExistsScope(final Root<?> root, final CriteriaQuery<?> query) {
+            this.subquery = query.subquery(Integer.class);
+            this.scope = new JoinScope(subquery.correlate(root));
+        }
+
+        JoinScope scope() {
+            return scope;
+        }
+
+        List<Predicate> predicates() {
+            return predicates;
+        }
+
+        Predicate toPredicate(final CriteriaBuilder builder) {
+            subquery.select(builder.literal(1)).where(predicates.toArray(Predicate[]::new));
+            return builder.exists(subquery);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.util.JacksonUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.metamodel.mapping.MappingModelExpressible;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
+import org.hibernate.query.sqm.internal.SqmUtil;
+import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcSelect;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Runs {@code EXPLAIN} for a criteria query, which neither JPA nor the Hibernate API can do.
+ * <p>
+ * Translating the query into its SQL and parameter bindings goes through Hibernate 6.1 internals
+ * ({@code org.hibernate.query.sqm.internal}), which may change in any minor release. This class is the only user
+ * of them: {@code HibernateExplainAdapterTest} fails when an upgrade breaks the translation, and
+ * {@link OffsetPaginator} counts exactly when {@link #explainStatement} throws at runtime.
+ */
+final class HibernateExplainAdapter {
+    private static final String EXPLAIN = "EXPLAIN (FORMAT JSON) ";
+
+    private HibernateExplainAdapter() {
+    }
+
+    /**
+     * Translates a criteria query into the SQL Hibernate would run for it, prefixed with {@code EXPLAIN}, with
+     * what is needed to bind its parameters.
+     */
+    static ExplainStatement explainStatement(final EntityManager entityManager, final CriteriaQuery<?> criteria) {
+        QuerySqmImpl<?> query = entityManager.createQuery(criteria).unwrap(QuerySqmImpl.class);
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        SessionFactoryImplementor sessionFactory = session.getFactory();
+        SqmTranslator<SelectStatement> translator = sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+                .createSelectTranslator((SqmSelectStatement<?>) query.getSqmStatement(), query.getQueryOptions(),
+                        query.getDomainParameterXref(), query.getQueryParameterBindings(),
+                        query.getLoadQueryInfluencers(), sessionFactory, false);
+        SqmTranslation<SelectStatement> translation = translator.translate();
+        JdbcParameterBindings bindings = SqmUtil.createJdbcParameterBindings(query.getQueryParameterBindings(),
+                query.getDomainParameterXref(),
+                SqmUtil.generateJdbcParamsXref(query.getDomainParameterXref(), translator),
+                sessionFactory.getRuntimeMetamodels().getMappingMetamodel(),
+                translator.getFromClauseAccess()::findTableGroup,
+                new SqmParameterMappingModelResolutionAccess() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <P> MappingModelExpressible<P> getResolvedMappingModelType(final SqmParameter<P> parameter) {
+                        return (MappingModelExpressible<P>) translation.getSqmParameterMappingModelTypeResolutions()
+                                .get(parameter);
+                    }
+                }, session);
+        JdbcSelect select = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+                .buildSelectTranslator(sessionFactory, translation.getSqlAst())
+                .translate(bindings, query.getQueryOptions());
+        return new ExplainStatement(EXPLAIN + select.getSql(), select.getParameterBinders(), bindings,
+                SqmJdbcExecutionContextAdapter.omittingLockingAndPaging(query));
+    }
+
+    /**
+     * Runs the statement on the connection of the entity manager and returns the JSON plan.
+     */
+    static JsonNode explain(final EntityManager entityManager, final ExplainStatement explain) {
+        return entityManager.unwrap(SessionImplementor.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(explain.sql())) {
+                int position = 1;
+                for (JdbcParameterBinder binder : explain.binders()) {
+                    binder.bindParameterValue(statement, position++, explain.bindings(), explain.context());
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return JacksonUtil.deserialize(resultSet.getString(1), JsonNode.class);
+                }
+            }
+        });
+    }
+
+    record ExplainStatement(String sql, List<JdbcParameterBinder> binders, JdbcParameterBindings bindings,
+                            ExecutionContext context) {
+    }
+}
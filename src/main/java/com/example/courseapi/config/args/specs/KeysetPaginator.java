@@ -0,0 +1,295 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.util.JacksonUtil;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.query.criteria.JpaOrder;
+import org.hibernate.query.sqm.NullPrecedence;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads list endpoints in cursor mode: instead of skipping {@code page * size} rows, a page continues after the
+ * sort key and id of the last row of the previous page, so every page costs the same as the first one.
+ * <p>
+ * The client passes the {@code next} cursor of a page to get the following one. A cursor is opaque to clients;
+ * it carries the sort property, the direction, the last sort key and the last id. Rows are ordered by the sort
+ * property and then by id, so rows sharing a sort key are neither skipped nor repeated. A page is sorted by one
+ * property, by id when the request does not sort.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class KeysetPaginator {
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Reads the page of entities matching the specification that follows the cursor.
+     *
+     * @param specification the filter specification, may be {@code null}
+     * @param cursor        the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable      the page size and, for the first page, the sort
+     * @throws SystemException with {@link ErrorCode#BAD_REQUEST} if the cursor or the sort cannot be used
+     */
+    public <T> CursorPageResponseDTO<T> findPage(final Class<T> entityType, final Specification<T> specification,
+                                                 final String cursor, final Pageable pageable) {
+        Keyset<T> keyset = keyset(entityType, cursor, pageable);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root);
+        Predicate predicate = keyset.restrict(specification).toPredicate(root, query, builder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.orderBy(keyset.toOrders(root, builder));
+        return keyset.toPage(entityManager.createQuery(query).setMaxResults(keyset.limit()).getResultList());
+    }
+
+    /**
+     * Resolves the cursor and the sort of a request against the entity, for queries that select something other
+     * than the entity itself.
+     *
+     * @throws SystemException with {@link ErrorCode#BAD_REQUEST} if the cursor or the sort cannot be used
+     */
+    public <T> Keyset<T> keyset(final Class<T> entityType, final String cursor, final Pageable pageable) {
+        EntityType<T> type = entityManager.getMetamodel().entity(entityType);
+        SingularAttribute<? super T, ?> id = type.getId(type.getIdType().getJavaType());
+        Pageable page = Objects.isNull(pageable) ? Pageable.unpaged() : pageable;
+        Position position = StringUtils.isEmpty(cursor) ? null : decode(cursor);
+        Sort.Order order = sortOrder(page.getSort(), position, id.getName());
+        SingularAttribute<? super T, ?> attribute = sortAttribute(type, order.getProperty());
+        if (Objects.nonNull(position) && Objects.nonNull(position.key())) {
+            position = new Position(position.property(), position.direction(),
+                    convertKey(position.key(), attribute), position.id());
+        }
+        int size = page.isPaged() ? page.getPageSize() : DEFAULT_PAGE_SIZE;
+        log.debug("Reading {} after cursor {} sorted by {}", entityType.getSimpleName(), position, order);
+        return new Keyset<>(attribute, id, order.getDirection(), position, size);
+    }
+
+    /**
+     * The sort of a cursor page: the one of the cursor, or for the first page the requested one. A trailing sort
+     * by id in the same direction is accepted, since it is applied anyway.
+     */
+    private static Sort.Order sortOrder(final Sort sort, final Position position, final String id) {
+        List<Sort.Order> orders = new ArrayList<>(sort.toList());
+        if (orders.size() == 2 && id.equals(orders.get(1).getProperty())
+                && orders.get(0).getDirection() == orders.get(1).getDirection()) {
+            orders.remove(1);
+        }
+        if (orders.size() > 1) {
+            throw new SystemException("Cursor pagination sorts by one property only", ErrorCode.BAD_REQUEST);
+        }
+        Sort.Order requested = orders.isEmpty() ? null : orders.get(0);
+        if (Objects.isNull(position)) {
+            return Objects.isNull(requested) ? Sort.Order.asc(id) : requested;
+        }
+        Sort.Order issued = new Sort.Order(position.direction(), position.property());
+        if (Objects.nonNull(requested) && (!requested.getProperty().equals(issued.getProperty())
+                || requested.getDirection() != issued.getDirection())) {
+            throw new SystemException("Cursor was issued for another sort", ErrorCode.BAD_REQUEST);
+        }
+        return issued;
+    }
+
+    private static <T> SingularAttribute<? super T, ?> sortAttribute(final EntityType<T> type, final String name) {
+        Attribute<? super T, ?> attribute;
+        try {
+            attribute = type.getAttribute(name);
+        } catch (IllegalArgumentException e) {
+            throw badSort(type, name, "is unknown");
+        }
+        if (!(attribute instanceof SingularAttribute<? super T, ?> singular)
+                || singular.getType().getPersistenceType() != Type.PersistenceType.BASIC
+                || !Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType()))) {
+            throw badSort(type, name, "is not a sortable property");
+        }
+        // The cursor carries the sort key of the last row, so it must be a value the response shows anyway
+        if (attribute.getJavaMember() instanceof AnnotatedElement member
+                && AnnotatedElementUtils.hasAnnotation(member, JsonIgnore.class)) {
+            throw badSort(type, name, "is not exposed");
+        }
+        return singular;
+    }
+
+    private static Object convertKey(final Object key, final SingularAttribute<?, ?> attribute) {
+        try {
+            return JacksonUtil.objectMapperWithTimestampDateFormat.convertValue(
+                    key, ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType()));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static String encode(final Position position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(JacksonUtil.serialize(position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Position decode(final String cursor) {
+        Position position;
+        try {
+            position = JacksonUtil.deserialize(
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8), Position.class);
+        } catch (IllegalArgumentException | SystemException e) {
+            throw invalidCursor();
+        }
+        if (Objects.isNull(position) || Objects.isNull(position.property()) || Objects.isNull(position.direction())
+                || Objects.isNull(position.id())) {
+            throw invalidCursor();
+        }
+        return position;
+    }
+
+    private static SystemException invalidCursor() {
+        return new SystemException("Invalid cursor", ErrorCode.BAD_REQUEST);
+    }
+
+    private static SystemException badSort(final EntityType<?> type, final String property, final String reason) {
+        return new SystemException("Sort property %s of %s %s".formatted(property, type.getName(), reason),
+                ErrorCode.BAD_REQUEST);
+    }
+
+    private static Object readProperty(final Object row, final String property) {
+        if (row.getClass().isRecord()) {
+            Method accessor = ReflectionUtils.findMethod(row.getClass(), property);
+            if (Objects.isNull(accessor)) {
+                throw new IllegalStateException(row.getClass().getSimpleName() + " has no component " + property);
+            }
+            return ReflectionUtils.invokeMethod(accessor, row);
+        }
+        return PropertyAccessorFactory.forBeanPropertyAccess(row).getPropertyValue(property);
+    }
+
+    /**
+     * The last row of a page as carried by a cursor; {@code key} is {@code null} when the page is sorted by id.
+     */
+    record Position(String property, Sort.Direction direction, Object key, Long id) {
+    }
+
+    /**
+     * The cursor and the sort of one request, resolved against the metamodel.
+     */
+    public static final class Keyset<T> {
+        private final SingularAttribute<? super T, ?> attribute;
+        private final SingularAttribute<? super T, ?> id;
+        private final Sort.Direction direction;
+        private final Position position;
+        private final int size;
+
+        private Keyset(final SingularAttribute<? super T, ?> attribute, final SingularAttribute<? super T, ?> id,
+                       final Sort.Direction direction, final Position position, final int size) {
+            this.attribute = attribute;
+            this.id = id;
+            this.direction = direction;
+            this.position = position;
+            this.size = size;
+        }
+
+        /**
+         * @return the specification limited to the rows after the cursor
+         */
+        public Specification<T> restrict(final Specification<T> specification) {
+            return Specification.where(specification).and(this::after);
+        }
+
+        /**
+         * @return the number of rows to read, one more than the page size to know whether a next page exists
+         */
+        public int limit() {
+            return size + 1;
+        }
+
+        /**
+         * Orders by the sort property and then by id. Nulls sort last ascending and first descending, as they do
+         * in PostgreSQL by default, so a b-tree index on (property, id) serves both directions.
+         */
+        public List<Order> toOrders(final Root<T> root, final CriteriaBuilder builder) {
+            boolean ascending = direction.isAscending();
+            List<Order> orders = new ArrayList<>();
+            if (!isSortedById()) {
+                Path<?> key = root.get(attribute.getName());
+                orders.add(((JpaOrder) (ascending ? builder.asc(key) : builder.desc(key)))
+                        .nullPrecedence(ascending ? NullPrecedence.LAST : NullPrecedence.FIRST));
+            }
+            Path<?> identifier = root.get(id.getName());
+            orders.add(ascending ? builder.asc(identifier) : builder.desc(identifier));
+            return orders;
+        }
+
+        /**
+         * Trims the rows read with {@link #limit()} to the page and creates the cursor of the next page from its
+         * last row. Rows may be entities or projections exposing the sort property and the id.
+         */
+        public <R> CursorPageResponseDTO<R> toPage(final List<R> rows) {
+            if (rows.size() <= size) {
+                return new CursorPageResponseDTO<>(new ArrayList<>(rows), size, null);
+            }
+            List<R> content = new ArrayList<>(rows.subList(0, size));
+            R last = content.get(size - 1);
+            Object key = isSortedById() ? null : readProperty(last, attribute.getName());
+            Long lastId = ((Number) readProperty(last, id.getName())).longValue();
+            return new CursorPageResponseDTO<>(content, size,
+                    encode(new Position(attribute.getName(), direction, key, lastId)));
+        }
+
+        private boolean isSortedById() {
+            return attribute.getName().equals(id.getName());
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Predicate after(final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+            if (Objects.isNull(position)) {
+                return null;
+            }
+            boolean ascending = direction.isAscending();
+            Expression<Long> identifier = root.get(id.getName());
+            Predicate afterId = ascending ? builder.greaterThan(identifier, position.id())
+                    : builder.lessThan(identifier, position.id());
+            if (isSortedById()) {
+                return afterId;
+            }
+            Expression<Comparable> key = root.get(attribute.getName());
+            if (Objects.isNull(position.key())) {
+                Predicate afterInNulls = builder.and(builder.isNull(key), afterId);
+                return ascending ? afterInNulls : builder.or(afterInNulls, builder.isNotNull(key));
+            }
+            Comparable last = (Comparable) position.key();
+            // The bound on the key alone lets the index scan start at the cursor instead of filtering from the top
+            Predicate afterKey = ascending
+                    ? builder.and(builder.greaterThanOrEqualTo(key, last),
+                    builder.or(builder.greaterThan(key, last), afterId))
+                    : builder.and(builder.lessThanOrEqualTo(key, last),
+                    builder.or(builder.lessThan(key, last), afterId));
+            return ascending && attribute.isOptional() ? builder.or(afterKey, builder.isNull(key)) : afterKey;
+        }
+    }
+}
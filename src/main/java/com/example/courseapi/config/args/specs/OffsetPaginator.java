@@ -0,0 +1,147 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.domain.enums.CountMode;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Reads list endpoints in offset mode without counting every matching row for every page.
+ * <p>
+ * One row more than the page size is read, which tells whether a next page exists. With {@link CountMode#NONE}
+ * the page is a {@link Slice} without total. With {@link CountMode#ESTIMATE} the total of a page that has a next
+ * one is the row estimate of the PostgreSQL planner for the filtered query, which costs a planning pass instead
+ * of a scan; estimates below {@link #EXACT_COUNT_THRESHOLD} rows are replaced by an exact count, which is cheap
+ * at that size. The last page knows its total from its own offset. Only {@link CountMode#EXACT} always counts.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OffsetPaginator {
+    static final long EXACT_COUNT_THRESHOLD = 1_000;
+
+    private final EntityManager entityManager;
+
+    /**
+     * Reads a page of the entities matching the specification.
+     *
+     * @param specification the filter specification, may be {@code null}
+     * @param pageable      the pagination information, {@code null} for all rows
+     * @param count         how the total is computed, {@link CountMode#ESTIMATE} if {@code null}
+     */
+    public <T> Slice<T> findPage(final Class<T> entityType, final Specification<T> specification,
+                                 final Pageable pageable, final CountMode count) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root);
+        where(query, root, builder, specification);
+        Pageable page = Objects.isNull(pageable) ? Pageable.unpaged() : pageable;
+        if (page.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(page.getSort(), root, builder));
+        }
+        return read(entityManager.createQuery(query), page, count,
+                () -> count(entityType, specification), () -> estimate(entityType, specification));
+    }
+
+    /**
+     * Reads a page of an already built query, for queries that select something other than an entity.
+     *
+     * @param query          the query, ordered but not yet limited
+     * @param exactCount     counts the rows of the query
+     * @param estimatedCount estimates the rows of the query
+     */
+    public <R> Slice<R> read(final TypedQuery<R> query, final Pageable pageable, final CountMode count,
+                             final LongSupplier exactCount, final LongSupplier estimatedCount) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(query.getResultList());
+        }
+        int size = pageable.getPageSize();
+        List<R> rows = query.setFirstResult((int) pageable.getOffset()).setMaxResults(size + 1).getResultList();
+        boolean hasNext = rows.size() > size;
+        List<R> content = hasNext ? rows.subList(0, size) : rows;
+        CountMode mode = Objects.isNull(count) ? CountMode.ESTIMATE : count;
+        log.debug("Read {} rows at offset {} counting {}", content.size(), pageable.getOffset(), mode);
+        if (mode == CountMode.NONE) {
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        if (mode == CountMode.EXACT) {
+            return PageableExecutionUtils.getPage(content, pageable, exactCount);
+        }
+        long seen = pageable.getOffset() + content.size();
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            return new PageImpl<>(content, pageable, seen);
+        }
+        long total = estimatedCount.getAsLong();
+        if (total < EXACT_COUNT_THRESHOLD) {
+            total = exactCount.getAsLong();
+        }
+        // Statistics may be stale, the total never contradicts the rows that were actually read
+        long known = content.isEmpty() ? 0 : seen + 1;
+        return new PageImpl<>(content, pageable, Math.max(total, known));
+    }
+
+    /**
+     * Estimates the number of entities matching the specification from the plan of the filtered query, or returns
+     * {@code 0} when the query cannot be explained, which makes {@link #read} count exactly.
+     */
+    public <T> long estimate(final Class<T> entityType, final Specification<T> specification) {
+        EntityType<T> type = entityManager.getMetamodel().entity(entityType);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = builder.createQuery(Object.class);
+        Root<T> root = query.from(entityType);
+        query.select(root.get(type.getId(type.getIdType().getJavaType())));
+        where(query, root, builder, specification);
+        HibernateExplainAdapter.ExplainStatement explain;
+        try {
+            explain = HibernateExplainAdapter.explainStatement(entityManager, query);
+        } catch (RuntimeException | LinkageError e) {
+            // Hibernate internals changed under the adapter, nothing was sent to the database yet
+            log.warn("Could not explain the query of {}, counting it instead", entityType.getSimpleName(), e);
+            return 0;
+        }
+        JsonNode plan = HibernateExplainAdapter.explain(entityManager, explain);
+        long rows = plan.path(0).path("Plan").path("Plan Rows").asLong();
+        log.debug("Estimated {} rows of {}", rows, entityType.getSimpleName());
+        return rows;
+    }
+
+    private <T> long count(final Class<T> entityType, final Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(entityType);
+        where(query, root, builder, specification);
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        // Sorting is meaningless for a count, the specification may still have added one
+        query.orderBy(Collections.emptyList());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void where(final CriteriaQuery<?> query, final Root<T> root, final CriteriaBuilder builder,
+                                  final Specification<T> specification) {
+        Predicate predicate = Objects.isNull(specification) ? null : specification.toPredicate(root, query, builder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.courseapi.config.args.specs;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by the {@code search} filter comparison. Hibernate
+ * discovers this contributor through {@code META-INF/services}.
+ * <p>
+ * {@link #TEXT_SEARCH}{@code (text, query)} renders {@code to_tsvector('english', text) @@
+ * websearch_to_tsquery('english', query)}. The text search configuration is part of the expression, so the GIN
+ * indexes of migration {@code V18} on {@code to_tsvector('english', column)} match the predicate.
+ */
+public class TextSearchFunctions implements FunctionContributor {
+    public static final String TEXT_SEARCH = "text_search";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        functionContributions.getFunctionRegistry().registerPattern(TEXT_SEARCH,
+                "(to_tsvector('english', ?1) @@ websearch_to_tsquery('english', ?2))", booleanType);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.core.NestedRuntimeException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -17,6 +18,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -86,6 +88,23 @@ public class ExceptionTranslator {
         return this.exceptionToApiError(ex).code(valueOf(HttpStatus.UNAUTHORIZED.value()));
     }
 
+    /**
+     * Exception handler for {@link InternalAuthenticationServiceException}, which wraps any error thrown while
+     * loading the user, e.g. an unknown email or a saturated password encoder
+     * @param ex exception to handle
+     * @return returns user-friendly json response for the wrapped {@link SystemException}, 401 otherwise
+     */
+    @ExceptionHandler(InternalAuthenticationServiceException.class)
+    public ResponseEntity<ApiExceptionDTO> processInternalAuthenticationServiceException(
+            final InternalAuthenticationServiceException ex) {
+        if (ex.getCause() instanceof SystemException cause) {
+            return handleCustomException(cause);
+        }
+        log.error("InternalAuthenticationServiceException:", ex);
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(this.exceptionToApiError(ex).code(valueOf(HttpStatus.UNAUTHORIZED.value())));
+    }
+
     /**
      * Exception handler for {@link MethodArgumentNotValidException}
      * @param ex exception to handle
@@ -179,6 +198,9 @@ public class ExceptionTranslator {
     public ResponseEntity<ApiExceptionDTO> handleCustomException(final SystemException ex) {
         log.error(ex.getMessage(), ex);
         final ResponseEntity.BodyBuilder builder = ResponseEntity.status(ex.getErrorCode().getHttpStatus());
+        if (ex.get().containsKey(SystemException.RETRY_AFTER)) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.get().get(SystemException.RETRY_AFTER)));
+        }
         final ApiExceptionDTO apiExceptionDTO = new ApiExceptionDTO();
         apiExceptionDTO.setMessage(ex.getMessage());
         apiExceptionDTO.setCode(ex.getErrorCode().getHttpStatus().name());
@@ -30,7 +30,7 @@ public class BaseEntity implements Serializable {
 
     @Serial
     private static final long serialVersionUID = -4250007097726587148L;
-    @Column(name = "modified_date")
+    @Column(name = "modified_date", nullable = false)
     @LastModifiedDate
     protected LocalDateTime modifiedDate;
 
@@ -38,7 +38,7 @@ public class BaseEntity implements Serializable {
     @LastModifiedBy
     protected String modifiedBy;
 
-    @Column(name = "created_date", updatable = false)
+    @Column(name = "created_date", nullable = false, updatable = false)
     @CreatedDate
     protected LocalDateTime createdDate;
 
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.collections4.CollectionUtils;
+import org.hibernate.Hibernate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
@@ -18,6 +19,9 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "courses", schema = "course_management")
+@NamedEntityGraph(name = Course.GRAPH_LESSONS, attributeNodes = @NamedAttributeNode("lessons"))
+@NamedEntityGraph(name = Course.GRAPH_INSTRUCTORS, attributeNodes = @NamedAttributeNode("instructors"))
+@NamedEntityGraph(name = Course.GRAPH_STUDENTS, attributeNodes = @NamedAttributeNode("students"))
 @Data
 @ToString(exclude = {"instructors", "students", "lessons", "courseFeedbacks"})
 @EqualsAndHashCode(callSuper = true, exclude = {"instructors", "students", "lessons", "courseFeedbacks"})
@@ -29,8 +33,17 @@ public class Course extends BaseEntity {
     @Serial
     private static final long serialVersionUID = 7625188377736897997L;
 
+    /**
+     * Entity graph names. Every graph fetches a single collection, so using one never multiplies rows.
+     */
+    public static final String GRAPH_LESSONS = "Course.lessons";
+    public static final String GRAPH_INSTRUCTORS = "Course.instructors";
+    public static final String GRAPH_STUDENTS = "Course.students";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_seq")
+    @SequenceGenerator(name = "courses_id_seq", schema = "course_management", sequenceName = "courses_id_seq",
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -51,7 +64,7 @@ public class Course extends BaseEntity {
 
     @Size(min = 1)
     @Builder.Default
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             schema = "course_management",
             name = "courses_instructors",
@@ -60,7 +73,7 @@ public class Course extends BaseEntity {
     private Set<Instructor> instructors = new HashSet<>();
 
     @Builder.Default
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             schema = "course_management",
             name = "courses_students",
@@ -69,7 +82,7 @@ public class Course extends BaseEntity {
     private Set<Student> students = new HashSet<>();
 
     @Builder.Default
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<Lesson> lessons = new HashSet<>();
 
     @Builder.Default
@@ -78,10 +91,12 @@ public class Course extends BaseEntity {
 
     @PrePersist
     @PreUpdate
-    @PostLoad
     private void validateAvailability() {
-        this.available = !CollectionUtils.sizeIsEmpty(this.instructors)
-                && CollectionUtils.size(this.lessons) >= 5;
+        // Recalculating from lazy collections that were never touched would load them only for this check
+        if (Hibernate.isInitialized(this.instructors) && Hibernate.isInitialized(this.lessons)) {
+            this.available = !CollectionUtils.sizeIsEmpty(this.instructors)
+                    && CollectionUtils.size(this.lessons) >= 5;
+        }
     }
 
     @PreRemove
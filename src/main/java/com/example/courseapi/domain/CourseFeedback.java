@@ -28,7 +28,9 @@ public class CourseFeedback extends BaseEntity {
     @Serial
     private static final long serialVersionUID = 5112233557374542108L;
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_feedbacks_id_seq")
+    @SequenceGenerator(name = "course_feedbacks_id_seq", schema = "course_management", sequenceName = "course_feedbacks_id_seq",
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -38,12 +40,12 @@ public class CourseFeedback extends BaseEntity {
     private String feedback;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 }
@@ -0,0 +1,55 @@
+package com.example.courseapi.domain;
+
+import com.example.courseapi.domain.enums.CourseStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Entity class for CourseProgress.
+ * Aggregate of a student's submissions in a course, maintained on every submission and lesson change
+ * so the course status can be read by primary key.
+ */
+@Entity
+@Table(name = "course_progress", schema = "course_management")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourseProgress implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2417539311738212376L;
+
+    @EmbeddedId
+    private CourseProgressId courseProgressId;
+
+    @Column(name = "submitted_lessons", nullable = false)
+    private Integer submittedLessons;
+
+    @Column(name = "grade_sum", nullable = false)
+    private Double gradeSum;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CourseStatus status;
+
+    @Column(name = "final_grade")
+    private Double finalGrade;
+
+    @Embeddable
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CourseProgressId implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -3312486225790384126L;
+
+        @Column(name = "student_id")
+        private Long studentId;
+
+        @Column(name = "course_id")
+        private Long courseId;
+    }
+}
@@ -29,7 +29,9 @@ public class Homework extends BaseEntity {
     private static final long serialVersionUID = 6185408748195021147L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "homeworks_id_seq")
+    @SequenceGenerator(name = "homeworks_id_seq", schema = "course_management", sequenceName = "homeworks_id_seq",
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -43,12 +45,12 @@ public class Homework extends BaseEntity {
     private String filePath;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lesson_id", nullable = false)
     private Lesson lesson;
 
     @NotNull
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
 }
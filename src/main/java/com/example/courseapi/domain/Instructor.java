@@ -23,7 +23,7 @@ public final class Instructor extends User {
     private static final long serialVersionUID = -582900698897846648L;
 
     @Builder.Default
-    @ManyToMany(mappedBy = "instructors", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "instructors", fetch = FetchType.LAZY)
     private Set<Course> instructorCourses = new HashSet<>();
 
     @PreRemove
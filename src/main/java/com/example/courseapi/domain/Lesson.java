@@ -28,7 +28,9 @@ public class Lesson extends BaseEntity {
     private static final long serialVersionUID = -7124353463291638392L;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lessons_id_seq")
+    @SequenceGenerator(name = "lessons_id_seq", schema = "course_management", sequenceName = "lessons_id_seq",
+            allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -42,7 +44,7 @@ public class Lesson extends BaseEntity {
     @Column(name = "description")
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id")
     private Course course;
 
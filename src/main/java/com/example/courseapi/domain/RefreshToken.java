@@ -6,9 +6,13 @@ import lombok.experimental.SuperBuilder;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
- * Entity class for RefreshToken
+ * Entity class for RefreshToken.
+ * A user has at most one refresh token, identified by the {@code jti} claim of the token; only a SHA-256 hash
+ * of the token itself is stored.
  */
 @Entity
 @Table(name = "refresh_tokens", schema = "course_management")
@@ -24,16 +28,20 @@ public class RefreshToken extends BaseEntity {
     private static final long serialVersionUID = 7047899943693634046L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "id")
-    private Long id;
+    @Column(name = "jti")
+    private UUID id;
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
-    @OneToOne
-    @JoinColumn(name = "user_id", referencedColumnName = "id")
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
     private User user;
 
-    @Column(name = "token", nullable = false, unique = true)
-    private String token;
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @Column(name = "token_hash", nullable = false, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 }
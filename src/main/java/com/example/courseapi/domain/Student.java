@@ -26,7 +26,7 @@ public class Student extends User {
     
     @Size(max = 5)
     @Builder.Default
-    @ManyToMany(mappedBy = "students", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "students", fetch = FetchType.LAZY)
     private Set<Course> studentCourses = new HashSet<>();
 
     @PreRemove
@@ -37,13 +37,13 @@ public class Submission extends BaseEntity {
     private Double grade;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId(value = "studentId")
     @JoinColumn(name = "student_id")
     private Student student;
 
     @NotNull
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @MapsId(value = "lessonId")
     @JoinColumn(name = "lesson_id")
     private Lesson lesson;
@@ -40,7 +40,9 @@ public class User extends BaseEntity implements UserDetails {
     private static final long serialVersionUID = -6587266125697941080L;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", schema = "course_management", sequenceName = "users_id_seq",
+            allocationSize = 50)
     @Column(name = "id")
     protected Long id;
 
@@ -70,6 +72,15 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "role")
     protected Roles role;
 
+    /**
+     * Version stamp carried by access tokens; incrementing it revokes every token issued before.
+     */
+    @NotNull
+    @Builder.Default
+    @Column(name = "token_version")
+    @JsonIgnore
+    protected Integer tokenVersion = 0;
+
     /**
      * Get user authorities to manage role based access.
      * Implementation of method of Spring {@link UserDetails} class.
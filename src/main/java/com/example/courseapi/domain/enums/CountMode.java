@@ -0,0 +1,20 @@
+package com.example.courseapi.domain.enums;
+
+/**
+ * Enum used for choosing how the total of a paged list is computed
+ */
+public enum CountMode {
+    /**
+     * Exact total from a {@code count(*)} over every matching row
+     */
+    EXACT,
+    /**
+     * Total estimated by the database planner; exact when the page shows there are no further rows, or when the
+     * estimate is small enough for an exact count to be cheap
+     */
+    ESTIMATE,
+    /**
+     * No total at all, only whether a next page exists
+     */
+    NONE
+}
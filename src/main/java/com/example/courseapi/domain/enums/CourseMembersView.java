@@ -0,0 +1,15 @@
+package com.example.courseapi.domain.enums;
+
+/**
+ * Enum used for choosing how course members are rendered in the course catalog
+ */
+public enum CourseMembersView {
+    /**
+     * Instructor and student ids of every course
+     */
+    IDS,
+    /**
+     * Only the number of instructors and students of every course
+     */
+    COUNT
+}
@@ -0,0 +1,19 @@
+package com.example.courseapi.domain.enums;
+
+/**
+ * Enum used for reporting why a student was not enrolled by a bulk enrollment
+ */
+public enum EnrollmentRejection {
+    /**
+     * No student exists with the given id
+     */
+    STUDENT_NOT_FOUND,
+    /**
+     * The student is already subscribed to the course
+     */
+    ALREADY_ENROLLED,
+    /**
+     * The student reached the maximum number of courses
+     */
+    COURSE_LIMIT_EXCEEDED
+}
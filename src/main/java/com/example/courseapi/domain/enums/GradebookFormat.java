@@ -0,0 +1,17 @@
+package com.example.courseapi.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Output formats of the course gradebook export
+ */
+@RequiredArgsConstructor
+@Getter
+public enum GradebookFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String extension;
+}
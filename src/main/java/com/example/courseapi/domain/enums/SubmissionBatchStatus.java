@@ -0,0 +1,23 @@
+package com.example.courseapi.domain.enums;
+
+/**
+ * Enum used for reporting the outcome of a single row of a submission batch
+ */
+public enum SubmissionBatchStatus {
+    /**
+     * The student had no submission for the lesson, a new one was stored
+     */
+    CREATED,
+    /**
+     * The grade of the existing submission was replaced
+     */
+    UPDATED,
+    /**
+     * The student is not subscribed to the course of the lesson, nothing was stored
+     */
+    NOT_ENROLLED,
+    /**
+     * The student already appeared earlier in the same batch, only the first grade was stored
+     */
+    DUPLICATE
+}
@@ -0,0 +1,22 @@
+package com.example.courseapi.dto.request;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StudentGradeDTO {
+
+    @NotNull
+    private Long studentId;
+
+    @NotNull
+    @DecimalMin(value = "0.00")
+    @DecimalMax(value = "100.00")
+    private Double grade;
+}
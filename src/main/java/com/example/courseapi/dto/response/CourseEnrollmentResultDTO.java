@@ -0,0 +1,21 @@
+package com.example.courseapi.dto.response;
+
+import com.example.courseapi.domain.enums.EnrollmentRejection;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of a bulk enrollment: the students that were subscribed and the reason for every rejected one.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CourseEnrollmentResultDTO {
+    private Long courseId;
+    private Set<Long> enrolled;
+    private Map<Long, EnrollmentRejection> rejected;
+}
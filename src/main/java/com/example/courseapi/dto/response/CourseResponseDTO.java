@@ -26,5 +26,7 @@ public class CourseResponseDTO extends BaseDTO {
     protected Boolean available;
     protected Set<Long> instructorIds;
     protected Set<Long> studentIds;
+    protected Long instructorCount;
+    protected Long studentCount;
     protected Set<LessonResponseDTO> lessons;
 }
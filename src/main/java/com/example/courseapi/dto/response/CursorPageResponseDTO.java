@@ -0,0 +1,25 @@
+package com.example.courseapi.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page read in cursor mode. {@code next} is the opaque cursor of the following page, or {@code null} when
+ * this page is the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private int size;
+    private String next;
+
+    public <R> CursorPageResponseDTO<R> map(final Function<? super T, ? extends R> mapper) {
+        return new CursorPageResponseDTO<>(content.stream().<R>map(mapper).toList(), size, next);
+    }
+}
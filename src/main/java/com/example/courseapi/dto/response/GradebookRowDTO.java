@@ -0,0 +1,25 @@
+package com.example.courseapi.dto.response;
+
+import com.example.courseapi.domain.enums.CourseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One student line of a course gradebook. {@code grades} is keyed by lesson id and contains
+ * {@code null} for lessons the student has not submitted.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GradebookRowDTO {
+    private Long studentId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Map<Long, Double> grades;
+    private CourseStatus courseStatus;
+    private Double finalGrade;
+}
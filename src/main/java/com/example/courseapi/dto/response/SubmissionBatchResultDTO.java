@@ -0,0 +1,18 @@
+package com.example.courseapi.dto.response;
+
+import com.example.courseapi.domain.enums.SubmissionBatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one row of a submission batch, in the order of the request.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubmissionBatchResultDTO {
+    private Long studentId;
+    private Double grade;
+    private SubmissionBatchStatus status;
+}
@@ -12,6 +12,10 @@ import java.util.Map;
 public class SystemException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 7153808129776996908L;
+    /**
+     * Property holding the number of seconds a client should wait before retrying, sent as {@code Retry-After}.
+     */
+    public static final String RETRY_AFTER = "retryAfter";
 
     private final ErrorCode errorCode;
     private final HashMap<String, Object> properties = new LinkedHashMap<>();
@@ -0,0 +1,36 @@
+package com.example.courseapi.job;
+
+import com.example.courseapi.service.CourseProgressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically compares the course progress table with a recalculation from submissions and rebuilds it
+ * when they drifted apart, e.g. after manual data fixes.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CourseProgressVerificationJob {
+    private final CourseProgressService courseProgressService;
+
+    @Value("${course-progress.rebuild-on-drift:true}")
+    private boolean rebuildOnDrift;
+
+    @Scheduled(cron = "${course-progress.verification-cron:0 0 3 * * *}")
+    public void verify() {
+        long drift = courseProgressService.countDrift();
+        if (drift == 0) {
+            log.debug("Course progress is consistent with submissions");
+            return;
+        }
+        log.warn("Course progress drifted from submissions for {} student course(s)", drift);
+        if (rebuildOnDrift) {
+            int rows = courseProgressService.rebuild();
+            log.info("Course progress rebuilt, {} row(s) written", rows);
+        }
+    }
+}
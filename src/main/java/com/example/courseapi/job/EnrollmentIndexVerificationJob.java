@@ -0,0 +1,28 @@
+package com.example.courseapi.job;
+
+import com.example.courseapi.service.EnrollmentIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically compares the enrollment index with the membership tables and reloads it when they drifted apart,
+ * e.g. after manual data fixes or a lost after-commit update.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EnrollmentIndexVerificationJob {
+    private final EnrollmentIndexService enrollmentIndexService;
+
+    @Scheduled(cron = "${enrollment-index.verification-cron:0 15 * * * *}")
+    public void verify() {
+        long drift = enrollmentIndexService.verify();
+        if (drift == 0) {
+            log.debug("Enrollment index is consistent with membership tables");
+            return;
+        }
+        log.warn("Enrollment index drifted from membership tables for {} membership(s) and was reloaded", drift);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.courseapi.job;
+
+import com.example.courseapi.security.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically removes expired refresh tokens. Each batch is deleted in its own transaction, so the job never
+ * holds locks on a large part of the table while users log in.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCompactionJob {
+    private final JwtService jwtService;
+
+    @Value("${refresh-tokens.compaction-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${refresh-tokens.compaction-cron:0 30 * * * *}")
+    public void compact() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jwtService.compactRefreshTokens(batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        log.debug("Refresh token compaction removed {} expired token(s)", total);
+    }
+}
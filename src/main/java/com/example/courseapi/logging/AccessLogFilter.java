@@ -0,0 +1,70 @@
+package com.example.courseapi.logging;
+
+import com.example.courseapi.config.AccessLogProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Emits one {@link AccessLogRecord} per request, ahead of the security filters so that rejected requests are
+ * logged too. Successful requests are sampled with {@code access-log.sample-rate}, errors are always logged.
+ * <p>
+ * The user id is published as the {@link #USER_ID_ATTRIBUTE} request attribute by the authentication filter,
+ * because the security context is already cleared when the chain returns here.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    private final AccessLogProperties properties;
+    private final AccessLogWriter accessLogWriter;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull final HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull final HttpServletRequest request,
+            @NonNull final HttpServletResponse response,
+            @NonNull final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final long start = System.nanoTime();
+        DbTimeSessionEventListener.reset();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            if (status >= 400 || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+                accessLogWriter.submit(new AccessLogRecord(
+                        request.getMethod(),
+                        route(request),
+                        status,
+                        System.nanoTime() - start,
+                        DbTimeSessionEventListener.elapsedNanos(),
+                        (Long) request.getAttribute(USER_ID_ATTRIBUTE)));
+            }
+        }
+    }
+
+    private static String route(final HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return Objects.nonNull(pattern) ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.courseapi.logging;
+
+import java.util.Objects;
+
+/**
+ * One access log line. Formatting happens on the writer thread, never on the request thread.
+ *
+ * @param method        HTTP method
+ * @param route         the matched route template, or the request URI when no handler matched
+ * @param status        response status
+ * @param latencyNanos  time spent in the filter chain
+ * @param dbNanos       time spent executing JDBC statements through Hibernate
+ * @param userId        id of the authenticated user, {@code null} for anonymous requests
+ */
+public record AccessLogRecord(String method, String route, int status, long latencyNanos, long dbNanos, Long userId) {
+
+    public String format() {
+        return "method=" + method
+                + " route=" + route
+                + " status=" + status
+                + " latency_ms=" + millis(latencyNanos)
+                + " db_ms=" + millis(dbNanos)
+                + " user=" + (Objects.isNull(userId) ? "-" : userId);
+    }
+
+    private static String millis(final long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.courseapi.logging;
+
+import com.example.courseapi.config.AccessLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands access log records from request threads to a single writer thread through an
+ * {@link AccessLogRingBuffer}. Submitting never blocks: when the writer falls behind, records are dropped and
+ * counted as {@code access.log.dropped}.
+ */
+@Log4j2(topic = "ACCESS")
+@Component
+public class AccessLogWriter implements InitializingBean, DisposableBean {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AccessLogRingBuffer<AccessLogRecord> buffer;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter dropped;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public AccessLogWriter(final AccessLogProperties properties, final MeterRegistry meterRegistry) {
+        this.buffer = new AccessLogRingBuffer<>(properties.getBufferSize());
+        this.dropped = Counter.builder("access.log.dropped").register(meterRegistry);
+        Gauge.builder("access.log.pending", pending, AtomicInteger::get).register(meterRegistry);
+        this.writer = new Thread(this::run, "access-log-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * @return {@code false} when the record was dropped because the buffer is full
+     */
+    public boolean submit(final AccessLogRecord record) {
+        if (buffer.offer(record)) {
+            pending.incrementAndGet();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        running = true;
+        writer.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    /**
+     * Writes all buffered records, must only be called from the writer thread.
+     *
+     * @return number of written records
+     */
+    int drain() {
+        int written = 0;
+        AccessLogRecord record;
+        while (Objects.nonNull(record = buffer.poll())) {
+            pending.decrementAndGet();
+            log.info(record.format());
+            written++;
+        }
+        return written;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.courseapi.logging;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing JDBC statements and batches to the current thread, read by
+ * {@link AccessLogFilter}. Registered for every session with {@code hibernate.session.events.auto}.
+ */
+public class DbTimeSessionEventListener extends BaseSessionEventListener {
+    private static final ThreadLocal<long[]> DB_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private long statementStart;
+    private long batchStart;
+
+    /**
+     * Resets the time accumulated by the current thread.
+     */
+    public static void reset() {
+        DB_NANOS.get()[0] = 0;
+    }
+
+    /**
+     * @return nanoseconds spent in JDBC by the current thread since the last {@link #reset()}
+     */
+    public static long elapsedNanos() {
+        return DB_NANOS.get()[0];
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        DB_NANOS.get()[0] += System.nanoTime() - statementStart;
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        DB_NANOS.get()[0] += System.nanoTime() - batchStart;
+    }
+}
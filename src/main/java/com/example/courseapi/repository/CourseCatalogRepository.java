@@ -0,0 +1,52 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
+import com.example.courseapi.repository.projection.CourseMembers;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projection queries behind the paged course catalog.
+ */
+public interface CourseCatalogRepository {
+
+    /**
+     * Reads a page of course columns matching the specification without loading {@link Course} entities.
+     *
+     * @param specification the filter specification, may be {@code null}
+     * @param pageable      the pagination information
+     * @param count         how the total of the page is computed
+     * @return a page of course rows, a slice without total for {@link CountMode#NONE}
+     */
+    Slice<CourseCatalogRow> findCatalogPage(final Specification<Course> specification, final Pageable pageable,
+                                            final CountMode count);
+
+    /**
+     * Reads the course rows matching the specification that follow the cursor of the keyset, without counting
+     * them.
+     *
+     * @param specification the filter specification, may be {@code null}
+     * @param keyset        the resolved cursor and sort
+     * @return up to {@link KeysetPaginator.Keyset#limit()} course rows
+     */
+    List<CourseCatalogRow> findCatalogRows(final Specification<Course> specification,
+                                           final KeysetPaginator.Keyset<Course> keyset);
+
+    /**
+     * Aggregates instructors and students of the given courses in a single statement.
+     *
+     * @param courseIds the ids of the courses
+     * @param view      whether member ids or only member counts are aggregated
+     * @return members by course id, courses without members are present with empty values
+     */
+    Map<Long, CourseMembers> findMembers(final Collection<Long> courseIds, final CourseMembersView view);
+}
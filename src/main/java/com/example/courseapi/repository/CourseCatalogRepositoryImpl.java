@@ -0,0 +1,151 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
+import com.example.courseapi.repository.projection.CourseMembers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class CourseCatalogRepositoryImpl implements CourseCatalogRepository {
+    private static final String MEMBER_IDS_QUERY = """
+            SELECT c.id,
+                   ARRAY(SELECT ci.instructor_id FROM course_management.courses_instructors ci
+                         WHERE ci.course_id = c.id) AS instructors,
+                   ARRAY(SELECT cs.student_id FROM course_management.courses_students cs
+                         WHERE cs.course_id = c.id) AS students
+            FROM course_management.courses c
+            WHERE c.id = ANY (?)
+            """;
+    private static final String MEMBER_COUNTS_QUERY = """
+            SELECT c.id,
+                   (SELECT count(*) FROM course_management.courses_instructors ci
+                    WHERE ci.course_id = c.id) AS instructors,
+                   (SELECT count(*) FROM course_management.courses_students cs
+                    WHERE cs.course_id = c.id) AS students
+            FROM course_management.courses c
+            WHERE c.id = ANY (?)
+            """;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final OffsetPaginator offsetPaginator;
+
+    @Override
+    public Slice<CourseCatalogRow> findCatalogPage(final Specification<Course> specification, final Pageable pageable,
+                                                   final CountMode count) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CourseCatalogRow> query = builder.createQuery(CourseCatalogRow.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(catalogColumns(root, builder));
+        Predicate predicate = toPredicate(specification, root, query, builder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+        return offsetPaginator.read(entityManager.createQuery(query), pageable, count,
+                () -> count(specification), () -> offsetPaginator.estimate(Course.class, specification));
+    }
+
+    @Override
+    public List<CourseCatalogRow> findCatalogRows(final Specification<Course> specification,
+                                                  final KeysetPaginator.Keyset<Course> keyset) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CourseCatalogRow> query = builder.createQuery(CourseCatalogRow.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(catalogColumns(root, builder));
+        Predicate predicate = toPredicate(keyset.restrict(specification), root, query, builder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.orderBy(keyset.toOrders(root, builder));
+        return entityManager.createQuery(query).setMaxResults(keyset.limit()).getResultList();
+    }
+
+    @Override
+    public Map<Long, CourseMembers> findMembers(final Collection<Long> courseIds, final CourseMembersView view) {
+        if (courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final boolean withIds = view == CourseMembersView.IDS;
+        Map<Long, CourseMembers> members = new HashMap<>();
+        jdbcTemplate.query(withIds ? MEMBER_IDS_QUERY : MEMBER_COUNTS_QUERY,
+                statement -> statement.setArray(1,
+                        statement.getConnection().createArrayOf("bigint", courseIds.toArray())),
+                resultSet -> {
+                    CourseMembers courseMembers = withIds ? readIds(resultSet) : readCounts(resultSet);
+                    members.put(courseMembers.courseId(), courseMembers);
+                });
+        courseIds.forEach(courseId -> members.computeIfAbsent(courseId, id -> CourseMembers.empty(id, withIds)));
+        return members;
+    }
+
+    private long count(final Specification<Course> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Course> root = query.from(Course.class);
+        Predicate predicate = toPredicate(specification, root, query, builder);
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+        query.select(query.isDistinct() ? builder.countDistinct(root) : builder.count(root));
+        // Sorting is meaningless for a count, the specification may still have added one
+        query.orderBy(Collections.emptyList());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static CompoundSelection<CourseCatalogRow> catalogColumns(final Root<Course> root,
+                                                                     final CriteriaBuilder builder) {
+        return builder.construct(CourseCatalogRow.class,
+                root.get("id"), root.get("title"), root.get("description"), root.get("available"),
+                root.get("createdBy"), root.get("createdDate"), root.get("modifiedBy"), root.get("modifiedDate"));
+    }
+
+    private static Predicate toPredicate(final Specification<Course> specification, final Root<Course> root,
+                                         final CriteriaQuery<?> query, final CriteriaBuilder builder) {
+        return Objects.isNull(specification) ? null : specification.toPredicate(root, query, builder);
+    }
+
+    private static CourseMembers readIds(final ResultSet resultSet) throws SQLException {
+        Set<Long> instructorIds = toIds(resultSet.getArray("instructors"));
+        Set<Long> studentIds = toIds(resultSet.getArray("students"));
+        return new CourseMembers(resultSet.getLong("id"), instructorIds, studentIds,
+                instructorIds.size(), studentIds.size());
+    }
+
+    private static CourseMembers readCounts(final ResultSet resultSet) throws SQLException {
+        return new CourseMembers(resultSet.getLong("id"), null, null,
+                resultSet.getLong("instructors"), resultSet.getLong("students"));
+    }
+
+    private static Set<Long> toIds(final Array array) throws SQLException {
+        if (Objects.isNull(array)) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream((Object[]) array.getArray())
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.repository.projection.StudentEnrollmentStats;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Set-based statements behind bulk enrollment of students to a course.
+ */
+public interface CourseEnrollmentRepository {
+
+    /**
+     * Locks the rows of the given students until the end of the transaction, in id order. Enrollments of the same
+     * student then run one after another, so the course limit read before the insert still holds when it commits.
+     *
+     * @param studentIds the ids of the students
+     * @return the number of locked students
+     */
+    int lockStudents(final Collection<Long> studentIds);
+
+    /**
+     * Aggregates the subscriptions of the given students in a single statement.
+     *
+     * @param courseId   the id of the course the students are enrolled to
+     * @param studentIds the ids of the students
+     * @return statistics by student id, ids that do not belong to a student are absent
+     */
+    Map<Long, StudentEnrollmentStats> findEnrollmentStats(final Long courseId, final Collection<Long> studentIds);
+
+    /**
+     * Subscribes the students to the course with one multi-row insert, existing subscriptions are kept.
+     *
+     * @param courseId   the id of the course
+     * @param studentIds the ids of the students
+     * @return the number of inserted subscriptions
+     */
+    int enrollStudents(final Long courseId, final Collection<Long> studentIds);
+
+    /**
+     * Streams all student subscriptions.
+     *
+     * @param courseAndStudent receives the course id and the student id of every subscription
+     */
+    void forEachStudentEnrollment(final BiConsumer<Long, Long> courseAndStudent);
+
+    /**
+     * Streams all instructor assignments.
+     *
+     * @param courseAndInstructor receives the course id and the instructor id of every assignment
+     */
+    void forEachInstructorAssignment(final BiConsumer<Long, Long> courseAndInstructor);
+}
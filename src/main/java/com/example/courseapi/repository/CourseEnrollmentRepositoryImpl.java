@@ -0,0 +1,102 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.repository.projection.StudentEnrollmentStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@RequiredArgsConstructor
+public class CourseEnrollmentRepositoryImpl implements CourseEnrollmentRepository {
+    private static final String LOCK_STUDENTS = """
+            SELECT id FROM course_management.users
+            WHERE id = ANY (?)
+              AND role = 'STUDENT'
+            ORDER BY id
+            FOR NO KEY UPDATE
+            """;
+    private static final String ENROLLMENT_STATS_QUERY = """
+            SELECT u.id,
+                   count(cs.course_id)                         AS courses,
+                   coalesce(bool_or(cs.course_id = ?), false) AS enrolled
+            FROM course_management.users u
+                     LEFT JOIN course_management.courses_students cs ON cs.student_id = u.id
+            WHERE u.id = ANY (?)
+              AND u.role = 'STUDENT'
+            GROUP BY u.id
+            """;
+    private static final String ENROLL_STUDENTS = """
+            INSERT INTO course_management.courses_students (course_id, student_id)
+            SELECT ?, student_id
+            FROM unnest(?) AS student_id
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String STUDENT_ENROLLMENTS = """
+            SELECT course_id, student_id FROM course_management.courses_students
+            """;
+    private static final String INSTRUCTOR_ASSIGNMENTS = """
+            SELECT course_id, instructor_id FROM course_management.courses_instructors
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int lockStudents(final Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.query(LOCK_STUDENTS,
+                statement -> statement.setArray(1,
+                        statement.getConnection().createArrayOf("bigint", studentIds.toArray())),
+                (resultSet, rowNum) -> resultSet.getLong(1)).size();
+    }
+
+    @Override
+    public Map<Long, StudentEnrollmentStats> findEnrollmentStats(final Long courseId,
+                                                                 final Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, StudentEnrollmentStats> stats = new HashMap<>();
+        jdbcTemplate.query(ENROLLMENT_STATS_QUERY,
+                statement -> {
+                    statement.setLong(1, courseId);
+                    statement.setArray(2, statement.getConnection().createArrayOf("bigint", studentIds.toArray()));
+                },
+                resultSet -> {
+                    StudentEnrollmentStats studentStats = new StudentEnrollmentStats(resultSet.getLong("id"),
+                            resultSet.getLong("courses"), resultSet.getBoolean("enrolled"));
+                    stats.put(studentStats.studentId(), studentStats);
+                });
+        return stats;
+    }
+
+    @Override
+    public int enrollStudents(final Long courseId, final Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(ENROLL_STUDENTS, statement -> {
+            statement.setLong(1, courseId);
+            statement.setArray(2, statement.getConnection().createArrayOf("bigint", studentIds.toArray()));
+        });
+    }
+
+    @Override
+    public void forEachStudentEnrollment(final BiConsumer<Long, Long> courseAndStudent) {
+        jdbcTemplate.query(STUDENT_ENROLLMENTS,
+                (RowCallbackHandler) resultSet -> courseAndStudent.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+
+    @Override
+    public void forEachInstructorAssignment(final BiConsumer<Long, Long> courseAndInstructor) {
+        jdbcTemplate.query(INSTRUCTOR_ASSIGNMENTS,
+                (RowCallbackHandler) resultSet -> courseAndInstructor.accept(resultSet.getLong(1), resultSet.getLong(2)));
+    }
+}
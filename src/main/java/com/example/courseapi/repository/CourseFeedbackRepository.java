@@ -1,8 +1,11 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.CourseFeedback;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +14,22 @@ import java.util.List;
 public interface CourseFeedbackRepository extends JpaRepository<CourseFeedback, Long>, JpaSpecificationExecutor<CourseFeedback> {
     List<CourseFeedback> findByStudentId(final Long studentId);
     List<CourseFeedback> findByCourseId(final Long courseId);
-    List<CourseFeedback> findByFeedbackContaining(final String text);
+
+    /**
+     * Searches course feedbacks by their words and substrings, ordered by relevance. {@code %} and {@code _} in the
+     * text match themselves.
+     *
+     * @param text     the search text, in web search syntax ({@code "exact phrase"}, {@code or}, {@code -word})
+     * @param pageable the page to read, without sort
+     */
+    @Query(value = """
+            SELECT f.* FROM course_management.course_feedbacks f,
+                 websearch_to_tsquery('english', :text) query
+            WHERE to_tsvector('english', f.feedback) @@ query
+               OR lower(f.feedback) LIKE '%' || lower(:#{escape(#text)}) || '%' ESCAPE '\\'
+            ORDER BY ts_rank(to_tsvector('english', f.feedback), query) DESC,
+                     similarity(lower(f.feedback), lower(:text)) DESC,
+                     f.id
+            """, nativeQuery = true)
+    List<CourseFeedback> search(@Param("text") final String text, final Pageable pageable);
 }
@@ -0,0 +1,126 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.domain.CourseProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface CourseProgressRepository extends JpaRepository<CourseProgress, CourseProgress.CourseProgressId> {
+    /**
+     * Derives status and final grade from the counters, with the same rules as the on-the-fly calculation.
+     */
+    String REFRESH_STATUS = """
+            UPDATE course_management.course_progress cp
+            SET status      = CASE
+                                  WHEN cp.submitted_lessons <> l.lessons THEN 'IN_PROGRESS'
+                                  WHEN l.lessons > 0 AND cp.grade_sum / l.lessons >= 80.0 THEN 'COMPLETED'
+                                  ELSE 'FAILED' END,
+                final_grade = CASE WHEN cp.submitted_lessons = l.lessons AND l.lessons > 0
+                                   THEN cp.grade_sum / l.lessons END
+            FROM (SELECT c.id AS course_id,
+                         (SELECT count(*) FROM course_management.lessons ls WHERE ls.course_id = c.id) AS lessons
+                  FROM course_management.courses c) l
+            WHERE l.course_id = cp.course_id
+            """;
+
+    String RECALCULATE_COUNTERS = """
+            INSERT INTO course_management.course_progress AS cp
+                (student_id, course_id, submitted_lessons, grade_sum, status)
+            SELECT s.student_id, l.course_id, count(*), sum(s.grade), 'IN_PROGRESS'
+            FROM course_management.submissions s
+                     JOIN course_management.lessons l ON l.id = s.lesson_id
+            """;
+
+    String RECALCULATE_COUNTERS_CONFLICT = """
+            GROUP BY s.student_id, l.course_id
+            ON CONFLICT (student_id, course_id) DO UPDATE
+            SET submitted_lessons = EXCLUDED.submitted_lessons,
+                grade_sum         = EXCLUDED.grade_sum
+            """;
+
+    /**
+     * Adds the deltas to the counters of the student in the course of the lesson, creating the row if missing.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO course_management.course_progress AS cp
+                (student_id, course_id, submitted_lessons, grade_sum, status)
+            SELECT :studentId, l.course_id, :submittedDelta, :gradeDelta, 'IN_PROGRESS'
+            FROM course_management.lessons l
+            WHERE l.id = :lessonId
+            ON CONFLICT (student_id, course_id) DO UPDATE
+            SET submitted_lessons = cp.submitted_lessons + EXCLUDED.submitted_lessons,
+                grade_sum         = cp.grade_sum + EXCLUDED.grade_sum
+            """, nativeQuery = true)
+    int applyDelta(@Param("lessonId") final Long lessonId, @Param("studentId") final Long studentId,
+                   @Param("submittedDelta") final int submittedDelta, @Param("gradeDelta") final double gradeDelta);
+
+    @Modifying
+    @Query(value = REFRESH_STATUS + """
+            AND cp.student_id = :studentId
+            AND cp.course_id = (SELECT ls.course_id FROM course_management.lessons ls WHERE ls.id = :lessonId)
+            """, nativeQuery = true)
+    int refreshStatusByLesson(@Param("lessonId") final Long lessonId, @Param("studentId") final Long studentId);
+
+    /**
+     * Resets the counters of the given courses from {@code submissions}, used when lessons were added or removed.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE course_management.course_progress
+            SET submitted_lessons = 0, grade_sum = 0
+            WHERE course_id IN (:courseIds)
+            """, nativeQuery = true)
+    int resetCounters(@Param("courseIds") final Collection<Long> courseIds);
+
+    @Modifying
+    @Query(value = RECALCULATE_COUNTERS + "WHERE l.course_id IN (:courseIds)\n" + RECALCULATE_COUNTERS_CONFLICT,
+            nativeQuery = true)
+    int recalculateCounters(@Param("courseIds") final Collection<Long> courseIds);
+
+    @Modifying
+    @Query(value = REFRESH_STATUS + "AND cp.course_id IN (:courseIds)", nativeQuery = true)
+    int refreshStatus(@Param("courseIds") final Collection<Long> courseIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM course_management.course_progress", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = RECALCULATE_COUNTERS + RECALCULATE_COUNTERS_CONFLICT, nativeQuery = true)
+    int recalculateAllCounters();
+
+    @Modifying
+    @Query(value = REFRESH_STATUS, nativeQuery = true)
+    int refreshAllStatuses();
+
+    /**
+     * Counts (student, course) pairs whose stored counters or status differ from a recalculation from
+     * {@code submissions}. Missing rows count as zero progress.
+     */
+    @Query(value = """
+            SELECT count(*)
+            FROM (SELECT s.student_id, l.course_id, count(*) AS submitted, sum(s.grade) AS grade_sum
+                  FROM course_management.submissions s
+                           JOIN course_management.lessons l ON l.id = s.lesson_id
+                  GROUP BY s.student_id, l.course_id) expected
+                     FULL JOIN course_management.course_progress cp
+                               ON cp.student_id = expected.student_id AND cp.course_id = expected.course_id
+                     LEFT JOIN (SELECT ls.course_id, count(*) AS lessons
+                                FROM course_management.lessons ls
+                                GROUP BY ls.course_id) l
+                               ON l.course_id = coalesce(expected.course_id, cp.course_id)
+            WHERE coalesce(expected.submitted, 0) <> coalesce(cp.submitted_lessons, 0)
+               OR abs(coalesce(expected.grade_sum, 0) - coalesce(cp.grade_sum, 0)) > 0.000001
+               OR cp.status <> CASE
+                                   WHEN cp.submitted_lessons <> coalesce(l.lessons, 0) THEN 'IN_PROGRESS'
+                                   WHEN l.lessons > 0 AND cp.grade_sum / l.lessons >= 80.0 THEN 'COMPLETED'
+                                   ELSE 'FAILED' END
+            """, nativeQuery = true)
+    long countDrift();
+}
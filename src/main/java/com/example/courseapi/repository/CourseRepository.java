@@ -1,19 +1,82 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.Course;
+import com.example.courseapi.repository.projection.CourseGradeAggregate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course> {
+public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course>,
+        CourseCatalogRepository, CourseEnrollmentRepository {
+    @EntityGraph(Course.GRAPH_LESSONS)
+    Optional<Course> findWithLessonsById(final Long courseId);
     List<Course> findByStudentsId(final Long studentId);
-    List<Course> findByTitleContaining(final String title);
-    List<Course> findByDescriptionContaining(final String description);
     boolean existsByIdAndStudentsId(final Long courseId, final Long studentId);
     boolean existsByIdAndInstructorsId(final Long courseId, final Long studentId);
     boolean existsByLessonsIdAndStudentsId(final Long lessonId, final Long studentId);
     boolean existsByLessonsIdAndInstructorsId(final Long lessonId, final Long studentId);
+
+    /**
+     * Searches courses by the words and substrings of their title and description, {@code %} and {@code _} in the
+     * text match themselves. Courses are ordered by relevance: title words weigh more than description words, then
+     * titles closer to the text win.
+     *
+     * @param text     the search text, in web search syntax ({@code "exact phrase"}, {@code or}, {@code -word})
+     * @param pageable the page to read, without sort
+     */
+    @Query(value = """
+            SELECT c.* FROM course_management.courses c,
+                 websearch_to_tsquery('english', :text) query
+            WHERE to_tsvector('english', c.title) @@ query
+               OR to_tsvector('english', c.description) @@ query
+               OR lower(c.title) LIKE '%' || lower(:#{escape(#text)}) || '%' ESCAPE '\\'
+               OR lower(c.description) LIKE '%' || lower(:#{escape(#text)}) || '%' ESCAPE '\\'
+            ORDER BY ts_rank(setweight(to_tsvector('english', c.title), 'A')
+                             || setweight(to_tsvector('english', c.description), 'B'), query) DESC,
+                     similarity(lower(c.title), lower(:text)) DESC,
+                     c.id
+            """, nativeQuery = true)
+    List<Course> search(@Param("text") final String text, final Pageable pageable);
+
+    /**
+     * Recalculates the availability of the given courses from their stored instructors and lessons, for changes
+     * made outside the loaded course entity: a course is available with an instructor and at least five lessons.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE course_management.courses c
+            SET available = EXISTS (SELECT 1 FROM course_management.courses_instructors ci
+                                    WHERE ci.course_id = c.id)
+                        AND (SELECT count(*) FROM course_management.lessons l WHERE l.course_id = c.id) >= 5
+            WHERE c.id IN (:courseIds)
+            """, nativeQuery = true)
+    int refreshAvailability(@Param("courseIds") final Collection<Long> courseIds);
+
+    @Query("select i.id from Course c join c.instructors i where c.id = :courseId")
+    List<Long> findInstructorIdsById(@Param("courseId") final Long courseId);
+
+    @Query("select s.id from Course c join c.students s where c.id = :courseId")
+    List<Long> findStudentIdsById(@Param("courseId") final Long courseId);
+
+    @Query("""
+            select new com.example.courseapi.repository.projection.CourseGradeAggregate(
+                c.id, count(distinct l.id), count(s.submissionId.lessonId), sum(s.grade))
+            from Course c
+            left join c.lessons l
+            left join Submission s on s.lesson = l and s.student.id = :studentId
+            where c.id in :courseIds
+            group by c.id
+            """)
+    List<CourseGradeAggregate> findGradeAggregates(
+            @Param("studentId") final Long studentId, @Param("courseIds") final Collection<Long> courseIds);
 }
@@ -1,6 +1,7 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.Instructor;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,5 +11,7 @@ import java.util.Optional;
 @Repository
 public interface InstructorRepository extends JpaRepository<Instructor, Long>, JpaSpecificationExecutor<Instructor> {
     Optional<Instructor> findByEmail(final String email);
+    @EntityGraph(attributePaths = "instructorCourses")
+    Optional<Instructor> findWithCoursesById(final Long id);
     boolean existsById(final Long id);
 }
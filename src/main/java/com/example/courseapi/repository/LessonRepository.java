@@ -1,15 +1,44 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.Lesson;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long>, JpaSpecificationExecutor<Lesson> {
     List<Lesson> findByCourseId(final Long courseId);
-    List<Lesson> findByTitleContaining(final String text);
-    List<Lesson> findByDescriptionContaining(final String text);
+    List<Lesson> findByCourseIdIn(final Collection<Long> courseIds);
+
+    /**
+     * Searches lessons by the words and substrings of their title and description, {@code %} and {@code _} in the
+     * text match themselves. Lessons are ordered by relevance: title words weigh more than description words, then
+     * titles closer to the text win.
+     *
+     * @param text     the search text, in web search syntax ({@code "exact phrase"}, {@code or}, {@code -word})
+     * @param pageable the page to read, without sort
+     */
+    @Query(value = """
+            SELECT l.* FROM course_management.lessons l,
+                 websearch_to_tsquery('english', :text) query
+            WHERE to_tsvector('english', l.title) @@ query
+               OR to_tsvector('english', l.description) @@ query
+               OR lower(l.title) LIKE '%' || lower(:#{escape(#text)}) || '%' ESCAPE '\\'
+               OR lower(l.description) LIKE '%' || lower(:#{escape(#text)}) || '%' ESCAPE '\\'
+            ORDER BY ts_rank(setweight(to_tsvector('english', l.title), 'A')
+                             || setweight(to_tsvector('english', coalesce(l.description, '')), 'B'), query) DESC,
+                     similarity(lower(l.title), lower(:text)) DESC,
+                     l.id
+            """, nativeQuery = true)
+    List<Lesson> search(@Param("text") final String text, final Pageable pageable);
+
+    @Query("select l.course.id from Lesson l where l.id = :lessonId")
+    Optional<Long> findCourseIdById(@Param("lessonId") final Long lessonId);
 }
@@ -4,10 +4,10 @@ import com.example.courseapi.domain.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
 
-@Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    boolean existsByTokenAndUserEmail(String token, String email);
 
-    int deleteAllByUserId(Long userId);
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID>, RefreshTokenStoreRepository {
+    boolean existsByIdAndUserIdAndTokenHash(UUID id, Long userId, byte[] tokenHash);
 }
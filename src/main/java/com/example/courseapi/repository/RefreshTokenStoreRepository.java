@@ -0,0 +1,29 @@
+package com.example.courseapi.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Set-based statements behind refresh token rotation and compaction.
+ */
+public interface RefreshTokenStoreRepository {
+
+    /**
+     * Stores the refresh token of a user, replacing the previous one in the same statement.
+     *
+     * @param jti       the id of the token
+     * @param userId    the id of the user
+     * @param tokenHash the SHA-256 hash of the token
+     * @param expiresAt the moment the token expires
+     */
+    void upsert(final UUID jti, final Long userId, final byte[] tokenHash, final LocalDateTime expiresAt);
+
+    /**
+     * Deletes up to {@code batchSize} tokens that expired before the given moment.
+     *
+     * @param now       the current moment
+     * @param batchSize the maximum number of tokens to delete
+     * @return the number of deleted tokens
+     */
+    int deleteExpired(final LocalDateTime now, final int batchSize);
+}
@@ -0,0 +1,47 @@
+package com.example.courseapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class RefreshTokenStoreRepositoryImpl implements RefreshTokenStoreRepository {
+    private static final String UPSERT_TOKEN = """
+            INSERT INTO course_management.refresh_tokens
+                (jti, user_id, token_hash, expires_at, created_date, modified_date, created_by, modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id) DO UPDATE
+                SET jti           = EXCLUDED.jti,
+                    token_hash    = EXCLUDED.token_hash,
+                    expires_at    = EXCLUDED.expires_at,
+                    modified_date = EXCLUDED.modified_date,
+                    modified_by   = EXCLUDED.modified_by
+            """;
+    private static final String DELETE_EXPIRED = """
+            DELETE FROM course_management.refresh_tokens
+            WHERE jti IN (SELECT jti
+                          FROM course_management.refresh_tokens
+                          WHERE expires_at < ?
+                          LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public void upsert(final UUID jti, final Long userId, final byte[] tokenHash, final LocalDateTime expiresAt) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String auditor = auditorAware.getCurrentAuditor().orElse("Anonymous");
+        jdbcTemplate.update(UPSERT_TOKEN,
+                jti, userId, tokenHash, Timestamp.valueOf(expiresAt), now, now, auditor, auditor);
+    }
+
+    @Override
+    public int deleteExpired(final LocalDateTime now, final int batchSize) {
+        return jdbcTemplate.update(DELETE_EXPIRED, Timestamp.valueOf(now), batchSize);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.Student;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -10,4 +11,6 @@ import java.util.Optional;
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long>, JpaSpecificationExecutor<Student> {
     Optional<Student> findByEmail(final String email);
+    @EntityGraph(attributePaths = "studentCourses")
+    Optional<Student> findWithCoursesById(final Long id);
 }
@@ -0,0 +1,30 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.repository.projection.LessonEnrollment;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based statements behind bulk grading of a lesson.
+ */
+public interface SubmissionBatchRepository {
+
+    /**
+     * Finds which of the given students are subscribed to the course of the lesson, in a single statement.
+     *
+     * @param lessonId   the id of the lesson
+     * @param studentIds the ids of the students
+     * @return the subscribed students, students who are not subscribed are absent
+     */
+    List<LessonEnrollment> findEnrollments(final Long lessonId, final Collection<Long> studentIds);
+
+    /**
+     * Inserts or replaces the grades of the lesson as one JDBC batch.
+     *
+     * @param lessonId the id of the lesson
+     * @param grades   grades by student id
+     */
+    void upsertGrades(final Long lessonId, final Map<Long, Double> grades);
+}
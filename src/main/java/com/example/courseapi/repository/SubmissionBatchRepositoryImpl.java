@@ -0,0 +1,66 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.repository.projection.LessonEnrollment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SubmissionBatchRepositoryImpl implements SubmissionBatchRepository {
+    private static final String ENROLLMENTS_QUERY = """
+            SELECT cs.student_id, s.student_id IS NOT NULL AS submitted
+            FROM course_management.lessons l
+                     JOIN course_management.courses_students cs ON cs.course_id = l.course_id
+                     LEFT JOIN course_management.submissions s
+                               ON s.lesson_id = l.id AND s.student_id = cs.student_id
+            WHERE l.id = ?
+              AND cs.student_id = ANY (?)
+            """;
+    private static final String UPSERT_GRADE = """
+            INSERT INTO course_management.submissions
+                (lesson_id, student_id, grade, created_date, modified_date, created_by, modified_by)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (lesson_id, student_id) DO UPDATE
+                SET grade         = EXCLUDED.grade,
+                    modified_date = EXCLUDED.modified_date,
+                    modified_by   = EXCLUDED.modified_by
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    @Override
+    public List<LessonEnrollment> findEnrollments(final Long lessonId, final Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(ENROLLMENTS_QUERY,
+                statement -> {
+                    statement.setLong(1, lessonId);
+                    statement.setArray(2, statement.getConnection().createArrayOf("bigint", studentIds.toArray()));
+                },
+                (resultSet, rowNum) ->
+                        new LessonEnrollment(resultSet.getLong("student_id"), resultSet.getBoolean("submitted")));
+    }
+
+    @Override
+    public void upsertGrades(final Long lessonId, final Map<Long, Double> grades) {
+        if (grades.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String auditor = auditorAware.getCurrentAuditor().orElse("Anonymous");
+        List<Object[]> rows = new ArrayList<>(grades.size());
+        grades.forEach((studentId, grade) ->
+                rows.add(new Object[]{lessonId, studentId, grade, now, now, auditor, auditor}));
+        jdbcTemplate.batchUpdate(UPSERT_GRADE, rows);
+    }
+}
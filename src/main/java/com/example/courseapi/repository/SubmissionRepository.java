@@ -1,8 +1,12 @@
 package com.example.courseapi.repository;
 
 import com.example.courseapi.domain.Submission;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,10 +14,37 @@ import java.util.Optional;
 
 @Repository
 public interface SubmissionRepository extends JpaRepository<Submission, Submission.SubmissionId>,
-        JpaSpecificationExecutor<Submission> {
+        JpaSpecificationExecutor<Submission>, SubmissionBatchRepository {
+    String INSTRUCTOR_SUBMISSIONS = """
+            select s from Submission s
+                join s.lesson l
+                join l.course c
+                join c.instructors i
+            where i.id = :instructorId
+            """;
+
     void deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(final Long lessonId, final Long studentId);
     Optional<Submission> findBySubmissionId_LessonIdAndSubmissionId_StudentId(final Long lessonId, final Long studentId);
     List<Submission> findAllByStudentId(final Long studentId);
     List<Submission> findAllByLessonId(final Long lessonId);
+    Page<Submission> findAllByStudentId(final Long studentId, final Pageable pageable);
+    Page<Submission> findAllByLessonId(final Long lessonId, final Pageable pageable);
+
+    /**
+     * Submissions of the student in the courses the instructor is assigned to. A course holds an instructor
+     * at most once, so the join never duplicates a submission.
+     */
+    @Query(INSTRUCTOR_SUBMISSIONS + "and s.submissionId.studentId = :studentId")
+    Page<Submission> findAllByStudentIdAndInstructorId(@Param("studentId") final Long studentId,
+                                                       @Param("instructorId") final Long instructorId,
+                                                       final Pageable pageable);
+
+    /**
+     * Submissions of the lesson, empty unless the instructor is assigned to the course of the lesson.
+     */
+    @Query(INSTRUCTOR_SUBMISSIONS + "and s.submissionId.lessonId = :lessonId")
+    Page<Submission> findAllByLessonIdAndInstructorId(@Param("lessonId") final Long lessonId,
+                                                      @Param("instructorId") final Long instructorId,
+                                                      final Pageable pageable);
     List<Submission> findAllByStudentIdAndLessonCourseId(final Long studentId, final Long courseId);
 }
@@ -3,6 +3,9 @@ package com.example.courseapi.repository;
 import com.example.courseapi.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +14,17 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     Optional<User> findByEmail(final String email);
     boolean existsByEmail(final String email);
+
+    /**
+     * Reads only the token version stamp of a user, empty if the user does not exist anymore.
+     */
+    @Query("select u.tokenVersion from User u where u.id = :userId")
+    Optional<Integer> findTokenVersionById(@Param("userId") final Long userId);
+
+    /**
+     * Replaces the password hash of a user without loading it.
+     */
+    @Modifying
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePasswordByEmail(@Param("email") final String email, @Param("password") final String password);
 }
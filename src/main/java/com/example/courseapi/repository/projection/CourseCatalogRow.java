@@ -0,0 +1,18 @@
+package com.example.courseapi.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column projection of a {@link com.example.courseapi.domain.Course} row used by the course catalog.
+ * Carries only scalar columns, so reading a page never touches the course associations.
+ */
+public record CourseCatalogRow(
+        Long id,
+        String title,
+        String description,
+        Boolean available,
+        String createdBy,
+        LocalDateTime createdDate,
+        String modifiedBy,
+        LocalDateTime modifiedDate) {
+}
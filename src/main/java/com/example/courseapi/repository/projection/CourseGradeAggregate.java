@@ -0,0 +1,12 @@
+package com.example.courseapi.repository.projection;
+
+/**
+ * Lesson count, submission count and grade sum of a single student in a single course.
+ * {@code gradeSum} is {@code null} when the student has no submissions in the course.
+ */
+public record CourseGradeAggregate(
+        Long courseId,
+        Long lessonCount,
+        Long submissionCount,
+        Double gradeSum) {
+}
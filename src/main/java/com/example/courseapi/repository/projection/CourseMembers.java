@@ -0,0 +1,21 @@
+package com.example.courseapi.repository.projection;
+
+import java.util.Set;
+
+/**
+ * Aggregated members of a single course.
+ * Id sets are {@code null} when only counts were requested.
+ */
+public record CourseMembers(
+        Long courseId,
+        Set<Long> instructorIds,
+        Set<Long> studentIds,
+        long instructorCount,
+        long studentCount) {
+
+    public static CourseMembers empty(final Long courseId, final boolean withIds) {
+        return withIds ?
+                new CourseMembers(courseId, Set.of(), Set.of(), 0, 0) :
+                new CourseMembers(courseId, null, null, 0, 0);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.courseapi.repository.projection;
+
+/**
+ * A student subscribed to the course of a lesson and whether a submission for the lesson already exists.
+ */
+public record LessonEnrollment(Long studentId, boolean submitted) {
+}
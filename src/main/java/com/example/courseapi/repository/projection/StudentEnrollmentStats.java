@@ -0,0 +1,7 @@
+package com.example.courseapi.repository.projection;
+
+/**
+ * Number of courses a student is subscribed to and whether one of them is the target course of an enrollment.
+ */
+public record StudentEnrollmentStats(Long studentId, long courseCount, boolean enrolled) {
+}
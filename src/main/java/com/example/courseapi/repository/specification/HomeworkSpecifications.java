@@ -0,0 +1,47 @@
+package com.example.courseapi.repository.specification;
+
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.Homework;
+import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.User;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Role scoping for {@link Homework} queries.
+ * <p>
+ * Each scope is a correlated {@code EXISTS} over the course membership tables, so its cost does not depend on
+ * how many courses or lessons the user has and it composes with any user supplied filter.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HomeworkSpecifications {
+
+    /**
+     * Homeworks of lessons whose course the student is subscribed to.
+     */
+    public static Specification<Homework> lessonOfStudentCourses(final Long studentId) {
+        return lessonOfCourseMember("students", studentId);
+    }
+
+    /**
+     * Homeworks of lessons whose course the instructor is assigned to.
+     */
+    public static Specification<Homework> lessonOfInstructorCourses(final Long instructorId) {
+        return lessonOfCourseMember("instructors", instructorId);
+    }
+
+    private static Specification<Homework> lessonOfCourseMember(final String members, final Long userId) {
+        return (root, query, builder) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Lesson> lesson = subquery.from(Lesson.class);
+            Join<Course, User> member = lesson.join("course").join(members);
+            subquery.select(lesson.get("id"))
+                    .where(builder.equal(lesson, root.get("lesson")), builder.equal(member.get("id"), userId));
+            return builder.exists(subquery);
+        };
+    }
+}
@@ -3,24 +3,38 @@ package com.example.courseapi.rest;
 import com.example.courseapi.config.EntityHeaderCreator;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.dto.request.CourseRequestDTO;
+import com.example.courseapi.dto.request.CourseStudentsRequestDTO;
 import com.example.courseapi.dto.request.LessonsUpdateDTO;
+import com.example.courseapi.dto.response.CourseEnrollmentResultDTO;
 import com.example.courseapi.dto.response.CourseResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.CourseStatusResponseDTO;
 import com.example.courseapi.util.ResponseUtil;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
+import com.example.courseapi.domain.enums.GradebookFormat;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.security.annotation.CurrentUser;
 import com.example.courseapi.service.CourseService;
+import com.example.courseapi.service.GradebookService;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.CourseAssignmentPolicy;
+import com.example.courseapi.security.policy.CourseInstructorPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.net.URI;
@@ -41,6 +55,7 @@ public class CourseController {
     private static final String ENTITY_NAME = "Course";
 
     private final CourseService courseService;
+    private final GradebookService gradebookService;
     private final EntityHeaderCreator entityHeaderCreator;
 
     /**
@@ -52,9 +67,10 @@ public class CourseController {
      *
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
-    @PreAuthorize("@accessValidator.courseAccess(#courseDTO.id, #courseDTO.instructorIds)")
+    @Authorize(CourseAssignmentPolicy.class)
     @PostMapping("/courses")
-    public ResponseEntity<CourseResponseDTO> createCourse(@Valid @RequestBody final CourseRequestDTO courseDTO)
+    public ResponseEntity<CourseResponseDTO> createCourse(
+            @PolicyTarget @Valid @RequestBody final CourseRequestDTO courseDTO)
             throws URISyntaxException {
         log.debug("REST POST request to save course : {}", courseDTO);
         if (courseDTO.getId() != null) {
@@ -74,9 +90,10 @@ public class CourseController {
      * or with status {@code 400 (Bad Request)} if the courseDTO is not valid,
      * or with status {@code 500 (Internal Server Error)} if the courseDTO couldn't be updated.
      */
-    @PreAuthorize("@accessValidator.courseAccess(#courseDTO.id, #courseDTO.instructorIds)")
+    @Authorize(CourseAssignmentPolicy.class)
     @PutMapping("/courses")
-    public ResponseEntity<CourseResponseDTO> updateCourse(@Valid @RequestBody final CourseRequestDTO courseDTO) {
+    public ResponseEntity<CourseResponseDTO> updateCourse(
+            @PolicyTarget @Valid @RequestBody final CourseRequestDTO courseDTO) {
         log.debug("REST PUT request to update course : {}", courseDTO);
         if (courseDTO.getId() == null) {
             throw new SystemException("Invalid id provided for a course", ErrorCode.BAD_REQUEST);
@@ -91,13 +108,33 @@ public class CourseController {
      * {@code GET  /courses} : get all the courses.
      *
      * @param pageable the pagination information.
+     * @param count    {@code ESTIMATE} (default) for a planner estimated total, {@code EXACT} to count every
+     *                 matching row, {@code NONE} for a slice that only tells whether a next page exists.
+     * @param members  {@code IDS} (default) to return instructor and student ids, {@code COUNT} to return only counts.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of courses in body.
      */
     @GetMapping("/courses")
-    public Page<CourseResponseDTO> getAllCourses(
-            final Filters filters, final Pageable pageable, @CurrentUser final User user) {
+    public Slice<CourseResponseDTO> getAllCourses(
+            final Filters filters, final Pageable pageable, @RequestParam(defaultValue = "ESTIMATE") final CountMode count,
+            @RequestParam(defaultValue = "IDS") final CourseMembersView members, @CurrentUser final User user) {
         log.debug("REST GET request to get a page of courses for user with id: {}", user.getId());
-        return courseService.findAll(filters, pageable, user);
+        return courseService.findAll(filters, pageable, count, members, user);
+    }
+
+    /**
+     * {@code GET  /courses?cursor=} : get the courses following the cursor, without counting them.
+     *
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page.
+     * @param pageable the page size and, for the first page, the sort.
+     * @param members  {@code IDS} (default) to return instructor and student ids, {@code COUNT} to return only counts.
+     * @return the page of courses and the cursor of the next page.
+     */
+    @GetMapping(value = "/courses", params = "cursor")
+    public CursorPageResponseDTO<CourseResponseDTO> getCoursesByCursor(
+            final Filters filters, @RequestParam final String cursor, final Pageable pageable,
+            @RequestParam(defaultValue = "IDS") final CourseMembersView members, @CurrentUser final User user) {
+        log.debug("REST GET request to get courses after cursor for user with id: {}", user.getId());
+        return courseService.findAllByCursor(filters, cursor, pageable, members, user);
     }
 
     /**
@@ -121,10 +158,10 @@ public class CourseController {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the courseDTO,
      * or with status {@code 404 (Not Found)}.
      */
-    @PreAuthorize("@accessValidator.courseAccess(#courseId, null)")
+    @Authorize(CourseInstructorPolicy.class)
     @PutMapping("/courses/{courseId}/lessons")
     public ResponseEntity<CourseResponseDTO> updateCourseLessons(
-            @PathVariable final Long courseId, @Valid @RequestBody final LessonsUpdateDTO lessonsDTO) {
+            @PolicyTarget @PathVariable final Long courseId, @Valid @RequestBody final LessonsUpdateDTO lessonsDTO) {
         log.debug("REST PUT request to update course with id: {} with lessons: {}", courseId, lessonsDTO);
         CourseResponseDTO courseDTO = courseService.updateCourseLessonsAndSave(courseId, lessonsDTO);
         return ResponseEntity.ok(courseDTO);
@@ -136,9 +173,9 @@ public class CourseController {
      * @param courseId the id of the courseDTO to delete.
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
-    @PreAuthorize("@accessValidator.courseAccess(#courseId, null)")
+    @Authorize(CourseInstructorPolicy.class)
     @DeleteMapping("/courses/{courseId}")
-    public ResponseEntity<Void> deleteCourse(@PathVariable final Long courseId) {
+    public ResponseEntity<Void> deleteCourse(@PolicyTarget @PathVariable final Long courseId) {
         log.debug("REST DELETE request to delete course with id: {}", courseId);
         courseService.delete(courseId);
         return ResponseEntity.noContent()
@@ -182,6 +219,23 @@ public class CourseController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * {@code PUT /courses/{courseId}/students} : Subscribes many students to a course at once.
+     *
+     * @param courseId    the corresponding course id to subscribe.
+     * @param studentsDTO the student ids which need to be subscribed.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the subscribed
+     * and the rejected student ids, or with status {@code 400 (Bad Request)} if the course is not valid.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/courses/{courseId}/students")
+    public ResponseEntity<CourseEnrollmentResultDTO> enrollStudentsToCourse(
+            @PathVariable final Long courseId, @Valid @RequestBody final CourseStudentsRequestDTO studentsDTO) {
+        log.debug("REST PUT request to subscribe {} students on course with id: {}",
+                studentsDTO.getStudentIds().size(), courseId);
+        return ResponseEntity.ok(courseService.enrollStudents(courseId, studentsDTO.getStudentIds()));
+    }
+
     /**
      * {@code GET  /courses/my} : get my courses.
      *
@@ -222,15 +276,40 @@ public class CourseController {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the courseDTO,
      * or with status {@code 404 (Not Found)}.
      */
-    @PreAuthorize("@accessValidator.courseAccess(#courseId)")
+    @Authorize(CourseInstructorPolicy.class)
     @GetMapping("/courses/{courseId}/students/{studentId}/status")
     public ResponseEntity<CourseStatusResponseDTO> getCourseStatus(
-            @PathVariable final Long courseId, @PathVariable final Long studentId) {
+            @PolicyTarget @PathVariable final Long courseId, @PathVariable final Long studentId) {
         log.debug("REST GET request to get course status for id: {} for student with id: {}", courseId, studentId);
         CourseStatusResponseDTO courseStatusDTO = courseService.getCourseStatus(courseId, studentId);
         return ResponseEntity.ok(courseStatusDTO);
     }
 
+    /**
+     * {@code GET  /courses/{courseId}/gradebook} : export the grades of every student for every lesson of the course.
+     *
+     * @param courseId the id of the course to export.
+     * @param format   {@code CSV} (default) or {@code NDJSON}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the gradebook streamed in body,
+     * or with status {@code 404 (Not Found)} if the course does not exist.
+     */
+    @Authorize(CourseInstructorPolicy.class)
+    @GetMapping(value = "/courses/{courseId}/gradebook", produces = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<StreamingResponseBody> getGradebook(
+            @PolicyTarget @PathVariable final Long courseId,
+            @RequestParam(defaultValue = "CSV") final GradebookFormat format) {
+        log.debug("REST GET request to export gradebook of course with id: {} as {}", courseId, format);
+        if (!gradebookService.courseExists(courseId)) {
+            throw new SystemException("Course with id: " + courseId + " not found.", ErrorCode.NOT_FOUND);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("course-" + courseId + "-gradebook." + format.getExtension())
+                        .build().toString())
+                .body(outputStream -> gradebookService.writeGradebook(courseId, format, outputStream));
+    }
+
     /**
      * {@code PUT /courses/{courseId}/instructor/{instructorId}} : Adds instructor to a course
      *
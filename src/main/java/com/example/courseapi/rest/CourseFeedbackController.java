@@ -3,17 +3,22 @@ package com.example.courseapi.rest;
 import com.example.courseapi.config.EntityHeaderCreator;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.CourseFeedbackRequestDTO;
 import com.example.courseapi.dto.response.CourseFeedbackResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.security.annotation.CurrentUser;
 import com.example.courseapi.util.ResponseUtil;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.service.CourseFeedbackService;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.CourseFeedbackStudentPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -47,10 +52,10 @@ public class CourseFeedbackController {
      *
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
-    @PreAuthorize("@accessValidator.courseFeedbackAccess(#courseFeedbackDTO.courseId)")
+    @Authorize(CourseFeedbackStudentPolicy.class)
     @PostMapping("/course-feedbacks")
     public ResponseEntity<CourseFeedbackResponseDTO> createCourseFeedback(
-            @Valid @RequestBody final CourseFeedbackRequestDTO courseFeedbackDTO,
+            @PolicyTarget @Valid @RequestBody final CourseFeedbackRequestDTO courseFeedbackDTO,
             @CurrentUser final Student student
     ) throws URISyntaxException {
         log.debug("REST POST request to save course feedback : {}", courseFeedbackDTO);
@@ -71,10 +76,11 @@ public class CourseFeedbackController {
      * or with status {@code 400 (Bad Request)} if the courseFeedbackResponseDTO is not valid,
      * or with status {@code 500 (Internal Server Error)} if the courseFeedbackResponseDTO couldn't be updated.
      */
-    @PreAuthorize("@accessValidator.courseFeedbackAccess(#courseFeedbackDTO.courseId)")
+    @Authorize(CourseFeedbackStudentPolicy.class)
     @PutMapping("/course-feedbacks")
     public ResponseEntity<CourseFeedbackResponseDTO> updateCourseFeedback(
-            @Valid @RequestBody final CourseFeedbackRequestDTO courseFeedbackDTO, @CurrentUser final Student student) {
+            @PolicyTarget @Valid @RequestBody final CourseFeedbackRequestDTO courseFeedbackDTO,
+            @CurrentUser final Student student) {
         log.debug("REST PUT request to update course feedback : {}", courseFeedbackDTO);
         if (courseFeedbackDTO.getId() == null) {
             throw new SystemException("Invalid id", ErrorCode.BAD_REQUEST);
@@ -88,12 +94,28 @@ public class CourseFeedbackController {
     /**
      * {@code GET  /course-feedbacks} : get all the courseFeedbacks.
      *
+     * @param count    {@code ESTIMATE} (default) for a planner estimated total, {@code EXACT} to count every
+     *                 matching row, {@code NONE} for a slice that only tells whether a next page exists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of courseFeedbacks in body.
      */
     @GetMapping("/course-feedbacks")
-    public Page<CourseFeedbackResponseDTO> getAllCourseFeedbacks(final Filters filters, final Pageable pageable) {
+    public Slice<CourseFeedbackResponseDTO> getAllCourseFeedbacks(
+            final Filters filters, final Pageable pageable, @RequestParam(defaultValue = "ESTIMATE") final CountMode count) {
         log.debug("REST GET request to get a page of course feedbacks");
-        return courseFeedbackService.findAll(filters, pageable);
+        return courseFeedbackService.findAll(filters, pageable, count);
+    }
+
+    /**
+     * {@code GET  /course-feedbacks?cursor=} : get the courseFeedbacks following the cursor, without counting them.
+     *
+     * @param cursor the {@code next} cursor of the previous page, empty for the first page.
+     * @return the page of courseFeedbacks and the cursor of the next page.
+     */
+    @GetMapping(value = "/course-feedbacks", params = "cursor")
+    public CursorPageResponseDTO<CourseFeedbackResponseDTO> getCourseFeedbacksByCursor(
+            final Filters filters, @RequestParam final String cursor, final Pageable pageable) {
+        log.debug("REST GET request to get course feedbacks after cursor");
+        return courseFeedbackService.findAllByCursor(filters, cursor, pageable);
     }
 
     /**
@@ -7,18 +7,24 @@ import com.example.courseapi.dto.request.HomeworkRequestDTO;
 import com.example.courseapi.security.annotation.CurrentUser;
 import com.example.courseapi.util.ResponseUtil;
 import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.HomeworkResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.service.HomeworkService;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.AuthorizeResult;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.HomeworkReadPolicy;
+import com.example.courseapi.security.policy.HomeworkStudentPolicy;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PostAuthorize;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -74,9 +80,10 @@ public class HomeworkController {
      * or with status {@code 400 (Bad Request)} if the homeworkResponseDTO is not valid,
      * or with status {@code 500 (Internal Server Error)} if the homeworkResponseDTO couldn't be updated.
      */
-    @PreAuthorize("@accessValidator.homeworkAccess(#homeworkDTO.lessonId, #homeworkDTO.studentId)")
+    @Authorize(HomeworkStudentPolicy.class)
     @PutMapping("/homeworks")
-    public ResponseEntity<HomeworkResponseDTO> updateHomework(@Valid @RequestBody final HomeworkRequestDTO homeworkDTO) {
+    public ResponseEntity<HomeworkResponseDTO> updateHomework(
+            @PolicyTarget @Valid @RequestBody final HomeworkRequestDTO homeworkDTO) {
         log.debug("REST PUT request to update homework : {}", homeworkDTO);
         if (homeworkDTO.getId() == null) {
             throw new SystemException("Invalid id", ErrorCode.BAD_REQUEST);
@@ -90,13 +97,29 @@ public class HomeworkController {
     /**
      * {@code GET  /homeworks} : get all the homeworks.
      *
+     * @param count    {@code ESTIMATE} (default) for a planner estimated total, {@code EXACT} to count every
+     *                 matching row, {@code NONE} for a slice that only tells whether a next page exists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of homeworks in body.
      */
     @GetMapping("/homeworks")
-    public Page<HomeworkResponseDTO> getAllHomeworks(
-            final Filters filters, final Pageable pageable, @CurrentUser final User user) {
+    public Slice<HomeworkResponseDTO> getAllHomeworks(
+            final Filters filters, final Pageable pageable,
+            @RequestParam(defaultValue = "ESTIMATE") final CountMode count, @CurrentUser final User user) {
         log.debug("REST GET request to get a page of homeworks for user with id: {}", user.getId());
-        return homeworkService.findAll(filters, pageable, user);
+        return homeworkService.findAll(filters, pageable, count, user);
+    }
+
+    /**
+     * {@code GET  /homeworks?cursor=} : get the homeworks following the cursor, without counting them.
+     *
+     * @param cursor the {@code next} cursor of the previous page, empty for the first page.
+     * @return the page of homeworks and the cursor of the next page.
+     */
+    @GetMapping(value = "/homeworks", params = "cursor")
+    public CursorPageResponseDTO<HomeworkResponseDTO> getHomeworksByCursor(final Filters filters,
+            @RequestParam final String cursor, final Pageable pageable, @CurrentUser final User user) {
+        log.debug("REST GET request to get homeworks after cursor for user with id: {}", user.getId());
+        return homeworkService.findAllByCursor(filters, cursor, pageable, user);
     }
 
     /**
@@ -106,7 +129,7 @@ public class HomeworkController {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the homeworkDTO,
      * or with status {@code 404 (Not Found)}.
      */
-    @PostAuthorize("@accessValidator.homeworkAccess(returnObject.body.lessonId, returnObject.body.studentId)")
+    @AuthorizeResult(HomeworkReadPolicy.class)
     @GetMapping("/homeworks/{homeworkId}")
     public ResponseEntity<HomeworkResponseDTO> getHomework(@PathVariable final Long homeworkId) {
         log.debug("REST GET request to get a homework with id: {}", homeworkId);
@@ -2,16 +2,21 @@ package com.example.courseapi.rest;
 
 import com.example.courseapi.config.EntityHeaderCreator;
 import com.example.courseapi.config.args.generic.Filters;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.LessonRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.LessonResponseDTO;
 import com.example.courseapi.util.ResponseUtil;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.service.LessonService;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.LessonCoursePolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -46,9 +51,10 @@ public class LessonController {
      *
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
-    @PreAuthorize("@accessValidator.lessonAccess(#lessonDTO.courseId)")
+    @Authorize(LessonCoursePolicy.class)
     @PostMapping("/lessons")
-    public ResponseEntity<LessonResponseDTO> createLesson(@Valid @RequestBody final LessonRequestDTO lessonDTO)
+    public ResponseEntity<LessonResponseDTO> createLesson(
+            @PolicyTarget @Valid @RequestBody final LessonRequestDTO lessonDTO)
             throws URISyntaxException {
         log.debug("REST POST request to save lesson : {}", lessonDTO);
         if (lessonDTO.getId() != null) {
@@ -68,9 +74,10 @@ public class LessonController {
      * or with status {@code 400 (Bad Request)} if the lessonResponseDTO is not valid,
      * or with status {@code 500 (Internal Server Error)} if the lessonResponseDTO couldn't be updated.
      */
-    @PreAuthorize("@accessValidator.lessonAccess(#lessonDTO.courseId)")
+    @Authorize(LessonCoursePolicy.class)
     @PutMapping("/lessons")
-    public ResponseEntity<LessonResponseDTO> updateLesson(@Valid @RequestBody final LessonRequestDTO lessonDTO) {
+    public ResponseEntity<LessonResponseDTO> updateLesson(
+            @PolicyTarget @Valid @RequestBody final LessonRequestDTO lessonDTO) {
         log.debug("REST PUT request to update lesson : {}", lessonDTO);
         if (lessonDTO.getId() == null) {
             throw new SystemException("Invalid id", ErrorCode.BAD_REQUEST);
@@ -84,12 +91,28 @@ public class LessonController {
     /**
      * {@code GET  /lessons} : get all the lessons.
      *
+     * @param count    {@code ESTIMATE} (default) for a planner estimated total, {@code EXACT} to count every
+     *                 matching row, {@code NONE} for a slice that only tells whether a next page exists.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of lessons in body.
      */
     @GetMapping("/lessons")
-    public Page<LessonResponseDTO> getAllLessons(final Filters filters, final Pageable pageable) {
+    public Slice<LessonResponseDTO> getAllLessons(
+            final Filters filters, final Pageable pageable, @RequestParam(defaultValue = "ESTIMATE") final CountMode count) {
         log.debug("REST GET request to get a page of lessons");
-        return lessonService.findAll(filters, pageable);
+        return lessonService.findAll(filters, pageable, count);
+    }
+
+    /**
+     * {@code GET  /lessons?cursor=} : get the lessons following the cursor, without counting them.
+     *
+     * @param cursor the {@code next} cursor of the previous page, empty for the first page.
+     * @return the page of lessons and the cursor of the next page.
+     */
+    @GetMapping(value = "/lessons", params = "cursor")
+    public CursorPageResponseDTO<LessonResponseDTO> getLessonsByCursor(
+            final Filters filters, @RequestParam final String cursor, final Pageable pageable) {
+        log.debug("REST GET request to get lessons after cursor");
+        return lessonService.findAllByCursor(filters, cursor, pageable);
     }
 
     /**
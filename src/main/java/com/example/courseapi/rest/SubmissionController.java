@@ -1,16 +1,24 @@
 package com.example.courseapi.rest;
 
 import com.example.courseapi.config.EntityHeaderCreator;
+import com.example.courseapi.dto.request.SubmissionBatchRequestDTO;
 import com.example.courseapi.dto.request.SubmissionRequestDTO;
+import com.example.courseapi.dto.response.SubmissionBatchResultDTO;
 import com.example.courseapi.dto.response.SubmissionResponseDTO;
 import com.example.courseapi.util.ResponseUtil;
 import com.example.courseapi.domain.User;
 import com.example.courseapi.dto.request.GradeDTO;
 import com.example.courseapi.security.annotation.CurrentUser;
 import com.example.courseapi.service.SubmissionService;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.LessonInstructorPolicy;
+import com.example.courseapi.security.policy.SubmissionLessonPolicy;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -43,10 +51,10 @@ public class SubmissionController {
      * or with status {@code 400 (Bad Request)} if the submissionResponseDTO is not valid,
      * or with status {@code 500 (Internal Server Error)} if the submissionResponseDTO couldn't be updated.
      */
-    @PreAuthorize("@accessValidator.submissionAccess(#submissionDTO.lessonId)")
+    @Authorize(SubmissionLessonPolicy.class)
     @RequestMapping(value = "/submissions", method = {RequestMethod.POST, RequestMethod.PUT})
     public ResponseEntity<SubmissionResponseDTO> updateSubmission(
-            @Valid @RequestBody final SubmissionRequestDTO submissionDTO) throws URISyntaxException {
+            @PolicyTarget @Valid @RequestBody final SubmissionRequestDTO submissionDTO) throws URISyntaxException {
         log.debug("REST request to save submission : {}", submissionDTO);
         SubmissionResponseDTO submissionResponseDTO = submissionService.save(submissionDTO);
         return ResponseEntity.created(
@@ -56,28 +64,50 @@ public class SubmissionController {
     }
 
     /**
-     * {@code GET  /submissions} : get all the submissions.
+     * {@code POST  /lessons/:lessonId/submissions:batch} : grade many students of a lesson at once.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of submissions in body.
+     * @param lessonId the id of the lesson.
+     * @param batchDTO the grades to save, at most {@value SubmissionBatchRequestDTO#MAX_SIZE} rows.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and one result per requested row in body,
+     * or with status {@code 400 (Bad Request)} if the batch is not valid or the lesson does not exist.
      */
-    @PreAuthorize("@accessValidator.submissionAccess(#lessonId)")
+    @Authorize(LessonInstructorPolicy.class)
+    @PostMapping("/lessons/{lessonId}/submissions:batch")
+    public ResponseEntity<List<SubmissionBatchResultDTO>> saveSubmissionsBatch(
+            @PolicyTarget @PathVariable final Long lessonId,
+            @Valid @RequestBody final SubmissionBatchRequestDTO batchDTO) {
+        log.debug("REST POST request to save {} submissions for lesson with id: {}",
+                batchDTO.getGrades().size(), lessonId);
+        List<SubmissionBatchResultDTO> results = submissionService.saveBatch(lessonId, batchDTO.getGrades());
+        return ResponseEntity.ok()
+                .headers(entityHeaderCreator.createEntityUpdateAlert(ENTITY_NAME, "Lesson:%s".formatted(lessonId)))
+                .body(results);
+    }
+
+    /**
+     * {@code GET  /lesson/:lessonId/submissions} : get a page of the submissions of the lesson.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of submissions in body.
+     */
+    @Authorize(LessonInstructorPolicy.class)
     @GetMapping("/lesson/{lessonId}/submissions")
-    public ResponseEntity<List<SubmissionResponseDTO>> getAllSubmissionsForLesson(
-            @PathVariable final Long lessonId, @CurrentUser final User currentUser) {
+    public ResponseEntity<Page<SubmissionResponseDTO>> getAllSubmissionsForLesson(
+            @PolicyTarget @PathVariable final Long lessonId, @CurrentUser final User currentUser,
+            final Pageable pageable) {
         log.debug("REST GET request to get submissions for lesson with id: {}", lessonId);
-        return ResponseEntity.ok(submissionService.findAllByLesson(lessonId, currentUser.getId()));
+        return ResponseEntity.ok(submissionService.findAllByLesson(lessonId, currentUser.getId(), pageable));
     }
 
     /**
-     * {@code GET  /submissions} : get all the submissions.
+     * {@code GET  /student/:studentId/submissions} : get a page of the submissions of the student.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of submissions in body.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the page of submissions in body.
      */
     @GetMapping("/student/{studentId}/submissions")
-    public ResponseEntity<List<SubmissionResponseDTO>> getAllSubmissionsForStudent(
-            @PathVariable final Long studentId, @CurrentUser final User currentUser) {
+    public ResponseEntity<Page<SubmissionResponseDTO>> getAllSubmissionsForStudent(
+            @PathVariable final Long studentId, @CurrentUser final User currentUser, final Pageable pageable) {
         log.debug("REST GET request to get submissions for student with id: {}", studentId);
-        return ResponseEntity.ok(submissionService.findAllByStudent(studentId, currentUser.getId()));
+        return ResponseEntity.ok(submissionService.findAllByStudent(studentId, currentUser.getId(), pageable));
     }
 
     /**
@@ -88,10 +118,10 @@ public class SubmissionController {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the submissionDTO,
      * or with status {@code 404 (Not Found)}.
      */
-    @PreAuthorize("@accessValidator.submissionAccess(#lessonId)")
+    @Authorize(LessonInstructorPolicy.class)
     @GetMapping("/lesson/{lessonId}/student/{studentId}/submission")
     public ResponseEntity<SubmissionResponseDTO> getSubmission(
-            @PathVariable final Long lessonId, @PathVariable final Long studentId) {
+            @PolicyTarget @PathVariable final Long lessonId, @PathVariable final Long studentId) {
         log.debug("REST GET request to get submission for lesson with id: {} and student with id: {}",
                 lessonId, studentId);
         Optional<SubmissionResponseDTO> submissionDTO = submissionService.findById(lessonId, studentId);
@@ -107,10 +137,10 @@ public class SubmissionController {
      *
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
-    @PreAuthorize("@accessValidator.submissionAccess(#lessonId)")
+    @Authorize(LessonInstructorPolicy.class)
     @PostMapping("/lesson/{lessonId}/student/{studentId}/submission")
     public ResponseEntity<SubmissionResponseDTO> createSubmission(
-            @PathVariable final Long lessonId, @PathVariable final Long studentId,
+            @PolicyTarget @PathVariable final Long lessonId, @PathVariable final Long studentId,
             @Valid @RequestBody final GradeDTO gradeDTO
     ) throws URISyntaxException {
         log.debug("REST POST request to create submission for lesson with id: {} and student with id: {}",
@@ -128,10 +158,10 @@ public class SubmissionController {
      * @param studentId the student id of the submissionDTO to delete.
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
-    @PreAuthorize("@accessValidator.submissionAccess(#lessonId)")
+    @Authorize(LessonInstructorPolicy.class)
     @DeleteMapping("/lesson/{lessonId}/student/{studentId}/submission")
     public ResponseEntity<Void> deleteSubmission(
-            @PathVariable final Long lessonId, @PathVariable final Long studentId) {
+            @PolicyTarget @PathVariable final Long lessonId, @PathVariable final Long studentId) {
         log.debug("REST DELETE request to delete submission for lesson with id: {} and student with id: {}",
                 lessonId, studentId);
         submissionService.delete(lessonId, studentId);
@@ -3,7 +3,9 @@ package com.example.courseapi.rest;
 import com.example.courseapi.config.EntityHeaderCreator;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.RoleRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.UserResponseDTO;
 import com.example.courseapi.dto.request.UserRequestDTO;
 import com.example.courseapi.exception.SystemException;
@@ -14,8 +16,8 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -37,9 +39,17 @@ public class UserController {
     private final EntityHeaderCreator entityHeaderCreator;
 
     @GetMapping("/users")
-    public ResponseEntity<Page<UserResponseDTO>> getUsers(final Filters filters, final Pageable pageable) {
+    public ResponseEntity<Slice<UserResponseDTO>> getUsers(
+            final Filters filters, final Pageable pageable, @RequestParam(defaultValue = "ESTIMATE") final CountMode count) {
         log.debug("REST GET request to get a page of users");
-        return ResponseEntity.ok(userService.getUsers(filters, pageable));
+        return ResponseEntity.ok(userService.getUsers(filters, pageable, count));
+    }
+
+    @GetMapping(value = "/users", params = "cursor")
+    public ResponseEntity<CursorPageResponseDTO<UserResponseDTO>> getUsersByCursor(
+            final Filters filters, @RequestParam final String cursor, final Pageable pageable) {
+        log.debug("REST GET request to get users after cursor");
+        return ResponseEntity.ok(userService.getUsersByCursor(filters, cursor, pageable));
     }
 
     @PostMapping("/users")
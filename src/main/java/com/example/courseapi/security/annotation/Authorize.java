@@ -0,0 +1,19 @@
+package com.example.courseapi.security.annotation;
+
+import com.example.courseapi.security.policy.AccessPolicy;
+
+import java.lang.annotation.*;
+
+/**
+ * Guards a controller method with a typed {@link AccessPolicy}, evaluated on the argument marked with
+ * {@link PolicyTarget} before the method runs.
+ * <p>
+ * The policy bean and the argument type are resolved and checked when the context starts, see
+ * {@link com.example.courseapi.security.policy.AccessPolicyRegistry}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Authorize {
+    Class<? extends AccessPolicy<?>> value();
+}
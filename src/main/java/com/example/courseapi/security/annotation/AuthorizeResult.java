@@ -0,0 +1,16 @@
+package com.example.courseapi.security.annotation;
+
+import com.example.courseapi.security.policy.AccessPolicy;
+
+import java.lang.annotation.*;
+
+/**
+ * Guards a controller method with a typed {@link AccessPolicy}, evaluated on the returned value after the method
+ * runs. A {@link org.springframework.http.ResponseEntity} is unwrapped to its body and an empty body is let through.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuthorizeResult {
+    Class<? extends AccessPolicy<?>> value();
+}
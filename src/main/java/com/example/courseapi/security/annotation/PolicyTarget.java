@@ -0,0 +1,12 @@
+package com.example.courseapi.security.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the argument an {@link Authorize} policy is evaluated on.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PolicyTarget {
+}
@@ -1,20 +1,34 @@
 package com.example.courseapi.security.config;
 
 
-import com.example.courseapi.exception.SystemException;
-import com.example.courseapi.exception.code.ErrorCode;
-import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.config.PasswordEncoderProperties;
+import com.example.courseapi.security.crypto.BoundedPasswordEncoder;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.AuthorizeResult;
 import com.example.courseapi.security.filters.JwtAuthenticationFilter;
+import com.example.courseapi.security.policy.AccessPolicyRegistry;
 import com.example.courseapi.security.service.JwtService;
+import com.example.courseapi.security.service.TokenVersionService;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerAfterMethodInterceptor;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -22,10 +36,13 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.function.SingletonSupplier;
 
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -48,7 +65,8 @@ public class SecurityConfig {
     private Boolean debugRequests;
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final UserDetailsCacheService userDetailsCacheService;
+    private final TokenVersionService tokenVersionService;
 
     /**
      * SecurityFilterChain configuration bean
@@ -69,7 +87,8 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .authenticationProvider(authenticationProvider)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userDetailsService), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtService, userDetailsService, tokenVersionService),
+                        UsernamePasswordAuthenticationFilter.class);
         log.debug("SecurityFilterChain successfully created with authentication provider {} and user details service {}",
                 authenticationProvider.getClass().getSimpleName(), userDetailsService.getClass().getSimpleName());
         return http.build();
@@ -99,10 +118,12 @@ public class SecurityConfig {
      * @return  DaoAuthenticationProvider implementation
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(
+            final PasswordEncoder passwordEncoder, final UserDetailsPasswordService userDetailsPasswordService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -113,20 +134,49 @@ public class SecurityConfig {
 
     /**
      * PasswordEncoder configuration bean
-     * @return BCryptPasswordEncoder implementation
+     * @return BCrypt implementation running on a dedicated bounded pool
      */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            final PasswordEncoderProperties passwordEncoderProperties, final MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(passwordEncoderProperties, meterRegistry);
     }
 
     /**
      * UserDetails configuration bean
-     * @return UserDetails implementation using UserRepository
+     * @return UserDetails implementation using the cached user lookup
      */
     @Bean
     public UserDetailsService userDetailsService() {
-        return email -> userRepository.findByEmail(email).orElseThrow(() ->
-                new SystemException("User with email: " + email + " not found.", ErrorCode.UNAUTHORIZED));
+        return userDetailsCacheService::loadUserByEmail;
     }
-}
\ No newline at end of file
+
+    /**
+     * Method interceptor evaluating {@link Authorize} policies.
+     * Ordered right after {@code @PreAuthorize}, so the class level role checks still run first.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor authorizePolicyAdvisor(final ObjectProvider<AccessPolicyRegistry> accessPolicyRegistry) {
+        Supplier<AccessPolicyRegistry> registry = SingletonSupplier.of(accessPolicyRegistry::getObject);
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Authorize.class),
+                (authentication, invocation) -> new AuthorizationDecision(registry.get().isGranted(invocation)));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+
+    /**
+     * Method interceptor evaluating {@link AuthorizeResult} policies, ordered right after {@code @PostAuthorize}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor authorizeResultPolicyAdvisor(final ObjectProvider<AccessPolicyRegistry> accessPolicyRegistry) {
+        Supplier<AccessPolicyRegistry> registry = SingletonSupplier.of(accessPolicyRegistry::getObject);
+        AuthorizationManagerAfterMethodInterceptor interceptor = new AuthorizationManagerAfterMethodInterceptor(
+                AnnotationMatchingPointcut.forMethodAnnotation(AuthorizeResult.class),
+                (authentication, result) -> new AuthorizationDecision(registry.get().isGranted(result)));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.POST_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+}
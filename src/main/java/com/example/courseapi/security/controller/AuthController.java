@@ -4,7 +4,10 @@ import com.example.courseapi.security.dto.JWTRefreshDTO;
 import com.example.courseapi.security.dto.LoginRequestDTO;
 import com.example.courseapi.security.dto.JWTTokenDTO;
 import com.example.courseapi.security.dto.SignUpRequestDTO;
+import com.example.courseapi.security.service.AuthThrottlingService;
 import com.example.courseapi.security.service.AuthenticationService;
+import com.example.courseapi.security.throttling.AuthEndpoint;
+import com.example.courseapi.util.EndpointUtil;
 //import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -20,10 +23,13 @@ import org.springframework.web.bind.annotation.*;
 @Log4j2
 public class AuthController {
     private final AuthenticationService authenticationService;
+    private final AuthThrottlingService authThrottlingService;
 
     @PostMapping("/signup")
-    public ResponseEntity<Void> register(@Valid @RequestBody final SignUpRequestDTO signUpRequestDTO) {
+    public ResponseEntity<Void> register(
+            @Valid @RequestBody final SignUpRequestDTO signUpRequestDTO, final HttpServletRequest request) {
         log.info("REST POST request to register user : {}", signUpRequestDTO);
+        authThrottlingService.acquire(AuthEndpoint.SIGNUP, EndpointUtil.getClientIP(request), signUpRequestDTO.getEmail());
         authenticationService.register(signUpRequestDTO);
         return ResponseEntity.ok().build();
     }
@@ -32,6 +38,7 @@ public class AuthController {
     public ResponseEntity<JWTTokenDTO> login(
             @Valid @RequestBody final LoginRequestDTO loginRequestDTO, final HttpServletRequest request) {
         log.info("REST POST request to login user with email : {}", loginRequestDTO.getEmail());
+        authThrottlingService.acquire(AuthEndpoint.LOGIN, EndpointUtil.getClientIP(request), loginRequestDTO.getEmail());
         return ResponseEntity.ok(authenticationService.login(loginRequestDTO, request));
     }
 
@@ -39,6 +46,7 @@ public class AuthController {
     public ResponseEntity<JWTTokenDTO> refreshAccessToken(
             @Valid @RequestBody final JWTRefreshDTO jwtRefreshDTO, final HttpServletRequest request) {
         log.info("REST POST request to login refresh access token");
+        authThrottlingService.acquire(AuthEndpoint.REFRESH_TOKEN, EndpointUtil.getClientIP(request), null);
         return ResponseEntity.ok(authenticationService.refresh(jwtRefreshDTO, request));
     }
 
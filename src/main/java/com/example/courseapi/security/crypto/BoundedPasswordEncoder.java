@@ -0,0 +1,113 @@
+package com.example.courseapi.security.crypto;
+
+import com.example.courseapi.config.PasswordEncoderProperties;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BCryptPasswordEncoder} running on a dedicated, bounded pool instead of the request threads.
+ * <p>
+ * When all workers are busy and the queue is full, hashing fails right away with {@code 503 Service Unavailable},
+ * so a login storm slows down logins only and leaves the other endpoints their threads.
+ * Hashes with a cost below the configured one are reported for upgrade, which makes
+ * {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider} rehash them on login. Stronger
+ * hashes, such as the seeded admin one, are kept.
+ * <p>
+ * Publishes {@code security.password.hashing} (timer by operation), {@code security.password.queue} (gauge) and
+ * {@code security.password.rejected} (counter).
+ */
+@Log4j2
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(final PasswordEncoderProperties properties, final MeterRegistry meterRegistry) {
+        this.strength = properties.getStrength();
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getPoolSize(), properties.getPoolSize(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-encoder-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = Timer.builder("security.password.hashing").tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("security.password.hashing").tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("security.password.rejected").register(meterRegistry);
+        Gauge.builder("security.password.queue", executor, pool -> pool.getQueue().size()).register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    private <T> T submit(final Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new SystemException("Too many authentication requests. Please try again later.",
+                    ErrorCode.SERVICE_UNAVAILABLE).set(SystemException.RETRY_AFTER, retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new SystemException("Password hashing was interrupted.", ex, ErrorCode.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SystemException("Password hashing failed.", ex.getCause(), ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
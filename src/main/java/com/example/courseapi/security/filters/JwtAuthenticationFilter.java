@@ -1,6 +1,10 @@
 package com.example.courseapi.security.filters;
 
+import com.example.courseapi.domain.User;
+import com.example.courseapi.logging.AccessLogFilter;
 import com.example.courseapi.security.service.JwtService;
+import com.example.courseapi.security.service.TokenVersionService;
+import com.example.courseapi.security.token.ValidatedJwtToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,9 +22,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Objects;
+import java.util.Optional;
 
-import static com.example.courseapi.util.EndpointUtil.getClientIP;
-import static com.example.courseapi.util.EndpointUtil.getUserAgent;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 
@@ -32,6 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
 
     @Override
     protected void doFilterInternal(
@@ -39,19 +43,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull final HttpServletResponse response,
             @NonNull final FilterChain filterChain
     ) throws ServletException, IOException {
-        log.info("Attempt to authenticate user with User-Agent {}, IP: {}", getUserAgent(request), getClientIP(request));
         final String authHeader = request.getHeader(AUTHORIZATION);
         if (StringUtils.isBlank(authHeader) || !authHeader.startsWith(BEARER_PREFIX)) {
-            log.warn("Authorization header is missing. User-Agent {}, IP: {}", getUserAgent(request), getClientIP(request));
             filterChain.doFilter(request, response);
             return;
         }
         try {
             final String accessToken = authHeader.substring(BEARER_PREFIX.length());
-            final String userEmail = jwtService.extractUsername(accessToken);
+            final ValidatedJwtToken jwtToken = jwtService.verifyJwtToken(accessToken);
+            final String userEmail = jwtToken.subject();
             if (StringUtils.isNotBlank(userEmail) && Objects.isNull(SecurityContextHolder.getContext().getAuthentication())) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.isJwtTokenValid(accessToken, userDetails)) {
+                UserDetails userDetails = loadPrincipal(jwtToken);
+                if (Objects.nonNull(userDetails) && jwtService.isJwtTokenValid(jwtToken, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -59,6 +62,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    if (userDetails instanceof User user) {
+                        request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, user.getId());
+                    }
                 }
             }
         } catch (Exception ex) {
@@ -67,4 +73,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Access tokens carry the user id, role and token version, so the principal is built from the claims and
+     * only the token version is checked. Tokens issued before those claims existed still load the user.
+     */
+    private UserDetails loadPrincipal(final ValidatedJwtToken jwtToken) {
+        Optional<User> principal = jwtService.extractPrincipal(jwtToken);
+        if (principal.isEmpty()) {
+            return userDetailsService.loadUserByUsername(jwtToken.subject());
+        }
+        User user = principal.get();
+        if (!tokenVersionService.isCurrent(user.getId(), user.getTokenVersion())) {
+            log.warn("Revoked access token used for user with id: {}", user.getId());
+            return null;
+        }
+        return user;
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.courseapi.security.policy;
+
+/**
+ * Authorization rule of an endpoint, declared with {@link com.example.courseapi.security.annotation.Authorize} or
+ * {@link com.example.courseapi.security.annotation.AuthorizeResult}.
+ * <p>
+ * Implementations are beans. They may deny by returning {@code false} or by throwing an
+ * {@link org.springframework.security.access.AccessDeniedException} with a more specific message.
+ *
+ * @param <T> the type of the argument or result the policy is evaluated on
+ */
+@FunctionalInterface
+public interface AccessPolicy<T> {
+
+    boolean isGranted(final T target);
+}
@@ -0,0 +1,137 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.AuthorizeResult;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authorization.method.MethodInvocationResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link Authorize} and {@link AuthorizeResult} policies of every controller method once, when the
+ * context starts, and evaluates them with a map lookup and a plain method call afterwards.
+ * <p>
+ * A missing policy bean, a missing or repeated {@link PolicyTarget}, or a policy whose type argument does not accept
+ * the guarded argument or result fails the startup with an {@link IllegalStateException}.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AccessPolicyRegistry implements SmartInitializingSingleton {
+    private final ListableBeanFactory beanFactory;
+
+    private final Map<Method, CompiledPolicy> argumentPolicies = new ConcurrentHashMap<>();
+    private final Map<Method, CompiledPolicy> resultPolicies = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : beanFactory.getBeanNamesForAnnotation(RestController.class)) {
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (Objects.isNull(beanType)) {
+                continue;
+            }
+            for (Method method : ClassUtils.getUserClass(beanType).getMethods()) {
+                if (method.isAnnotationPresent(Authorize.class)) {
+                    argumentPolicies.put(method, compileArgumentPolicy(method));
+                }
+                if (method.isAnnotationPresent(AuthorizeResult.class)) {
+                    resultPolicies.put(method, compileResultPolicy(method));
+                }
+            }
+        }
+        log.info("Compiled {} argument and {} result access policies",
+                argumentPolicies.size(), resultPolicies.size());
+    }
+
+    /**
+     * Evaluates the {@link Authorize} policy of the invoked method on its {@link PolicyTarget} argument.
+     */
+    public boolean isGranted(final MethodInvocation invocation) {
+        CompiledPolicy compiled = argumentPolicies.computeIfAbsent(invocation.getMethod(), this::compileArgumentPolicy);
+        Object target = invocation.getArguments()[compiled.argumentIndex()];
+        return Objects.nonNull(target) && compiled.policy().isGranted(target);
+    }
+
+    /**
+     * Evaluates the {@link AuthorizeResult} policy of the invoked method on the value it returned.
+     */
+    public boolean isGranted(final MethodInvocationResult invocationResult) {
+        Object target = invocationResult.getResult();
+        if (target instanceof ResponseEntity<?> response) {
+            target = response.getBody();
+        }
+        if (Objects.isNull(target)) {
+            return true;
+        }
+        CompiledPolicy compiled = resultPolicies.computeIfAbsent(
+                invocationResult.getMethodInvocation().getMethod(), this::compileResultPolicy);
+        return compiled.policy().isGranted(target);
+    }
+
+    private CompiledPolicy compileArgumentPolicy(final Method method) {
+        Authorize authorize = method.getAnnotation(Authorize.class);
+        if (Objects.isNull(authorize)) {
+            throw new IllegalStateException(method + " is not annotated with @Authorize");
+        }
+        Parameter[] parameters = method.getParameters();
+        int argumentIndex = -1;
+        for (int index = 0; index < parameters.length; index++) {
+            if (parameters[index].isAnnotationPresent(PolicyTarget.class)) {
+                if (argumentIndex >= 0) {
+                    throw new IllegalStateException(method + " declares more than one @PolicyTarget");
+                }
+                argumentIndex = index;
+            }
+        }
+        if (argumentIndex < 0) {
+            throw new IllegalStateException(method + " is annotated with @Authorize but declares no @PolicyTarget");
+        }
+        Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(parameters[argumentIndex].getType());
+        return new CompiledPolicy(resolvePolicy(method, authorize.value(), targetType), argumentIndex);
+    }
+
+    private CompiledPolicy compileResultPolicy(final Method method) {
+        AuthorizeResult authorizeResult = method.getAnnotation(AuthorizeResult.class);
+        if (Objects.isNull(authorizeResult)) {
+            throw new IllegalStateException(method + " is not annotated with @AuthorizeResult");
+        }
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+        if (ResponseEntity.class.isAssignableFrom(returnType.toClass())) {
+            returnType = returnType.as(ResponseEntity.class).getGeneric(0);
+        }
+        Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(returnType.toClass());
+        return new CompiledPolicy(resolvePolicy(method, authorizeResult.value(), targetType), -1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private AccessPolicy<Object> resolvePolicy(
+            final Method method, final Class<? extends AccessPolicy<?>> policyType, final Class<?> targetType) {
+        Class<?> acceptedType = ResolvableType.forClass(policyType).as(AccessPolicy.class).resolveGeneric(0);
+        if (Objects.isNull(acceptedType) || !acceptedType.isAssignableFrom(targetType)) {
+            throw new IllegalStateException("%s of %s does not accept %s"
+                    .formatted(policyType.getSimpleName(), method, targetType.getName()));
+        }
+        AccessPolicy<?> policy = beanFactory.getBeanProvider(policyType).getIfUnique();
+        if (Objects.isNull(policy)) {
+            throw new IllegalStateException("No unique %s bean for %s".formatted(policyType.getSimpleName(), method));
+        }
+        return (AccessPolicy<Object>) policy;
+    }
+
+    private record CompiledPolicy(AccessPolicy<Object> policy, int argumentIndex) {
+    }
+}
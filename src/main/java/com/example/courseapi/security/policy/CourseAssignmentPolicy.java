@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.request.CourseRequestDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or instructors already assigned to the course (when it exists) who keep themselves among its instructors.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseAssignmentPolicy implements AccessPolicy<CourseRequestDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final CourseRequestDTO courseDTO) {
+        return validator.courseAccess(courseDTO.getId(), courseDTO.getInstructorIds());
+    }
+}
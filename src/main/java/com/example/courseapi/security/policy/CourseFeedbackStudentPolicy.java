@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.request.CourseFeedbackRequestDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Students subscribed to the course the feedback is left for.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseFeedbackStudentPolicy implements AccessPolicy<CourseFeedbackRequestDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final CourseFeedbackRequestDTO courseFeedbackDTO) {
+        return validator.courseFeedbackAccess(courseFeedbackDTO.getCourseId());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or instructors assigned to the course with the given id.
+ */
+@Component
+@RequiredArgsConstructor
+public class CourseInstructorPolicy implements AccessPolicy<Long> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final Long courseId) {
+        return validator.courseAccess(courseId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.response.HomeworkResponseDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or the student owning a fetched homework while subscribed to the course of its lesson.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeworkReadPolicy implements AccessPolicy<HomeworkResponseDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final HomeworkResponseDTO homeworkDTO) {
+        return validator.homeworkAccess(homeworkDTO.getLessonId(), homeworkDTO.getStudentId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.request.HomeworkRequestDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or the student owning the homework while subscribed to the course of its lesson.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeworkStudentPolicy implements AccessPolicy<HomeworkRequestDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final HomeworkRequestDTO homeworkDTO) {
+        return validator.homeworkAccess(homeworkDTO.getLessonId(), homeworkDTO.getStudentId());
+    }
+}
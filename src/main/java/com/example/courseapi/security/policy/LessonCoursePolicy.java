@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.request.LessonRequestDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or instructors assigned to the course the lesson belongs to.
+ */
+@Component
+@RequiredArgsConstructor
+public class LessonCoursePolicy implements AccessPolicy<LessonRequestDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final LessonRequestDTO lessonDTO) {
+        return validator.lessonAccess(lessonDTO.getCourseId());
+    }
+}
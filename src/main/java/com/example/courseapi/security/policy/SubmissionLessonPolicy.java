@@ -0,0 +1,20 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.dto.request.SubmissionRequestDTO;
+import com.example.courseapi.security.service.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Admins, or instructors assigned to the course of the lesson the submission belongs to.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionLessonPolicy implements AccessPolicy<SubmissionRequestDTO> {
+    private final Validator validator;
+
+    @Override
+    public boolean isGranted(final SubmissionRequestDTO submissionDTO) {
+        return validator.submissionAccess(submissionDTO.getLessonId());
+    }
+}
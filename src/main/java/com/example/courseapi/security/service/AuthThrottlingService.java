@@ -0,0 +1,21 @@
+package com.example.courseapi.security.service;
+
+import com.example.courseapi.security.throttling.AuthEndpoint;
+
+/**
+ * Token-bucket throttling of the authentication endpoints by client IP and by account, checked before any
+ * password or database work.
+ */
+public interface AuthThrottlingService {
+
+    /**
+     * Takes a token from the IP bucket and, when an email is given, from the account bucket of the endpoint.
+     *
+     * @param endpoint the called endpoint
+     * @param clientIp the client IP, see {@link com.example.courseapi.util.EndpointUtil#getClientIP}
+     * @param email    the account email, may be {@code null}
+     * @throws com.example.courseapi.exception.SystemException with {@code TOO_MANY_REQUESTS} and the
+     *                                                         {@code retryAfter} property when a bucket is empty
+     */
+    void acquire(final AuthEndpoint endpoint, final String clientIp, final String email);
+}
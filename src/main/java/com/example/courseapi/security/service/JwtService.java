@@ -1,16 +1,21 @@
 package com.example.courseapi.security.service;
 
 import com.example.courseapi.domain.User;
+import com.example.courseapi.security.token.ValidatedJwtToken;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
  * An interface for JWT related operations, providing methods for extracting username, generating and validating JWT tokens, and extracting claims.
  */
 public interface JwtService {
+    String USER_ID_CLAIM = "uid";
+    String ROLE_CLAIM = "role";
+    String TOKEN_VERSION_CLAIM = "ver";
 
     /**
      * Extracts the username from a JWT token.
@@ -47,6 +52,33 @@ public interface JwtService {
     String generateJwtToken(
             final UserDetails userDetails, final Map<String, Object> extraClaims, final boolean isAccessToken);
 
+    /**
+     * Parses a JWT token and verifies its signature and expiration in a single pass.
+     *
+     * @param jwtToken the JWT token to be verified
+     * @return the verified token with its subject, expiration and claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    ValidatedJwtToken verifyJwtToken(final String jwtToken);
+
+    /**
+     * Validates an already verified JWT token for the given user details.
+     *
+     * @param jwtToken    the verified JWT token
+     * @param userDetails the user details object containing user information
+     * @return true if the token belongs to the user and is not expired, false otherwise
+     */
+    boolean isJwtTokenValid(final ValidatedJwtToken jwtToken, final UserDetails userDetails);
+
+    /**
+     * Builds a lightweight principal from the claims of a verified access token, without loading the user.
+     * The principal carries id, email and role only, its course collections are not loaded.
+     *
+     * @param jwtToken the verified JWT token
+     * @return the principal, empty if the token does not carry the user claims
+     */
+    Optional<User> extractPrincipal(final ValidatedJwtToken jwtToken);
+
     /**
      * Validates a JWT token for the given user details.
      *
@@ -66,5 +98,21 @@ public interface JwtService {
      */
     <T> T extractClaim(final String token, final Function<Claims, T> claimsResolver);
 
+    /**
+     * Validates a JWT refresh token: the token must be valid for the user and be the one currently stored for
+     * the user, looked up by its {@code jti} claim.
+     *
+     * @param jwtToken    the JWT refresh token
+     * @param userDetails the user details object containing user information
+     * @return true if the refresh token is the current one of the user, false otherwise
+     */
     boolean isJwtRefreshTokenValid(String jwtToken, UserDetails userDetails);
+
+    /**
+     * Deletes one batch of expired refresh tokens.
+     *
+     * @param batchSize the maximum number of tokens to delete
+     * @return the number of deleted tokens
+     */
+    int compactRefreshTokens(final int batchSize);
 }
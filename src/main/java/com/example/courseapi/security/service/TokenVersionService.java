@@ -0,0 +1,34 @@
+package com.example.courseapi.security.service;
+
+import com.example.courseapi.domain.User;
+
+/**
+ * Keeps track of the token version stamp of users, which access tokens carry to allow revoking them
+ * without a per-request user load.
+ */
+public interface TokenVersionService {
+
+    /**
+     * Checks whether a token version is still the current one of the user.
+     *
+     * @param userId       the id of the user the token was issued for
+     * @param tokenVersion the token version carried by the token
+     * @return true if the user exists and the version matches, false otherwise
+     */
+    boolean isCurrent(final Long userId, final Integer tokenVersion);
+
+    /**
+     * Revokes all tokens issued for the user so far, by incrementing its token version.
+     * The new version is saved together with the user and applies once the current transaction commits.
+     *
+     * @param user the managed user entity
+     */
+    void revoke(final User user);
+
+    /**
+     * Drops the known token version of a user, e.g. after the user is deleted.
+     *
+     * @param userId the id of the user
+     */
+    void evict(final Long userId);
+}
@@ -0,0 +1,34 @@
+package com.example.courseapi.security.service;
+
+import com.example.courseapi.domain.User;
+
+import java.util.Collection;
+
+/**
+ * A size and time bounded cache of users looked up by email during authentication.
+ */
+public interface UserDetailsCacheService {
+
+    /**
+     * Returns the user with the given email, reading it from the database only on a cache miss.
+     *
+     * @param email the email of the user
+     * @return the user, detached from any session
+     * @throws com.example.courseapi.exception.SystemException if no user has the email
+     */
+    User loadUserByEmail(final String email);
+
+    /**
+     * Drops a cached user, now and once the current transaction commits.
+     *
+     * @param email the email of the user
+     */
+    void evict(final String email);
+
+    /**
+     * Drops cached users, now and once the current transaction commits.
+     *
+     * @param userIds the ids of the users
+     */
+    void evictAll(final Collection<Long> userIds);
+}
@@ -5,7 +5,7 @@ import com.example.courseapi.domain.Instructor;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
 import com.example.courseapi.exception.AccessValidationException;
-import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.security.service.CourseMembershipService;
 import com.example.courseapi.security.service.Validator;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
@@ -21,7 +21,7 @@ import java.util.Set;
 @Service
 @RequiredArgsConstructor
 public class AccessValidator implements Validator {
-    private final CourseRepository courseRepository;
+    private final CourseMembershipService courseMembershipService;
 
     @Override
     public User getPrincipalOrThrow() {
@@ -39,7 +39,7 @@ public class AccessValidator implements Validator {
         if (principal instanceof Admin) {
             return true;
         } else if (principal instanceof Instructor instructor) {
-            if (Objects.nonNull(courseId) && !courseRepository.existsByIdAndInstructorsId(courseId, instructor.getId())) {
+            if (Objects.nonNull(courseId) && !courseMembershipService.isInstructor(courseId, instructor.getId())) {
                 throw new AccessValidationException("Instructor is not assigned to the course.");
             } else if (CollectionUtils.isNotEmpty(instructorIds) && !instructorIds.contains(instructor.getId())) {
                 throw new AccessValidationException("Instructor cannot unassign himself from course.");
@@ -58,7 +58,7 @@ public class AccessValidator implements Validator {
     public boolean courseFeedbackAccess(final Long courseId) {
         User principal = getPrincipalOrThrow();
         if (principal instanceof Student student) {
-            if (!courseRepository.existsByIdAndStudentsId(courseId, student.getId())) {
+            if (!courseMembershipService.isStudent(courseId, student.getId())) {
                 throw new AccessValidationException("Student is not subscribed to the course.");
             }
             return true;
@@ -74,7 +74,7 @@ public class AccessValidator implements Validator {
         } else if (principal instanceof Student student) {
             if (Objects.nonNull(studentId) && !studentId.equals(student.getId())) {
                 throw new AccessValidationException("Incorrect student id provided.");
-            } else if (!courseRepository.existsByLessonsIdAndStudentsId(lessonId, student.getId())) {
+            } else if (!courseMembershipService.isLessonStudent(lessonId, student.getId())) {
                 throw new AccessValidationException("Student is not subscribed to the course.");
             }
             return true;
@@ -93,7 +93,7 @@ public class AccessValidator implements Validator {
         if (principal instanceof Admin) {
             return true;
         } else if (principal instanceof Instructor instructor) {
-            if (!courseRepository.existsByLessonsIdAndInstructorsId(lessonId, instructor.getId())) {
+            if (!courseMembershipService.isLessonInstructor(lessonId, instructor.getId())) {
                 throw new AccessValidationException("Instructor is not assigned to the course.");
             }
             return true;
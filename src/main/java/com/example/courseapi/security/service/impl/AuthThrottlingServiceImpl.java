@@ -0,0 +1,123 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.AuthThrottlingProperties;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.security.service.AuthThrottlingService;
+import com.example.courseapi.security.throttling.AuthEndpoint;
+import com.example.courseapi.security.throttling.TokenBucket;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Buckets live in size bounded caches, one per endpoint and key type. An idle bucket expires once it would be
+ * full again, so dropping it never lets more requests through. Throttled requests are counted as
+ * {@code security.throttling.rejected{endpoint, key=ip|account}} and only logged at debug level, without the key.
+ */
+@Log4j2
+@Service
+public class AuthThrottlingServiceImpl implements AuthThrottlingService {
+    private static final int CONCURRENCY_LEVEL = 16;
+
+    private final AuthThrottlingProperties properties;
+    private final LongSupplier nanoClock;
+    private final Map<AuthEndpoint, Limiter> ipLimiters = new EnumMap<>(AuthEndpoint.class);
+    private final Map<AuthEndpoint, Limiter> accountLimiters = new EnumMap<>(AuthEndpoint.class);
+
+    @Autowired
+    public AuthThrottlingServiceImpl(final AuthThrottlingProperties properties, final MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    AuthThrottlingServiceImpl(final AuthThrottlingProperties properties, final MeterRegistry meterRegistry,
+                              final LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        for (AuthEndpoint endpoint : AuthEndpoint.values()) {
+            AuthThrottlingProperties.Endpoint limits = endpoint.limits(properties);
+            if (Objects.isNull(limits)) {
+                continue;
+            }
+            if (Objects.nonNull(limits.getPerIp())) {
+                ipLimiters.put(endpoint, new Limiter(endpoint, "ip", limits.getPerIp(), meterRegistry));
+            }
+            if (Objects.nonNull(limits.getPerAccount())) {
+                accountLimiters.put(endpoint, new Limiter(endpoint, "account", limits.getPerAccount(), meterRegistry));
+            }
+        }
+    }
+
+    @Override
+    public void acquire(final AuthEndpoint endpoint, final String clientIp, final String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        acquire(ipLimiters.get(endpoint), clientIp, now);
+        if (StringUtils.isNotBlank(email)) {
+            acquire(accountLimiters.get(endpoint), email.trim().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private void acquire(final Limiter limiter, final String key, final long now) {
+        if (Objects.isNull(limiter) || StringUtils.isBlank(key)) {
+            return;
+        }
+        long wait = limiter.buckets.asMap()
+                .computeIfAbsent(key, k -> new TokenBucket(limiter.capacity, limiter.refillNanos, now))
+                .tryAcquire(now);
+        if (wait > 0) {
+            limiter.rejected.increment();
+            // The counter is the signal during an attack, the key would put client addresses and emails in the log
+            log.debug("Throttled {} request by {}", limiter.endpoint.getTag(), limiter.keyType);
+            throw new SystemException("Too many requests. Please try again later.", ErrorCode.TOO_MANY_REQUESTS)
+                    .set(SystemException.RETRY_AFTER, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999)));
+        }
+    }
+
+    private final class Limiter {
+        private final AuthEndpoint endpoint;
+        private final String keyType;
+        private final int capacity;
+        private final long refillNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        private Limiter(final AuthEndpoint endpoint, final String keyType,
+                        final AuthThrottlingProperties.Limit limit, final MeterRegistry meterRegistry) {
+            this.endpoint = endpoint;
+            this.keyType = keyType;
+            this.capacity = limit.getCapacity();
+            this.refillNanos = limit.getRefillPeriod().toNanos();
+            this.buckets = CacheBuilder.newBuilder()
+                    .maximumSize(properties.getMaxKeys())
+                    .concurrencyLevel(CONCURRENCY_LEVEL)
+                    .expireAfterAccess(refillNanos * capacity, TimeUnit.NANOSECONDS)
+                    .ticker(new Ticker() {
+                        @Override
+                        public long read() {
+                            return nanoClock.getAsLong();
+                        }
+                    })
+                    .build();
+            this.rejected = Counter.builder("security.throttling.rejected")
+                    .tag("endpoint", endpoint.getTag())
+                    .tag("key", keyType)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.MembershipCacheProperties;
+import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.repository.LessonRepository;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.service.EnrollmentIndexService;
+import com.example.courseapi.util.TransactionUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Memberships found in the enrollment index are trusted, the index reloads a course before reporting a membership
+ * older than the cache time to live. A miss is confirmed against the database, because the index only sees
+ * committed changes and a denial is the rare case. Lessons are cached with the id of their course
+ * and publish {@code cache.*} metrics as {@code lesson-courses}.
+ */
+@Log4j2
+@Service
+public class CourseMembershipServiceImpl implements CourseMembershipService {
+    static final String LESSON_COURSES_CACHE = "lesson-courses";
+
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final Cache<Long, Long> lessonCourses;
+
+    public CourseMembershipServiceImpl(final EnrollmentIndexService enrollmentIndexService,
+                                       final CourseRepository courseRepository,
+                                       final LessonRepository lessonRepository,
+                                       final MembershipCacheProperties properties,
+                                       final MeterRegistry meterRegistry) {
+        this.enrollmentIndexService = enrollmentIndexService;
+        this.courseRepository = courseRepository;
+        this.lessonRepository = lessonRepository;
+        this.lessonCourses = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxLessons())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, lessonCourses, LESSON_COURSES_CACHE);
+    }
+
+    @Override
+    public boolean isInstructor(final Long courseId, final Long userId) {
+        return Objects.nonNull(courseId) && (enrollmentIndexService.isInstructor(courseId, userId)
+                || courseRepository.existsByIdAndInstructorsId(courseId, userId));
+    }
+
+    @Override
+    public boolean isStudent(final Long courseId, final Long userId) {
+        return Objects.nonNull(courseId) && (enrollmentIndexService.isStudent(courseId, userId)
+                || courseRepository.existsByIdAndStudentsId(courseId, userId));
+    }
+
+    @Override
+    public boolean isLessonInstructor(final Long lessonId, final Long userId) {
+        return isInstructor(courseOfLesson(lessonId), userId);
+    }
+
+    @Override
+    public boolean isLessonStudent(final Long lessonId, final Long userId) {
+        return isStudent(courseOfLesson(lessonId), userId);
+    }
+
+    @Override
+    public void evictLessons(final Collection<Long> lessonIds) {
+        if (CollectionUtils.isEmpty(lessonIds)) {
+            return;
+        }
+        log.debug("Evicting cached course of lessons with ids: {}", lessonIds);
+        List<Long> ids = List.copyOf(lessonIds);
+        lessonCourses.invalidateAll(ids);
+        TransactionUtil.afterCommit(() -> lessonCourses.invalidateAll(ids));
+    }
+
+    /**
+     * @return the course id, or {@code null} for an unknown lesson, which is not cached
+     */
+    private Long courseOfLesson(final Long lessonId) {
+        if (Objects.isNull(lessonId)) {
+            return null;
+        }
+        Long courseId = lessonCourses.getIfPresent(lessonId);
+        if (Objects.isNull(courseId)) {
+            courseId = lessonRepository.findCourseIdById(lessonId).orElse(null);
+            if (Objects.nonNull(courseId)) {
+                lessonCourses.put(lessonId, courseId);
+            }
+        }
+        return courseId;
+    }
+}
@@ -1,23 +1,30 @@
 package com.example.courseapi.security.service.impl;
 
 import com.example.courseapi.config.JwtProperties;
-import com.example.courseapi.domain.RefreshToken;
+import com.example.courseapi.domain.Admin;
+import com.example.courseapi.domain.Instructor;
+import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.RefreshTokenRepository;
 import com.example.courseapi.security.service.JwtService;
+import com.example.courseapi.security.token.ValidatedJwtToken;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
@@ -25,44 +32,54 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtProperties jwtProperties;
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtServiceImpl(final RefreshTokenRepository refreshTokenRepository, final JwtProperties jwtProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSigningKey()));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    }
 
     @Override
     public String generateJwtAccessToken(final UserDetails userDetails) {
-        return generateJwtToken(userDetails, new HashMap<>(), true);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, Optional.ofNullable(user.getRole()).map(Roles::name).orElse(null));
+            claims.put(TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        }
+        return generateJwtToken(userDetails, claims, true);
     }
 
     @Override
     @Transactional
     public String generateJwtRefreshToken(User user) {
-        refreshTokenRepository.deleteAllByUserId(user.getId());
-        refreshTokenRepository.flush();
-
+        UUID jti = UUID.randomUUID();
         LocalDateTime issuedAt  = LocalDateTime.now();
         LocalDateTime expirationDate = issuedAt.plus(jwtProperties.getRefreshTokenExpiration(), ChronoUnit.MILLIS);
 
         String jwtRefreshToken = Jwts.builder()
                 .setClaims(new HashMap<>())
+                .setId(jti.toString())
                 .setSubject(user.getUsername())
                 .setIssuedAt(Date.from(issuedAt.atZone(ZoneId.systemDefault()).toInstant()))
                 .setExpiration(Date.from(expirationDate.atZone(ZoneId.systemDefault()).toInstant()))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(jwtRefreshToken)
-                .build();
-        refreshToken = refreshTokenRepository.save(refreshToken);
-
-        return refreshToken.getToken();
+        refreshTokenRepository.upsert(jti, user.getId(), hash(jwtRefreshToken), expirationDate);
+        return jwtRefreshToken;
     }
 
     @Override
@@ -73,54 +90,76 @@ public class JwtServiceImpl implements JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getTokenTimeout(isAccessToken)))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public String extractUsername(final String jwtToken) {
-        return extractClaim(jwtToken, Claims::getSubject);
+        return verifyJwtToken(jwtToken).subject();
     }
 
     @Override
     public <T> T extractClaim(final String token, final Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(jwtParser.parseClaimsJws(token).getBody());
     }
 
     @Override
-    public boolean isJwtTokenValid(final String jwtToken, final UserDetails userDetails) {
-        final String username = extractUsername(jwtToken);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(jwtToken);
+    public ValidatedJwtToken verifyJwtToken(final String jwtToken) {
+        Claims claims = jwtParser.parseClaimsJws(jwtToken).getBody();
+        Date expiration = claims.getExpiration();
+        return new ValidatedJwtToken(claims.getSubject(), expiration == null ? null : expiration.toInstant(), claims);
     }
 
     @Override
-    @Transactional
-    public boolean isJwtRefreshTokenValid(final String jwtRefreshToken, final UserDetails userDetails) {
-        return refreshTokenRepository.existsByTokenAndUserEmail(jwtRefreshToken, userDetails.getUsername())
-                && isJwtTokenValid(jwtRefreshToken, userDetails);
+    public Optional<User> extractPrincipal(final ValidatedJwtToken jwtToken) {
+        Number userId = jwtToken.claim(USER_ID_CLAIM, Number.class);
+        if (Objects.isNull(userId)) {
+            return Optional.empty();
+        }
+        Roles role = Optional.ofNullable(jwtToken.claim(ROLE_CLAIM, String.class)).map(Roles::valueOf).orElse(null);
+        User.UserBuilder<?, ?> builder = Objects.isNull(role) ? User.builder() : switch (role) {
+            case ADMIN -> Admin.builder();
+            case INSTRUCTOR -> Instructor.builder();
+            case STUDENT -> Student.builder();
+        };
+        return Optional.of(builder
+                .id(userId.longValue())
+                .email(jwtToken.subject())
+                .role(role)
+                .tokenVersion(jwtToken.claim(TOKEN_VERSION_CLAIM, Integer.class))
+                .build());
+    }
+
+    @Override
+    public boolean isJwtTokenValid(final ValidatedJwtToken jwtToken, final UserDetails userDetails) {
+        return userDetails.getUsername().equals(jwtToken.subject()) && !jwtToken.isExpired(Instant.now());
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSigningKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Override
+    public boolean isJwtTokenValid(final String jwtToken, final UserDetails userDetails) {
+        return isJwtTokenValid(verifyJwtToken(jwtToken), userDetails);
     }
 
-    private boolean isTokenExpired(final String jwtToken) {
-        Date expirationDate = extractExpirationDate(jwtToken);
-        return Objects.nonNull(expirationDate) && expirationDate.before(new Date());
+    @Override
+    @Transactional
+    public boolean isJwtRefreshTokenValid(final String jwtRefreshToken, final UserDetails userDetails) {
+        ValidatedJwtToken jwtToken = verifyJwtToken(jwtRefreshToken);
+        String jti = jwtToken.claim(Claims.ID, String.class);
+        if (Objects.isNull(jti) || !(userDetails instanceof User user) || !isJwtTokenValid(jwtToken, userDetails)) {
+            return false;
+        }
+        return refreshTokenRepository.existsByIdAndUserIdAndTokenHash(
+                UUID.fromString(jti), user.getId(), hash(jwtRefreshToken));
     }
 
-    private Claims extractAllClaims(final String jwtToken) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(jwtToken)
-                .getBody();
+    @Override
+    @Transactional
+    public int compactRefreshTokens(final int batchSize) {
+        return refreshTokenRepository.deleteExpired(LocalDateTime.now(), batchSize);
     }
 
-    private Date extractExpirationDate(final String jwtToken) {
-        return extractClaim(jwtToken, Claims::getExpiration);
+    private static byte[] hash(final String jwtToken) {
+        return Hashing.sha256().hashString(jwtToken, StandardCharsets.UTF_8).asBytes();
     }
 }
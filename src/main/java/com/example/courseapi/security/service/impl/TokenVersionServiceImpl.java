@@ -0,0 +1,64 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.JwtProperties;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.TokenVersionService;
+import com.example.courseapi.util.TransactionUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Token version lookups are cached for a short time, so an authenticated request normally costs no query at all.
+ * Versions changed on this instance are evicted right after the transaction commits; other instances pick them up
+ * when their entry expires.
+ */
+@Log4j2
+@Service
+public class TokenVersionServiceImpl implements TokenVersionService {
+    private static final int MAX_CACHED_USERS = 10_000;
+    private static final int MISSING_USER = -1;
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> tokenVersions;
+
+    public TokenVersionServiceImpl(final UserRepository userRepository, final JwtProperties jwtProperties) {
+        this.userRepository = userRepository;
+        this.tokenVersions = CacheBuilder.newBuilder()
+                .maximumSize(MAX_CACHED_USERS)
+                .expireAfterWrite(jwtProperties.getTokenVersionTtl())
+                .build();
+    }
+
+    @Override
+    public boolean isCurrent(final Long userId, final Integer tokenVersion) {
+        if (Objects.isNull(userId) || Objects.isNull(tokenVersion)) {
+            return false;
+        }
+        try {
+            return tokenVersion.equals(tokenVersions.get(userId, () ->
+                    userRepository.findTokenVersionById(userId).orElse(MISSING_USER)));
+        } catch (ExecutionException ex) {
+            log.error("Error occurred while reading token version of user {}: {}", userId, ex.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void revoke(final User user) {
+        log.debug("Revoking tokens of user with id: {}", user.getId());
+        user.setTokenVersion(Objects.requireNonNullElse(user.getTokenVersion(), 0) + 1);
+        evict(user.getId());
+    }
+
+    @Override
+    public void evict(final Long userId) {
+        tokenVersions.invalidate(userId);
+        TransactionUtil.afterCommit(() -> tokenVersions.invalidate(userId));
+    }
+}
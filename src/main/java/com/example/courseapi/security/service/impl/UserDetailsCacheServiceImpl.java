@@ -0,0 +1,79 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.UserDetailsCacheProperties;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import com.example.courseapi.util.TransactionUtil;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Users are cached by email with hit, miss and eviction metrics published as {@code cache.*{cache=user-details}}.
+ * Any change to a user or to the courses of a student evicts it, see {@link UserDetailsCacheService#evict(String)}
+ * and {@link UserDetailsCacheService#evictAll(Collection)}.
+ */
+@Log4j2
+@Service
+public class UserDetailsCacheServiceImpl implements UserDetailsCacheService {
+    static final String CACHE_NAME = "user-details";
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> users;
+
+    public UserDetailsCacheServiceImpl(final UserRepository userRepository,
+                                       final UserDetailsCacheProperties properties,
+                                       final MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.users = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+    }
+
+    @Override
+    public User loadUserByEmail(final String email) {
+        User user = users.getIfPresent(email);
+        if (Objects.isNull(user)) {
+            user = userRepository.findByEmail(email).orElseThrow(() ->
+                    new SystemException("User with email: " + email + " not found.", ErrorCode.UNAUTHORIZED));
+            users.put(email, user);
+        }
+        return user;
+    }
+
+    @Override
+    public void evict(final String email) {
+        if (Objects.isNull(email)) {
+            return;
+        }
+        log.debug("Evicting cached user with email: {}", email);
+        users.invalidate(email);
+        TransactionUtil.afterCommit(() -> users.invalidate(email));
+    }
+
+    @Override
+    public void evictAll(final Collection<Long> userIds) {
+        if (CollectionUtils.isEmpty(userIds)) {
+            return;
+        }
+        log.debug("Evicting {} cached users", userIds.size());
+        Set<Long> ids = new HashSet<>(userIds);
+        users.asMap().values().removeIf(user -> ids.contains(user.getId()));
+        TransactionUtil.afterCommit(() -> users.asMap().values().removeIf(user -> ids.contains(user.getId())));
+    }
+}
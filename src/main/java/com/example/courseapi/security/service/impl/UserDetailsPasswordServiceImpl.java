@@ -0,0 +1,35 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.domain.User;
+import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores the password hash recomputed by {@link org.springframework.security.authentication.dao.DaoAuthenticationProvider}
+ * after a successful login, when the stored hash was made with another BCrypt cost than the configured one.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class UserDetailsPasswordServiceImpl implements UserDetailsPasswordService {
+    private final UserRepository userRepository;
+    private final UserDetailsCacheService userDetailsCacheService;
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(final UserDetails userDetails, final String newPassword) {
+        log.debug("Rehashing password of user with email: {}", userDetails.getUsername());
+        userRepository.updatePasswordByEmail(userDetails.getUsername(), newPassword);
+        userDetailsCacheService.evict(userDetails.getUsername());
+        if (userDetails instanceof User user) {
+            user.setPassword(newPassword);
+        }
+        return userDetails;
+    }
+}
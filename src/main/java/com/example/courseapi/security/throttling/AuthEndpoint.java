@@ -0,0 +1,31 @@
+package com.example.courseapi.security.throttling;
+
+import com.example.courseapi.config.AuthThrottlingProperties;
+
+import java.util.function.Function;
+
+/**
+ * Authentication endpoints guarded by {@link com.example.courseapi.security.service.AuthThrottlingService}.
+ */
+public enum AuthEndpoint {
+    LOGIN("login", AuthThrottlingProperties::getLogin),
+    SIGNUP("signup", AuthThrottlingProperties::getSignup),
+    REFRESH_TOKEN("refresh-token", AuthThrottlingProperties::getRefreshToken);
+
+    private final String tag;
+    private final Function<AuthThrottlingProperties, AuthThrottlingProperties.Endpoint> limits;
+
+    AuthEndpoint(final String tag,
+                 final Function<AuthThrottlingProperties, AuthThrottlingProperties.Endpoint> limits) {
+        this.tag = tag;
+        this.limits = limits;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public AuthThrottlingProperties.Endpoint limits(final AuthThrottlingProperties properties) {
+        return limits.apply(properties);
+    }
+}
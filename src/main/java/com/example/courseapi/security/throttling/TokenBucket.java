@@ -0,0 +1,42 @@
+package com.example.courseapi.security.throttling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding a single timestamp.
+ * <p>
+ * The bucket is tracked as the time at which it would be full again (the generic cell rate algorithm): a request
+ * is allowed while that time is less than {@code capacity} refill periods ahead of now, and moves it one refill
+ * period further. One compare-and-set per request, no refill thread and no lock.
+ */
+public class TokenBucket {
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(final int capacity, final long refillNanos, final long now) {
+        this.refillNanos = refillNanos;
+        this.burstNanos = (capacity - 1L) * refillNanos;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @param now current {@link System#nanoTime()}
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until the next one is available
+     */
+    public long tryAcquire(final long now) {
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, now);
+            long wait = base - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, base + refillNanos)) {
+                return 0;
+            }
+        }
+    }
+}
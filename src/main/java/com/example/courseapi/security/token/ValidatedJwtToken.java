@@ -0,0 +1,38 @@
+package com.example.courseapi.security.token;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A JWT token whose signature and expiration have already been verified.
+ * <p>
+ * Produced once per request by {@link com.example.courseapi.security.service.JwtService#verifyJwtToken(String)},
+ * so the rest of the authentication pipeline reads the subject and claims without parsing the token again.
+ *
+ * @param subject    the subject (user email) of the token
+ * @param expiration the moment the token expires, {@code null} if it never does
+ * @param claims     all claims of the token, read-only
+ */
+public record ValidatedJwtToken(String subject, Instant expiration, Map<String, Object> claims) {
+
+    public ValidatedJwtToken {
+        claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    /**
+     * Returns a claim converted to the required type, {@code null} if the token does not carry it.
+     */
+    public <T> T claim(final String name, final Class<T> type) {
+        Object value = claims.get(name);
+        return value == null ? null : type.cast(value);
+    }
+
+    /**
+     * Checks whether the token is past its expiration at the given moment.
+     */
+    public boolean isExpired(final Instant now) {
+        return expiration != null && expiration.isBefore(now);
+    }
+}
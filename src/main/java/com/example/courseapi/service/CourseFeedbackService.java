@@ -3,10 +3,12 @@ package com.example.courseapi.service;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.CourseFeedback;
 import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.CourseFeedbackRequestDTO;
 import com.example.courseapi.dto.response.CourseFeedbackResponseDTO;
-import org.springframework.data.domain.Page;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -37,9 +39,21 @@ public interface CourseFeedbackService {
      *
      * @param filters  the optional filters to apply when searching for course feedback entries
      * @param pageable the pagination information to apply when retrieving the course feedback entries
-     * @return a page containing the found course feedback DTOs
+     * @param count    how the total is computed, {@link CountMode#EXACT} runs a count over every matching row
+     * @return a page containing the found course feedback DTOs, a slice without total if nothing is counted
      */
-    Page<CourseFeedbackResponseDTO> findAll(final Filters filters, final Pageable pageable);
+    Slice<CourseFeedbackResponseDTO> findAll(final Filters filters, final Pageable pageable, final CountMode count);
+
+    /**
+     * Finds the course feedback entries matching the optional filters that follow the cursor.
+     *
+     * @param filters  the optional filters to apply when searching for course feedback entries
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable the page size and, for the first page, the sort
+     * @return a cursor page containing the found course feedback DTOs
+     */
+    CursorPageResponseDTO<CourseFeedbackResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable);
 
     /**
      * Finds all course feedback entries associated with a specific student ID.
@@ -0,0 +1,71 @@
+package com.example.courseapi.service;
+
+import com.example.courseapi.domain.CourseProgress;
+import com.example.courseapi.dto.CourseGradeDTO;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Service Interface for maintaining the {@link CourseProgress} aggregate.
+ * Write methods must be called inside the transaction that changes submissions or lessons.
+ */
+public interface CourseProgressService {
+
+    /**
+     * Applies a created or regraded submission to the progress of the student in the lesson's course.
+     *
+     * @param lessonId      the id of the submitted lesson.
+     * @param studentId     the id of the student.
+     * @param previousGrade the grade before the change, or {@code null} if the submission is new.
+     * @param grade         the new grade.
+     */
+    void onSubmissionSaved(final Long lessonId, final Long studentId, final Double previousGrade, final Double grade);
+
+    /**
+     * Removes a deleted submission from the progress of the student in the lesson's course.
+     *
+     * @param lessonId  the id of the submitted lesson.
+     * @param studentId the id of the student.
+     * @param grade     the grade of the deleted submission.
+     */
+    void onSubmissionDeleted(final Long lessonId, final Long studentId, final Double grade);
+
+    /**
+     * Recalculates the progress of every student in the given courses after lessons were added or removed.
+     *
+     * @param courseIds the ids of the courses whose lessons changed.
+     */
+    void onLessonsChanged(final Collection<Long> courseIds);
+
+    /**
+     * Recalculates the progress of every student in the course after submissions were written in bulk,
+     * which is cheaper than one delta per submission.
+     *
+     * @param courseId the id of the course whose submissions changed.
+     */
+    void onSubmissionsBatchSaved(final Long courseId);
+
+    /**
+     * Reads the stored grade status of a student in a course.
+     *
+     * @param courseId  the id of the course.
+     * @param studentId the id of the student.
+     * @return the grade status, or empty if the student has no progress row for the course.
+     */
+    Optional<CourseGradeDTO> findCourseGrade(final Long courseId, final Long studentId);
+
+    /**
+     * Counts the progress rows that differ from a recalculation from submissions.
+     *
+     * @return the number of drifted (student, course) pairs.
+     */
+    long countDrift();
+
+    /**
+     * Recalculates the whole table from submissions.
+     *
+     * @return the number of progress rows written.
+     */
+    int rebuild();
+}
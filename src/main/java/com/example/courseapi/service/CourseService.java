@@ -3,13 +3,17 @@ package com.example.courseapi.service;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
 import com.example.courseapi.dto.*;
 import com.example.courseapi.dto.request.LessonsUpdateDTO;
+import com.example.courseapi.dto.response.CourseEnrollmentResultDTO;
 import com.example.courseapi.dto.response.CourseResponseDTO;
 import com.example.courseapi.dto.response.CourseStatusResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.request.CourseRequestDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,9 +45,24 @@ public interface CourseService {
      *
      * @param filters  the optional filters to apply when searching for courses
      * @param pageable the pagination information to apply when retrieving the courses
-     * @return a page containing the found course DTOs
+     * @param count    how the total is computed, {@link CountMode#EXACT} runs a count over every matching row
+     * @param members  whether course members are returned as id sets or only as counts
+     * @return a page containing the found course DTOs, a slice without total if nothing is counted
      */
-    Page<CourseResponseDTO> findAll(final Filters filters, final Pageable pageable, final User user);
+    Slice<CourseResponseDTO> findAll(final Filters filters, final Pageable pageable, final CountMode count,
+                                     final CourseMembersView members, final User user);
+
+    /**
+     * Finds the courses matching the optional filters that follow the cursor, without counting them.
+     *
+     * @param filters  the optional filters to apply when searching for courses
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable the page size and, for the first page, the sort
+     * @param members  whether course members are returned as id sets or only as counts
+     * @return a cursor page containing the found course DTOs
+     */
+    CursorPageResponseDTO<CourseResponseDTO> findAllByCursor(final Filters filters, final String cursor,
+            final Pageable pageable, final CourseMembersView members, final User user);
 
     /**
      * Finds all courses associated with a specific student ID.
@@ -68,6 +87,17 @@ public interface CourseService {
      */
     void subscribeStudentToCourse(final Long courseId, final Long studentId);
 
+    /**
+     * Subscribes many students to a course at once. All students are validated with one aggregate query and
+     * the accepted ones are inserted with one statement; students that cannot be subscribed are reported
+     * with the reason instead of failing the whole request.
+     *
+     * @param courseId   the ID of the course to subscribe the students to
+     * @param studentIds the IDs of the students to subscribe
+     * @return the subscribed and the rejected students
+     */
+    CourseEnrollmentResultDTO enrollStudents(final Long courseId, final Set<Long> studentIds);
+
     /**
      * Retrieves the course status for a student in a specific course.
      *
@@ -0,0 +1,38 @@
+package com.example.courseapi.service;
+
+import java.util.Collection;
+
+/**
+ * Service Interface for the in-memory index of student subscriptions and instructor assignments.
+ * The index is loaded from {@code courses_students} and {@code courses_instructors} at startup and reflects
+ * committed changes only. Memberships older than the membership cache time to live are reloaded before they are
+ * reported.
+ */
+public interface EnrollmentIndexService {
+
+    boolean isStudent(final Long courseId, final Long studentId);
+
+    boolean isInstructor(final Long courseId, final Long instructorId);
+
+    /**
+     * Reloads the members of the courses once the current transaction commits.
+     * Must be called by every change of subscriptions or instructor assignments, including course deletion.
+     *
+     * @param courseIds the ids of the changed courses.
+     */
+    void refreshCourses(final Collection<Long> courseIds);
+
+    /**
+     * Removes a deleted user from all courses once the current transaction commits.
+     *
+     * @param userId the id of the user.
+     */
+    void removeUser(final Long userId);
+
+    /**
+     * Compares the index with the membership tables and replaces it when they differ.
+     *
+     * @return number of subscriptions and assignments that differed.
+     */
+    long verify();
+}
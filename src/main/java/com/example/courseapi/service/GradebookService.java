@@ -0,0 +1,32 @@
+package com.example.courseapi.service;
+
+import com.example.courseapi.domain.enums.GradebookFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service Interface for exporting course gradebooks.
+ */
+public interface GradebookService {
+
+    /**
+     * Checks that the course exists, so a missing course is reported before the export starts streaming.
+     *
+     * @param courseId the id of the course.
+     * @return true if the course exists, false otherwise.
+     */
+    boolean courseExists(final Long courseId);
+
+    /**
+     * Writes the student × lesson grade matrix of a course with the course status and final grade of every student.
+     * Rows are pivoted while reading one ordered result set, so only a single student is held in memory.
+     *
+     * @param courseId     the id of the course.
+     * @param format       the output format.
+     * @param outputStream the stream to write to, it is flushed but not closed.
+     * @throws IOException if writing to the stream fails.
+     */
+    void writeGradebook(final Long courseId, final GradebookFormat format, final OutputStream outputStream)
+            throws IOException;
+}
@@ -2,11 +2,13 @@ package com.example.courseapi.service;
 
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.HomeworkRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.HomeworkResponseDTO;
 import com.example.courseapi.domain.Homework;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -30,9 +32,22 @@ public interface HomeworkService {
      *
      * @param filters  the optional filters to apply when searching for courses
      * @param pageable the pagination information to apply when retrieving the courses
+     * @param count    how the total is computed, {@link CountMode#EXACT} runs a count over every matching row
      * @return the list of entities.
      */
-    Page<HomeworkResponseDTO> findAll(final Filters filters, final Pageable pageable, final User user);
+    Slice<HomeworkResponseDTO> findAll(
+            final Filters filters, final Pageable pageable, final CountMode count, final User user);
+
+    /**
+     * Find the homework entities visible to the user that follow the cursor.
+     *
+     * @param filters  the optional filters to apply when searching for homeworks
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable the page size and, for the first page, the sort
+     * @return the cursor page of entities.
+     */
+    CursorPageResponseDTO<HomeworkResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable, final User user);
 
     /**
      * Find a homework entity by ID.
@@ -2,10 +2,12 @@ package com.example.courseapi.service;
 
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.LessonRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.LessonResponseDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -36,9 +38,21 @@ public interface LessonService {
      *
      * @param filters  the optional filters to apply when searching for courses
      * @param pageable the pagination information to apply when retrieving the courses
-     * @return a {@link Page} with the {@link LessonResponseDTO} objects found.
+     * @param count    how the total is computed, {@link CountMode#EXACT} runs a count over every matching row
+     * @return a {@link Slice} with the {@link LessonResponseDTO} objects found, a page unless nothing is counted.
      */
-    Page<LessonResponseDTO> findAll(final Filters filters, final Pageable pageable);
+    Slice<LessonResponseDTO> findAll(final Filters filters, final Pageable pageable, final CountMode count);
+
+    /**
+     * Finds the {@link LessonResponseDTO} objects matching the given filters that follow the cursor.
+     *
+     * @param filters  the optional filters to apply when searching for lessons
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable the page size and, for the first page, the sort
+     * @return a {@link CursorPageResponseDTO} with the {@link LessonResponseDTO} objects found.
+     */
+    CursorPageResponseDTO<LessonResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable);
 
     /**
      * Finds all {@link LessonResponseDTO} objects associated with a specific course.
@@ -1,8 +1,12 @@
 package com.example.courseapi.service;
 
 import com.example.courseapi.domain.Submission;
+import com.example.courseapi.dto.request.StudentGradeDTO;
 import com.example.courseapi.dto.request.SubmissionRequestDTO;
+import com.example.courseapi.dto.response.SubmissionBatchResultDTO;
 import com.example.courseapi.dto.response.SubmissionResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -64,20 +68,36 @@ public interface SubmissionService {
     SubmissionResponseDTO saveGrade(final Long lessonId, final Long studentId, final Double grade);
 
     /**
-     * Retrieves a list of all submissions for a specific lesson, accessible by the current user.
+     * Grades many students of a lesson at once. Enrollment of every student is validated with one query and
+     * the accepted grades are upserted in one batch; rows that cannot be stored are reported instead of
+     * failing the whole batch.
+     *
+     * @param lessonId the id of the lesson.
+     * @param grades   the grades to save, by student.
+     * @return one result per requested row, in request order.
+     */
+    List<SubmissionBatchResultDTO> saveBatch(final Long lessonId, final List<StudentGradeDTO> grades);
+
+    /**
+     * Retrieves a page of submissions for a specific lesson, accessible by the current user.
+     * Instructors only see submissions of the courses they are assigned to.
      *
      * @param lessonId      the id of the lesson.
      * @param currentUserId the id of the current user.
-     * @return a list of submission DTOs.
+     * @param pageable      the pagination information.
+     * @return a page of submission DTOs.
      */
-    List<SubmissionResponseDTO> findAllByLesson(final Long lessonId, final Long currentUserId);
+    Page<SubmissionResponseDTO> findAllByLesson(final Long lessonId, final Long currentUserId, final Pageable pageable);
 
     /**
-     * Retrieves a list of all submissions for a specific student, accessible by the current user.
+     * Retrieves a page of submissions for a specific student, accessible by the current user.
+     * Instructors only see submissions of the courses they are assigned to.
      *
      * @param studentId     the id of the student.
      * @param currentUserId the id of the current user.
-     * @return a list of submission DTOs.
+     * @param pageable      the pagination information.
+     * @return a page of submission DTOs.
      */
-    List<SubmissionResponseDTO> findAllByStudent(final Long studentId, final Long currentUserId);
+    Page<SubmissionResponseDTO> findAllByStudent(final Long studentId, final Long currentUserId,
+                                                 final Pageable pageable);
 }
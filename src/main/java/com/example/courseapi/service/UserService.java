@@ -2,11 +2,13 @@ package com.example.courseapi.service;
 
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.domain.enums.Roles;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.UserResponseDTO;
 import com.example.courseapi.dto.request.UserRequestDTO;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link User} entity.
@@ -18,9 +20,21 @@ public interface UserService {
      *
      * @param filters  the optional filters to apply when searching for courses
      * @param pageable the pagination information to apply when retrieving the courses
-     * @return a page of user response DTOs
+     * @param count    how the total is computed, {@link CountMode#EXACT} runs a count over every matching row
+     * @return a page of user response DTOs, a slice without total if nothing is counted
      */
-    Page<UserResponseDTO> getUsers(final Filters filters, final Pageable pageable);
+    Slice<UserResponseDTO> getUsers(final Filters filters, final Pageable pageable, final CountMode count);
+
+    /**
+     * Get the users matching the filters that follow the cursor.
+     *
+     * @param filters  the optional filters to apply when searching for users
+     * @param cursor   the {@code next} cursor of the previous page, empty for the first page
+     * @param pageable the page size and, for the first page, the sort
+     * @return a cursor page of user response DTOs
+     */
+    CursorPageResponseDTO<UserResponseDTO> getUsersByCursor(
+            final Filters filters, final String cursor, final Pageable pageable);
 
     /**
      * Create a new user.
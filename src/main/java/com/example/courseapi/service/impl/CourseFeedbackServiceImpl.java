@@ -1,11 +1,15 @@
 package com.example.courseapi.service.impl;
 
 import com.example.courseapi.config.args.generic.Filters;
-import com.example.courseapi.config.args.specs.SpecificationBuilder;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.CourseFeedback;
 import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.CourseFeedbackRequestDTO;
 import com.example.courseapi.dto.response.CourseFeedbackResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.CourseFeedbackRepository;
@@ -14,8 +18,9 @@ import com.example.courseapi.service.CourseFeedbackService;
 import com.example.courseapi.service.mapper.CourseFeedbackMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +34,9 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
     private final CourseFeedbackRepository courseFeedbackRepository;
     private final CourseFeedbackMapper courseFeedbackMapper;
     private final StudentRepository studentRepository;
+    private final FilterCompiler filterCompiler;
+    private final KeysetPaginator keysetPaginator;
+    private final OffsetPaginator offsetPaginator;
 
     @Transactional(readOnly = true)
     public Optional<CourseFeedbackResponseDTO> findById(final Long id) {
@@ -50,19 +58,36 @@ public class CourseFeedbackServiceImpl implements CourseFeedbackService {
     }
 
     @Override
-    public Page<CourseFeedbackResponseDTO> findAll(final Filters filters, final Pageable pageable) {
-        log.debug("Finding all course feedbacks by filters and pageable");
-        return courseFeedbackRepository.findAll(new SpecificationBuilder<CourseFeedback>(filters).build(), pageable)
+    @Transactional(readOnly = true)
+    public Slice<CourseFeedbackResponseDTO> findAll(
+            final Filters filters, final Pageable pageable, final CountMode count) {
+        log.debug("Finding all course feedbacks by filters and pageable, counting {}", count);
+        Specification<CourseFeedback> specification = filterCompiler.compile(CourseFeedback.class, filters);
+        Slice<CourseFeedback> courseFeedbacks = count == CountMode.EXACT
+                ? courseFeedbackRepository.findAll(specification, pageable)
+                : offsetPaginator.findPage(CourseFeedback.class, specification, pageable, count);
+        return courseFeedbacks.map(courseFeedbackMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<CourseFeedbackResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable) {
+        log.debug("Finding course feedbacks by filters after cursor");
+        return keysetPaginator.findPage(CourseFeedback.class,
+                        filterCompiler.compile(CourseFeedback.class, filters), cursor, pageable)
                 .map(courseFeedbackMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseFeedbackResponseDTO> findByStudentId(final Long studentId) {
         log.debug("Finding course feedback by student id: {}", studentId);
         return courseFeedbackMapper.toResponseDto(courseFeedbackRepository.findByStudentId(studentId));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CourseFeedbackResponseDTO> findByCourseId(final Long courseId) {
         log.debug("Finding course feedback by course id: {}", courseId);
         return courseFeedbackMapper.toResponseDto(courseFeedbackRepository.findByCourseId(courseId));
@@ -0,0 +1,96 @@
+package com.example.courseapi.service.impl;
+
+import com.example.courseapi.domain.CourseProgress;
+import com.example.courseapi.dto.CourseGradeDTO;
+import com.example.courseapi.repository.CourseProgressRepository;
+import com.example.courseapi.service.CourseProgressService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class CourseProgressServiceImpl implements CourseProgressService {
+    private final CourseProgressRepository courseProgressRepository;
+
+    @Override
+    @Transactional
+    public void onSubmissionSaved(final Long lessonId, final Long studentId,
+                                  final Double previousGrade, final Double grade) {
+        log.debug("Applying submission with lesson id: {} and student id: {} to course progress, grade: {} -> {}",
+                lessonId, studentId, previousGrade, grade);
+        int submittedDelta = Objects.isNull(previousGrade) ? 1 : 0;
+        double gradeDelta = valueOf(grade) - valueOf(previousGrade);
+        courseProgressRepository.applyDelta(lessonId, studentId, submittedDelta, gradeDelta);
+        courseProgressRepository.refreshStatusByLesson(lessonId, studentId);
+    }
+
+    @Override
+    @Transactional
+    public void onSubmissionDeleted(final Long lessonId, final Long studentId, final Double grade) {
+        log.debug("Removing submission with lesson id: {} and student id: {} from course progress",
+                lessonId, studentId);
+        courseProgressRepository.applyDelta(lessonId, studentId, -1, -valueOf(grade));
+        courseProgressRepository.refreshStatusByLesson(lessonId, studentId);
+    }
+
+    @Override
+    @Transactional
+    public void onLessonsChanged(final Collection<Long> courseIds) {
+        log.debug("Recalculating course progress for courses with ids: {}", courseIds);
+        if (CollectionUtils.isEmpty(courseIds)) {
+            return;
+        }
+        recalculate(courseIds);
+    }
+
+    @Override
+    @Transactional
+    public void onSubmissionsBatchSaved(final Long courseId) {
+        log.debug("Recalculating course progress for course with id: {} after bulk grading", courseId);
+        recalculate(List.of(courseId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CourseGradeDTO> findCourseGrade(final Long courseId, final Long studentId) {
+        log.debug("Finding course progress for course with id: {} and student with id: {}", courseId, studentId);
+        return courseProgressRepository.findById(new CourseProgress.CourseProgressId(studentId, courseId))
+                .map(progress -> new CourseGradeDTO(progress.getStatus(), progress.getFinalGrade()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDrift() {
+        log.debug("Counting drifted course progress rows");
+        return courseProgressRepository.countDrift();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        log.debug("Rebuilding course progress from submissions");
+        courseProgressRepository.deleteAllRows();
+        int rows = courseProgressRepository.recalculateAllCounters();
+        courseProgressRepository.refreshAllStatuses();
+        return rows;
+    }
+
+    private void recalculate(final Collection<Long> courseIds) {
+        courseProgressRepository.resetCounters(courseIds);
+        courseProgressRepository.recalculateCounters(courseIds);
+        courseProgressRepository.refreshStatus(courseIds);
+    }
+
+    private static double valueOf(final Double grade) {
+        return Objects.isNull(grade) ? 0.0 : grade;
+    }
+}
@@ -3,28 +3,42 @@ package com.example.courseapi.service.impl;
 import com.example.courseapi.config.args.generic.FilterImpl;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.config.args.generic.SpecificationComparison;
-import com.example.courseapi.config.args.specs.SpecificationBuilder;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
 import com.example.courseapi.domain.*;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
 import com.example.courseapi.domain.enums.CourseStatus;
+import com.example.courseapi.domain.enums.EnrollmentRejection;
 import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.dto.*;
 import com.example.courseapi.dto.request.CourseRequestDTO;
 import com.example.courseapi.dto.request.LessonRequestDTO;
 import com.example.courseapi.dto.request.LessonsUpdateDTO;
+import com.example.courseapi.dto.response.CourseEnrollmentResultDTO;
 import com.example.courseapi.dto.response.CourseResponseDTO;
 import com.example.courseapi.dto.response.CourseStatusResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
+import com.example.courseapi.dto.response.LessonResponseDTO;
 import com.example.courseapi.exception.*;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.*;
+import com.example.courseapi.repository.projection.CourseGradeAggregate;
+import com.example.courseapi.repository.projection.CourseMembers;
+import com.example.courseapi.repository.projection.StudentEnrollmentStats;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import com.example.courseapi.service.CourseProgressService;
 import com.example.courseapi.service.CourseService;
-import com.example.courseapi.service.SubmissionService;
+import com.example.courseapi.service.EnrollmentIndexService;
 import com.example.courseapi.service.mapper.CourseMapper;
 import com.example.courseapi.service.mapper.LessonMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
-import org.springframework.data.domain.Page;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +51,8 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CourseServiceImpl implements CourseService {
+    private static final int STUDENT_COURSE_LIMIT = 5;
+
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
     private final InstructorRepository instructorRepository;
@@ -44,7 +60,12 @@ public class CourseServiceImpl implements CourseService {
     private final LessonRepository lessonRepository;
     private final CourseMapper courseMapper;
     private final LessonMapper lessonMapper;
-    private final SubmissionService submissionService;
+    private final CourseProgressService courseProgressService;
+    private final UserDetailsCacheService userDetailsCacheService;
+    private final CourseMembershipService courseMembershipService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final FilterCompiler filterCompiler;
+    private final KeysetPaginator keysetPaginator;
 
     @Override
     @Transactional(readOnly = true)
@@ -59,19 +80,68 @@ public class CourseServiceImpl implements CourseService {
         log.debug("Saving course : {}", courseDTO);
         validateCourseInstructors(courseDTO);
         Course course = courseRepository.save(courseMapper.fromRequestDto(courseDTO));
+        enrollmentIndexService.refreshCourses(Set.of(course.getId()));
         return courseMapper.toResponseDto(course);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<CourseResponseDTO> findAll(final Filters filters, final Pageable pageable, final User user) {
-        log.debug("Finding all courses by filters and pageable");
+    public Slice<CourseResponseDTO> findAll(final Filters filters, final Pageable pageable, final CountMode count,
+                                            final CourseMembersView members, final User user) {
+        log.debug("Finding all courses by filters and pageable, counting {}", count);
+        includeAvailabilityFilter(filters, user);
+        Slice<CourseResponseDTO> page = courseRepository.findCatalogPage(
+                        filterCompiler.compile(Course.class, filters),
+                        Objects.isNull(pageable) ? Pageable.unpaged() : pageable, count)
+                .map(courseMapper::toResponseDto);
+        if (page.hasContent()) {
+            fillMembersAndLessons(page.getContent(), Objects.isNull(members) ? CourseMembersView.IDS : members);
+        }
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<CourseResponseDTO> findAllByCursor(final Filters filters, final String cursor,
+            final Pageable pageable, final CourseMembersView members, final User user) {
+        log.debug("Finding courses by filters after cursor");
+        includeAvailabilityFilter(filters, user);
+        KeysetPaginator.Keyset<Course> keyset = keysetPaginator.keyset(Course.class, cursor, pageable);
+        CursorPageResponseDTO<CourseResponseDTO> page = keyset.toPage(courseRepository.findCatalogRows(
+                        filterCompiler.compile(Course.class, filters), keyset))
+                .map(courseMapper::toResponseDto);
+        if (!page.getContent().isEmpty()) {
+            fillMembersAndLessons(page.getContent(), Objects.isNull(members) ? CourseMembersView.IDS : members);
+        }
+        return page;
+    }
+
+    private static void includeAvailabilityFilter(final Filters filters, final User user) {
         if (user instanceof Student) {
             log.debug("Current user is student. Only available courses will be shown");
             filters.include(new FilterImpl("available", SpecificationComparison.EQUALS, true));
         }
-        return courseRepository.findAll(new SpecificationBuilder<Course>(filters).build(), pageable)
-                .map(courseMapper::toResponseDto);
+    }
+
+    /**
+     * Completes catalog rows with their members and lessons, using one query for each instead of
+     * initializing the collections of every course on the page.
+     */
+    private void fillMembersAndLessons(final List<CourseResponseDTO> courses, final CourseMembersView view) {
+        Set<Long> courseIds = courses.stream().map(CourseResponseDTO::getId).collect(Collectors.toSet());
+        Map<Long, CourseMembers> members = courseRepository.findMembers(courseIds, view);
+        Map<Long, Set<LessonResponseDTO>> lessons = lessonRepository.findByCourseIdIn(courseIds).stream()
+                .map(lessonMapper::toResponseDto)
+                .collect(Collectors.groupingBy(LessonResponseDTO::getCourseId, Collectors.toSet()));
+        for (CourseResponseDTO course : courses) {
+            CourseMembers courseMembers = members.getOrDefault(course.getId(),
+                    CourseMembers.empty(course.getId(), view == CourseMembersView.IDS));
+            course.setInstructorIds(courseMembers.instructorIds());
+            course.setStudentIds(courseMembers.studentIds());
+            course.setInstructorCount(courseMembers.instructorCount());
+            course.setStudentCount(courseMembers.studentCount());
+            course.setLessons(lessons.getOrDefault(course.getId(), new HashSet<>()));
+        }
     }
 
     @Override
@@ -88,6 +158,7 @@ public class CourseServiceImpl implements CourseService {
         Course course = courseRepository.findById(courseId).orElseThrow(() ->
                 new SystemException("Course with id: " + courseId + " not found.", ErrorCode.NOT_FOUND));
         courseRepository.delete(course);
+        enrollmentIndexService.refreshCourses(Set.of(courseId));
     }
 
     @Override
@@ -96,7 +167,8 @@ public class CourseServiceImpl implements CourseService {
         log.debug("Subscribing student with id: {} to course with id: {}", studentId, courseId);
         Course targetCourse = courseRepository.findById(courseId).orElseThrow(() ->
                 new SystemException("Course with id: " + courseId + "not found", ErrorCode.BAD_REQUEST));
-        Student student = studentRepository.findById(studentId).orElseThrow(() ->
+        courseRepository.lockStudents(Set.of(studentId));
+        Student student = studentRepository.findWithCoursesById(studentId).orElseThrow(() ->
                 new SystemException("Student with id: " + studentId + "not found", ErrorCode.BAD_REQUEST));
         if (!targetCourse.getAvailable()) {
             throw new SystemException("Course with id: " + courseId + " is not available for registration.",
@@ -109,13 +181,50 @@ public class CourseServiceImpl implements CourseService {
                     ErrorCode.BAD_REQUEST);
         }
 
-        if (studentCourses.size() > 5) {
+        if (studentCourses.size() > STUDENT_COURSE_LIMIT) {
             throw new SystemException("Course limit for student " + student.getEmail() + " exceeded.",
                     ErrorCode.BAD_REQUEST);
         }
 
         targetCourse.addStudent(student);
         courseRepository.save(targetCourse);
+        userDetailsCacheService.evict(student.getEmail());
+        enrollmentIndexService.refreshCourses(Set.of(courseId));
+    }
+
+    @Override
+    @Transactional
+    public CourseEnrollmentResultDTO enrollStudents(final Long courseId, final Set<Long> studentIds) {
+        log.debug("Enrolling {} students to course with id: {}", studentIds.size(), courseId);
+        Course targetCourse = courseRepository.findById(courseId).orElseThrow(() ->
+                new SystemException("Course with id: " + courseId + "not found", ErrorCode.BAD_REQUEST));
+        if (!targetCourse.getAvailable()) {
+            throw new SystemException("Course with id: " + courseId + " is not available for registration.",
+                    ErrorCode.FORBIDDEN);
+        }
+
+        // Concurrent enrollments of the same students wait here, so none of them passes the limit
+        courseRepository.lockStudents(studentIds);
+        Map<Long, StudentEnrollmentStats> stats = courseRepository.findEnrollmentStats(courseId, studentIds);
+        Set<Long> accepted = new TreeSet<>();
+        Map<Long, EnrollmentRejection> rejected = new TreeMap<>();
+        for (Long studentId : studentIds) {
+            StudentEnrollmentStats studentStats = stats.get(studentId);
+            if (Objects.isNull(studentStats)) {
+                rejected.put(studentId, EnrollmentRejection.STUDENT_NOT_FOUND);
+            } else if (studentStats.enrolled()) {
+                rejected.put(studentId, EnrollmentRejection.ALREADY_ENROLLED);
+            } else if (studentStats.courseCount() > STUDENT_COURSE_LIMIT) {
+                rejected.put(studentId, EnrollmentRejection.COURSE_LIMIT_EXCEEDED);
+            } else {
+                accepted.add(studentId);
+            }
+        }
+        courseRepository.enrollStudents(courseId, accepted);
+        userDetailsCacheService.evictAll(accepted);
+        enrollmentIndexService.refreshCourses(Set.of(courseId));
+        log.debug("Enrolled {} students to course with id: {}, rejected: {}", accepted.size(), courseId, rejected);
+        return new CourseEnrollmentResultDTO(courseId, accepted, rejected);
     }
 
     @Override
@@ -128,63 +237,83 @@ public class CourseServiceImpl implements CourseService {
                     " is not subscribed to course with id: " + courseId, ErrorCode.BAD_REQUEST);
         }
 
-        Course course = courseRepository.findById(courseId).orElseThrow(() ->
+        Course course = courseRepository.findWithLessonsById(courseId).orElseThrow(() ->
                 new SystemException("Course with id: " + courseId + "not found", ErrorCode.BAD_REQUEST));
-        CourseGradeDTO courseGradeDTO = calculateCourseStatus(studentId, course);
+        CourseGradeDTO courseGradeDTO = courseProgressService.findCourseGrade(courseId, studentId)
+                .orElseGet(() -> calculateCourseStatus(studentId, course));
         return courseMapper.toResponseStatusDto(course, studentId, courseGradeDTO);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public CourseGradeDTO calculateCourseStatus(final Long studentId, final Course course) {
         log.debug("Calculating course grade status for course with id: {} and student with id: {}",
                 course.getId(), studentId);
-        CourseGradeDTO courseGradeDTO = new CourseGradeDTO();
-        List<Submission> studentCourseSubmissions = submissionService.findAllByStudentIdAndCourseId(studentId, course.getId());
+        return calculateCourseStatuses(studentId, List.of(course.getId())).get(course.getId());
+    }
 
-        int lessonsInCourse = course.getLessons().size();
-        log.debug("For course with id: {} found {} lesson(s)", course.getId(), lessonsInCourse);
+    @Override
+    @Transactional(readOnly = true)
+    public Set<CourseGradeDTO> calculateCourseStatus(final Long studentId, final Set<Course> courses) {
+        log.debug("Calculating course grade statuses for courses with ids: {} and student with id: {}",
+                courses.stream().map(Course::getId).toList(), studentId);
+        return CollectionUtils.isEmpty(courses) ?
+                Collections.emptySet() :
+                new HashSet<>(calculateCourseStatuses(studentId,
+                        courses.stream().map(Course::getId).collect(Collectors.toSet())).values());
+    }
+
+    /**
+     * Calculates grade statuses of the student for all given courses with a single grouped aggregate query,
+     * instead of loading the lessons and submissions of every course.
+     *
+     * @return grade status by course id, courses without lessons and submissions are reported as failed
+     */
+    private Map<Long, CourseGradeDTO> calculateCourseStatuses(final Long studentId, final Collection<Long> courseIds) {
+        Map<Long, CourseGradeDTO> courseGrades = new HashMap<>();
+        for (CourseGradeAggregate aggregate : courseRepository.findGradeAggregates(studentId, courseIds)) {
+            courseGrades.put(aggregate.courseId(), toCourseGrade(studentId, aggregate));
+        }
+        courseIds.forEach(courseId -> courseGrades.computeIfAbsent(courseId,
+                id -> toCourseGrade(studentId, new CourseGradeAggregate(id, 0L, 0L, null))));
+        return courseGrades;
+    }
+
+    private CourseGradeDTO toCourseGrade(final Long studentId, final CourseGradeAggregate aggregate) {
+        CourseGradeDTO courseGradeDTO = new CourseGradeDTO();
+        long lessonsInCourse = aggregate.lessonCount();
+        log.debug("For course with id: {} found {} lesson(s)", aggregate.courseId(), lessonsInCourse);
         log.debug("For course with id: {} and student with id: {} found {} submission(s)",
-                course.getId(), studentId, studentCourseSubmissions.size());
-        if (lessonsInCourse != studentCourseSubmissions.size()) {
+                aggregate.courseId(), studentId, aggregate.submissionCount());
+        if (lessonsInCourse != aggregate.submissionCount()) {
             log.debug("Course Status: In Progress! Course id: {}, Student id: {}",
-                    course.getId(), studentId);
+                    aggregate.courseId(), studentId);
             courseGradeDTO.setCourseStatus(CourseStatus.IN_PROGRESS);
         } else {
-            double sumOfGrades = studentCourseSubmissions.stream().mapToDouble(Submission::getGrade).sum();
+            double sumOfGrades = Objects.isNull(aggregate.gradeSum()) ? 0.0 : aggregate.gradeSum();
             double finalGrade = sumOfGrades / (double) lessonsInCourse;
             if (lessonsInCourse != 0) {
                 courseGradeDTO.setFinalGrade(finalGrade);
             }
             if (finalGrade >= 80.0) {
                 log.debug("Course Status: Completed Successfully! Final grade: {}\n" +
-                                " Course id: {}, Student id: {}", finalGrade, course.getId(), studentId);
+                                " Course id: {}, Student id: {}", finalGrade, aggregate.courseId(), studentId);
                 courseGradeDTO.setCourseStatus(CourseStatus.COMPLETED);
             } else {
                 log.debug("Course Status: Failed! Grade level wasn't passed. Final grade: {} \n" +
-                                " Course id: {}, Student id: {}", finalGrade, course.getId(), studentId);
+                                " Course id: {}, Student id: {}", finalGrade, aggregate.courseId(), studentId);
                 courseGradeDTO.setCourseStatus(CourseStatus.FAILED);
             }
         }
         return courseGradeDTO;
     }
 
-    @Override
-    public Set<CourseGradeDTO> calculateCourseStatus(final Long studentId, final Set<Course> courses) {
-        log.debug("Calculating course grade statuses for courses with ids: {} and student with id: {}",
-                courses.stream().map(Course::getId).toList(), studentId);
-        return CollectionUtils.isEmpty(courses) ?
-                Collections.emptySet() :
-                courses.stream()
-                        .map(course -> calculateCourseStatus(studentId, course))
-                        .collect(Collectors.toSet());
-    }
-
     @Override
     @Transactional(readOnly = true)
     public boolean isStudentSubscribedToCourse(final Long courseId, final Long studentId) {
         log.debug("Checking if student with id: {} is already subscribed to course with id: {}",
                 studentId, courseId);
-        return courseRepository.existsByIdAndStudentsId(courseId, studentId);
+        return courseMembershipService.isStudent(courseId, studentId);
     }
 
     @Override
@@ -195,11 +324,15 @@ public class CourseServiceImpl implements CourseService {
                 new SystemException("User with id: " + userId + " not found.", ErrorCode.BAD_REQUEST));
         if (currentUser.getRole().equals(Roles.STUDENT) && currentUser instanceof Student currentStudent) {
             log.debug("Current user is student. Getting student courses for user: {}", userId);
-            return currentStudent.getStudentCourses().stream()
-                    .map(course -> {
-                        CourseGradeDTO courseGradeDTO = calculateCourseStatus(currentStudent.getId(), course);
-                        return courseMapper.toResponseStatusDto(course, currentStudent.getId(), courseGradeDTO);
-                    })
+            Set<Course> studentCourses = currentStudent.getStudentCourses();
+            if (CollectionUtils.isEmpty(studentCourses)) {
+                return Collections.emptySet();
+            }
+            Map<Long, CourseGradeDTO> courseGrades = calculateCourseStatuses(currentStudent.getId(),
+                    studentCourses.stream().map(Course::getId).collect(Collectors.toSet()));
+            return studentCourses.stream()
+                    .map(course -> courseMapper.toResponseStatusDto(
+                            course, currentStudent.getId(), courseGrades.get(course.getId())))
                     .collect(Collectors.toSet());
         } else if (currentUser.getRole().equals(Roles.INSTRUCTOR) && currentUser instanceof Instructor currentInstructor) {
             log.debug("Current user is instructor. Getting instructor courses for user: {}", userId);
@@ -213,14 +346,13 @@ public class CourseServiceImpl implements CourseService {
     @Transactional
     public CourseResponseDTO addInstructorToCourse(final Long courseId, final Long instructorId) {
         log.debug("Adding instructor with id: {} to course with id: {}", instructorId, courseId);
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new SystemException("Course with id: " + courseId + " not found",
-                        ErrorCode.BAD_REQUEST));
+        Course course = findWithAvailabilityMembers(courseId);
         Instructor instructor = instructorRepository.findById(instructorId)
                 .orElseThrow(() -> new SystemException("Instructor with id: " + instructorId + " not found",
                         ErrorCode.BAD_REQUEST));
         course.addInstructor(instructor);
         course = courseRepository.save(course);
+        enrollmentIndexService.refreshCourses(Set.of(courseId));
         return courseMapper.toResponseDto(course);
     }
 
@@ -228,13 +360,17 @@ public class CourseServiceImpl implements CourseService {
     @Transactional
     public CourseResponseDTO deleteInstructorForCourse(final Long courseId, final Long instructorId) {
         log.debug("Deleting instructor with id: {} to course with id: {}", instructorId, courseId);
-        Course course = courseRepository.findById(courseId).orElseThrow(() ->
-                new SystemException("Course with id: " + courseId + " not found", ErrorCode.BAD_REQUEST));
+        Course course = findWithAvailabilityMembers(courseId);
         Instructor instructor = instructorRepository.findById(instructorId)
                 .orElseThrow(() -> new SystemException("Instructor with id: " + instructorId + "not found",
                         ErrorCode.BAD_REQUEST));
+        if (Set.of(instructor).equals(course.getInstructors())) {
+            throw new SystemException("Instructor with id: " + instructorId + " is the last instructor of course " +
+                    "with id: " + courseId, ErrorCode.BAD_REQUEST);
+        }
         course.removeInstructor(instructor);
         course = courseRepository.save(course);
+        enrollmentIndexService.refreshCourses(Set.of(courseId));
         return courseMapper.toResponseDto(course);
     }
 
@@ -242,10 +378,12 @@ public class CourseServiceImpl implements CourseService {
     @Transactional
     public CourseResponseDTO updateCourseLessonsAndSave(final Long courseId, final LessonsUpdateDTO lessonsDTO) {
         log.debug("Updating course with id: {} with lessons: {}", courseId, lessonsDTO);
-        Course course = courseRepository.findById(courseId).orElseThrow(() ->
-                new SystemException("Course with id: " + courseId + " not found", ErrorCode.BAD_REQUEST));
+        Course course = findWithAvailabilityMembers(courseId);
 
-        course.getLessons().clear();
+        Set<Lesson> lessons = course.getLessons();
+        Set<Long> previousLessonIds = lessons.stream().map(Lesson::getId).collect(Collectors.toSet());
+        Set<Long> affectedCourseIds = new HashSet<>(Set.of(courseId));
+        lessons.clear();
         // Update the lessons in the Course entity
         for (LessonRequestDTO lessonRequestDTO : lessonsDTO.getLessons()) {
             if (lessonRequestDTO.getId() == null) {
@@ -261,6 +399,7 @@ public class CourseServiceImpl implements CourseService {
                     throw new SystemException("Attempt to reassign lesson to another course will break course with id: " + existingLesson.getCourse().getId(),
                             ErrorCode.BAD_REQUEST);
                 }
+                affectedCourseIds.add(existingLesson.getCourse().getId());
                 existingLesson.setTitle(lessonRequestDTO.getTitle());
                 existingLesson.setDescription(lessonRequestDTO.getDescription());
                 lessonRepository.save(existingLesson);
@@ -269,7 +408,27 @@ public class CourseServiceImpl implements CourseService {
         }
 
         // Save the updated Course entity
-        return courseMapper.toResponseDto(courseRepository.save(course));
+        Course savedCourse = courseRepository.save(course);
+        // Courses that lost a lesson to this one are neither loaded with both collections nor dirty
+        courseRepository.refreshAvailability(affectedCourseIds);
+        Set<Long> currentLessonIds = lessons.stream().map(Lesson::getId).collect(Collectors.toSet());
+        courseMembershipService.evictLessons(CollectionUtils.union(previousLessonIds, currentLessonIds));
+        if (!previousLessonIds.equals(currentLessonIds) || affectedCourseIds.size() > 1) {
+            // Removed lessons took their submissions with them, so the progress is recalculated
+            courseProgressService.onLessonsChanged(affectedCourseIds);
+        }
+        return courseMapper.toResponseDto(savedCourse);
+    }
+
+    /**
+     * Loads the course with both collections its availability is derived from. The flag is only recalculated when
+     * both are initialized, and a change to a collection alone never triggers {@code @PreUpdate}.
+     */
+    private Course findWithAvailabilityMembers(final Long courseId) {
+        Course course = courseRepository.findWithLessonsById(courseId).orElseThrow(() ->
+                new SystemException("Course with id: " + courseId + " not found", ErrorCode.BAD_REQUEST));
+        Hibernate.initialize(course.getInstructors());
+        return course;
     }
 
     private void validateCourseInstructors(final CourseRequestDTO courseDTO) {
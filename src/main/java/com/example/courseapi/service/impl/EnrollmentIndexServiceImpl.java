@@ -0,0 +1,304 @@
+package com.example.courseapi.service.impl;
+
+import com.example.courseapi.config.MembershipCacheProperties;
+import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.service.EnrollmentIndexService;
+import com.example.courseapi.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Keeps one compressed bitmap of member ids per course and one of course ids per user, for students and
+ * instructors, so membership queries never touch the database.
+ * <p>
+ * The index is loaded before the web server starts. Changes are applied after commit by reloading the members of
+ * the changed courses. Other instances only see those changes through the time to live of
+ * {@code security.membership-cache}: a membership found in a course loaded longer ago is confirmed by reloading the
+ * course first. Readers share a read lock, updates take the write lock for the time of a bitmap swap.
+ * The footprint is published as {@code enrollment.index.memory} and differences found by {@link #verify()} as
+ * {@code enrollment.index.drift}.
+ */
+@Log4j2
+@Service
+public class EnrollmentIndexServiceImpl implements EnrollmentIndexService, SmartInitializingSingleton {
+    private final CourseRepository courseRepository;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong modifications = new AtomicLong();
+    private final Map<Long, Long> courseLoadTimes = new ConcurrentHashMap<>();
+    private final Counter drift;
+    private volatile long loadTime;
+    private Memberships students = new Memberships();
+    private Memberships instructors = new Memberships();
+
+    @Autowired
+    public EnrollmentIndexServiceImpl(final CourseRepository courseRepository,
+                                      final MembershipCacheProperties properties,
+                                      final MeterRegistry meterRegistry) {
+        this(courseRepository, properties, meterRegistry, System::nanoTime);
+    }
+
+    EnrollmentIndexServiceImpl(final CourseRepository courseRepository, final MembershipCacheProperties properties,
+                               final MeterRegistry meterRegistry, final LongSupplier nanoClock) {
+        this.courseRepository = courseRepository;
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.nanoClock = nanoClock;
+        this.drift = Counter.builder("enrollment.index.drift").register(meterRegistry);
+        Gauge.builder("enrollment.index.memory", this, EnrollmentIndexServiceImpl::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        long time = nanoClock.getAsLong();
+        Memberships loadedStudents = loadStudents();
+        Memberships loadedInstructors = loadInstructors();
+        swap(loadedStudents, loadedInstructors);
+        loadTime = time;
+        log.info("Enrollment index loaded in {} ms, {} bytes",
+                (System.nanoTime() - start) / 1_000_000, sizeInBytes());
+    }
+
+    @Override
+    public boolean isStudent(final Long courseId, final Long studentId) {
+        return isMember(courseId, () -> students.contains(courseId, studentId));
+    }
+
+    @Override
+    public boolean isInstructor(final Long courseId, final Long instructorId) {
+        return isMember(courseId, () -> instructors.contains(courseId, instructorId));
+    }
+
+    /**
+     * Reloads the course before trusting a membership that may have been removed on another instance.
+     */
+    private boolean isMember(final Long courseId, final Supplier<Boolean> membership) {
+        if (!read(membership)) {
+            return false;
+        }
+        long now = nanoClock.getAsLong();
+        long courseLoadTime = courseLoadTimes.getOrDefault(courseId, loadTime);
+        if (now - Math.max(courseLoadTime, loadTime) < ttlNanos) {
+            return true;
+        }
+        refreshCourse(courseId);
+        return read(membership);
+    }
+
+    @Override
+    public void refreshCourses(final Collection<Long> courseIds) {
+        if (CollectionUtils.isEmpty(courseIds)) {
+            return;
+        }
+        List<Long> ids = List.copyOf(courseIds);
+        TransactionUtil.afterCommit(() -> ids.forEach(this::refreshCourse));
+    }
+
+    private void refreshCourse(final Long courseId) {
+        log.debug("Refreshing enrollment index of course with id: {}", courseId);
+        long time = nanoClock.getAsLong();
+        List<Long> studentIds = courseRepository.findStudentIdsById(courseId);
+        List<Long> instructorIds = courseRepository.findInstructorIdsById(courseId);
+        write(() -> {
+            students.replaceCourse(courseId, studentIds);
+            instructors.replaceCourse(courseId, instructorIds);
+        });
+        if (studentIds.isEmpty() && instructorIds.isEmpty()) {
+            courseLoadTimes.remove(courseId);
+        } else {
+            courseLoadTimes.put(courseId, time);
+        }
+    }
+
+    @Override
+    public void removeUser(final Long userId) {
+        TransactionUtil.afterCommit(() -> {
+            log.debug("Removing user with id: {} from enrollment index", userId);
+            write(() -> {
+                students.removeUser(userId);
+                instructors.removeUser(userId);
+            });
+        });
+    }
+
+    @Override
+    public long verify() {
+        long version = modifications.get();
+        long time = nanoClock.getAsLong();
+        Memberships loadedStudents = loadStudents();
+        Memberships loadedInstructors = loadInstructors();
+        long differences = read(() -> students.countDifferences(loadedStudents)
+                + instructors.countDifferences(loadedInstructors));
+        if (differences == 0) {
+            loadTime = time;
+            return 0;
+        }
+        drift.increment(differences);
+        lock.writeLock().lock();
+        try {
+            if (modifications.get() == version) {
+                students = loadedStudents;
+                instructors = loadedInstructors;
+                loadTime = time;
+                modifications.incrementAndGet();
+            } else {
+                log.info("Enrollment index changed while verifying, it is replaced on the next run");
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return differences;
+    }
+
+    private Memberships loadStudents() {
+        Memberships memberships = new Memberships();
+        courseRepository.forEachStudentEnrollment(memberships::add);
+        memberships.optimize();
+        return memberships;
+    }
+
+    private Memberships loadInstructors() {
+        Memberships memberships = new Memberships();
+        courseRepository.forEachInstructorAssignment(memberships::add);
+        memberships.optimize();
+        return memberships;
+    }
+
+    private void swap(final Memberships loadedStudents, final Memberships loadedInstructors) {
+        write(() -> {
+            students = loadedStudents;
+            instructors = loadedInstructors;
+        });
+    }
+
+    long sizeInBytes() {
+        return read(() -> students.sizeInBytes() + instructors.sizeInBytes());
+    }
+
+    private <T> T read(final Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(final Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int toInt(final Long id) {
+        return Math.toIntExact(id);
+    }
+
+    /**
+     * Both directions of one membership table. Not thread safe, guarded by the lock of the index.
+     */
+    private static final class Memberships {
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final Map<Integer, RoaringBitmap> usersByCourse = new HashMap<>();
+        private final Map<Integer, RoaringBitmap> coursesByUser = new HashMap<>();
+
+        void add(final Long courseId, final Long userId) {
+            usersByCourse.computeIfAbsent(toInt(courseId), id -> new RoaringBitmap()).add(toInt(userId));
+            coursesByUser.computeIfAbsent(toInt(userId), id -> new RoaringBitmap()).add(toInt(courseId));
+        }
+
+        boolean contains(final Long courseId, final Long userId) {
+            return Objects.nonNull(courseId) && Objects.nonNull(userId)
+                    && usersOf(courseId).contains(toInt(userId));
+        }
+
+        RoaringBitmap usersOf(final Long courseId) {
+            return usersByCourse.getOrDefault(toInt(courseId), EMPTY);
+        }
+
+        void replaceCourse(final Long courseId, final Collection<Long> userIds) {
+            int course = toInt(courseId);
+            RoaringBitmap previous = usersByCourse.remove(course);
+            if (Objects.nonNull(previous)) {
+                previous.forEach((int user) -> update(coursesByUser, user, courses -> courses.remove(course)));
+            }
+            RoaringBitmap users = new RoaringBitmap();
+            userIds.forEach(userId -> users.add(toInt(userId)));
+            if (!users.isEmpty()) {
+                users.runOptimize();
+                usersByCourse.put(course, users);
+                users.forEach((int user) -> coursesByUser.computeIfAbsent(user, id -> new RoaringBitmap()).add(course));
+            }
+        }
+
+        void removeUser(final Long userId) {
+            int user = toInt(userId);
+            RoaringBitmap courses = coursesByUser.remove(user);
+            if (Objects.nonNull(courses)) {
+                courses.forEach((int course) -> update(usersByCourse, course, users -> users.remove(user)));
+            }
+        }
+
+        void optimize() {
+            usersByCourse.values().forEach(RoaringBitmap::runOptimize);
+            coursesByUser.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        /**
+         * @return number of memberships present in only one of both
+         */
+        long countDifferences(final Memberships other) {
+            Set<Integer> courses = new HashSet<>(usersByCourse.keySet());
+            courses.addAll(other.usersByCourse.keySet());
+            long differences = 0;
+            for (Integer course : courses) {
+                differences += RoaringBitmap.xorCardinality(
+                        usersByCourse.getOrDefault(course, EMPTY), other.usersByCourse.getOrDefault(course, EMPTY));
+            }
+            return differences;
+        }
+
+        long sizeInBytes() {
+            return sizeInBytes(usersByCourse) + sizeInBytes(coursesByUser);
+        }
+
+        private static long sizeInBytes(final Map<Integer, RoaringBitmap> bitmaps) {
+            return bitmaps.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+        }
+
+        private static void update(final Map<Integer, RoaringBitmap> bitmaps, final int key,
+                                   final Consumer<RoaringBitmap> change) {
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (Objects.nonNull(bitmap)) {
+                change.accept(bitmap);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                }
+            }
+        }
+    }
+}
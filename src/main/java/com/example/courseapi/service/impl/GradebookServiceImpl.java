@@ -0,0 +1,203 @@
+package com.example.courseapi.service.impl;
+
+import com.example.courseapi.domain.enums.CourseStatus;
+import com.example.courseapi.domain.enums.GradebookFormat;
+import com.example.courseapi.dto.response.GradebookRowDTO;
+import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.service.GradebookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class GradebookServiceImpl implements GradebookService {
+    private static final int FETCH_SIZE = 500;
+
+    private static final String LESSONS_QUERY = """
+            SELECT l.id, l.title
+            FROM course_management.lessons l
+            WHERE l.course_id = ?
+            ORDER BY l.id
+            """;
+
+    private static final String GRADES_QUERY = """
+            SELECT u.id AS student_id, u.first_name, u.last_name, u.email,
+                   s.lesson_id, s.grade, cp.status, cp.final_grade
+            FROM course_management.courses_students cs
+                     JOIN course_management.users u ON u.id = cs.student_id
+                     LEFT JOIN course_management.course_progress cp
+                               ON cp.student_id = cs.student_id AND cp.course_id = cs.course_id
+                     LEFT JOIN (course_management.submissions s
+                         JOIN course_management.lessons l ON l.id = s.lesson_id)
+                               ON s.student_id = cs.student_id AND l.course_id = cs.course_id
+            WHERE cs.course_id = ?
+            ORDER BY cs.student_id, s.lesson_id
+            """;
+
+    private final CourseRepository courseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean courseExists(final Long courseId) {
+        return courseRepository.existsById(courseId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void writeGradebook(final Long courseId, final GradebookFormat format, final OutputStream outputStream)
+            throws IOException {
+        log.debug("Exporting gradebook of course with id: {} as {}", courseId, format);
+        Map<Long, String> lessons = new LinkedHashMap<>();
+        jdbcTemplate.query(LESSONS_QUERY, rs -> {
+            lessons.put(rs.getLong("id"), rs.getString("title"));
+        }, courseId);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == GradebookFormat.CSV ?
+                new CsvRowWriter(writer, lessons) :
+                new NdjsonRowWriter(writer, objectMapper);
+        rowWriter.writeHeader();
+
+        Pivot pivot = new Pivot(lessons, rowWriter);
+        jdbcTemplate.query(connection -> {
+            // A cursor is only used by the driver inside a transaction with a fetch size
+            PreparedStatement statement = connection.prepareStatement(GRADES_QUERY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, courseId);
+            return statement;
+        }, pivot::accept);
+        pivot.finish();
+        writer.flush();
+    }
+
+    /**
+     * Collects the ordered (student, lesson) rows of one student and emits the student line when the next
+     * student starts.
+     */
+    @RequiredArgsConstructor
+    private static final class Pivot {
+        private final Map<Long, String> lessons;
+        private final RowWriter rowWriter;
+        private GradebookRowDTO current;
+
+        void accept(final ResultSet rs) throws SQLException {
+            long studentId = rs.getLong("student_id");
+            if (Objects.isNull(current) || current.getStudentId() != studentId) {
+                flush();
+                current = newRow(rs, studentId);
+            }
+            long lessonId = rs.getLong("lesson_id");
+            if (!rs.wasNull()) {
+                current.getGrades().put(lessonId, (Double) rs.getObject("grade"));
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void flush() {
+            if (Objects.nonNull(current)) {
+                try {
+                    rowWriter.writeRow(current);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private GradebookRowDTO newRow(final ResultSet rs, final long studentId) throws SQLException {
+            Map<Long, Double> grades = new LinkedHashMap<>();
+            lessons.keySet().forEach(lessonId -> grades.put(lessonId, null));
+            String status = rs.getString("status");
+            CourseStatus courseStatus = Objects.nonNull(status) ? CourseStatus.valueOf(status) :
+                    // No progress row means no submissions yet
+                    lessons.isEmpty() ? CourseStatus.FAILED : CourseStatus.IN_PROGRESS;
+            return new GradebookRowDTO(studentId, rs.getString("first_name"), rs.getString("last_name"),
+                    rs.getString("email"), grades, courseStatus, (Double) rs.getObject("final_grade"));
+        }
+    }
+
+    private interface RowWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(GradebookRowDTO row) throws IOException;
+    }
+
+    @RequiredArgsConstructor
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final Map<Long, String> lessons;
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write("student_id,first_name,last_name,email");
+            for (String title : lessons.values()) {
+                writer.write(',');
+                writer.write(escape(title));
+            }
+            writer.write(",course_status,final_grade\n");
+        }
+
+        @Override
+        public void writeRow(final GradebookRowDTO row) throws IOException {
+            writer.write(String.join(",", List.of(String.valueOf(row.getStudentId()),
+                    escape(row.getFirstName()), escape(row.getLastName()), escape(row.getEmail()))));
+            for (Double grade : row.getGrades().values()) {
+                writer.write(',');
+                writer.write(Objects.toString(grade, ""));
+            }
+            writer.write(',');
+            writer.write(row.getCourseStatus().name());
+            writer.write(',');
+            writer.write(Objects.toString(row.getFinalGrade(), ""));
+            writer.write('\n');
+        }
+
+        private static String escape(final String value) {
+            if (StringUtils.containsAny(value, ',', '"', '\n', '\r')) {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+            return StringUtils.defaultString(value);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final ObjectMapper objectMapper;
+
+        @Override
+        public void writeHeader() {
+            // Every line is self-describing
+        }
+
+        @Override
+        public void writeRow(final GradebookRowDTO row) throws IOException {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+}
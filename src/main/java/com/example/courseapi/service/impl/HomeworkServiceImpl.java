@@ -1,26 +1,29 @@
 package com.example.courseapi.service.impl;
 
-import com.example.courseapi.config.args.generic.FilterImpl;
 import com.example.courseapi.config.args.generic.Filters;
-import com.example.courseapi.config.args.generic.SpecificationComparison;
-import com.example.courseapi.config.args.specs.SpecificationBuilder;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.*;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.HomeworkRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.HomeworkResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.HomeworkRepository;
-import com.example.courseapi.repository.InstructorRepository;
 import com.example.courseapi.repository.LessonRepository;
 import com.example.courseapi.repository.StudentRepository;
+import com.example.courseapi.repository.specification.HomeworkSpecifications;
 import com.example.courseapi.service.HomeworkService;
 import com.example.courseapi.service.S3Service;
 import com.example.courseapi.service.mapper.HomeworkMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,7 +31,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Log4j2
 @Service
@@ -36,10 +38,12 @@ import java.util.Set;
 public class HomeworkServiceImpl implements HomeworkService {
     private final HomeworkRepository homeworkRepository;
     private final StudentRepository studentRepository;
-    private final InstructorRepository instructorRepository;
     private final LessonRepository lessonRepository;
     private final HomeworkMapper homeworkMapper;
     private final S3Service s3Service;
+    private final FilterCompiler filterCompiler;
+    private final KeysetPaginator keysetPaginator;
+    private final OffsetPaginator offsetPaginator;
 
     @Override
     @Transactional(readOnly = true)
@@ -60,27 +64,37 @@ public class HomeworkServiceImpl implements HomeworkService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<HomeworkResponseDTO> findAll(final Filters filters, final Pageable pageable, final User user) {
-        log.debug("Finding all homeworks by filters and pageable");
+    public Slice<HomeworkResponseDTO> findAll(
+            final Filters filters, final Pageable pageable, final CountMode count, final User user) {
+        log.debug("Finding all homeworks by filters and pageable, counting {}", count);
+        Specification<Homework> specification = visibleHomeworks(filters, user);
+        Slice<Homework> homeworks = count == CountMode.EXACT
+                ? homeworkRepository.findAll(specification, pageable)
+                : offsetPaginator.findPage(Homework.class, specification, pageable, count);
+        return homeworks.map(homeworkMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<HomeworkResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable, final User user) {
+        log.debug("Finding homeworks by filters after cursor");
+        return keysetPaginator.findPage(Homework.class, visibleHomeworks(filters, user), cursor, pageable)
+                .map(homeworkMapper::toResponseDto);
+    }
+
+    private Specification<Homework> visibleHomeworks(final Filters filters, final User user) {
+        Specification<Homework> specification = filterCompiler.compile(Homework.class, filters);
         if (user instanceof Student) {
-            Student student = studentRepository.findById(user.getId()).orElseThrow(() ->
-                    new SystemException("Student with id: " + user.getId() + " not found.", ErrorCode.FORBIDDEN));
-            List<Long> lessonIds = student.getStudentCourses().stream()
-                    .map(Course::getLessons).flatMap(Set::stream).map(Lesson::getId).toList();
-            log.debug("Current user is student. Additional filters will be applied. \n" +
-                    " Finding all homeworks with related lessons in {}", lessonIds);
-            filters.include(new FilterImpl("lesson", SpecificationComparison.IN, lessonIds));
+            log.debug("Current user is student. Finding homeworks of lessons of subscribed courses");
+            specification = Specification.where(specification)
+                    .and(HomeworkSpecifications.lessonOfStudentCourses(user.getId()));
         } else if (user instanceof Instructor) {
-            Instructor instructor = instructorRepository.findById(user.getId()).orElseThrow(() ->
-                    new SystemException("Student with id: " + user.getId() + " not found.", ErrorCode.FORBIDDEN));
-            List<Long> lessonIds = instructor.getInstructorCourses().stream()
-                    .map(Course::getLessons).flatMap(Set::stream).map(Lesson::getId).toList();
-            log.debug("Current user is instructor. Additional filters will be applied. \n" +
-                    " Finding all homeworks with related lessons in {}", lessonIds);
-            filters.include(new FilterImpl("lesson", SpecificationComparison.IN, lessonIds));
+            log.debug("Current user is instructor. Finding homeworks of lessons of assigned courses");
+            specification = Specification.where(specification)
+                    .and(HomeworkSpecifications.lessonOfInstructorCourses(user.getId()));
         }
-        return homeworkRepository.findAll(new SpecificationBuilder<Homework>(filters).build(), pageable)
-                .map(homeworkMapper::toResponseDto);
+        return specification;
     }
 
     @Override
@@ -109,7 +123,7 @@ public class HomeworkServiceImpl implements HomeworkService {
     public HomeworkResponseDTO uploadHomeworkForLesson(
             final Long lessonId, final MultipartFile file, final Long studentId) {
         log.debug("Uploading homework for lesson with id: {} and student id: {}", lessonId, studentId);
-        Student student = studentRepository.findById(studentId).orElseThrow(() ->
+        Student student = studentRepository.findWithCoursesById(studentId).orElseThrow(() ->
                         new SystemException("Student with id: " + studentId + " not found.", ErrorCode.BAD_REQUEST));
         Lesson lesson = lessonRepository.findById(lessonId).orElseThrow(() ->
                 new SystemException("Lesson with id: " + lessonId + " not found.", ErrorCode.BAD_REQUEST));
@@ -1,25 +1,36 @@
 package com.example.courseapi.service.impl;
 
 import com.example.courseapi.config.args.generic.Filters;
-import com.example.courseapi.config.args.specs.SpecificationBuilder;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.LessonRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.LessonResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.repository.CourseRepository;
 import com.example.courseapi.repository.LessonRepository;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.service.CourseProgressService;
 import com.example.courseapi.service.LessonService;
 import com.example.courseapi.service.mapper.LessonMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 
 @Log4j2
@@ -27,8 +38,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LessonServiceImpl implements LessonService {
     private final LessonRepository lessonRepository;
+    private final CourseRepository courseRepository;
     private final LessonMapper lessonMapper;
+    private final CourseProgressService courseProgressService;
+    private final CourseMembershipService courseMembershipService;
+    private final FilterCompiler filterCompiler;
+    private final KeysetPaginator keysetPaginator;
+    private final OffsetPaginator offsetPaginator;
 
+    @Override
+    @Transactional(readOnly = true)
     public Optional<LessonResponseDTO> findById(final Long lessonId) {
         log.debug("Finding lesson with id: {}", lessonId);
         return lessonRepository.findById(lessonId).map(lessonMapper::toResponseDto);
@@ -38,6 +57,7 @@ public class LessonServiceImpl implements LessonService {
     @Transactional
     public LessonResponseDTO save(final LessonRequestDTO lessonDTO) {
         log.debug("Saving lesson : {}", lessonDTO);
+        Long previousCourseId = null;
         if (Objects.nonNull(lessonDTO.getId())) {
             Lesson existingLesson = lessonRepository.findById(lessonDTO.getId()).orElseThrow(() ->
                     new SystemException("Lesson with id: " + lessonDTO.getId() + " not found.", ErrorCode.BAD_REQUEST));
@@ -48,18 +68,39 @@ public class LessonServiceImpl implements LessonService {
                 throw new SystemException("Can not reassign course for lesson with id: " + lessonDTO.getId() + " due to course limitations",
                         ErrorCode.BAD_REQUEST);
             }
+            previousCourseId = existingLesson.getCourse().getId();
         }
         Lesson lesson = lessonMapper.fromRequestDto(lessonDTO);
         lesson = lessonRepository.save(lesson);
+        if (!Objects.equals(previousCourseId, lessonDTO.getCourseId())) {
+            Set<Long> affectedCourseIds = Stream.of(previousCourseId, lessonDTO.getCourseId())
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            courseRepository.refreshAvailability(affectedCourseIds);
+            courseMembershipService.evictLessons(Set.of(lesson.getId()));
+            courseProgressService.onLessonsChanged(affectedCourseIds);
+        }
 
         return lessonMapper.toResponseDto(lesson);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<LessonResponseDTO> findAll(final Filters filters, final Pageable pageable) {
-        log.debug("Finding all lessons by filters and pageable");
-        return lessonRepository.findAll(new SpecificationBuilder<Lesson>(filters).build(), pageable)
+    public Slice<LessonResponseDTO> findAll(final Filters filters, final Pageable pageable, final CountMode count) {
+        log.debug("Finding all lessons by filters and pageable, counting {}", count);
+        Specification<Lesson> specification = filterCompiler.compile(Lesson.class, filters);
+        Slice<Lesson> lessons = count == CountMode.EXACT
+                ? lessonRepository.findAll(specification, pageable)
+                : offsetPaginator.findPage(Lesson.class, specification, pageable, count);
+        return lessons.map(lessonMapper::toResponseDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<LessonResponseDTO> findAllByCursor(
+            final Filters filters, final String cursor, final Pageable pageable) {
+        log.debug("Finding lessons by filters after cursor");
+        return keysetPaginator.findPage(Lesson.class, filterCompiler.compile(Lesson.class, filters), cursor, pageable)
                 .map(lessonMapper::toResponseDto);
     }
 
@@ -74,6 +115,12 @@ public class LessonServiceImpl implements LessonService {
     @Transactional
     public void delete(final Long lessonId) {
         log.debug("Deleting lesson with id: {}", lessonId);
+        Optional<Long> courseId = lessonRepository.findById(lessonId).map(lesson -> lesson.getCourse().getId());
         lessonRepository.deleteById(lessonId);
+        courseMembershipService.evictLessons(Set.of(lessonId));
+        courseId.ifPresent(id -> {
+            courseRepository.refreshAvailability(Set.of(id));
+            courseProgressService.onLessonsChanged(Set.of(id));
+        });
     }
 }
@@ -1,20 +1,26 @@
 package com.example.courseapi.service.impl;
 
 import com.example.courseapi.domain.*;
+import com.example.courseapi.domain.enums.SubmissionBatchStatus;
+import com.example.courseapi.dto.request.StudentGradeDTO;
 import com.example.courseapi.dto.request.SubmissionRequestDTO;
+import com.example.courseapi.dto.response.SubmissionBatchResultDTO;
 import com.example.courseapi.dto.response.SubmissionResponseDTO;
 import com.example.courseapi.exception.*;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.*;
+import com.example.courseapi.repository.projection.LessonEnrollment;
+import com.example.courseapi.service.CourseProgressService;
 import com.example.courseapi.service.SubmissionService;
 import com.example.courseapi.service.mapper.SubmissionMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Log4j2
@@ -26,6 +32,7 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final StudentRepository studentRepository;
     private final SubmissionMapper submissionMapper;
     private final UserRepository userRepository;
+    private final CourseProgressService courseProgressService;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,8 +47,14 @@ public class SubmissionServiceImpl implements SubmissionService {
     public SubmissionResponseDTO save(final SubmissionRequestDTO submissionDTO) {
         log.debug("Saving submission : {}", submissionDTO);
         validateSubmission(submissionDTO.getLessonId(), submissionDTO.getStudentId());
+        Double previousGrade = submissionRepository
+                .findById(new Submission.SubmissionId(submissionDTO.getStudentId(), submissionDTO.getLessonId()))
+                .map(Submission::getGrade)
+                .orElse(null);
         Submission submission = submissionMapper.fromRequestDto(submissionDTO);
         submission = submissionRepository.save(submission);
+        courseProgressService.onSubmissionSaved(submissionDTO.getLessonId(), submissionDTO.getStudentId(),
+                previousGrade, submission.getGrade());
 
         return submissionMapper.toResponseDto(submission);
     }
@@ -57,7 +70,10 @@ public class SubmissionServiceImpl implements SubmissionService {
     @Transactional
     public void delete(final Long lessonId, final Long studentId) {
         log.debug("Deleting submission with lesson id: {} and student id: {}", lessonId, studentId);
-        submissionRepository.deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(lessonId, studentId);
+        submissionRepository.findById(new Submission.SubmissionId(studentId, lessonId)).ifPresent(submission -> {
+            submissionRepository.delete(submission);
+            courseProgressService.onSubmissionDeleted(lessonId, studentId, submission.getGrade());
+        });
     }
 
     @Override
@@ -76,30 +92,80 @@ public class SubmissionServiceImpl implements SubmissionService {
         return this.save(submissionRequestDTO);
     }
 
+    @Override
+    @Transactional
+    public List<SubmissionBatchResultDTO> saveBatch(final Long lessonId, final List<StudentGradeDTO> grades) {
+        log.debug("Saving batch of {} submissions for lesson with id: {}", grades.size(), lessonId);
+        Lesson lesson = lessonRepository.findById(lessonId).orElseThrow(() ->
+                new SystemException("Lesson with id: " + lessonId + " not found.", ErrorCode.BAD_REQUEST));
+
+        // First grade of a student wins, later rows of the same student are reported as duplicates
+        Map<Long, Double> requested = new LinkedHashMap<>();
+        grades.forEach(grade -> requested.putIfAbsent(grade.getStudentId(), grade.getGrade()));
+        Map<Long, Boolean> submitted = submissionRepository.findEnrollments(lessonId, requested.keySet())
+                .stream()
+                .collect(Collectors.toMap(LessonEnrollment::studentId, LessonEnrollment::submitted));
+
+        Map<Long, Double> accepted = new LinkedHashMap<>(requested);
+        accepted.keySet().retainAll(submitted.keySet());
+        submissionRepository.upsertGrades(lessonId, accepted);
+        if (!accepted.isEmpty()) {
+            courseProgressService.onSubmissionsBatchSaved(lesson.getCourse().getId());
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<SubmissionBatchResultDTO> results = new ArrayList<>(grades.size());
+        for (StudentGradeDTO grade : grades) {
+            Long studentId = grade.getStudentId();
+            SubmissionBatchStatus status;
+            if (!seen.add(studentId)) {
+                status = SubmissionBatchStatus.DUPLICATE;
+            } else if (!submitted.containsKey(studentId)) {
+                status = SubmissionBatchStatus.NOT_ENROLLED;
+            } else {
+                status = submitted.get(studentId) ? SubmissionBatchStatus.UPDATED : SubmissionBatchStatus.CREATED;
+            }
+            results.add(new SubmissionBatchResultDTO(studentId, grade.getGrade(), status));
+        }
+        log.debug("Saved {} of {} submissions for lesson with id: {}", accepted.size(), grades.size(), lessonId);
+        return results;
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<SubmissionResponseDTO> findAllByLesson(final Long lessonId, final Long currentUserId) {
+    public Page<SubmissionResponseDTO> findAllByLesson(
+            final Long lessonId, final Long currentUserId, final Pageable pageable) {
         log.debug("Finding all submissions with lesson id: {}", lessonId);
-        return submissionMapper.toResponseDto(submissionRepository.findAllByLessonId(lessonId));
+        User user = getUser(currentUserId);
+        if (user instanceof Admin) {
+            return submissionRepository.findAllByLessonId(lessonId, pageable).map(submissionMapper::toResponseDto);
+        } else if (user instanceof Instructor) {
+            return submissionRepository.findAllByLessonIdAndInstructorId(lessonId, user.getId(), pageable)
+                    .map(submissionMapper::toResponseDto);
+        }
+        throw new SystemException("Illegal role access", ErrorCode.FORBIDDEN);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<SubmissionResponseDTO> findAllByStudent(final Long studentId, final Long currentUserId) {
+    public Page<SubmissionResponseDTO> findAllByStudent(
+            final Long studentId, final Long currentUserId, final Pageable pageable) {
         log.debug("Finding all submissions with student id: {}", studentId);
-        User user = userRepository.findById(currentUserId).orElseThrow(() ->
-                new SystemException("User with id: " + currentUserId + " not found.", ErrorCode.BAD_REQUEST));
-        if (user instanceof Admin || (user instanceof Student student && currentUserId.equals(studentId))) {
-            return submissionMapper.toResponseDto(submissionRepository.findAllByStudentId(studentId));
-        } else if (user instanceof Instructor instructor) {
-            return submissionRepository.findAllByStudentId(studentId)
-                    .stream()
-                    .filter(submission -> submission.getLesson().getCourse().getInstructors().contains(instructor))
-                    .map(submissionMapper::toResponseDto).collect(Collectors.toList());
+        User user = getUser(currentUserId);
+        if (user instanceof Admin || (user instanceof Student && currentUserId.equals(studentId))) {
+            return submissionRepository.findAllByStudentId(studentId, pageable).map(submissionMapper::toResponseDto);
+        } else if (user instanceof Instructor) {
+            return submissionRepository.findAllByStudentIdAndInstructorId(studentId, user.getId(), pageable)
+                    .map(submissionMapper::toResponseDto);
         }
         throw new SystemException("Illegal role access", ErrorCode.FORBIDDEN);
     }
 
+    private User getUser(final Long userId) {
+        return userRepository.findById(userId).orElseThrow(() ->
+                new SystemException("User with id: " + userId + " not found.", ErrorCode.BAD_REQUEST));
+    }
+
     @Transactional(readOnly = true)
     public void validateSubmission(final Long lessonId, final Long studentId) {
         log.debug("Validating submission for lesson id : {} and student id : {}", lessonId, studentId);
@@ -1,27 +1,37 @@
 package com.example.courseapi.service.impl;
 
 import com.example.courseapi.config.args.generic.Filters;
-import com.example.courseapi.config.args.specs.SpecificationBuilder;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Instructor;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.domain.enums.Roles;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.UserResponseDTO;
 import com.example.courseapi.dto.request.UserRequestDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.TokenVersionService;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import com.example.courseapi.service.EnrollmentIndexService;
 import com.example.courseapi.service.UserService;
 import com.example.courseapi.service.mapper.InstructorMapper;
 import com.example.courseapi.service.mapper.StudentMapper;
 import com.example.courseapi.service.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @Service
 @RequiredArgsConstructor
 @Log4j2
@@ -30,16 +40,34 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final StudentMapper studentMapper;
     private final InstructorMapper instructorMapper;
+    private final TokenVersionService tokenVersionService;
+    private final UserDetailsCacheService userDetailsCacheService;
+    private final EnrollmentIndexService enrollmentIndexService;
+    private final FilterCompiler filterCompiler;
+    private final KeysetPaginator keysetPaginator;
+    private final OffsetPaginator offsetPaginator;
 
     @Override
     @Transactional(readOnly = true)
-    public Page<UserResponseDTO> getUsers(final Filters filters, final Pageable pageable) {
-        log.debug("Finding all users by filters and pageable");
-        return userRepository.findAll(new SpecificationBuilder<User>(filters).build(), pageable)
-                .map(userMapper::toResponseDto);
+    public Slice<UserResponseDTO> getUsers(final Filters filters, final Pageable pageable, final CountMode count) {
+        log.debug("Finding all users by filters and pageable, counting {}", count);
+        Specification<User> specification = filterCompiler.compile(User.class, filters);
+        Slice<User> users = count == CountMode.EXACT
+                ? userRepository.findAll(specification, pageable)
+                : offsetPaginator.findPage(User.class, specification, pageable, count);
+        return users.map(userMapper::toResponseDto);
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<UserResponseDTO> getUsersByCursor(
+            final Filters filters, final String cursor, final Pageable pageable) {
+        log.debug("Finding users by filters after cursor");
+        return keysetPaginator.findPage(User.class, filterCompiler.compile(User.class, filters), cursor, pageable)
+                .map(userMapper::toResponseDto);
+    }
+
     @Override
     @Transactional
     public UserResponseDTO saveUser(final UserRequestDTO userDTO) {
@@ -54,6 +82,11 @@ public class UserServiceImpl implements UserService {
         log.debug("Updating user : {}", userDTO);
         User user = userRepository.findById(userDTO.getId()).orElseThrow(() ->
                 new SystemException("User with id: " + userDTO.getId() + " not found.", ErrorCode.BAD_REQUEST));
+        if (!Objects.equals(user.getEmail(), userDTO.getEmail()) || !Objects.equals(user.getRole(), userDTO.getRole())) {
+            tokenVersionService.revoke(user);
+        }
+        userDetailsCacheService.evict(user.getEmail());
+        userDetailsCacheService.evict(userDTO.getEmail());
         user.setFirstName(userDTO.getFirstName());
         user.setLastName(userDTO.getLastName());
         user.setEmail(userDTO.getEmail());
@@ -69,6 +102,8 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByEmail(email).orElseThrow(() ->
                 new SystemException("User with email: " + email + " not found.", ErrorCode.BAD_REQUEST));
         user.setRole(role);
+        tokenVersionService.revoke(user);
+        userDetailsCacheService.evict(user.getEmail());
         userRepository.save(user);
     }
 
@@ -92,13 +127,7 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public UserResponseDTO mapCurrentUser(final User user) {
         log.debug("Mapping current user: {}", user.getId());
-        if (user instanceof Student currentStudent) {
-            return studentMapper.toResponseDto(currentStudent);
-        } else if (user instanceof Instructor currentInstructor) {
-            return instructorMapper.toResponseDto(currentInstructor);
-        } else {
-            return userMapper.toResponseDto(user);
-        }
+        return toResponseDto(reloadUser(user));
     }
 
     @Override
@@ -114,7 +143,9 @@ public class UserServiceImpl implements UserService {
         } else {
             userRepository.deleteById(userId);
         }
-
+        tokenVersionService.evict(userId);
+        userDetailsCacheService.evict(user.getEmail());
+        enrollmentIndexService.removeUser(userId);
     }
 
     @Override
@@ -124,7 +155,28 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId).orElseThrow(() ->
                 new SystemException("User with id: " + userId + " not found.", ErrorCode.BAD_REQUEST));
         user.setRole(role);
+        tokenVersionService.revoke(user);
+        userDetailsCacheService.evict(user.getEmail());
         user = userRepository.saveAndFlush(user);
-        return mapCurrentUser(user);
+        return toResponseDto(user);
+    }
+
+    private UserResponseDTO toResponseDto(final User user) {
+        if (user instanceof Student student) {
+            return studentMapper.toResponseDto(student);
+        } else if (user instanceof Instructor instructor) {
+            return instructorMapper.toResponseDto(instructor);
+        } else {
+            return userMapper.toResponseDto(user);
+        }
+    }
+
+    /**
+     * The authenticated principal is built from token claims and carries neither names nor courses,
+     * so the user is read through the current session.
+     */
+    private User reloadUser(final User user) {
+        return userRepository.findById(user.getId()).orElseThrow(() ->
+                new SystemException("User with id: " + user.getId() + " not found.", ErrorCode.NOT_FOUND));
     }
 }
@@ -5,6 +5,7 @@ import com.example.courseapi.dto.CourseGradeDTO;
 import com.example.courseapi.dto.request.CourseRequestDTO;
 import com.example.courseapi.dto.response.CourseResponseDTO;
 import com.example.courseapi.dto.response.CourseStatusResponseDTO;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
@@ -25,10 +26,24 @@ public interface CourseMapper extends EntityMapper<CourseRequestDTO, CourseRespo
     @Mappings(value = {
             @Mapping(source = "instructors", target = "instructorIds", qualifiedByName = "usersToIds"),
             @Mapping(source = "students", target = "studentIds", qualifiedByName = "usersToIds"),
+            @Mapping(target = "instructorCount", ignore = true),
+            @Mapping(target = "studentCount", ignore = true),
             @Mapping(source = "lessons", target = "lessons")
     })
     CourseResponseDTO toResponseDto(final Course course);
 
+    /**
+     * Maps a catalog projection row. Members and lessons are not part of the row and are filled by the caller.
+     */
+    @Mappings(value = {
+            @Mapping(target = "instructorIds", ignore = true),
+            @Mapping(target = "studentIds", ignore = true),
+            @Mapping(target = "instructorCount", ignore = true),
+            @Mapping(target = "studentCount", ignore = true),
+            @Mapping(target = "lessons", ignore = true)
+    })
+    CourseResponseDTO toResponseDto(final CourseCatalogRow row);
+
     @Mappings(value = {
             @Mapping(source = "instructors", target = "instructorIds", qualifiedByName = "usersToIds"),
             @Mapping(source = "students", target = "studentIds", qualifiedByName = "usersToIds")
@@ -51,6 +66,8 @@ public interface CourseMapper extends EntityMapper<CourseRequestDTO, CourseRespo
     @Mappings(value = {
             @Mapping(source = "course.instructors", target = "instructorIds", qualifiedByName = "usersToIds"),
             @Mapping(source = "course.students", target = "studentIds", qualifiedByName = "usersToIds"),
+            @Mapping(target = "instructorCount", ignore = true),
+            @Mapping(target = "studentCount", ignore = true),
             @Mapping(source = "course.lessons", target = "lessons"),
             @Mapping(source = "courseGradeDTO.courseStatus", target = "courseStatus"),
             @Mapping(source = "courseGradeDTO.finalGrade", target = "finalGrade")
@@ -0,0 +1,31 @@
+package com.example.courseapi.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class to help running code around transaction boundaries
+ */
+public final class TransactionUtil {
+    private TransactionUtil() {
+        throw new IllegalStateException("Can not create instance of utility class");
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or right away when there is no transaction.
+     * Used to drop cached state, so a concurrent reader cannot cache the row again before the change is visible.
+     * @param action action to run
+     */
+    public static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_courses_instructors_course_id
+    ON course_management.courses_instructors (course_id, instructor_id);
+
+CREATE INDEX IF NOT EXISTS idx_courses_students_course_id
+    ON course_management.courses_students (course_id, student_id);
@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS course_management.course_progress
+(
+    student_id        INTEGER,
+    course_id         INTEGER,
+    submitted_lessons INTEGER          NOT NULL DEFAULT 0,
+    grade_sum         double precision NOT NULL DEFAULT 0,
+    status            VARCHAR(20)      NOT NULL,
+    final_grade       double precision,
+    constraint pk_course_progress primary key (student_id, course_id),
+    constraint fk_course_progress_student_id foreign key (student_id) references course_management.users (id) ON DELETE CASCADE,
+    constraint fk_course_progress_course_id foreign key (course_id) references course_management.courses (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_course_progress_course_id ON course_management.course_progress (course_id);
+
+INSERT INTO course_management.course_progress (student_id, course_id, submitted_lessons, grade_sum, status)
+SELECT s.student_id, l.course_id, count(*), sum(s.grade), 'IN_PROGRESS'
+FROM course_management.submissions s
+         JOIN course_management.lessons l ON l.id = s.lesson_id
+GROUP BY s.student_id, l.course_id;
+
+UPDATE course_management.course_progress cp
+SET status      = CASE
+                      WHEN cp.submitted_lessons <> l.lessons THEN 'IN_PROGRESS'
+                      WHEN l.lessons > 0 AND cp.grade_sum / l.lessons >= 80.0 THEN 'COMPLETED'
+                      ELSE 'FAILED' END,
+    final_grade = CASE WHEN cp.submitted_lessons = l.lessons AND l.lessons > 0 THEN cp.grade_sum / l.lessons END
+FROM (SELECT c.id AS course_id,
+             (SELECT count(*) FROM course_management.lessons ls WHERE ls.course_id = c.id) AS lessons
+      FROM course_management.courses c) l
+WHERE l.course_id = cp.course_id;
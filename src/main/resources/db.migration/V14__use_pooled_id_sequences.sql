@@ -0,0 +1,9 @@
+-- Hibernate allocates ids from these sequences in blocks of 50 (pooled-lo), so the increment has to match
+-- the allocationSize of the entity generators. Column defaults keep working for plain SQL inserts: every
+-- nextval reserves a whole block, which never overlaps with a block already handed out to the application.
+ALTER SEQUENCE course_management.users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_management.courses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_management.lessons_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_management.homeworks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_management.course_feedbacks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE course_management.refresh_tokens_id_seq INCREMENT BY 50;
@@ -0,0 +1,2 @@
+ALTER TABLE course_management.users
+    ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- Refresh tokens are identified by their jti claim and only a SHA-256 hash of the token is stored.
+-- Tokens issued before cannot be converted, so they are dropped and users log in again once.
+DROP TABLE IF EXISTS course_management.refresh_tokens;
+
+CREATE TABLE IF NOT EXISTS course_management.refresh_tokens
+(
+    jti           UUID        constraint pk_refresh_tokens primary key,
+    user_id       INTEGER     NOT NULL,
+    token_hash    BYTEA       NOT NULL,
+    expires_at    timestamp   NOT NULL,
+    created_date  timestamp   NOT NULL,
+    modified_date timestamp   NOT NULL,
+    created_by    VARCHAR(50) NOT NULL,
+    modified_by   VARCHAR(50) NOT NULL,
+    constraint fk_refresh_tokens_user_id foreign key (user_id) references course_management.users (id) ON DELETE CASCADE,
+    constraint uk_refresh_tokens_user_id UNIQUE (user_id),
+    constraint ck_refresh_tokens_token_hash CHECK (octet_length(token_hash) = 32)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at
+    ON course_management.refresh_tokens (expires_at);
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_course_feedbacks_created_date_id
+    ON course_management.course_feedbacks (created_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_users_created_date_id
+    ON course_management.users (created_date, id);
@@ -0,0 +1,27 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Full-text search: the expressions match the "search" filter comparison and the repository search queries
+CREATE INDEX IF NOT EXISTS idx_courses_title_fts
+    ON course_management.courses USING gin (to_tsvector('english', title));
+
+CREATE INDEX IF NOT EXISTS idx_courses_description_fts
+    ON course_management.courses USING gin (to_tsvector('english', description));
+
+CREATE INDEX IF NOT EXISTS idx_lessons_title_fts
+    ON course_management.lessons USING gin (to_tsvector('english', title));
+
+CREATE INDEX IF NOT EXISTS idx_lessons_description_fts
+    ON course_management.lessons USING gin (to_tsvector('english', description));
+
+CREATE INDEX IF NOT EXISTS idx_course_feedbacks_feedback_fts
+    ON course_management.course_feedbacks USING gin (to_tsvector('english', feedback));
+
+-- Substring search: the expressions match the "contains", "startsWith" and "endsWith" filter comparisons
+CREATE INDEX IF NOT EXISTS idx_courses_title_trgm
+    ON course_management.courses USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_lessons_title_trgm
+    ON course_management.lessons USING gin (lower(title) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_course_feedbacks_feedback_trgm
+    ON course_management.course_feedbacks USING gin (lower(feedback) gin_trgm_ops);
@@ -0,0 +1,6 @@
+-- Substring search on descriptions: the expressions match the repository search queries
+CREATE INDEX IF NOT EXISTS idx_courses_description_trgm
+    ON course_management.courses USING gin (lower(description) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_lessons_description_trgm
+    ON course_management.lessons USING gin (lower(description) gin_trgm_ops);
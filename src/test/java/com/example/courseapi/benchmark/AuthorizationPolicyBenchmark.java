@@ -0,0 +1,146 @@
+package com.example.courseapi.benchmark;
+
+import com.example.courseapi.domain.Instructor;
+import com.example.courseapi.dto.request.CourseRequestDTO;
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import com.example.courseapi.security.policy.AccessPolicyRegistry;
+import com.example.courseapi.security.policy.CourseAssignmentPolicy;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.security.service.impl.AccessValidator;
+import com.example.courseapi.util.EntityCreatorUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authorizing an instructor's course update before the controller method runs.
+ * <ul>
+ *     <li>{@code spelExpression}: the former {@code @PreAuthorize("@accessValidator.courseAccess(...)")} path,
+ *     building an evaluation context, resolving the parameter names and the validator bean and invoking it
+ *     reflectively on every call.</li>
+ *     <li>{@code compiledPolicy}: the {@link CourseAssignmentPolicy} compiled by {@link AccessPolicyRegistry} at
+ *     startup and called directly.</li>
+ * </ul>
+ * Membership lookups are answered by an in-memory stub, so only the authorization plumbing is measured.
+ * Start it with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationPolicyBenchmark {
+
+    @RestController
+    public static class BenchmarkController {
+        @PreAuthorize("@accessValidator.courseAccess(#courseDTO.id, #courseDTO.instructorIds)")
+        public void spelExpression(final CourseRequestDTO courseDTO) {
+        }
+
+        @Authorize(CourseAssignmentPolicy.class)
+        public void compiledPolicy(@PolicyTarget final CourseRequestDTO courseDTO) {
+        }
+    }
+
+    private PreAuthorizeAuthorizationManager preAuthorizeManager;
+    private AccessPolicyRegistry accessPolicyRegistry;
+    private Authentication authentication;
+    private SimpleMethodInvocation spelInvocation;
+    private SimpleMethodInvocation policyInvocation;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Instructor instructor = EntityCreatorUtil.createInstructor("benchmark");
+        instructor.setId(1L);
+        authentication = UsernamePasswordAuthenticationToken.authenticated(
+                instructor, null, instructor.getAuthorities());
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        AccessValidator accessValidator = new AccessValidator(new MemberOfEveryCourse());
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("accessValidator", accessValidator);
+        context.getBeanFactory().registerSingleton("courseAssignmentPolicy",
+                new CourseAssignmentPolicy(accessValidator));
+        context.registerBeanDefinition("benchmarkController", new RootBeanDefinition(BenchmarkController.class));
+        context.refresh();
+
+        DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(context);
+        preAuthorizeManager = new PreAuthorizeAuthorizationManager();
+        preAuthorizeManager.setExpressionHandler(expressionHandler);
+
+        accessPolicyRegistry = new AccessPolicyRegistry(context);
+        accessPolicyRegistry.afterSingletonsInstantiated();
+
+        CourseRequestDTO courseDTO = new CourseRequestDTO(
+                10L, "Benchmark", "Benchmark course", Set.of(1L, 2L), Set.of());
+        BenchmarkController controller = context.getBean(BenchmarkController.class);
+        spelInvocation = new SimpleMethodInvocation(controller,
+                BenchmarkController.class.getMethod("spelExpression", CourseRequestDTO.class), courseDTO);
+        policyInvocation = new SimpleMethodInvocation(controller,
+                BenchmarkController.class.getMethod("compiledPolicy", CourseRequestDTO.class), courseDTO);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean spelExpression() {
+        return preAuthorizeManager.check(() -> authentication, spelInvocation).isGranted();
+    }
+
+    @Benchmark
+    public boolean compiledPolicy() {
+        return accessPolicyRegistry.isGranted(policyInvocation);
+    }
+
+    private static final class MemberOfEveryCourse implements CourseMembershipService {
+        @Override
+        public boolean isInstructor(final Long courseId, final Long userId) {
+            return true;
+        }
+
+        @Override
+        public boolean isStudent(final Long courseId, final Long userId) {
+            return true;
+        }
+
+        @Override
+        public boolean isLessonInstructor(final Long lessonId, final Long userId) {
+            return true;
+        }
+
+        @Override
+        public boolean isLessonStudent(final Long lessonId, final Long userId) {
+            return true;
+        }
+
+        @Override
+        public void evictLessons(final Collection<Long> lessonIds) {
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AuthorizationPolicyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.courseapi.benchmark;
+
+import com.example.courseapi.config.args.FilterUtil;
+import com.example.courseapi.config.args.generic.Filters;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.util.MetamodelTestUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning the request filters of a typical catalog or user listing into criteria predicates.
+ * <ul>
+ *     <li>{@code specificationBuilder}: the former {@link SpecificationBuilder} path, splitting the property path,
+ *     switching on the property type and parsing the value for every filter of every request.</li>
+ *     <li>{@code filterCompiler}: {@link FilterCompiler} with the (entity, path, comparison) triples already
+ *     compiled, converting the values and creating the predicates only.</li>
+ * </ul>
+ * Runs on a Hibernate metamodel without a database. Start it with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterCompilationBenchmark {
+    private static final String[] COURSE_FILTERS = {
+            "title:contains:java",
+            "available:equals:true",
+            "instructors.id:in:1,2,3",
+            "createdDate:inRange:2023-01-01,2023-12-31"
+    };
+
+    private static final String[] USER_FILTERS = {
+            "email:endsWith:@example.org",
+            "role:in:STUDENT,INSTRUCTOR",
+            "createdDate:>=:2023-01-01"
+    };
+
+    @Param({"course", "user"})
+    public String query;
+
+    private SessionFactory sessionFactory;
+    private FilterCompiler filterCompiler;
+    private Class<?> entityType;
+    private Filters filters;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = MetamodelTestUtil.sessionFactory();
+        filterCompiler = new FilterCompiler(sessionFactory);
+        boolean course = "course".equals(query);
+        entityType = course ? Course.class : User.class;
+        filters = FilterUtil.generateDefaultFilters(course ? COURSE_FILTERS : USER_FILTERS);
+    }
+
+    @Benchmark
+    public Predicate specificationBuilder() {
+        return toPredicate(new SpecificationBuilder<>(filters).build());
+    }
+
+    @Benchmark
+    public Predicate filterCompiler() {
+        return toPredicate(filterCompiler.compile(entityType, filters));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate toPredicate(final Specification specification) {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<?> criteriaQuery = builder.createQuery(entityType);
+        Root root = criteriaQuery.from(entityType);
+        return specification.toPredicate(root, criteriaQuery, builder);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FilterCompilationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
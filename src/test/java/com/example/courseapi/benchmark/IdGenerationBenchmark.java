@@ -0,0 +1,125 @@
+package com.example.courseapi.benchmark;
+
+import com.example.courseapi.CourseApiApplication;
+import com.example.courseapi.config.CourseAPIPostgreSQLContainer;
+import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.repository.LessonRepository;
+import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.util.EntityCreatorUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Per-row cost of bulk lesson and user creation through the application's repositories and Hibernate mapping.
+ * <ul>
+ *     <li>{@code identity}: the former settings, the {@code GenerationType.IDENTITY} ids restored by
+ *     {@code benchmark/identity-ids.orm.xml}, without JDBC batching and batched insert rewriting.</li>
+ *     <li>{@code sequence}: the current pooled-lo sequence generators with the batching settings of
+ *     {@code application.yml}.</li>
+ * </ul>
+ * Every invocation saves {@link #ROWS} new entities with {@code saveAllAndFlush} in a transaction that is rolled
+ * back. Runs the application against a throw-away PostgreSQL container migrated by Flyway. Start it with
+ * {@code main} from the test classpath, Docker is required.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+    private static final int ROWS = 500;
+
+    private static final String[] APPLICATION_ARGS = {
+            "--server.port=0",
+            "--aws.s3.mock=true",
+            "--security.throttling.enabled=false",
+            "--access-log.enabled=false",
+            "--logging.level.com.example.courseapi=WARN",
+            "--spring.jpa.properties.hibernate.show_sql=false"
+    };
+
+    private static final String[] IDENTITY_ARGS = {
+            "--spring.jpa.mapping-resources=benchmark/identity-ids.orm.xml",
+            "--spring.jpa.properties.hibernate.jdbc.batch_size=0",
+            "--spring.jpa.properties.hibernate.order_inserts=false",
+            "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=false"
+    };
+
+    @Param({"lessons", "users"})
+    public String table;
+
+    @Param({"identity", "sequence"})
+    public String strategy;
+
+    private CourseAPIPostgreSQLContainer container;
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private LessonRepository lessonRepository;
+    private UserRepository userRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = CourseAPIPostgreSQLContainer.getInstance();
+        container.start();
+        String[] args = "identity".equals(strategy) ?
+                Stream.of(APPLICATION_ARGS, IDENTITY_ARGS).flatMap(Stream::of).toArray(String[]::new) :
+                APPLICATION_ARGS;
+        context = new SpringApplicationBuilder(CourseApiApplication.class).run(args);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        lessonRepository = context.getBean(LessonRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        container.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insert() {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return "lessons".equals(table) ?
+                    lessonRepository.saveAllAndFlush(lessons()).size() :
+                    userRepository.saveAllAndFlush(students()).size();
+        });
+    }
+
+    private static List<Lesson> lessons() {
+        List<Lesson> lessons = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            lessons.add(Lesson.builder()
+                    .title("Benchmark#" + row)
+                    .description("Benchmark lesson#" + row)
+                    .build());
+        }
+        return lessons;
+    }
+
+    private static List<Student> students() {
+        List<Student> students = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            students.add(EntityCreatorUtil.createStudent("benchmark" + row));
+        }
+        return students;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdGenerationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
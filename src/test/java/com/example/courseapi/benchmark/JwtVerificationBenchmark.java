@@ -0,0 +1,80 @@
+package com.example.courseapi.benchmark;
+
+import com.example.courseapi.config.JwtProperties;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.repository.RefreshTokenRepository;
+import com.example.courseapi.security.service.impl.JwtServiceImpl;
+import com.example.courseapi.security.token.ValidatedJwtToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of access token verification as done by {@code JwtAuthenticationFilter} for every request.
+ * <ul>
+ *     <li>{@code perClaimParsing}: the former flow, rebuilding the key and parser and verifying the token three
+ *     times (subject, subject again and expiration).</li>
+ *     <li>{@code singleVerification}: {@link JwtServiceImpl#verifyJwtToken(String)} with the key and parser built
+ *     once, followed by the subject check on the validated token.</li>
+ * </ul>
+ * Start it with {@code main} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+    private static final String SIGNING_KEY = "24432646294A404E635266556A586E5A7234753778214125442A472D4B615064";
+
+    private JwtServiceImpl jwtService;
+    private Student student;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSigningKey(SIGNING_KEY);
+        jwtProperties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+        jwtProperties.setRefreshTokenExpiration(TimeUnit.HOURS.toMillis(2));
+        jwtService = new JwtServiceImpl(Mockito.mock(RefreshTokenRepository.class), jwtProperties);
+
+        student = new Student();
+        student.setEmail("jane.doe@example.org");
+        accessToken = jwtService.generateJwtAccessToken(student);
+    }
+
+    @Benchmark
+    public boolean perClaimParsing() {
+        String subject = parse(accessToken).getSubject();
+        return subject.equals(student.getUsername())
+                && parse(accessToken).getSubject().equals(student.getUsername())
+                && !parse(accessToken).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleVerification() {
+        ValidatedJwtToken token = jwtService.verifyJwtToken(accessToken);
+        return jwtService.isJwtTokenValid(token, student);
+    }
+
+    private static Claims parse(final String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SIGNING_KEY));
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtVerificationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
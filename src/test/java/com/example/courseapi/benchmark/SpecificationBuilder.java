@@ -1,4 +1,4 @@
-package com.example.courseapi.config.args.specs;
+package com.example.courseapi.benchmark;
 
 import com.example.courseapi.config.args.generic.Filter;
 import com.example.courseapi.config.args.generic.Filters;
@@ -9,6 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+/**
+ * Former conjunction of request filters, replaced by {@link com.example.courseapi.config.args.specs.FilterCompiler}.
+ * Kept as the baseline of {@link FilterCompilationBenchmark}.
+ */
 @NoArgsConstructor
 public class SpecificationBuilder<T> {
 
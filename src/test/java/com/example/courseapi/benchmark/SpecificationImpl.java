@@ -1,4 +1,4 @@
-package com.example.courseapi.config.args.specs;
+package com.example.courseapi.benchmark;
 
 import com.example.courseapi.config.args.generic.Filter;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +22,10 @@ import java.util.Objects;
 
 import static java.util.stream.Collectors.toList;
 
+/**
+ * Predicate of a single request filter as built by the former filter engine, resolving the property path and
+ * parsing the value on every call. Kept as the baseline of {@link FilterCompilationBenchmark}.
+ */
 @Log4j2
 @RequiredArgsConstructor
 public class SpecificationImpl<T> implements Specification<T> {
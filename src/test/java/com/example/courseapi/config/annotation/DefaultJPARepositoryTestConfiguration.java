@@ -1,5 +1,6 @@
 package com.example.courseapi.config.annotation;
 
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.security.config.auditor.CustomAuditorAwareConfiguration;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,7 +18,7 @@ import java.lang.annotation.*;
 @Inherited
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(CustomAuditorAwareConfiguration.class)
+@Import({CustomAuditorAwareConfiguration.class, OffsetPaginator.class})
 @ActiveProfiles("test-repository")
 public @interface DefaultJPARepositoryTestConfiguration {
 }
\ No newline at end of file
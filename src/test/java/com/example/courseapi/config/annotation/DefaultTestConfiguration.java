@@ -13,7 +13,7 @@ import java.lang.annotation.*;
 @Documented
 @Inherited
 @ExtendWith(SpringExtension.class)
-@TestPropertySource(properties = "aws.s3.mock=true")
+@TestPropertySource(properties = {"aws.s3.mock=true", "security.throttling.enabled=false"})
 @SpringBootTest(classes = CourseApiApplication.class)
 //@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
 public @interface DefaultTestConfiguration {
@@ -0,0 +1,56 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.config.PostgresRepositoryTestContainer;
+import com.example.courseapi.config.annotation.DefaultJPARepositoryTestConfiguration;
+import com.example.courseapi.config.args.FilterUtil;
+import com.example.courseapi.domain.Course;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DefaultJPARepositoryTestConfiguration
+public class FilterCompilerPlanTest extends PostgresRepositoryTestContainer {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private JsonNode plan(final Specification<Course> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Course> query = builder.createQuery(Course.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(root).where(specification.toPredicate(root, query, builder));
+        HibernateExplainAdapter.ExplainStatement explain =
+                HibernateExplainAdapter.explainStatement(entityManager, query);
+        // The test tables are tiny, a sequential scan would always win over any index
+        entityManager.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+        return HibernateExplainAdapter.explain(entityManager, explain);
+    }
+
+    @Test
+    public void should_filter_members_through_join_table_index_without_self_join() {
+        FilterCompiler filterCompiler = new FilterCompiler(entityManagerFactory);
+        Specification<Course> specification = filterCompiler.compile(Course.class,
+                FilterUtil.generateDefaultFilters(new String[]{"students.id:in:1,2", "instructors.id:in:3"}));
+
+        JsonNode plan = plan(specification);
+
+        List<String> relations = plan.findValuesAsText("Relation Name");
+        assertThat(relations).as(plan.toPrettyString()).containsOnlyOnce("courses");
+        assertThat(relations).as(plan.toPrettyString()).contains("courses_students", "courses_instructors");
+        assertThat(plan.findValuesAsText("Index Name")).as(plan.toPrettyString())
+                .containsAnyOf("idx_courses_students_course_id", "pk_courses_students")
+                .containsAnyOf("idx_courses_instructors_course_id", "pk_courses_instructors");
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.config.args.FilterUtil;
+import com.example.courseapi.config.args.generic.FilterImpl;
+import com.example.courseapi.config.args.generic.Filters;
+import com.example.courseapi.config.args.generic.FiltersImpl;
+import com.example.courseapi.config.args.generic.SpecificationComparison;
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.Homework;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.util.MetamodelTestUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterCompilerTest {
+    private final SessionFactory sessionFactory = MetamodelTestUtil.sessionFactory();
+
+    private final FilterCompiler filterCompiler = new FilterCompiler(sessionFactory);
+
+    private <T> String toHql(final Class<T> entityType, final Specification<T> specification) {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root).where(specification.toPredicate(root, query, builder));
+        return ((SqmSelectStatement<?>) query).toHqlString();
+    }
+
+    private <T> Root<T> applyTo(final Class<T> entityType, final Specification<T> specification) {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root).where(specification.toPredicate(root, query, builder));
+        return root;
+    }
+
+    private static void assertBadRequest(final Executable executable) {
+        SystemException exception = assertThrows(SystemException.class, executable);
+        assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileCourseFilters() {
+        Filters filters = FilterUtil.generateDefaultFilters(new String[]{
+                "title:contains:Java",
+                "instructors.id:in:1,2,3",
+                "createdDate:inRange:2023-01-01,2023-12-31"
+        });
+        filters.include(new FilterImpl("available", SpecificationComparison.EQUALS, true));
+
+        String hql = toHql(Course.class, filterCompiler.compile(Course.class, filters));
+
+        assertTrue(hql.contains("lower("), hql);
+        assertTrue(hql.contains(" in ("), hql);
+        assertTrue(hql.contains("between"), hql);
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileUserFilters() {
+        Filters filters = FilterUtil.generateDefaultFilters(new String[]{
+                "email:endsWith:@example.org",
+                "role:in:STUDENT,INSTRUCTOR",
+                "createdDate:>=:2023-01-01",
+                "id:notIn:"
+        });
+
+        assertNotNull(toHql(User.class, filterCompiler.compile(User.class, filters)));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileSharesSingleValuedJoins() {
+        Filters filters = FilterUtil.generateDefaultFilters(new String[]{
+                "lesson.course.id:equals:1",
+                "lesson.title:contains:Streams",
+                "lesson.course.title:startsWith:Java"
+        });
+
+        Root<Homework> root = applyTo(Homework.class, filterCompiler.compile(Homework.class, filters));
+
+        assertEquals(1, root.getJoins().size());
+        assertEquals(1, root.getJoins().iterator().next().getJoins().size());
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileFiltersCollectionsWithExists() {
+        Filters filters = FilterUtil.generateDefaultFilters(new String[]{
+                "students.id:in:1,2",
+                "students.email:contains:example",
+                "instructors.id:in:3"
+        });
+        Specification<Course> specification = filterCompiler.compile(Course.class, filters);
+
+        assertTrue(applyTo(Course.class, specification).getJoins().isEmpty());
+        String hql = toHql(Course.class, specification);
+        assertEquals(2, hql.split("exists", -1).length - 1, hql);
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileFullTextSearch() {
+        Filters filters = FilterUtil.generateDefaultFilters(new String[]{"description:search: \"java streams\" -video"});
+
+        Specification<Course> specification = filterCompiler.compile(Course.class, filters);
+
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<Course> query = builder.createQuery(Course.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(root).where(specification.toPredicate(root, query, builder));
+        String sql = HibernateExplainAdapter.explainStatement(sessionFactory.createEntityManager(), query).sql();
+
+        // The expression is the one of the GIN indexes, and the search text is bound rather than inlined
+        assertTrue(sql.contains("to_tsvector('english', c1_0.description) @@ websearch_to_tsquery('english', ?)"),
+                sql);
+        assertFalse(sql.contains("java streams"), sql);
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("available", SpecificationComparison.SEARCH, "true")))));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileWithoutFilters() {
+        assertNull(filterCompiler.compile(Course.class, null));
+        assertNull(filterCompiler.compile(Course.class, new FiltersImpl()));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileRejectsUnknownProperty() {
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("name", SpecificationComparison.EQUALS, "x")))));
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("students.name", SpecificationComparison.EQUALS, "x")))));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileRejectsNonAssociationPath() {
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("title.id", SpecificationComparison.EQUALS, "1")))));
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("students", SpecificationComparison.EQUALS, "1")))));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileRejectsComparisonNotApplicableToType() {
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("id", SpecificationComparison.CONTAINS, "1")))));
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                new FiltersImpl(List.of(new FilterImpl("title", SpecificationComparison.IN_RANGE, "a,b")))));
+    }
+
+    /**
+     * Method under test: {@link FilterCompiler#compile(Class, Filters)}
+     */
+    @Test
+    void testCompileRejectsInvalidValues() {
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                FilterUtil.generateDefaultFilters(new String[]{"id:equals:abc"})));
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                FilterUtil.generateDefaultFilters(new String[]{"available:equals:maybe"})));
+        assertBadRequest(() -> filterCompiler.compile(User.class,
+                FilterUtil.generateDefaultFilters(new String[]{"role:in:STUDENT,JANITOR"})));
+        assertBadRequest(() -> filterCompiler.compile(Course.class,
+                FilterUtil.generateDefaultFilters(new String[]{"createdDate:inRange:yesterday,today"})));
+    }
+
+    /**
+     * Method under test: {@link SpecificationComparison#getByAlias(String)}
+     */
+    @Test
+    void testGetByAlias() {
+        assertEquals(SpecificationComparison.GREATER_THAN_OR_EQUAL, SpecificationComparison.getByAlias(">="));
+        assertEquals(SpecificationComparison.NOT_IN, SpecificationComparison.getByAlias("notIn"));
+        assertEquals(SpecificationComparison.SEARCH, SpecificationComparison.getByAlias("search"));
+        assertBadRequest(() -> SpecificationComparison.getByAlias("like"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.util.MetamodelTestUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the Hibernate internals used by {@link HibernateExplainAdapter}: when a Hibernate upgrade changes them,
+ * this test fails instead of the row estimates silently turning into exact counts.
+ */
+class HibernateExplainAdapterTest {
+    private final SessionFactory sessionFactory = MetamodelTestUtil.sessionFactory();
+
+    /**
+     * Method under test: {@link HibernateExplainAdapter#explainStatement(jakarta.persistence.EntityManager, CriteriaQuery)}
+     */
+    @Test
+    void testExplainStatementRendersFilteredQuery() {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<Course> root = query.from(Course.class);
+        query.select(root.get("id")).where(builder.like(root.get("title"), "%java%"),
+                builder.equal(root.get("available"), true));
+
+        HibernateExplainAdapter.ExplainStatement explain =
+                HibernateExplainAdapter.explainStatement(sessionFactory.createEntityManager(), query);
+
+        assertTrue(explain.sql().startsWith("EXPLAIN (FORMAT JSON) select "), explain.sql());
+        assertTrue(explain.sql().contains("from course_management.courses"), explain.sql());
+        assertFalse(explain.sql().contains("java"), explain.sql());
+        assertEquals(2, explain.binders().size());
+        assertNotNull(explain.bindings());
+        assertNotNull(explain.context().getSession());
+    }
+}
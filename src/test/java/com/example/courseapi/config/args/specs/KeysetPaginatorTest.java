@@ -0,0 +1,159 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.CourseFeedback;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
+import com.example.courseapi.util.MetamodelTestUtil;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPaginatorTest {
+    private final SessionFactory sessionFactory = MetamodelTestUtil.sessionFactory();
+
+    private final KeysetPaginator keysetPaginator = new KeysetPaginator(sessionFactory.createEntityManager());
+
+    private <T> String toHql(final Class<T> entityType, final KeysetPaginator.Keyset<T> keyset) {
+        CriteriaBuilder builder = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entityType);
+        Root<T> root = query.from(entityType);
+        query.select(root);
+        Predicate predicate = keyset.restrict(null).toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(keyset.toOrders(root, builder));
+        return ((SqmSelectStatement<?>) query).toHqlString();
+    }
+
+    private static CourseFeedback feedback(final long id, final LocalDateTime createdDate) {
+        CourseFeedback feedback = new CourseFeedback();
+        feedback.setId(id);
+        feedback.setCreatedDate(createdDate);
+        return feedback;
+    }
+
+    private static void assertBadRequest(final Executable executable) {
+        SystemException exception = assertThrows(SystemException.class, executable);
+        assertEquals(ErrorCode.BAD_REQUEST, exception.getErrorCode());
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator#keyset(Class, String, org.springframework.data.domain.Pageable)}
+     */
+    @Test
+    void testKeysetFirstPageSortsById() {
+        KeysetPaginator.Keyset<CourseFeedback> keyset =
+                keysetPaginator.keyset(CourseFeedback.class, "", PageRequest.of(3, 10));
+
+        String hql = toHql(CourseFeedback.class, keyset);
+
+        assertFalse(hql.contains(" where "), hql);
+        assertTrue(hql.endsWith(".id"), hql);
+        assertEquals(11, keyset.limit());
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator.Keyset#toPage(List)}
+     */
+    @Test
+    void testToPageContinuesAfterLastRow() {
+        LocalDateTime createdDate = LocalDateTime.of(2023, 5, 1, 10, 0);
+        KeysetPaginator.Keyset<CourseFeedback> keyset = keysetPaginator.keyset(CourseFeedback.class, "",
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdDate")));
+        List<CourseFeedback> rows = List.of(feedback(9L, createdDate.plusDays(1)), feedback(7L, createdDate),
+                feedback(5L, createdDate));
+
+        CursorPageResponseDTO<CourseFeedback> page = keyset.toPage(rows);
+
+        assertEquals(List.of(9L, 7L), page.getContent().stream().map(CourseFeedback::getId).toList());
+        assertNotNull(page.getNext());
+        // The cursor keeps the sort, so the next request does not have to repeat it
+        String hql = toHql(CourseFeedback.class,
+                keysetPaginator.keyset(CourseFeedback.class, page.getNext(), PageRequest.of(0, 2)));
+        assertTrue(hql.contains(".createdDate <= 2023-05-01T10:00"), hql);
+        assertTrue(hql.contains(".id < 7"), hql);
+        assertTrue(hql.contains("createdDate desc nulls first"), hql);
+        // A mandatory column never holds null, so no branch for null keys is needed
+        assertFalse(hql.contains("is null"), hql);
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator.Keyset#toPage(List)}
+     */
+    @Test
+    void testToPageOfLastRows() {
+        KeysetPaginator.Keyset<CourseFeedback> keyset =
+                keysetPaginator.keyset(CourseFeedback.class, null, PageRequest.of(0, 2));
+
+        CursorPageResponseDTO<CourseFeedback> page = keyset.toPage(new ArrayList<>(List.of(feedback(1L, null))));
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getNext());
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator.Keyset#toPage(List)}
+     */
+    @Test
+    void testToPageOfProjectionsWithNullKeys() {
+        KeysetPaginator.Keyset<Course> keyset = keysetPaginator.keyset(Course.class, "",
+                PageRequest.of(0, 1, Sort.by("description")));
+        CourseCatalogRow row = new CourseCatalogRow(4L, "Title", null, true, null, null, null, null);
+
+        CursorPageResponseDTO<CourseCatalogRow> page = keyset.toPage(List.of(row, row));
+
+        // Ascending, the rows without description come last and are read after the cursor in id order
+        String hql = toHql(Course.class, keysetPaginator.keyset(Course.class, page.getNext(), null));
+        assertTrue(hql.contains("description is null"), hql);
+        assertTrue(hql.contains(".id > 4"), hql);
+        assertTrue(hql.contains("description asc nulls last"), hql);
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator#keyset(Class, String, org.springframework.data.domain.Pageable)}
+     */
+    @Test
+    void testKeysetRejectsUnsupportedSort() {
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, "",
+                PageRequest.of(0, 2, Sort.by("title", "createdDate"))));
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, "", PageRequest.of(0, 2, Sort.by("name"))));
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, "", PageRequest.of(0, 2, Sort.by("students"))));
+        assertBadRequest(() -> keysetPaginator.keyset(User.class, "", PageRequest.of(0, 2, Sort.by("password"))));
+        assertNotNull(keysetPaginator.keyset(Course.class, "", PageRequest.of(0, 2, Sort.by("title", "id"))));
+    }
+
+    /**
+     * Method under test: {@link KeysetPaginator#keyset(Class, String, org.springframework.data.domain.Pageable)}
+     */
+    @Test
+    void testKeysetRejectsInvalidCursor() {
+        KeysetPaginator.Keyset<Course> keyset = keysetPaginator.keyset(Course.class, "",
+                PageRequest.of(0, 1, Sort.by("title")));
+        CourseCatalogRow row = new CourseCatalogRow(4L, "Title", null, true, null, null, null, null);
+        String next = keyset.toPage(List.of(row, row)).getNext();
+
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, "not a cursor", null));
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, "e30", null));
+        assertBadRequest(() -> keysetPaginator.keyset(Course.class, next,
+                PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "title"))));
+        assertNotNull(keysetPaginator.keyset(Course.class, next, PageRequest.of(0, 1, Sort.by("title"))));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.courseapi.config.args.specs;
+
+import com.example.courseapi.domain.Course;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.util.MetamodelTestUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OffsetPaginatorTest {
+    private final SessionFactory sessionFactory = MetamodelTestUtil.sessionFactory();
+
+    private final OffsetPaginator offsetPaginator = new OffsetPaginator(sessionFactory.createEntityManager());
+
+    @SuppressWarnings("unchecked")
+    private static TypedQuery<Long> query(final long rows) {
+        TypedQuery<Long> query = Mockito.mock(TypedQuery.class);
+        when(query.setFirstResult(Mockito.anyInt())).thenReturn(query);
+        when(query.setMaxResults(Mockito.anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(LongStream.range(0, rows).boxed().toList());
+        return query;
+    }
+
+    private static LongSupplier counting(final AtomicInteger calls, final long result) {
+        return () -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#read(TypedQuery, Pageable, CountMode, LongSupplier, LongSupplier)}
+     */
+    @Test
+    void testReadWithoutCountReturnsSlice() {
+        TypedQuery<Long> query = query(3);
+        AtomicInteger counts = new AtomicInteger();
+
+        Slice<Long> slice = offsetPaginator.read(query, PageRequest.of(2, 2), CountMode.NONE,
+                counting(counts, 10), counting(counts, 10));
+
+        assertFalse(slice instanceof Page);
+        assertEquals(List.of(0L, 1L), slice.getContent());
+        assertTrue(slice.hasNext());
+        assertEquals(0, counts.get());
+        verify(query).setFirstResult(4);
+        verify(query).setMaxResults(3);
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#read(TypedQuery, Pageable, CountMode, LongSupplier, LongSupplier)}
+     */
+    @Test
+    void testReadLastPageKnowsItsTotal() {
+        AtomicInteger counts = new AtomicInteger();
+
+        Page<Long> page = (Page<Long>) offsetPaginator.read(query(1), PageRequest.of(3, 2), CountMode.ESTIMATE,
+                counting(counts, 10), counting(counts, 10));
+
+        assertEquals(7, page.getTotalElements());
+        assertFalse(page.hasNext());
+        assertEquals(0, counts.get());
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#read(TypedQuery, Pageable, CountMode, LongSupplier, LongSupplier)}
+     */
+    @Test
+    void testReadUsesLargeEstimates() {
+        AtomicInteger exactCounts = new AtomicInteger();
+        AtomicInteger estimates = new AtomicInteger();
+
+        Page<Long> page = (Page<Long>) offsetPaginator.read(query(3), PageRequest.of(0, 2), CountMode.ESTIMATE,
+                counting(exactCounts, 25_000), counting(estimates, 24_000));
+
+        assertEquals(24_000, page.getTotalElements());
+        assertTrue(page.hasNext());
+        assertEquals(1, estimates.get());
+        assertEquals(0, exactCounts.get());
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#read(TypedQuery, Pageable, CountMode, LongSupplier, LongSupplier)}
+     */
+    @Test
+    void testReadCountsSmallEstimates() {
+        AtomicInteger exactCounts = new AtomicInteger();
+
+        Page<Long> page = (Page<Long>) offsetPaginator.read(query(3), PageRequest.of(0, 2), CountMode.ESTIMATE,
+                counting(exactCounts, 40), () -> OffsetPaginator.EXACT_COUNT_THRESHOLD - 1);
+
+        assertEquals(40, page.getTotalElements());
+        assertEquals(1, exactCounts.get());
+
+        // Stale statistics never report fewer rows than the ones already read
+        page = (Page<Long>) offsetPaginator.read(query(3), PageRequest.of(10, 2), CountMode.ESTIMATE,
+                () -> 5, () -> 5);
+        assertEquals(23, page.getTotalElements());
+        assertTrue(page.hasNext());
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#read(TypedQuery, Pageable, CountMode, LongSupplier, LongSupplier)}
+     */
+    @Test
+    void testReadExactCount() {
+        AtomicInteger estimates = new AtomicInteger();
+
+        Page<Long> page = (Page<Long>) offsetPaginator.read(query(3), PageRequest.of(0, 2), CountMode.EXACT,
+                () -> 40_000, counting(estimates, 10));
+
+        assertEquals(40_000, page.getTotalElements());
+        assertEquals(0, estimates.get());
+    }
+
+    /**
+     * Method under test: {@link OffsetPaginator#estimate(Class, Specification)}
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEstimateIsZeroWhenQueryCannotBeExplained() {
+        EntityManager entityManager = Mockito.mock(EntityManager.class);
+        when(entityManager.getMetamodel()).thenReturn(sessionFactory.getMetamodel());
+        when(entityManager.getCriteriaBuilder()).thenReturn(sessionFactory.getCriteriaBuilder());
+        // Not a Hibernate query, as if the internals behind the adapter had changed
+        when(entityManager.createQuery(Mockito.<CriteriaQuery<Object>>any())).thenReturn(Mockito.mock(TypedQuery.class));
+
+        long estimate = new OffsetPaginator(entityManager).estimate(Course.class,
+                (root, query, builder) -> builder.like(root.get("title"), "%java%"));
+
+        assertEquals(0, estimate);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.courseapi.logging;
+
+import com.example.courseapi.config.AccessLogProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccessLogFilterTest {
+    private AccessLogProperties properties;
+
+    private AccessLogWriter accessLogWriter;
+
+    private AccessLogFilter accessLogFilter;
+
+    @BeforeEach
+    void setup() {
+        properties = new AccessLogProperties();
+        accessLogWriter = mock(AccessLogWriter.class);
+        accessLogFilter = new AccessLogFilter(properties, accessLogWriter);
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/courses/42");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/courses/{courseId}");
+        request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, 7L);
+        return request;
+    }
+
+    /**
+     * Method under test: {@link AccessLogFilter#doFilterInternal(jakarta.servlet.http.HttpServletRequest, HttpServletResponse, FilterChain)}
+     */
+    @Test
+    void testDoFilterInternal() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain filterChain = (req, res) -> ((HttpServletResponse) res).setStatus(201);
+
+        accessLogFilter.doFilter(request(), response, filterChain);
+
+        ArgumentCaptor<AccessLogRecord> captor = ArgumentCaptor.forClass(AccessLogRecord.class);
+        verify(accessLogWriter).submit(captor.capture());
+        AccessLogRecord record = captor.getValue();
+        assertEquals("GET", record.method());
+        assertEquals("/api/v1/courses/{courseId}", record.route());
+        assertEquals(201, record.status());
+        assertEquals(7L, record.userId());
+        assertTrue(record.latencyNanos() >= 0);
+        assertTrue(record.format().startsWith("method=GET route=/api/v1/courses/{courseId} status=201 latency_ms="));
+        assertTrue(record.format().endsWith(" user=7"));
+    }
+
+    /**
+     * Method under test: {@link AccessLogFilter#doFilterInternal(jakarta.servlet.http.HttpServletRequest, HttpServletResponse, FilterChain)}
+     */
+    @Test
+    void testDoFilterInternalSamplesSuccessOnly() throws Exception {
+        properties.setSampleRate(0);
+
+        accessLogFilter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> { });
+        verifyNoInteractions(accessLogWriter);
+
+        accessLogFilter.doFilter(request(), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(404));
+        verify(accessLogWriter).submit(argThat(record -> record.status() == 404));
+    }
+
+    /**
+     * Method under test: {@link AccessLogFilter#doFilterInternal(jakarta.servlet.http.HttpServletRequest, HttpServletResponse, FilterChain)}
+     */
+    @Test
+    void testDoFilterInternalLogsThrownException() {
+        properties.setSampleRate(0);
+
+        assertThrows(IllegalStateException.class, () -> accessLogFilter.doFilter(request(),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new IllegalStateException();
+                }));
+        verify(accessLogWriter).submit(argThat(record -> record.status() == 500));
+    }
+
+    /**
+     * Method under test: {@link AccessLogWriter#submit(AccessLogRecord)}
+     */
+    @Test
+    void testSubmitDropsWhenFull() {
+        properties.setBufferSize(2);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessLogWriter writer = new AccessLogWriter(properties, meterRegistry);
+        AccessLogRecord record = new AccessLogRecord("GET", "/api/v1/users", 200, 1, 0, null);
+
+        assertTrue(writer.submit(record));
+        assertTrue(writer.submit(record));
+        assertFalse(writer.submit(record));
+        assertEquals(1, meterRegistry.get("access.log.dropped").counter().count());
+        assertEquals(2, meterRegistry.get("access.log.pending").gauge().value());
+
+        assertEquals(2, writer.drain());
+        assertEquals(0, meterRegistry.get("access.log.pending").gauge().value());
+        assertTrue(writer.submit(record));
+    }
+}
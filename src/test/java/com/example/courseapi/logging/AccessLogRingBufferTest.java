@@ -0,0 +1,78 @@
+package com.example.courseapi.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link AccessLogRingBuffer#offer(Object)}
+     *   <li>{@link AccessLogRingBuffer#poll()}
+     * </ul>
+     */
+    @Test
+    void testOfferAndPoll() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        assertNull(buffer.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+
+        assertEquals(0, buffer.poll());
+        assertTrue(buffer.offer(5));
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+        assertEquals(5, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    /**
+     * Method under test: {@link AccessLogRingBuffer#offer(Object)}
+     */
+    @Test
+    void testOfferFromManyProducers() throws InterruptedException {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(1024);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        for (int p = 0; p < 4; p++) {
+            int producer = p;
+            producers.submit(() -> {
+                start.await();
+                for (int i = 0; i < 500; i++) {
+                    if (buffer.offer(producer * 1000 + i)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        producers.shutdown();
+        assertTrue(producers.awaitTermination(10, TimeUnit.SECONDS));
+
+        Set<Integer> polled = new HashSet<>();
+        Integer item;
+        while ((item = buffer.poll()) != null) {
+            assertTrue(polled.add(item));
+        }
+        assertEquals(1024, accepted.get());
+        assertEquals(1024, polled.size());
+    }
+}
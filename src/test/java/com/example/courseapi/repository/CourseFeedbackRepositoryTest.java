@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -138,7 +139,7 @@ public class CourseFeedbackRepositoryTest extends PostgresRepositoryTestContaine
 
     @Transactional
     @Test
-    public void should_find_course_feedbacks_by_feedback_containing_string() {
+    public void should_search_course_feedbacks_by_feedback_substring() {
         Student student1 = entityManager.persist(EntityCreatorUtil.createStudent("1"));
         Course course1 = entityManager.persist(EntityCreatorUtil.createCourse("1", instructors));
 
@@ -164,7 +165,9 @@ public class CourseFeedbackRepositoryTest extends PostgresRepositoryTestContaine
                 courseFeedback3ToSave
         );
 
-        List<CourseFeedback> courseFeedbacks = courseFeedbackRepository.findByFeedbackContaining("test");
+        entityManager.flush();
+
+        List<CourseFeedback> courseFeedbacks = courseFeedbackRepository.search("test", PageRequest.of(0, 10));
 
         assertThat(courseFeedbacks).hasSize(2).contains(courseFeedback2, courseFeedback3);
     }
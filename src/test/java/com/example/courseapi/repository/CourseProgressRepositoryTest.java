@@ -0,0 +1,111 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.config.PostgresRepositoryTestContainer;
+import com.example.courseapi.config.annotation.DefaultJPARepositoryTestConfiguration;
+import com.example.courseapi.domain.*;
+import com.example.courseapi.domain.enums.CourseStatus;
+import com.example.courseapi.util.EntityCreatorUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DefaultJPARepositoryTestConfiguration
+public class CourseProgressRepositoryTest extends PostgresRepositoryTestContainer {
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseProgressRepository courseProgressRepository;
+
+    private Course course;
+    private Student student;
+    private List<Lesson> lessons;
+
+    @BeforeEach
+    public void setup() {
+        Set<Instructor> instructors = new HashSet<>();
+        instructors.add(entityManager.persist(EntityCreatorUtil.createInstructor("progress")));
+        course = EntityCreatorUtil.createCourse("progress", instructors);
+        lessons = List.of(EntityCreatorUtil.createLesson("1", course), EntityCreatorUtil.createLesson("2", course));
+        entityManager.persist(course);
+        student = entityManager.persist(EntityCreatorUtil.createStudent("progress"));
+        entityManager.flush();
+    }
+
+    private CourseProgress findProgress() {
+        entityManager.clear();
+        return courseProgressRepository
+                .findById(new CourseProgress.CourseProgressId(student.getId(), course.getId()))
+                .orElseThrow();
+    }
+
+    private void submit(final Lesson lesson, final double grade) {
+        Submission submission = EntityCreatorUtil.createSubmission("", lesson, student);
+        submission.setGrade(grade);
+        entityManager.persist(submission);
+        courseProgressRepository.applyDelta(lesson.getId(), student.getId(), 1, grade);
+        courseProgressRepository.refreshStatusByLesson(lesson.getId(), student.getId());
+    }
+
+    @Transactional
+    @Test
+    public void should_keep_course_in_progress_until_every_lesson_is_submitted() {
+        submit(lessons.get(0), 90.0);
+
+        CourseProgress progress = findProgress();
+        assertThat(progress.getSubmittedLessons()).isEqualTo(1);
+        assertThat(progress.getGradeSum()).isEqualTo(90.0);
+        assertThat(progress.getStatus()).isEqualTo(CourseStatus.IN_PROGRESS);
+        assertThat(progress.getFinalGrade()).isNull();
+    }
+
+    @Transactional
+    @Test
+    public void should_complete_course_when_every_lesson_is_submitted() {
+        submit(lessons.get(0), 90.0);
+        submit(lessons.get(1), 80.0);
+
+        CourseProgress progress = findProgress();
+        assertThat(progress.getStatus()).isEqualTo(CourseStatus.COMPLETED);
+        assertThat(progress.getFinalGrade()).isEqualTo(85.0);
+        assertThat(courseProgressRepository.countDrift()).isZero();
+    }
+
+    @Transactional
+    @Test
+    public void should_detect_and_repair_drift() {
+        submit(lessons.get(0), 90.0);
+        courseProgressRepository.applyDelta(lessons.get(1).getId(), student.getId(), 1, 10.0);
+        assertThat(courseProgressRepository.countDrift()).isEqualTo(1);
+
+        courseProgressRepository.deleteAllRows();
+        courseProgressRepository.recalculateAllCounters();
+        courseProgressRepository.refreshAllStatuses();
+
+        assertThat(courseProgressRepository.countDrift()).isZero();
+        assertThat(findProgress().getSubmittedLessons()).isEqualTo(1);
+    }
+
+    @Transactional
+    @Test
+    public void should_recalculate_course_after_lesson_changes() {
+        submit(lessons.get(0), 90.0);
+        submit(lessons.get(1), 80.0);
+        EntityCreatorUtil.createLesson("3", course);
+        entityManager.persist(course);
+
+        courseProgressRepository.resetCounters(List.of(course.getId()));
+        courseProgressRepository.recalculateCounters(List.of(course.getId()));
+        courseProgressRepository.refreshStatus(List.of(course.getId()));
+
+        CourseProgress progress = findProgress();
+        assertThat(progress.getSubmittedLessons()).isEqualTo(2);
+        assertThat(progress.getStatus()).isEqualTo(CourseStatus.IN_PROGRESS);
+    }
+}
@@ -5,18 +5,35 @@ import com.example.courseapi.config.PostgresRepositoryTestContainer;
 import com.example.courseapi.config.annotation.DefaultJPARepositoryTestConfiguration;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.Instructor;
+import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.Submission;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
+import com.example.courseapi.repository.projection.CourseGradeAggregate;
+import com.example.courseapi.repository.projection.CourseMembers;
+import com.example.courseapi.repository.projection.StudentEnrollmentStats;
 import com.example.courseapi.util.EntityCreatorUtil;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
 @DefaultJPARepositoryTestConfiguration
@@ -99,7 +116,7 @@ public class CourseRepositoryTest extends PostgresRepositoryTestContainer {
 
     @Transactional
     @Test
-    public void should_find_courses_by_title_containing_string() {
+    public void should_search_courses_by_title_substring() {
         Course course1 = EntityCreatorUtil.createCourse("1", instructor);
         entityManager.persist(course1);
 
@@ -110,15 +127,17 @@ public class CourseRepositoryTest extends PostgresRepositoryTestContainer {
         Course course3 = EntityCreatorUtil.createCourse("3", instructor);
         course3.setTitle("Ringring");
         entityManager.persist(course3);
+        entityManager.flush();
 
-        List<Course> courses = courseRepository.findByTitleContaining("ring");
+        List<Course> courses = courseRepository.search("ring", PageRequest.of(0, 10));
 
-        assertThat(courses).hasSize(2).contains(course2, course3);
+        // Neither title has the word, the title closer to the text comes first
+        assertThat(courses).containsExactly(course3, course2);
     }
 
     @Transactional
     @Test
-    public void should_find_courses_by_description_containing_string() {
+    public void should_search_courses_by_description_substring() {
         Course course1 = EntityCreatorUtil.createCourse("1", instructor);
         course1.setDescription("DESCtestDESCDESC");
         entityManager.persist(course1);
@@ -129,12 +148,55 @@ public class CourseRepositoryTest extends PostgresRepositoryTestContainer {
 
         Course course3 = EntityCreatorUtil.createCourse("3", instructor);
         entityManager.persist(course3);
+        entityManager.flush();
 
-        List<Course> courses = courseRepository.findByDescriptionContaining("test");
+        List<Course> courses = courseRepository.search("test", PageRequest.of(0, 10));
 
         assertThat(courses).hasSize(2).contains(course1, course2);
     }
 
+    @Transactional
+    @Test
+    public void should_search_courses_with_wildcards_as_plain_characters() {
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        course1.setTitle("100% Java");
+        course1.setDescription("Every snake_case name");
+        entityManager.persist(course1);
+
+        Course course2 = EntityCreatorUtil.createCourse("2", instructor);
+        course2.setTitle("1000 Java puzzles");
+        course2.setDescription("Every snakeXcase name");
+        entityManager.persist(course2);
+        entityManager.flush();
+
+        assertThat(courseRepository.search("100%", PageRequest.of(0, 10))).containsExactly(course1);
+        assertThat(courseRepository.search("e_c", PageRequest.of(0, 10))).containsExactly(course1);
+        assertThat(courseRepository.search("\\", PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Transactional
+    @Test
+    public void should_search_courses_by_words_in_relevance_order() {
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        course1.setDescription("Working with collections and streams");
+        entityManager.persist(course1);
+
+        Course course2 = EntityCreatorUtil.createCourse("2", instructor);
+        course2.setTitle("Java Streams");
+        entityManager.persist(course2);
+
+        Course course3 = EntityCreatorUtil.createCourse("3", instructor);
+        course3.setDescription("Streaming video basics");
+        entityManager.persist(course3);
+        entityManager.flush();
+
+        List<Course> courses = courseRepository.search("stream -video", PageRequest.of(0, 10));
+
+        // Words are matched by their stem, title matches rank above description matches
+        assertThat(courses).containsExactly(course2, course1);
+        assertThat(courseRepository.search("stream -video", PageRequest.of(1, 1))).containsExactly(course1);
+    }
+
     @Transactional
     @Test
     public void should_update_course_by_id() {
@@ -194,4 +256,174 @@ public class CourseRepositoryTest extends PostgresRepositoryTestContainer {
 
         assertThat(courseRepository.count()).isEqualTo(0L);
     }
+
+    @Transactional
+    @Test
+    public void should_find_catalog_page_by_specification() {
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        entityManager.persist(course1);
+
+        Course course2 = EntityCreatorUtil.createCourse("2", instructor);
+        course2.setTitle("Titlering");
+        entityManager.persist(course2);
+
+        Course course3 = EntityCreatorUtil.createCourse("3", instructor);
+        course3.setTitle("Ringring");
+        entityManager.persist(course3);
+        entityManager.flush();
+
+        Specification<Course> titleContainsRing = (root, query, builder) ->
+                builder.like(root.get("title"), "%ring%");
+        Page<CourseCatalogRow> page = (Page<CourseCatalogRow>) courseRepository.findCatalogPage(
+                titleContainsRing, PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "title")), CountMode.EXACT);
+
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).id()).isEqualTo(course3.getId());
+        assertThat(page.getContent().get(0).title()).isEqualTo("Ringring");
+    }
+
+    @Transactional
+    @Test
+    public void should_find_catalog_page_without_exact_count() {
+        for (String suffix : List.of("1", "2", "3")) {
+            Course course = EntityCreatorUtil.createCourse(suffix, instructor);
+            course.setTitle("Ring " + suffix);
+            entityManager.persist(course);
+        }
+        entityManager.flush();
+
+        Specification<Course> titleContainsRing = (root, query, builder) ->
+                builder.like(root.get("title"), "Ring%");
+        PageRequest firstPage = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "title"));
+
+        Slice<CourseCatalogRow> slice = courseRepository.findCatalogPage(titleContainsRing, firstPage, CountMode.NONE);
+        assertThat(slice).isNotInstanceOf(Page.class);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).extracting(CourseCatalogRow::title).containsExactly("Ring 1", "Ring 2");
+
+        // A handful of rows is estimated below the threshold, so the total is counted
+        Page<CourseCatalogRow> estimated = (Page<CourseCatalogRow>) courseRepository.findCatalogPage(
+                titleContainsRing, firstPage, CountMode.ESTIMATE);
+        assertThat(estimated.getTotalElements()).isEqualTo(3);
+
+        Page<CourseCatalogRow> lastPage = (Page<CourseCatalogRow>) courseRepository.findCatalogPage(
+                titleContainsRing, firstPage.next(), CountMode.ESTIMATE);
+        assertThat(lastPage.getTotalElements()).isEqualTo(3);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Transactional
+    @Test
+    public void should_find_catalog_page_with_planner_estimate() {
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("""
+                INSERT INTO course_management.courses (title, description, available, created_date, modified_date,
+                                                       created_by, modified_by)
+                SELECT 'Bulk ' || n, 'Bulk course', false, now(), now(), 'test', 'test'
+                FROM generate_series(1, 2000) n
+                """).executeUpdate();
+        em.createNativeQuery("ANALYZE course_management.courses").executeUpdate();
+        // Statistics still count the deleted rows, which tells the estimate from an exact count
+        em.createNativeQuery("""
+                DELETE FROM course_management.courses
+                WHERE title LIKE 'Bulk %' AND substring(title FROM 6)::int % 4 <> 0
+                """).executeUpdate();
+
+        Specification<Course> titleStartsWithBulk = (root, query, builder) ->
+                builder.like(root.get("title"), "Bulk %");
+        Page<CourseCatalogRow> estimated = (Page<CourseCatalogRow>) courseRepository.findCatalogPage(
+                titleStartsWithBulk, PageRequest.of(0, 10), CountMode.ESTIMATE);
+        Page<CourseCatalogRow> exact = (Page<CourseCatalogRow>) courseRepository.findCatalogPage(
+                titleStartsWithBulk, PageRequest.of(0, 10), CountMode.EXACT);
+
+        assertThat(exact.getTotalElements()).isEqualTo(500);
+        // Above the threshold of 1 000 rows, under which the estimate is replaced by an exact count
+        assertThat(estimated.getTotalElements()).isGreaterThan(1_000);
+        assertThat(estimated.getContent()).hasSize(10);
+    }
+
+    @Transactional
+    @Test
+    public void should_find_course_members_as_ids_and_counts() {
+        Student student = entityManager.persist(EntityCreatorUtil.createStudent("members"));
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        course1.addStudent(student);
+        entityManager.persist(course1);
+
+        Course course2 = EntityCreatorUtil.createCourse("2", new HashSet<>());
+        entityManager.persist(course2);
+        entityManager.flush();
+
+        List<Long> courseIds = List.of(course1.getId(), course2.getId());
+        Long instructorId = instructor.iterator().next().getId();
+
+        Map<Long, CourseMembers> ids = courseRepository.findMembers(courseIds, CourseMembersView.IDS);
+        assertThat(ids.get(course1.getId()).instructorIds()).containsExactly(instructorId);
+        assertThat(ids.get(course1.getId()).studentIds()).containsExactly(student.getId());
+        assertThat(ids.get(course2.getId()).instructorIds()).isEmpty();
+
+        Map<Long, CourseMembers> counts = courseRepository.findMembers(courseIds, CourseMembersView.COUNT);
+        assertThat(counts.get(course1.getId()).instructorIds()).isNull();
+        assertThat(counts.get(course1.getId()).instructorCount()).isEqualTo(1);
+        assertThat(counts.get(course1.getId()).studentCount()).isEqualTo(1);
+        assertThat(counts.get(course2.getId()).studentCount()).isZero();
+    }
+
+    @Transactional
+    @Test
+    public void should_aggregate_student_grades_per_course() {
+        Student student = entityManager.persist(EntityCreatorUtil.createStudent("grades"));
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        Lesson lesson1 = EntityCreatorUtil.createLesson("1", course1);
+        Lesson lesson2 = EntityCreatorUtil.createLesson("2", course1);
+        entityManager.persist(course1);
+
+        Course course2 = EntityCreatorUtil.createCourse("2", new HashSet<>());
+        entityManager.persist(course2);
+
+        Submission submission1 = EntityCreatorUtil.createSubmission("1", lesson1, student);
+        submission1.setGrade(90.0);
+        entityManager.persist(submission1);
+        Submission submission2 = EntityCreatorUtil.createSubmission("2", lesson2, student);
+        submission2.setGrade(70.0);
+        entityManager.persist(submission2);
+        entityManager.flush();
+
+        Map<Long, CourseGradeAggregate> aggregates = courseRepository
+                .findGradeAggregates(student.getId(), List.of(course1.getId(), course2.getId())).stream()
+                .collect(Collectors.toMap(CourseGradeAggregate::courseId, Function.identity()));
+
+        assertThat(aggregates.get(course1.getId()))
+                .isEqualTo(new CourseGradeAggregate(course1.getId(), 2L, 2L, 160.0));
+        assertThat(aggregates.get(course2.getId()))
+                .isEqualTo(new CourseGradeAggregate(course2.getId(), 0L, 0L, null));
+    }
+
+    @Transactional
+    @Test
+    public void should_aggregate_enrollment_stats_and_enroll_students() {
+        Student enrolled = entityManager.persist(EntityCreatorUtil.createStudent("enrolled"));
+        Student newcomer = entityManager.persist(EntityCreatorUtil.createStudent("newcomer"));
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        course1.addStudent(enrolled);
+        entityManager.persist(course1);
+        Course course2 = EntityCreatorUtil.createCourse("2", instructor);
+        course2.addStudent(enrolled);
+        entityManager.persist(course2);
+        entityManager.flush();
+
+        Long instructorId = instructor.iterator().next().getId();
+        assertThat(courseRepository.lockStudents(List.of(enrolled.getId(), newcomer.getId(), instructorId)))
+                .isEqualTo(2);
+        Map<Long, StudentEnrollmentStats> stats = courseRepository.findEnrollmentStats(course1.getId(),
+                List.of(enrolled.getId(), newcomer.getId(), instructorId));
+        assertThat(stats).containsOnlyKeys(enrolled.getId(), newcomer.getId());
+        assertThat(stats.get(enrolled.getId())).isEqualTo(new StudentEnrollmentStats(enrolled.getId(), 2L, true));
+        assertThat(stats.get(newcomer.getId())).isEqualTo(new StudentEnrollmentStats(newcomer.getId(), 0L, false));
+
+        assertThat(courseRepository.enrollStudents(course1.getId(), List.of(enrolled.getId(), newcomer.getId())))
+                .isEqualTo(1);
+        assertThat(courseRepository.existsByIdAndStudentsId(course1.getId(), newcomer.getId())).isTrue();
+    }
 }
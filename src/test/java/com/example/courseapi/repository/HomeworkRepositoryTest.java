@@ -4,6 +4,7 @@ import com.example.courseapi.config.PostgresRepositoryTestContainer;
 import com.example.courseapi.config.annotation.DefaultJPARepositoryTestConfiguration;
 import com.example.courseapi.domain.*;
 import com.example.courseapi.domain.enums.Roles;
+import com.example.courseapi.repository.specification.HomeworkSpecifications;
 import com.example.courseapi.util.EntityCreatorUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -128,6 +129,32 @@ public class HomeworkRepositoryTest extends PostgresRepositoryTestContainer {
                 .contains(homework1, homework2, homework3);
     }
 
+    @Transactional
+    @Test
+    public void should_scope_homeworks_by_course_membership() {
+        Student student = userRepository.save(createStudent("1"));
+        Instructor other = instructorRepository.save(EntityCreatorUtil.createInstructor("other"));
+
+        Course course1 = EntityCreatorUtil.createCourse("1", instructor);
+        course1.addStudent(student);
+        entityManager.persist(course1);
+        Lesson lesson1 = lessonRepository.save(EntityCreatorUtil.createLesson("1", course1));
+        Homework homework1 = homeworkRepository.save(EntityCreatorUtil.createHomework("1", lesson1, student));
+
+        Course course2 = entityManager.persist(EntityCreatorUtil.createCourse("2", new HashSet<>(Set.of(other))));
+        Lesson lesson2 = lessonRepository.save(EntityCreatorUtil.createLesson("2", course2));
+        Homework homework2 = homeworkRepository.save(EntityCreatorUtil.createHomework("2", lesson2, student));
+        entityManager.flush();
+
+        assertThat(homeworkRepository.findAll(HomeworkSpecifications.lessonOfStudentCourses(student.getId())))
+                .containsExactly(homework1);
+        assertThat(homeworkRepository.findAll(
+                HomeworkSpecifications.lessonOfInstructorCourses(instructor.iterator().next().getId())))
+                .containsExactly(homework1);
+        assertThat(homeworkRepository.findAll(HomeworkSpecifications.lessonOfInstructorCourses(other.getId())))
+                .containsExactly(homework2);
+    }
+
     @Transactional
     @Test
     public void should_find_homework_by_id() {
@@ -6,14 +6,18 @@ import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.Instructor;
 import com.example.courseapi.domain.Lesson;
 import com.example.courseapi.util.EntityCreatorUtil;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -120,7 +124,7 @@ public class LessonRepositoryTest extends PostgresRepositoryTestContainer {
 
     @Transactional
     @Test
-    public void should_find_lessons_by_title_containing_string() {
+    public void should_search_lessons_by_title_substring() {
         Course course1 = entityManager.persist(EntityCreatorUtil.createCourse("1", instructor));
         Lesson lesson1 = entityManager.persist(
                 EntityCreatorUtil.createLesson("1", course1)
@@ -140,14 +144,16 @@ public class LessonRepositoryTest extends PostgresRepositoryTestContainer {
                 lesson3ToSave
         );
 
-        List<Lesson> lessons = lessonRepository.findByTitleContaining("test");
+        entityManager.flush();
+
+        List<Lesson> lessons = lessonRepository.search("test", PageRequest.of(0, 10));
 
         assertThat(lessons).hasSize(2).contains(lesson2, lesson3);
     }
 
     @Transactional
     @Test
-    public void should_find_lessons_by_description_containing_string() {
+    public void should_search_lessons_by_description_substring() {
         Course course1 = entityManager.persist(EntityCreatorUtil.createCourse("1", instructor));
         Lesson lesson1ToSave = EntityCreatorUtil.createLesson("1", course1);
         lesson1ToSave.setDescription("TESTTITLEtestDescription");
@@ -166,8 +172,9 @@ public class LessonRepositoryTest extends PostgresRepositoryTestContainer {
         Lesson lesson3 = entityManager.persist(
                 lesson3ToSave
         );
+        entityManager.flush();
 
-        List<Lesson> lessons = lessonRepository.findByDescriptionContaining("test");
+        List<Lesson> lessons = lessonRepository.search("test", PageRequest.of(0, 10));
 
         assertThat(lessons).hasSize(2).contains(lesson1, lesson3);
     }
@@ -202,5 +209,28 @@ public class LessonRepositoryTest extends PostgresRepositoryTestContainer {
         assertThat(checkLesson.getTitle()).isEqualTo(lesson.getTitle());
         assertThat(checkLesson.getDescription()).isEqualTo(lesson.getDescription());
     }
-}
 
+    @Transactional
+    @Test
+    public void should_batch_lesson_inserts() {
+        Course course = entityManager.persistFlushFind(EntityCreatorUtil.createCourse("1", instructor));
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            lessons.add(EntityCreatorUtil.createLesson(String.valueOf(i), course));
+        }
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            lessonRepository.saveAll(lessons);
+            entityManager.flush();
+
+            // 3 id blocks + 3 insert batches instead of one insert per lesson
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+            assertThat(lessons).extracting(Lesson::getId).doesNotContainNull().doesNotHaveDuplicates();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+}
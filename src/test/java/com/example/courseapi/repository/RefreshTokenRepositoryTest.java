@@ -0,0 +1,68 @@
+package com.example.courseapi.repository;
+
+import com.example.courseapi.config.PostgresRepositoryTestContainer;
+import com.example.courseapi.config.annotation.DefaultJPARepositoryTestConfiguration;
+import com.example.courseapi.domain.RefreshToken;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.util.EntityCreatorUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DefaultJPARepositoryTestConfiguration
+public class RefreshTokenRepositoryTest extends PostgresRepositoryTestContainer {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private static byte[] hash(final int value) {
+        byte[] hash = new byte[32];
+        Arrays.fill(hash, (byte) value);
+        return hash;
+    }
+
+    @Transactional
+    @Test
+    public void should_keep_one_token_per_user() {
+        Student student = entityManager.persistFlushFind(EntityCreatorUtil.createStudent());
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        refreshTokenRepository.upsert(first, student.getId(), hash(1), LocalDateTime.now().plusDays(1));
+        refreshTokenRepository.upsert(second, student.getId(), hash(2), LocalDateTime.now().plusDays(1));
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.findAll()).extracting(RefreshToken::getId).containsExactly(second);
+        assertThat(refreshTokenRepository.existsByIdAndUserIdAndTokenHash(second, student.getId(), hash(2))).isTrue();
+        assertThat(refreshTokenRepository.existsByIdAndUserIdAndTokenHash(second, student.getId(), hash(1))).isFalse();
+        assertThat(refreshTokenRepository.existsByIdAndUserIdAndTokenHash(first, student.getId(), hash(1))).isFalse();
+    }
+
+    @Transactional
+    @Test
+    public void should_delete_expired_tokens_in_batches() {
+        for (int i = 0; i < 3; i++) {
+            Student student = entityManager.persistFlushFind(EntityCreatorUtil.createStudent(String.valueOf(i)));
+            refreshTokenRepository.upsert(UUID.randomUUID(), student.getId(), hash(i), LocalDateTime.now().minusDays(1));
+        }
+        Student active = entityManager.persistFlushFind(EntityCreatorUtil.createStudent("active"));
+        refreshTokenRepository.upsert(UUID.randomUUID(), active.getId(), hash(9), LocalDateTime.now().plusDays(1));
+
+        assertThat(refreshTokenRepository.deleteExpired(LocalDateTime.now(), 2)).isEqualTo(2);
+        assertThat(refreshTokenRepository.deleteExpired(LocalDateTime.now(), 2)).isEqualTo(1);
+        assertThat(refreshTokenRepository.deleteExpired(LocalDateTime.now(), 2)).isZero();
+        entityManager.clear();
+
+        assertThat(refreshTokenRepository.findAll()).hasSize(1);
+    }
+}
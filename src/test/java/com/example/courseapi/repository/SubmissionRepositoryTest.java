@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -187,6 +189,35 @@ public class SubmissionRepositoryTest extends PostgresRepositoryTestContainer {
         assertThat(submissions).hasSize(2).contains(submission1, submission3);
     }
 
+    @Transactional
+    @Test
+    public void should_find_only_submissions_of_instructor_courses() {
+        Instructor other = instructorRepository.save(EntityCreatorUtil.createInstructor("other"));
+        Student student = userRepository.save(EntityCreatorUtil.createStudent("1"));
+
+        Course course1 = entityManager.persist(EntityCreatorUtil.createCourse("1", instructor));
+        Lesson lesson1 = lessonRepository.save(EntityCreatorUtil.createLesson("1", course1));
+        Submission submission1 = submissionRepository.save(
+                EntityCreatorUtil.createSubmission("1", lesson1, student)
+        );
+
+        Course course2 = entityManager.persist(EntityCreatorUtil.createCourse("2", new HashSet<>(Set.of(other))));
+        Lesson lesson2 = lessonRepository.save(EntityCreatorUtil.createLesson("2", course2));
+        submissionRepository.save(EntityCreatorUtil.createSubmission("2", lesson2, student));
+        entityManager.flush();
+
+        Long instructorId = instructor.iterator().next().getId();
+        Page<Submission> byStudent = submissionRepository.findAllByStudentIdAndInstructorId(
+                student.getId(), instructorId, PageRequest.of(0, 10));
+        assertThat(byStudent.getContent()).containsExactly(submission1);
+        assertThat(byStudent.getTotalElements()).isEqualTo(1);
+
+        assertThat(submissionRepository.findAllByLessonIdAndInstructorId(
+                lesson1.getId(), instructorId, PageRequest.of(0, 10))).containsExactly(submission1);
+        assertThat(submissionRepository.findAllByLessonIdAndInstructorId(
+                lesson2.getId(), instructorId, PageRequest.of(0, 10))).isEmpty();
+    }
+
     @Transactional
     @Test
     public void should_update_submission_by_id() {
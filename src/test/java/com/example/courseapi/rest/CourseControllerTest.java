@@ -8,11 +8,19 @@ import com.example.courseapi.config.annotation.CustomMockStudent;
 import com.example.courseapi.config.annotation.DefaultTestConfiguration;
 import com.example.courseapi.domain.*;
 import com.example.courseapi.dto.request.CourseRequestDTO;
+import com.example.courseapi.dto.request.CourseStudentsRequestDTO;
+import com.example.courseapi.dto.request.LessonRequestDTO;
+import com.example.courseapi.dto.request.LessonsUpdateDTO;
+import com.example.courseapi.domain.enums.GradebookFormat;
 import com.example.courseapi.dto.response.CourseResponseDTO;
+import com.example.courseapi.dto.response.GradebookRowDTO;
+import com.example.courseapi.dto.response.LessonResponseDTO;
 import com.example.courseapi.repository.CourseRepository;
 import com.example.courseapi.repository.LessonRepository;
 import com.example.courseapi.repository.StudentRepository;
 import com.example.courseapi.repository.SubmissionRepository;
+import com.example.courseapi.service.GradebookService;
+import com.example.courseapi.service.LessonService;
 import com.example.courseapi.service.mapper.CourseMapper;
 import com.example.courseapi.util.EntityCreatorUtil;
 import com.example.courseapi.util.JacksonUtil;
@@ -37,7 +45,11 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,6 +87,12 @@ class CourseControllerTest extends PostgresTestContainer {
     @Autowired
     private CourseMapper courseMapper;
 
+    @Autowired
+    private GradebookService gradebookService;
+
+    @Autowired
+    private LessonService lessonService;
+
     private MockMvc restCourseMockMvc;
 
     private AutoCloseable closable;
@@ -385,6 +403,64 @@ class CourseControllerTest extends PostgresTestContainer {
                 .andExpect(jsonPath("$.content", Matchers.hasSize(1)));
     }
 
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getAllCoursesFilteredByMembersKeepsTotals() throws Exception {
+        // Initialize the database with one course of several students and instructors
+        Course course = createEntity(entityManager);
+        List<Student> students = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            Student student = EntityCreatorUtil.createStudent("filter" + index);
+            entityManager.persist(student);
+            course.addStudent(student);
+            students.add(student);
+        }
+        Instructor instructor = EntityCreatorUtil.createInstructor("filter");
+        entityManager.persist(instructor);
+        course.addInstructor(instructor);
+        course = courseRepository.saveAndFlush(course);
+        String studentIds = students.stream().map(student -> student.getId().toString())
+                .collect(Collectors.joining(","));
+        String instructorIds = course.getInstructors().stream().map(member -> member.getId().toString())
+                .collect(Collectors.joining(","));
+
+        // Every matching member would add a row with plain joins
+        restCourseMockMvc.perform(get("/api/v1/courses")
+                        .param("filter", "id:equals:" + course.getId())
+                        .param("filter", "students.id:in:" + studentIds)
+                        .param("filter", "instructors.id:in:" + instructorIds))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)));
+
+        // Filters on the same collection apply to the same member
+        restCourseMockMvc.perform(get("/api/v1/courses")
+                        .param("filter", "id:equals:" + course.getId())
+                        .param("filter", "students.id:in:" + students.get(0).getId())
+                        .param("filter", "students.email:contains:" + students.get(0).getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+        restCourseMockMvc.perform(get("/api/v1/courses")
+                        .param("filter", "id:equals:" + course.getId())
+                        .param("filter", "students.id:in:" + students.get(0).getId())
+                        .param("filter", "students.email:contains:" + students.get(1).getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getAllCoursesWithInvalidFilter() throws Exception {
+        restCourseMockMvc.perform(get("/api/v1/courses").param("filter", "name:equals:Java"))
+                .andExpect(status().isBadRequest());
+        restCourseMockMvc.perform(get("/api/v1/courses").param("filter", "id:equals:one"))
+                .andExpect(status().isBadRequest());
+        restCourseMockMvc.perform(get("/api/v1/courses").param("filter", "title:like:Java"))
+                .andExpect(status().isBadRequest());
+    }
+
 
     @Test
     @Transactional
@@ -1125,6 +1201,278 @@ class CourseControllerTest extends PostgresTestContainer {
         assertThat(courseOpt.get().getInstructors()).doesNotContain(instructor);
     }
 
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void addFirstInstructorShouldOpenCourse() throws Exception {
+        // Initialize the database with a closed course of five lessons and no instructors
+        Course course = createEntity(entityManager);
+        for (int index = 0; index < 5; index++) {
+            LessonControllerTest.createEntity(course);
+        }
+        course = courseRepository.saveAndFlush(course);
+        entityManager.createNativeQuery("DELETE FROM course_management.courses_instructors WHERE course_id = :courseId")
+                .setParameter("courseId", course.getId())
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE course_management.courses SET available = false WHERE id = :courseId")
+                .setParameter("courseId", course.getId())
+                .executeUpdate();
+        Instructor instructor = EntityCreatorUtil.createInstructor("1");
+        entityManager.persist(instructor);
+        entityManager.flush();
+        entityManager.clear();
+
+        restCourseMockMvc.perform(put("/api/v1/courses/" + course.getId() + "/instructor/" + instructor.getId()))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(courseRepository.findById(course.getId())).get()
+                .extracting(Course::getAvailable).isEqualTo(true);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void deleteInstructorShouldKeepCourseAvailability() throws Exception {
+        // Initialize the database with an open course of five lessons and two instructors
+        Course course = createEntity(entityManager);
+        for (int index = 0; index < 5; index++) {
+            LessonControllerTest.createEntity(course);
+        }
+        Instructor instructor = EntityCreatorUtil.createInstructor("1");
+        entityManager.persist(instructor);
+        course.addInstructor(instructor);
+        course = courseRepository.saveAndFlush(course);
+        assertTrue(course.getAvailable());
+        Long remainingInstructorId = course.getInstructors().stream()
+                .map(Instructor::getId)
+                .filter(id -> !id.equals(instructor.getId()))
+                .findFirst()
+                .orElseThrow();
+        entityManager.clear();
+
+        restCourseMockMvc.perform(delete("/api/v1/courses/" + course.getId() + "/instructor/" + instructor.getId()))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(courseRepository.findById(course.getId())).get()
+                .extracting(Course::getAvailable).isEqualTo(true);
+
+        // The last instructor can not be removed, the course would be left without one
+        restCourseMockMvc.perform(delete("/api/v1/courses/" + course.getId() + "/instructor/" + remainingInstructorId))
+                .andExpect(status().isBadRequest());
+        entityManager.clear();
+        assertTrue(courseRepository.existsByIdAndInstructorsId(course.getId(), remainingInstructorId));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void updateCourseLessonsShouldOpenCourse() throws Exception {
+        // Initialize the database with a closed course without lessons
+        Course course = courseRepository.saveAndFlush(createEntity(entityManager));
+        assertFalse(course.getAvailable());
+        entityManager.clear();
+
+        Set<LessonRequestDTO> lessons = new HashSet<>();
+        for (int index = 0; index < 5; index++) {
+            lessons.add(LessonRequestDTO.builder()
+                    .title("Lesson#" + index)
+                    .description("Lesson description#" + index)
+                    .courseId(course.getId())
+                    .build());
+        }
+        restCourseMockMvc.perform(put("/api/v1/courses/{courseId}/lessons", course.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(new LessonsUpdateDTO(lessons))))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(courseRepository.findById(course.getId())).get()
+                .extracting(Course::getAvailable).isEqualTo(true);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void saveFifthLessonShouldOpenCourseForSubscription() throws Exception {
+        // Initialize the database with a closed course of four lessons
+        Course course = createEntity(entityManager);
+        for (int index = 0; index < 4; index++) {
+            LessonControllerTest.createEntity(course);
+        }
+        course = courseRepository.saveAndFlush(course);
+        assertFalse(course.getAvailable());
+        Student student = studentRepository.saveAndFlush(EntityCreatorUtil.createStudent());
+        entityManager.clear();
+
+        LessonResponseDTO lesson = lessonService.save(LessonRequestDTO.builder()
+                .title("Lesson#5")
+                .description("Lesson description#5")
+                .courseId(course.getId())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        restCourseMockMvc.perform(put("/api/v1/courses/" + course.getId() + "/subscribe/" + student.getId()))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Deleting a lesson of a course with five closes it again
+        lessonService.delete(lesson.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(courseRepository.findById(course.getId())).get()
+                .extracting(Course::getAvailable).isEqualTo(false);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void updateCourseLessonsShouldRecalculateSourceCourse() throws Exception {
+        // Initialize the database with an open course of six lessons and a closed course of four
+        Course source = createEntity(entityManager);
+        for (int index = 0; index < 6; index++) {
+            LessonControllerTest.createEntity(source);
+        }
+        source = courseRepository.saveAndFlush(source);
+        Instructor instructor = EntityCreatorUtil.createInstructor("1");
+        entityManager.persist(instructor);
+        Course target = Course.builder()
+                .title(UPDATED_TITLE)
+                .description(UPDATED_DESCRIPTION)
+                .build();
+        target.addInstructor(instructor);
+        for (int index = 0; index < 4; index++) {
+            LessonControllerTest.createEntity(target);
+        }
+        target = courseRepository.saveAndFlush(target);
+        // The flag of the source course is stale, only a recalculation from its rows corrects it
+        entityManager.createNativeQuery("UPDATE course_management.courses SET available = false WHERE id = :courseId")
+                .setParameter("courseId", source.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        final Long targetId = target.getId();
+        Set<LessonRequestDTO> lessons = Stream.concat(target.getLessons().stream(),
+                        source.getLessons().stream().limit(1))
+                .map(lesson -> LessonRequestDTO.builder()
+                        .id(lesson.getId())
+                        .title(lesson.getTitle())
+                        .description(lesson.getDescription())
+                        .courseId(targetId)
+                        .build())
+                .collect(Collectors.toSet());
+        restCourseMockMvc.perform(put("/api/v1/courses/{courseId}/lessons", targetId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(new LessonsUpdateDTO(lessons))))
+                .andExpect(status().isOk());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(courseRepository.findById(targetId)).get()
+                .extracting(Course::getAvailable).isEqualTo(true);
+        assertThat(courseRepository.findById(source.getId())).get()
+                .extracting(Course::getAvailable).isEqualTo(true);
+        assertThat(lessonRepository.findByCourseId(source.getId())).hasSize(5);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void enrollStudentsToCourse() throws Exception {
+        Course course = createEntity(entityManager);
+        Student enrolled = EntityCreatorUtil.createStudent("enrolled");
+        entityManager.persist(enrolled);
+        course.addStudent(enrolled);
+        course = courseRepository.saveAndFlush(course);
+
+        Student newcomer = EntityCreatorUtil.createStudent("newcomer");
+        entityManager.persist(newcomer);
+        entityManager.flush();
+
+        CourseStudentsRequestDTO studentsDTO = new CourseStudentsRequestDTO(
+                Set.of(enrolled.getId(), newcomer.getId(), Long.MAX_VALUE));
+        restCourseMockMvc.perform(put("/api/v1/courses/{courseId}/students", course.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(studentsDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enrolled", Matchers.contains(newcomer.getId().intValue())))
+                .andExpect(jsonPath("$.rejected." + enrolled.getId(), Matchers.is("ALREADY_ENROLLED")))
+                .andExpect(jsonPath("$.rejected." + Long.MAX_VALUE, Matchers.is("STUDENT_NOT_FOUND")));
+
+        assertTrue(courseRepository.existsByIdAndStudentsId(course.getId(), newcomer.getId()));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getGradebookShouldStreamAttachment() throws Exception {
+        Course course = courseRepository.saveAndFlush(createEntity(entityManager));
+
+        restCourseMockMvc.perform(get("/api/v1/courses/{courseId}/gradebook?format=NDJSON", course.getId()))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition",
+                        Matchers.containsString("course-" + course.getId() + "-gradebook.ndjson")));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getGradebookForNonExistingCourse() throws Exception {
+        restCourseMockMvc.perform(get("/api/v1/courses/{courseId}/gradebook", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void writeGradebookShouldPivotGradesPerStudent() throws Exception {
+        Course course = createEntity(entityManager);
+        Lesson first = EntityCreatorUtil.createLesson("gradebook-1", course);
+        Lesson second = EntityCreatorUtil.createLesson("gradebook-2", course);
+        Student graded = EntityCreatorUtil.createStudent("gradebook-1");
+        Student idle = EntityCreatorUtil.createStudent("gradebook-2");
+        entityManager.persist(graded);
+        entityManager.persist(idle);
+        course.addStudent(graded);
+        course.addStudent(idle);
+        course = courseRepository.saveAndFlush(course);
+
+        Submission submission = EntityCreatorUtil.createSubmission("gradebook", first, graded);
+        submission.setGrade(90.0);
+        entityManager.persist(submission);
+        entityManager.flush();
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        gradebookService.writeGradebook(course.getId(), GradebookFormat.CSV, csv);
+        List<String> lines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).isEqualTo("student_id,first_name,last_name,email,"
+                + first.getTitle() + "," + second.getTitle() + ",course_status,final_grade");
+        assertThat(lines.get(graded.getId() < idle.getId() ? 1 : 2))
+                .startsWith(graded.getId() + ",").contains(",90.0,,IN_PROGRESS,");
+        assertThat(lines.get(graded.getId() < idle.getId() ? 2 : 1))
+                .startsWith(idle.getId() + ",").endsWith(",,,IN_PROGRESS,");
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        gradebookService.writeGradebook(course.getId(), GradebookFormat.NDJSON, ndjson);
+        List<GradebookRowDTO> rows = ndjson.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> JacksonUtil.deserialize(line, GradebookRowDTO.class))
+                .toList();
+        assertThat(rows).extracting(GradebookRowDTO::getStudentId)
+                .containsExactlyInAnyOrder(graded.getId(), idle.getId());
+        GradebookRowDTO gradedRow = rows.stream()
+                .filter(row -> row.getStudentId().equals(graded.getId()))
+                .findFirst().orElseThrow();
+        assertThat(gradedRow.getGrades()).containsEntry(first.getId(), 90.0).containsEntry(second.getId(), null);
+    }
+
     @Test
     @Transactional
     @CustomMockAdmin
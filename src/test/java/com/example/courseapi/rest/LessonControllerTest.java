@@ -13,6 +13,7 @@ import com.example.courseapi.service.mapper.LessonMapper;
 import com.example.courseapi.util.JacksonUtil;
 import com.example.courseapi.util.TestUtil;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.jayway.jsonpath.JsonPath;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -331,6 +332,71 @@ class LessonControllerTest extends PostgresTestContainer {
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getAllLessonsWithCountModes() throws Exception {
+        // Initialize the database
+        Lesson first = lessonRepository.saveAndFlush(createEntity(entityManager));
+        Lesson second = lessonRepository.saveAndFlush(createEntity(entityManager));
+        String filter = "id:in:%d,%d".formatted(first.getId(), second.getId());
+
+        restLessonMockMvc.perform(get("/api/v1/lessons")
+                        .param("size", "1").param("filter", filter).param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        restLessonMockMvc.perform(get("/api/v1/lessons")
+                        .param("size", "1").param("filter", filter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+
+        restLessonMockMvc.perform(get("/api/v1/lessons")
+                        .param("size", "1").param("filter", filter).param("count", "EXACT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getAllLessonsByCursor() throws Exception {
+        // Initialize the database
+        Lesson first = lessonRepository.saveAndFlush(createEntity(entityManager));
+        Lesson second = lessonRepository.saveAndFlush(createEntity(entityManager));
+        Lesson third = lessonRepository.saveAndFlush(createEntity(entityManager));
+        String filter = "id:in:%d,%d,%d".formatted(first.getId(), second.getId(), third.getId());
+
+        // The first page starts with an empty cursor and links to the next one
+        MvcResult firstPage = restLessonMockMvc.perform(get("/api/v1/lessons")
+                        .param("cursor", "").param("size", "2").param("sort", "id,desc").param("filter", filter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id",
+                        Matchers.contains(third.getId().intValue(), second.getId().intValue())))
+                .andExpect(jsonPath("$.next").isString())
+                .andReturn();
+        String next = JsonPath.read(firstPage.getResponse().getContentAsString(), "$.next");
+
+        // The cursor keeps the sort, the last page has no next cursor
+        restLessonMockMvc.perform(get("/api/v1/lessons")
+                        .param("cursor", next).param("size", "2").param("filter", filter))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", Matchers.contains(first.getId().intValue())))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    public void getAllLessonsByInvalidCursor() throws Exception {
+        restLessonMockMvc.perform(get("/api/v1/lessons").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        restLessonMockMvc.perform(get("/api/v1/lessons").param("cursor", "").param("sort", "course,asc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     @CustomMockAdmin
@@ -0,0 +1,256 @@
+package com.example.courseapi.rest;
+
+import com.example.courseapi.config.MockMvcBuilderTestConfiguration;
+import com.example.courseapi.config.PostgresTestContainer;
+import com.example.courseapi.config.annotation.CustomMockAdmin;
+import com.example.courseapi.config.annotation.CustomMockStudent;
+import com.example.courseapi.config.annotation.DefaultTestConfiguration;
+import com.example.courseapi.domain.*;
+import com.example.courseapi.util.EntityCreatorUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements issued by the read endpoints, so a mapping change that brings back
+ * eager graphs or per-row lazy loading fails here instead of in production.
+ * <p>
+ * The fixture contains several courses, lessons, students and submissions on purpose: an N+1 regression
+ * makes the statement count grow with the fixture, while a correct fetch plan keeps it constant.
+ */
+@DefaultTestConfiguration
+class StatementCountControllerTest extends PostgresTestContainer {
+    private static final int COURSES = 3;
+    private static final int LESSONS_PER_COURSE = 5;
+    private static final int STUDENTS_PER_COURSE = 4;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvcBuilderTestConfiguration mockMvcBuilderTestConfiguration;
+
+    @Autowired
+    private CourseController courseController;
+
+    @Autowired
+    private LessonController lessonController;
+
+    @Autowired
+    private SubmissionController submissionController;
+
+    @Autowired
+    private HomeworkController homeworkController;
+
+    @Autowired
+    private CourseFeedbackController courseFeedbackController;
+
+    @Autowired
+    private UserController userController;
+
+    private MockMvc restMockMvc;
+
+    private Statistics statistics;
+
+    private final List<Course> courses = new ArrayList<>();
+
+    private final List<Student> students = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        this.restMockMvc = mockMvcBuilderTestConfiguration.forControllers(courseController, lessonController,
+                submissionController, homeworkController, courseFeedbackController, userController);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void destroy() {
+        this.statistics.setStatisticsEnabled(false);
+        this.courses.clear();
+        this.students.clear();
+    }
+
+    private void createFixture() {
+        Instructor instructor = EntityCreatorUtil.createInstructor("statements");
+        entityManager.persist(instructor);
+        for (int s = 0; s < STUDENTS_PER_COURSE; s++) {
+            Student student = EntityCreatorUtil.createStudent("statements" + s);
+            entityManager.persist(student);
+            students.add(student);
+        }
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof Student student) {
+            students.add(entityManager.merge(student));
+        }
+
+        for (int c = 0; c < COURSES; c++) {
+            Course course = EntityCreatorUtil.createCourse("statements" + c, new HashSet<>());
+            course.addInstructor(instructor);
+            for (int l = 0; l < LESSONS_PER_COURSE; l++) {
+                EntityCreatorUtil.createLesson(c + "-" + l, course);
+            }
+            students.forEach(course::addStudent);
+            entityManager.persist(course);
+            courses.add(course);
+
+            for (Lesson lesson : course.getLessons()) {
+                for (Student student : students) {
+                    entityManager.persist(EntityCreatorUtil.createSubmission("", lesson, student));
+                    entityManager.persist(EntityCreatorUtil.createHomework(c + "-" + student.getId(), lesson, student));
+                }
+            }
+            for (Student student : students) {
+                entityManager.persist(EntityCreatorUtil.createCourseFeedback(c + "-" + student.getId(), student, course));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(final RequestBuilder request) throws Exception {
+        statistics.clear();
+        restMockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getAllCourses() throws Exception {
+        createFixture();
+        // projected page + members + lessons
+        assertThat(countStatements(get("/api/v1/courses?sort=id,desc"))).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getCourse() throws Exception {
+        createFixture();
+        // course + instructors, students and lessons
+        assertThat(countStatements(get("/api/v1/courses/{courseId}", courses.get(0).getId())))
+                .isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getStudentCourseStatus() throws Exception {
+        createFixture();
+        // subscription check + course with lessons + submissions + instructors and students
+        assertThat(countStatements(get("/api/v1/courses/{courseId}/students/{studentId}/status",
+                courses.get(0).getId(), students.get(0).getId())))
+                .isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockStudent
+    void getMyCourseStatus() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/courses/{courseId}/status", courses.get(0).getId())))
+                .isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockStudent
+    void getMyCourses() throws Exception {
+        createFixture();
+        // user + courses + grade aggregate + instructors, students and lessons batches
+        assertThat(countStatements(get("/api/v1/courses/my"))).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getAllLessons() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/lessons"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getCourseLessons() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/courses/{courseId}/lessons", courses.get(0).getId())))
+                .isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getLessonSubmissions() throws Exception {
+        createFixture();
+        Lesson lesson = courses.get(0).getLessons().iterator().next();
+        // current user + submissions page
+        assertThat(countStatements(get("/api/v1/lesson/{lessonId}/submissions", lesson.getId())))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getStudentSubmissions() throws Exception {
+        createFixture();
+        // current user + submissions
+        assertThat(countStatements(get("/api/v1/student/{studentId}/submissions", students.get(0).getId())))
+                .isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getAllHomeworks() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/homeworks"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getAllCourseFeedbacks() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/course-feedbacks"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockAdmin
+    void getAllUsers() throws Exception {
+        createFixture();
+        assertThat(countStatements(get("/api/v1/users"))).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @CustomMockStudent
+    void getMe() throws Exception {
+        createFixture();
+        // user + courses
+        assertThat(countStatements(get("/api/v1/users/me"))).isLessThanOrEqualTo(2);
+    }
+}
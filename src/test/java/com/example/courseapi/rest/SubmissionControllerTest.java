@@ -6,6 +6,8 @@ import com.example.courseapi.config.annotation.CustomMockAdmin;
 import com.example.courseapi.config.annotation.CustomMockInstructor;
 import com.example.courseapi.config.annotation.DefaultTestConfiguration;
 import com.example.courseapi.domain.*;
+import com.example.courseapi.dto.request.StudentGradeDTO;
+import com.example.courseapi.dto.request.SubmissionBatchRequestDTO;
 import com.example.courseapi.dto.request.SubmissionRequestDTO;
 import com.example.courseapi.dto.response.SubmissionResponseDTO;
 import com.example.courseapi.dto.request.GradeDTO;
@@ -30,6 +32,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 
@@ -184,6 +188,64 @@ class SubmissionControllerTest extends PostgresTestContainer {
         assertThat(savedSubmission.getGrade()).isEqualTo(submission.getGrade());
     }
 
+    @Test
+    @Transactional
+    @CustomMockInstructor
+    void saveSubmissionsBatch() throws Exception {
+
+        // Existing submission of an enrolled student
+        Submission submission = submissionRepository.saveAndFlush(createEntity(entityManager, 50.0));
+        Lesson lesson = submission.getLesson();
+        Student graded = submission.getStudent();
+
+        // Enrolled student without a submission
+        Student enrolled = EntityCreatorUtil.createStudent("batch");
+        entityManager.persist(enrolled);
+        lesson.getCourse().addStudent(enrolled);
+
+        // Student of no course
+        Student stranger = EntityCreatorUtil.createStudent("stranger");
+        entityManager.persist(stranger);
+        entityManager.flush();
+
+        SubmissionBatchRequestDTO batchDTO = new SubmissionBatchRequestDTO(List.of(
+                new StudentGradeDTO(graded.getId(), 90.0),
+                new StudentGradeDTO(enrolled.getId(), 70.0),
+                new StudentGradeDTO(stranger.getId(), 60.0),
+                new StudentGradeDTO(enrolled.getId(), 10.0)));
+
+        restSubmissionMockMvc.perform(post("/api/v1/lessons/{lessonId}/submissions:batch", lesson.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(batchDTO)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status", Matchers.contains(
+                        "UPDATED", "CREATED", "NOT_ENROLLED", "DUPLICATE")));
+
+        entityManager.clear();
+        assertThat(submissionRepository.findById(new Submission.SubmissionId(graded.getId(), lesson.getId())))
+                .get().extracting(Submission::getGrade).isEqualTo(90.0);
+        assertThat(submissionRepository.findById(new Submission.SubmissionId(enrolled.getId(), lesson.getId())))
+                .get().extracting(Submission::getGrade).isEqualTo(70.0);
+        assertThat(submissionRepository.findById(new Submission.SubmissionId(stranger.getId(), lesson.getId())))
+                .isEmpty();
+    }
+
+    @Test
+    @Transactional
+    @CustomMockInstructor
+    void saveSubmissionsBatchWithInvalidGrade() throws Exception {
+        Submission submission = submissionRepository.saveAndFlush(createEntity(entityManager, 50.0));
+
+        SubmissionBatchRequestDTO batchDTO = new SubmissionBatchRequestDTO(List.of(
+                new StudentGradeDTO(submission.getStudent().getId(), 101.0)));
+
+        restSubmissionMockMvc.perform(post("/api/v1/lessons/{lessonId}/submissions:batch",
+                                submission.getLesson().getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(TestUtil.convertObjectToJsonBytes(batchDTO)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     @CustomMockInstructor
@@ -198,8 +260,36 @@ class SubmissionControllerTest extends PostgresTestContainer {
                 get("/api/v1/lesson/" + lesson.getId() + "/submissions")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$", Matchers.hasSize(1)));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)));
+    }
+
+    @Test
+    @Transactional
+    @CustomMockInstructor
+    void findByStudentWithInstructorRoleShouldSkipOtherCourses() throws Exception {
+
+        // Submission in a course of the current instructor
+        Submission submission = submissionRepository.save(createEntity(entityManager, 80.0));
+        Student student = submission.getStudent();
+
+        // Submission of the same student in a course of another instructor
+        Course course = EntityCreatorUtil.createCourse("other", new HashSet<>());
+        Instructor instructor = EntityCreatorUtil.createInstructor("other");
+        entityManager.persist(instructor);
+        course.addInstructor(instructor);
+        course.addStudent(student);
+        Lesson lesson = EntityCreatorUtil.createLesson("other", course);
+        entityManager.persist(course);
+        submissionRepository.saveAndFlush(EntityCreatorUtil.createSubmission("other", lesson, student));
+
+        restSubmissionMockMvc.perform(
+                        get("/api/v1/student/" + student.getId() + "/submissions")
+                                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)))
+                .andExpect(jsonPath("$.content[0].lessonId", Matchers.is(submission.getLesson().getId().intValue())))
+                .andExpect(jsonPath("$.totalElements", Matchers.is(1)));
     }
 
     @Test
@@ -217,8 +307,8 @@ class SubmissionControllerTest extends PostgresTestContainer {
                                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$", Matchers.hasSize(1)));
+                .andExpect(jsonPath("$.content").isArray())
+                .andExpect(jsonPath("$.content", Matchers.hasSize(1)));
     }
 
     @Test
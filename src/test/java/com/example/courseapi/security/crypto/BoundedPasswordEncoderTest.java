@@ -0,0 +1,106 @@
+package com.example.courseapi.security.crypto;
+
+import com.example.courseapi.config.PasswordEncoderProperties;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void destroy() {
+        boundedPasswordEncoder.destroy();
+    }
+
+    private BoundedPasswordEncoder encoder(final int strength, final int poolSize, final int queueCapacity) {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setStrength(strength);
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        properties.setRetryAfter(Duration.ofSeconds(3));
+        boundedPasswordEncoder = new BoundedPasswordEncoder(properties, meterRegistry);
+        return boundedPasswordEncoder;
+    }
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link BoundedPasswordEncoder#encode(CharSequence)}
+     *   <li>{@link BoundedPasswordEncoder#matches(CharSequence, String)}
+     * </ul>
+     */
+    @Test
+    void testEncodeAndMatches() {
+        BoundedPasswordEncoder encoder = encoder(4, 2, 10);
+
+        String hash = encoder.encode("iloveyou");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("iloveyou", hash));
+        assertFalse(encoder.matches("iloveyou2", hash));
+        assertEquals(1, meterRegistry.get("security.password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("security.password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(0, meterRegistry.get("security.password.queue").gauge().value());
+    }
+
+    /**
+     * Method under test: {@link BoundedPasswordEncoder#upgradeEncoding(String)}
+     */
+    @Test
+    void testUpgradeEncoding() {
+        BoundedPasswordEncoder encoder = encoder(5, 1, 10);
+
+        assertFalse(encoder.upgradeEncoding(encoder.encode("iloveyou")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("iloveyou")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("iloveyou")));
+        assertFalse(encoder.upgradeEncoding("not a bcrypt hash"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    /**
+     * Method under test: {@link BoundedPasswordEncoder#encode(CharSequence)}
+     */
+    @Test
+    void testEncodeRejectedWhenSaturated() throws InterruptedException {
+        BoundedPasswordEncoder encoder = encoder(13, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return encoder.encode("iloveyou");
+            }));
+        }
+        start.countDown();
+
+        List<SystemException> rejections = new ArrayList<>();
+        for (Future<String> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException ex) {
+                rejections.add(assertInstanceOf(SystemException.class, ex.getCause()));
+            }
+        }
+        callers.shutdown();
+
+        assertFalse(rejections.isEmpty());
+        assertEquals(ErrorCode.SERVICE_UNAVAILABLE, rejections.get(0).getErrorCode());
+        assertEquals(3L, rejections.get(0).get().get(SystemException.RETRY_AFTER));
+        assertEquals(rejections.size(), meterRegistry.get("security.password.rejected").counter().count());
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.courseapi.security.policy;
+
+import com.example.courseapi.security.annotation.Authorize;
+import com.example.courseapi.security.annotation.AuthorizeResult;
+import com.example.courseapi.security.annotation.PolicyTarget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authorization.method.MethodInvocationResult;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessPolicyRegistryTest {
+
+    static class EvenIdPolicy implements AccessPolicy<Long> {
+        @Override
+        public boolean isGranted(final Long id) {
+            return id % 2 == 0;
+        }
+    }
+
+    static class ShortNamePolicy implements AccessPolicy<CharSequence> {
+        @Override
+        public boolean isGranted(final CharSequence name) {
+            return name.length() < 5;
+        }
+    }
+
+    @RestController
+    static class GuardedController {
+        @Authorize(EvenIdPolicy.class)
+        public void byId(final String name, @PolicyTarget final long id) {
+        }
+
+        @AuthorizeResult(ShortNamePolicy.class)
+        public ResponseEntity<String> name() {
+            return ResponseEntity.ok("name");
+        }
+    }
+
+    @RestController
+    static class MissingTargetController {
+        @Authorize(EvenIdPolicy.class)
+        public void byId(final Long id) {
+        }
+    }
+
+    @RestController
+    static class RepeatedTargetController {
+        @Authorize(EvenIdPolicy.class)
+        public void byIds(@PolicyTarget final Long first, @PolicyTarget final Long second) {
+        }
+    }
+
+    @RestController
+    static class MismatchedTargetController {
+        @Authorize(ShortNamePolicy.class)
+        public void byId(@PolicyTarget final Long id) {
+        }
+    }
+
+    private static AccessPolicyRegistry registry(final Class<?> controller, final Class<?>... policies) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("controller", new RootBeanDefinition(controller));
+        for (Class<?> policy : policies) {
+            beanFactory.registerBeanDefinition(policy.getSimpleName(), new RootBeanDefinition(policy));
+        }
+        AccessPolicyRegistry registry = new AccessPolicyRegistry(beanFactory);
+        registry.afterSingletonsInstantiated();
+        return registry;
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#isGranted(org.aopalliance.intercept.MethodInvocation)}
+     */
+    @Test
+    void testIsGrantedEvaluatesPolicyTarget() throws NoSuchMethodException {
+        AccessPolicyRegistry registry = registry(GuardedController.class, EvenIdPolicy.class, ShortNamePolicy.class);
+        GuardedController controller = new GuardedController();
+        Method method = GuardedController.class.getMethod("byId", String.class, long.class);
+
+        assertTrue(registry.isGranted(new SimpleMethodInvocation(controller, method, "name", 2L)));
+        assertFalse(registry.isGranted(new SimpleMethodInvocation(controller, method, "name", 3L)));
+        assertFalse(registry.isGranted(new SimpleMethodInvocation(controller, method, "name", null)));
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#isGranted(MethodInvocationResult)}
+     */
+    @Test
+    void testIsGrantedEvaluatesResponseBody() throws NoSuchMethodException {
+        AccessPolicyRegistry registry = registry(GuardedController.class, EvenIdPolicy.class, ShortNamePolicy.class);
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(
+                new GuardedController(), GuardedController.class.getMethod("name"));
+
+        assertTrue(registry.isGranted(new MethodInvocationResult(invocation, ResponseEntity.ok("name"))));
+        assertFalse(registry.isGranted(new MethodInvocationResult(invocation, ResponseEntity.ok("longer name"))));
+        assertTrue(registry.isGranted(new MethodInvocationResult(invocation, ResponseEntity.notFound().build())));
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#afterSingletonsInstantiated()}
+     */
+    @Test
+    void testAfterSingletonsInstantiatedRejectsMissingPolicyBean() {
+        assertThrows(IllegalStateException.class, () -> registry(GuardedController.class, EvenIdPolicy.class));
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#afterSingletonsInstantiated()}
+     */
+    @Test
+    void testAfterSingletonsInstantiatedRejectsMissingPolicyTarget() {
+        assertThrows(IllegalStateException.class,
+                () -> registry(MissingTargetController.class, EvenIdPolicy.class));
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#afterSingletonsInstantiated()}
+     */
+    @Test
+    void testAfterSingletonsInstantiatedRejectsRepeatedPolicyTarget() {
+        assertThrows(IllegalStateException.class,
+                () -> registry(RepeatedTargetController.class, EvenIdPolicy.class));
+    }
+
+    /**
+     * Method under test: {@link AccessPolicyRegistry#afterSingletonsInstantiated()}
+     */
+    @Test
+    void testAfterSingletonsInstantiatedRejectsMismatchedPolicyType() {
+        assertThrows(IllegalStateException.class,
+                () -> registry(MismatchedTargetController.class, ShortNamePolicy.class));
+    }
+}
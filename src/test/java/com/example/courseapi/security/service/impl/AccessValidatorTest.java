@@ -3,7 +3,7 @@ package com.example.courseapi.security.service.impl;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.example.courseapi.exception.AccessValidationException;
-import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.security.service.CourseMembershipService;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -22,7 +22,7 @@ class AccessValidatorTest {
     private AccessValidator accessValidator;
 
     @MockBean
-    private CourseRepository courseRepository;
+    private CourseMembershipService courseMembershipService;
 
     /**
      * Method under test: {@link AccessValidator#getPrincipalOrThrow()}
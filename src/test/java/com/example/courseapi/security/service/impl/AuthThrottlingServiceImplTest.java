@@ -0,0 +1,118 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.AuthThrottlingProperties;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.security.throttling.AuthEndpoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthThrottlingServiceImplTest {
+    private final AtomicLong now = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AuthThrottlingProperties properties;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new AuthThrottlingProperties();
+        properties.setLogin(new AuthThrottlingProperties.Endpoint(
+                new AuthThrottlingProperties.Limit(3, Duration.ofSeconds(1)),
+                new AuthThrottlingProperties.Limit(2, Duration.ofSeconds(10))));
+    }
+
+    private AuthThrottlingServiceImpl service() {
+        return new AuthThrottlingServiceImpl(properties, meterRegistry, now::get);
+    }
+
+    private double rejected(final String key) {
+        return meterRegistry.get("security.throttling.rejected")
+                .tag("endpoint", "login")
+                .tag("key", key)
+                .counter()
+                .count();
+    }
+
+    private SystemException assertThrottled(final Runnable call, final long retryAfter) {
+        SystemException ex = assertThrows(SystemException.class, call::run);
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, ex.getErrorCode());
+        assertEquals(retryAfter, ex.get().get(SystemException.RETRY_AFTER));
+        return ex;
+    }
+
+    /**
+     * Method under test: {@link AuthThrottlingServiceImpl#acquire(AuthEndpoint, String, String)}
+     */
+    @Test
+    void testAcquirePerIp() {
+        AuthThrottlingServiceImpl service = service();
+
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null);
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null);
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null);
+        assertThrottled(() -> service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null), 1L);
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.2", null);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null);
+        assertThrottled(() -> service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", null), 1L);
+        assertEquals(2, rejected("ip"));
+        assertEquals(0, rejected("account"));
+    }
+
+    /**
+     * Method under test: {@link AuthThrottlingServiceImpl#acquire(AuthEndpoint, String, String)}
+     */
+    @Test
+    void testAcquirePerAccount() {
+        AuthThrottlingServiceImpl service = service();
+
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", "jane.doe@example.org");
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.2", "Jane.Doe@example.org ");
+        assertThrottled(() -> service.acquire(AuthEndpoint.LOGIN, "10.0.0.3", "jane.doe@example.org"), 10L);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThrottled(() -> service.acquire(AuthEndpoint.LOGIN, "10.0.0.4", "jane.doe@example.org"), 6L);
+        assertEquals(2, rejected("account"));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        service.acquire(AuthEndpoint.LOGIN, "10.0.0.5", "jane.doe@example.org");
+    }
+
+    /**
+     * Method under test: {@link AuthThrottlingServiceImpl#acquire(AuthEndpoint, String, String)}
+     */
+    @Test
+    void testAcquireWithoutLimits() {
+        properties.setSignup(new AuthThrottlingProperties.Endpoint(null, null));
+        AuthThrottlingServiceImpl service = service();
+
+        for (int i = 0; i < 10; i++) {
+            service.acquire(AuthEndpoint.SIGNUP, "10.0.0.1", "jane.doe@example.org");
+            service.acquire(AuthEndpoint.REFRESH_TOKEN, "10.0.0.1", "jane.doe@example.org");
+        }
+    }
+
+    /**
+     * Method under test: {@link AuthThrottlingServiceImpl#acquire(AuthEndpoint, String, String)}
+     */
+    @Test
+    void testAcquireDisabled() {
+        properties.setEnabled(false);
+        AuthThrottlingServiceImpl service = service();
+
+        for (int i = 0; i < 10; i++) {
+            service.acquire(AuthEndpoint.LOGIN, "10.0.0.1", "jane.doe@example.org");
+        }
+        assertEquals(0, rejected("ip"));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.MembershipCacheProperties;
+import com.example.courseapi.repository.CourseRepository;
+import com.example.courseapi.repository.LessonRepository;
+import com.example.courseapi.service.EnrollmentIndexService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CourseMembershipServiceImplTest {
+    private EnrollmentIndexService enrollmentIndexService;
+
+    private CourseRepository courseRepository;
+
+    private LessonRepository lessonRepository;
+
+    private CourseMembershipServiceImpl courseMembershipServiceImpl;
+
+    @BeforeEach
+    void setup() {
+        enrollmentIndexService = Mockito.mock(EnrollmentIndexService.class);
+        courseRepository = Mockito.mock(CourseRepository.class);
+        lessonRepository = Mockito.mock(LessonRepository.class);
+        courseMembershipServiceImpl = new CourseMembershipServiceImpl(
+                enrollmentIndexService, courseRepository, lessonRepository, new MembershipCacheProperties(), new SimpleMeterRegistry());
+        when(enrollmentIndexService.isInstructor(1L, 10L)).thenReturn(true);
+        when(enrollmentIndexService.isStudent(1L, 20L)).thenReturn(true);
+        when(enrollmentIndexService.isStudent(1L, 21L)).thenReturn(true);
+        when(lessonRepository.findCourseIdById(5L)).thenReturn(Optional.of(1L));
+    }
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link CourseMembershipServiceImpl#isInstructor(Long, Long)}
+     *   <li>{@link CourseMembershipServiceImpl#isStudent(Long, Long)}
+     * </ul>
+     */
+    @Test
+    void testIsInstructorAndIsStudent() {
+        assertTrue(courseMembershipServiceImpl.isInstructor(1L, 10L));
+        assertFalse(courseMembershipServiceImpl.isInstructor(1L, 20L));
+        assertTrue(courseMembershipServiceImpl.isStudent(1L, 21L));
+        assertFalse(courseMembershipServiceImpl.isStudent(1L, 10L));
+        assertFalse(courseMembershipServiceImpl.isStudent(null, 10L));
+        verify(enrollmentIndexService, never()).isStudent(null, 10L);
+        verify(courseRepository, never()).existsByIdAndInstructorsId(1L, 10L);
+        verify(courseRepository).existsByIdAndInstructorsId(1L, 20L);
+        verify(courseRepository).existsByIdAndStudentsId(1L, 10L);
+    }
+
+    /**
+     * Method under test: {@link CourseMembershipServiceImpl#isStudent(Long, Long)}
+     */
+    @Test
+    void testIsStudentNotYetIndexed() {
+        when(courseRepository.existsByIdAndStudentsId(1L, 22L)).thenReturn(true);
+
+        assertTrue(courseMembershipServiceImpl.isStudent(1L, 22L));
+        verify(enrollmentIndexService).isStudent(1L, 22L);
+    }
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link CourseMembershipServiceImpl#isLessonInstructor(Long, Long)}
+     *   <li>{@link CourseMembershipServiceImpl#isLessonStudent(Long, Long)}
+     * </ul>
+     */
+    @Test
+    void testIsLessonInstructorAndIsLessonStudent() {
+        assertTrue(courseMembershipServiceImpl.isLessonInstructor(5L, 10L));
+        assertTrue(courseMembershipServiceImpl.isLessonStudent(5L, 20L));
+        assertFalse(courseMembershipServiceImpl.isLessonStudent(6L, 20L));
+        assertFalse(courseMembershipServiceImpl.isLessonStudent(6L, 20L));
+        verify(lessonRepository, times(1)).findCourseIdById(5L);
+        verify(lessonRepository, times(2)).findCourseIdById(6L);
+    }
+
+    /**
+     * Method under test: {@link CourseMembershipServiceImpl#evictLessons(java.util.Collection)}
+     */
+    @Test
+    void testEvictLessons() {
+        assertTrue(courseMembershipServiceImpl.isLessonStudent(5L, 20L));
+        when(lessonRepository.findCourseIdById(5L)).thenReturn(Optional.of(2L));
+
+        courseMembershipServiceImpl.evictLessons(Set.of(5L));
+
+        assertFalse(courseMembershipServiceImpl.isLessonStudent(5L, 20L));
+        verify(lessonRepository, times(2)).findCourseIdById(5L);
+    }
+}
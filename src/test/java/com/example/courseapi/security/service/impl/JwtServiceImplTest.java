@@ -0,0 +1,203 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.JwtProperties;
+import com.example.courseapi.domain.Admin;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.Roles;
+import com.example.courseapi.repository.RefreshTokenRepository;
+import com.example.courseapi.security.token.ValidatedJwtToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class JwtServiceImplTest {
+    private static final String SIGNING_KEY = "24432646294A404E635266556A586E5A7234753778214125442A472D4B615064";
+
+    private JwtProperties jwtProperties;
+
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JwtServiceImpl jwtServiceImpl;
+
+    @BeforeEach
+    void setup() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSigningKey(SIGNING_KEY);
+        jwtProperties.setAccessTokenExpiration(60_000L);
+        jwtProperties.setRefreshTokenExpiration(120_000L);
+        refreshTokenRepository = Mockito.mock(RefreshTokenRepository.class);
+        jwtServiceImpl = new JwtServiceImpl(refreshTokenRepository, jwtProperties);
+    }
+
+    private static Student student(final String email) {
+        Student student = new Student();
+        student.setEmail(email);
+        return student;
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#verifyJwtToken(String)}
+     */
+    @Test
+    void testVerifyJwtToken() {
+        String token = jwtServiceImpl.generateJwtToken(student("jane.doe@example.org"), Map.of("scope", "courses"), true);
+
+        ValidatedJwtToken validatedToken = jwtServiceImpl.verifyJwtToken(token);
+
+        assertEquals("jane.doe@example.org", validatedToken.subject());
+        assertEquals("courses", validatedToken.claim("scope", String.class));
+        assertTrue(validatedToken.expiration().isAfter(Instant.now()));
+        assertThrows(UnsupportedOperationException.class, () -> validatedToken.claims().put("scope", "all"));
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#verifyJwtToken(String)}
+     */
+    @Test
+    void testVerifyJwtToken2() {
+        String token = jwtServiceImpl.generateJwtAccessToken(student("jane.doe@example.org"));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtServiceImpl.verifyJwtToken(tampered));
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#verifyJwtToken(String)}
+     */
+    @Test
+    void testVerifyJwtToken3() {
+        jwtProperties.setAccessTokenExpiration(-1_000L);
+        String token = jwtServiceImpl.generateJwtAccessToken(student("jane.doe@example.org"));
+
+        assertThrows(ExpiredJwtException.class, () -> jwtServiceImpl.verifyJwtToken(token));
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#isJwtTokenValid(ValidatedJwtToken, org.springframework.security.core.userdetails.UserDetails)}
+     */
+    @Test
+    void testIsJwtTokenValid() {
+        ValidatedJwtToken token = jwtServiceImpl.verifyJwtToken(
+                jwtServiceImpl.generateJwtAccessToken(student("jane.doe@example.org")));
+
+        assertTrue(jwtServiceImpl.isJwtTokenValid(token, student("jane.doe@example.org")));
+        assertFalse(jwtServiceImpl.isJwtTokenValid(token, student("john.doe@example.org")));
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#extractUsername(String)}
+     */
+    @Test
+    void testExtractUsername() {
+        String token = jwtServiceImpl.generateJwtAccessToken(student("jane.doe@example.org"));
+
+        assertEquals("jane.doe@example.org", jwtServiceImpl.extractUsername(token));
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#extractPrincipal(ValidatedJwtToken)}
+     */
+    @Test
+    void testExtractPrincipal() {
+        Student student = student("jane.doe@example.org");
+        student.setId(42L);
+        student.setRole(Roles.STUDENT);
+        student.setTokenVersion(3);
+        ValidatedJwtToken token = jwtServiceImpl.verifyJwtToken(jwtServiceImpl.generateJwtAccessToken(student));
+
+        Optional<User> principal = jwtServiceImpl.extractPrincipal(token);
+
+        assertTrue(principal.isPresent());
+        assertInstanceOf(Student.class, principal.get());
+        assertEquals(42L, principal.get().getId());
+        assertEquals("jane.doe@example.org", principal.get().getUsername());
+        assertEquals(Roles.STUDENT, principal.get().getRole());
+        assertEquals(3, principal.get().getTokenVersion());
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#extractPrincipal(ValidatedJwtToken)}
+     */
+    @Test
+    void testExtractPrincipal2() {
+        Admin admin = new Admin();
+        admin.setEmail("admin@example.org");
+        admin.setId(1L);
+        admin.setRole(Roles.ADMIN);
+        ValidatedJwtToken token = jwtServiceImpl.verifyJwtToken(jwtServiceImpl.generateJwtAccessToken(admin));
+
+        assertInstanceOf(Admin.class, jwtServiceImpl.extractPrincipal(token).orElseThrow());
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#extractPrincipal(ValidatedJwtToken)}
+     */
+    @Test
+    void testExtractPrincipal3() {
+        ValidatedJwtToken token = jwtServiceImpl.verifyJwtToken(
+                jwtServiceImpl.generateJwtToken(student("jane.doe@example.org"), Map.of(), true));
+
+        assertTrue(jwtServiceImpl.extractPrincipal(token).isEmpty());
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#generateJwtRefreshToken(User)}
+     */
+    @Test
+    void testGenerateJwtRefreshToken() {
+        Student student = student("jane.doe@example.org");
+        student.setId(42L);
+
+        String refreshToken = jwtServiceImpl.generateJwtRefreshToken(student);
+
+        String jti = jwtServiceImpl.verifyJwtToken(refreshToken).claim(Claims.ID, String.class);
+        ArgumentCaptor<byte[]> hash = ArgumentCaptor.forClass(byte[].class);
+        verify(refreshTokenRepository).upsert(eq(UUID.fromString(jti)), eq(42L), hash.capture(), any());
+        assertEquals(32, hash.getValue().length);
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#isJwtRefreshTokenValid(String, org.springframework.security.core.userdetails.UserDetails)}
+     */
+    @Test
+    void testIsJwtRefreshTokenValid() {
+        Student student = student("jane.doe@example.org");
+        student.setId(42L);
+        String refreshToken = jwtServiceImpl.generateJwtRefreshToken(student);
+        String jti = jwtServiceImpl.verifyJwtToken(refreshToken).claim(Claims.ID, String.class);
+        when(refreshTokenRepository.existsByIdAndUserIdAndTokenHash(eq(UUID.fromString(jti)), eq(42L), any()))
+                .thenReturn(true);
+
+        assertTrue(jwtServiceImpl.isJwtRefreshTokenValid(refreshToken, student));
+        assertFalse(jwtServiceImpl.isJwtRefreshTokenValid(refreshToken, student("john.doe@example.org")));
+        verify(refreshTokenRepository, times(1)).existsByIdAndUserIdAndTokenHash(any(), any(), any());
+    }
+
+    /**
+     * Method under test: {@link JwtServiceImpl#isJwtRefreshTokenValid(String, org.springframework.security.core.userdetails.UserDetails)}
+     */
+    @Test
+    void testIsJwtRefreshTokenValid2() {
+        Student student = student("jane.doe@example.org");
+        student.setId(42L);
+        String accessToken = jwtServiceImpl.generateJwtAccessToken(student);
+
+        assertFalse(jwtServiceImpl.isJwtRefreshTokenValid(accessToken, student));
+        verify(refreshTokenRepository, never()).existsByIdAndUserIdAndTokenHash(any(), any(), any());
+    }
+}
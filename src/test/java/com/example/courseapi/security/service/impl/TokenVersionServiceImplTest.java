@@ -0,0 +1,68 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.JwtProperties;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TokenVersionServiceImplTest {
+    private UserRepository userRepository;
+
+    private TokenVersionServiceImpl tokenVersionServiceImpl;
+
+    @BeforeEach
+    void setup() {
+        userRepository = Mockito.mock(UserRepository.class);
+        tokenVersionServiceImpl = new TokenVersionServiceImpl(userRepository, new JwtProperties());
+    }
+
+    /**
+     * Method under test: {@link TokenVersionServiceImpl#isCurrent(Long, Integer)}
+     */
+    @Test
+    void testIsCurrent() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(2));
+
+        assertTrue(tokenVersionServiceImpl.isCurrent(1L, 2));
+        assertFalse(tokenVersionServiceImpl.isCurrent(1L, 1));
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    /**
+     * Method under test: {@link TokenVersionServiceImpl#isCurrent(Long, Integer)}
+     */
+    @Test
+    void testIsCurrent2() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.empty());
+
+        assertFalse(tokenVersionServiceImpl.isCurrent(1L, 0));
+        assertFalse(tokenVersionServiceImpl.isCurrent(1L, null));
+        assertFalse(tokenVersionServiceImpl.isCurrent(null, 0));
+    }
+
+    /**
+     * Method under test: {@link TokenVersionServiceImpl#revoke(com.example.courseapi.domain.User)}
+     */
+    @Test
+    void testRevoke() {
+        Student student = new Student();
+        student.setId(1L);
+        student.setTokenVersion(0);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(tokenVersionServiceImpl.isCurrent(1L, 0));
+
+        tokenVersionServiceImpl.revoke(student);
+
+        assertEquals(1, student.getTokenVersion());
+        assertFalse(tokenVersionServiceImpl.isCurrent(1L, 0));
+        assertTrue(tokenVersionServiceImpl.isCurrent(1L, 1));
+        verify(userRepository, times(2)).findTokenVersionById(1L);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.courseapi.security.service.impl;
+
+import com.example.courseapi.config.UserDetailsCacheProperties;
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.User;
+import com.example.courseapi.exception.SystemException;
+import com.example.courseapi.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserDetailsCacheServiceImplTest {
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserDetailsCacheServiceImpl userDetailsCacheServiceImpl;
+
+    @BeforeEach
+    void setup() {
+        userRepository = Mockito.mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCacheServiceImpl = new UserDetailsCacheServiceImpl(
+                userRepository, new UserDetailsCacheProperties(), meterRegistry);
+    }
+
+    private Student student() {
+        Student student = new Student();
+        student.setId(1L);
+        student.setEmail("jane.doe@example.org");
+        when(userRepository.findByEmail("jane.doe@example.org")).thenReturn(Optional.of(student));
+        return student;
+    }
+
+    private double cacheGets(final String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", UserDetailsCacheServiceImpl.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    /**
+     * Method under test: {@link UserDetailsCacheServiceImpl#loadUserByEmail(String)}
+     */
+    @Test
+    void testLoadUserByEmail() {
+        Student student = student();
+
+        assertSame(student, userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org"));
+        assertSame(student, userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org"));
+        verify(userRepository, times(1)).findByEmail("jane.doe@example.org");
+        assertEquals(1, cacheGets("hit"));
+        assertEquals(1, cacheGets("miss"));
+    }
+
+    /**
+     * Method under test: {@link UserDetailsCacheServiceImpl#loadUserByEmail(String)}
+     */
+    @Test
+    void testLoadUserByEmail2() {
+        when(userRepository.findByEmail(Mockito.<String>any())).thenReturn(Optional.empty());
+
+        assertThrows(SystemException.class, () -> userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org"));
+        assertThrows(SystemException.class, () -> userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org"));
+        verify(userRepository, times(2)).findByEmail("jane.doe@example.org");
+    }
+
+    /**
+     * Method under test: {@link UserDetailsCacheServiceImpl#evict(String)}
+     */
+    @Test
+    void testEvict() {
+        student();
+        userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org");
+
+        userDetailsCacheServiceImpl.evict("jane.doe@example.org");
+        User user = userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org");
+
+        assertEquals(1L, user.getId());
+        verify(userRepository, times(2)).findByEmail("jane.doe@example.org");
+    }
+
+    /**
+     * Method under test: {@link UserDetailsCacheServiceImpl#evictAll(java.util.Collection)}
+     */
+    @Test
+    void testEvictAll() {
+        student();
+        userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org");
+
+        userDetailsCacheServiceImpl.evictAll(Set.of(2L));
+        userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org");
+        verify(userRepository, times(1)).findByEmail("jane.doe@example.org");
+
+        userDetailsCacheServiceImpl.evictAll(Set.of(1L, 2L));
+        userDetailsCacheServiceImpl.loadUserByEmail("jane.doe@example.org");
+        verify(userRepository, times(2)).findByEmail("jane.doe@example.org");
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.courseapi.security.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.courseapi.domain.Student;
+import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = {UserDetailsPasswordServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+class UserDetailsPasswordServiceImplTest {
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private UserDetailsCacheService userDetailsCacheService;
+
+    @Autowired
+    private UserDetailsPasswordServiceImpl userDetailsPasswordServiceImpl;
+
+    /**
+     * Method under test: {@link UserDetailsPasswordServiceImpl#updatePassword(UserDetails, String)}
+     */
+    @Test
+    void testUpdatePassword() {
+        Student student = new Student();
+        student.setEmail("jane.doe@example.org");
+        student.setPassword("$2a$04$old");
+        when(userRepository.updatePasswordByEmail("jane.doe@example.org", "$2a$10$new")).thenReturn(1);
+
+        UserDetails actualUpdatePasswordResult = userDetailsPasswordServiceImpl.updatePassword(student, "$2a$10$new");
+
+        assertSame(student, actualUpdatePasswordResult);
+        assertEquals("$2a$10$new", actualUpdatePasswordResult.getPassword());
+        verify(userRepository).updatePasswordByEmail("jane.doe@example.org", "$2a$10$new");
+        verify(userDetailsCacheService).evict("jane.doe@example.org");
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.courseapi.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,12 +13,17 @@ import com.example.courseapi.config.args.generic.FilterImpl;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.config.args.generic.FiltersImpl;
 import com.example.courseapi.config.args.generic.SpecificationComparison;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.CourseFeedback;
 import com.example.courseapi.domain.Student;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.dto.request.CourseFeedbackRequestDTO;
 import com.example.courseapi.dto.response.CourseFeedbackResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.repository.CourseFeedbackRepository;
 import com.example.courseapi.repository.StudentRepository;
 import com.example.courseapi.service.mapper.CourseFeedbackMapper;
@@ -32,9 +40,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -51,6 +61,15 @@ class CourseFeedbackServiceImplTest {
     @MockBean
     private StudentRepository studentRepository;
 
+    @MockBean
+    private FilterCompiler filterCompiler;
+
+    @MockBean
+    private KeysetPaginator keysetPaginator;
+
+    @MockBean
+    private OffsetPaginator offsetPaginator;
+
     @Autowired
     private CourseFeedbackServiceImpl courseFeedbackServiceImpl;
 
@@ -208,28 +227,61 @@ class CourseFeedbackServiceImplTest {
     }
 
     /**
-     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link CourseFeedbackServiceImpl#findAllByCursor(Filters, String, Pageable)}
+     */
+    @Test
+    void testFindAllByCursor() {
+        when(keysetPaginator.findPage(Mockito.eq(CourseFeedback.class), Mockito.<Specification<CourseFeedback>>any(),
+                Mockito.any(), Mockito.<Pageable>any())).thenReturn(new CursorPageResponseDTO<>(new ArrayList<>(), 20, null));
+
+        CursorPageResponseDTO<CourseFeedbackResponseDTO> actualFindAllByCursorResult =
+                courseFeedbackServiceImpl.findAllByCursor(new FiltersImpl(), "", PageRequest.of(0, 20));
+
+        assertTrue(actualFindAllByCursorResult.getContent().isEmpty());
+        assertNull(actualFindAllByCursorResult.getNext());
+    }
+
+    /**
+     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable, CountMode)}
+     */
+    @Test
+    void testFindAllWithEstimatedCount() {
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(offsetPaginator.findPage(Mockito.eq(CourseFeedback.class), Mockito.<Specification<CourseFeedback>>any(),
+                Mockito.eq(pageable), Mockito.eq(CountMode.ESTIMATE)))
+                .thenReturn(new PageImpl<>(new ArrayList<>(), pageable, 5000L));
+
+        Slice<CourseFeedbackResponseDTO> actualFindAllResult =
+                courseFeedbackServiceImpl.findAll(new FiltersImpl(), pageable, CountMode.ESTIMATE);
+
+        assertEquals(5000L, ((Page<CourseFeedbackResponseDTO>) actualFindAllResult).getTotalElements());
+        verify(courseFeedbackRepository, never())
+                .findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any());
+    }
+
+    /**
+     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll() {
         when(courseFeedbackRepository.findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any()))
                 .thenReturn(new PageImpl<>(new ArrayList<>()));
-        assertTrue(courseFeedbackServiceImpl.findAll(new FiltersImpl(), null).toList().isEmpty());
+        assertTrue(courseFeedbackServiceImpl.findAll(new FiltersImpl(), null, CountMode.EXACT).toList().isEmpty());
         verify(courseFeedbackRepository).findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any());
     }
 
     /**
-     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll2() {
         when(courseFeedbackRepository.findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any()))
                 .thenReturn(new PageImpl<>(new ArrayList<>()));
-        courseFeedbackServiceImpl.findAll(new FiltersImpl(), PageRequest.of(0, 5));
+        courseFeedbackServiceImpl.findAll(new FiltersImpl(), PageRequest.of(0, 5), CountMode.EXACT);
     }
 
     /**
-     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll3() {
@@ -238,12 +290,12 @@ class CourseFeedbackServiceImplTest {
 
         FiltersImpl filters = new FiltersImpl();
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
-        assertTrue(courseFeedbackServiceImpl.findAll(filters, null).toList().isEmpty());
+        assertTrue(courseFeedbackServiceImpl.findAll(filters, null, CountMode.EXACT).toList().isEmpty());
         verify(courseFeedbackRepository).findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any());
     }
 
     /**
-     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link CourseFeedbackServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll4() {
@@ -253,7 +305,7 @@ class CourseFeedbackServiceImplTest {
         FiltersImpl filters = new FiltersImpl();
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
-        assertTrue(courseFeedbackServiceImpl.findAll(filters, null).toList().isEmpty());
+        assertTrue(courseFeedbackServiceImpl.findAll(filters, null, CountMode.EXACT).toList().isEmpty());
         verify(courseFeedbackRepository).findAll(Mockito.<Specification<CourseFeedback>>any(), Mockito.<Pageable>any());
     }
 
@@ -0,0 +1,135 @@
+package com.example.courseapi.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.courseapi.domain.CourseProgress;
+import com.example.courseapi.domain.enums.CourseStatus;
+import com.example.courseapi.dto.CourseGradeDTO;
+import com.example.courseapi.repository.CourseProgressRepository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = {CourseProgressServiceImpl.class})
+@ExtendWith(SpringExtension.class)
+class CourseProgressServiceImplTest {
+    @MockBean
+    private CourseProgressRepository courseProgressRepository;
+
+    @Autowired
+    private CourseProgressServiceImpl courseProgressServiceImpl;
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onSubmissionSaved(Long, Long, Double, Double)}
+     */
+    @Test
+    void testOnSubmissionSaved() {
+        courseProgressServiceImpl.onSubmissionSaved(1L, 2L, null, 80.0d);
+        verify(courseProgressRepository).applyDelta(1L, 2L, 1, 80.0d);
+        verify(courseProgressRepository).refreshStatusByLesson(1L, 2L);
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onSubmissionSaved(Long, Long, Double, Double)}
+     */
+    @Test
+    void testOnSubmissionSaved2() {
+        courseProgressServiceImpl.onSubmissionSaved(1L, 2L, 60.0d, 90.0d);
+        verify(courseProgressRepository).applyDelta(1L, 2L, 0, 30.0d);
+        verify(courseProgressRepository).refreshStatusByLesson(1L, 2L);
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onSubmissionDeleted(Long, Long, Double)}
+     */
+    @Test
+    void testOnSubmissionDeleted() {
+        courseProgressServiceImpl.onSubmissionDeleted(1L, 2L, 70.0d);
+        verify(courseProgressRepository).applyDelta(1L, 2L, -1, -70.0d);
+        verify(courseProgressRepository).refreshStatusByLesson(1L, 2L);
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onLessonsChanged(Collection)}
+     */
+    @Test
+    void testOnLessonsChanged() {
+        courseProgressServiceImpl.onLessonsChanged(Set.of(1L));
+        verify(courseProgressRepository).resetCounters(Set.of(1L));
+        verify(courseProgressRepository).recalculateCounters(Set.of(1L));
+        verify(courseProgressRepository).refreshStatus(Set.of(1L));
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onLessonsChanged(Collection)}
+     */
+    @Test
+    void testOnLessonsChanged2() {
+        courseProgressServiceImpl.onLessonsChanged(new HashSet<>());
+        verify(courseProgressRepository, never()).resetCounters(Mockito.<Collection<Long>>any());
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#onSubmissionsBatchSaved(Long)}
+     */
+    @Test
+    void testOnSubmissionsBatchSaved() {
+        courseProgressServiceImpl.onSubmissionsBatchSaved(1L);
+        verify(courseProgressRepository).resetCounters(List.of(1L));
+        verify(courseProgressRepository).recalculateCounters(List.of(1L));
+        verify(courseProgressRepository).refreshStatus(List.of(1L));
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#findCourseGrade(Long, Long)}
+     */
+    @Test
+    void testFindCourseGrade() {
+        CourseProgress courseProgress = new CourseProgress();
+        courseProgress.setCourseProgressId(new CourseProgress.CourseProgressId(2L, 1L));
+        courseProgress.setSubmittedLessons(5);
+        courseProgress.setGradeSum(450.0d);
+        courseProgress.setStatus(CourseStatus.COMPLETED);
+        courseProgress.setFinalGrade(90.0d);
+        when(courseProgressRepository.findById(new CourseProgress.CourseProgressId(2L, 1L)))
+                .thenReturn(Optional.of(courseProgress));
+        assertEquals(Optional.of(new CourseGradeDTO(CourseStatus.COMPLETED, 90.0d)),
+                courseProgressServiceImpl.findCourseGrade(1L, 2L));
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#findCourseGrade(Long, Long)}
+     */
+    @Test
+    void testFindCourseGrade2() {
+        when(courseProgressRepository.findById(Mockito.<CourseProgress.CourseProgressId>any()))
+                .thenReturn(Optional.empty());
+        assertTrue(courseProgressServiceImpl.findCourseGrade(1L, 2L).isEmpty());
+    }
+
+    /**
+     * Method under test: {@link CourseProgressServiceImpl#rebuild()}
+     */
+    @Test
+    void testRebuild() {
+        when(courseProgressRepository.recalculateAllCounters()).thenReturn(3);
+        assertEquals(3, courseProgressServiceImpl.rebuild());
+        verify(courseProgressRepository).deleteAllRows();
+        verify(courseProgressRepository).refreshAllStatuses();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.courseapi.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,6 +10,9 @@ import static org.mockito.Mockito.*;
 
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.config.args.generic.FiltersImpl;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.CourseFeedback;
 import com.example.courseapi.domain.Instructor;
@@ -16,14 +20,19 @@ import com.example.courseapi.domain.Lesson;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.Submission;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
+import com.example.courseapi.domain.enums.CourseMembersView;
 import com.example.courseapi.domain.enums.CourseStatus;
+import com.example.courseapi.domain.enums.EnrollmentRejection;
 import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.dto.CourseGradeDTO;
 import com.example.courseapi.dto.request.CourseRequestDTO;
 import com.example.courseapi.dto.request.LessonRequestDTO;
 import com.example.courseapi.dto.request.LessonsUpdateDTO;
+import com.example.courseapi.dto.response.CourseEnrollmentResultDTO;
 import com.example.courseapi.dto.response.CourseResponseDTO;
 import com.example.courseapi.dto.response.CourseStatusResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.CourseRepository;
@@ -31,15 +40,25 @@ import com.example.courseapi.repository.InstructorRepository;
 import com.example.courseapi.repository.LessonRepository;
 import com.example.courseapi.repository.StudentRepository;
 import com.example.courseapi.repository.UserRepository;
-import com.example.courseapi.service.SubmissionService;
+import com.example.courseapi.repository.projection.CourseCatalogRow;
+import com.example.courseapi.repository.projection.CourseGradeAggregate;
+import com.example.courseapi.repository.projection.StudentEnrollmentStats;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import com.example.courseapi.service.CourseProgressService;
+import com.example.courseapi.service.EnrollmentIndexService;
 import com.example.courseapi.service.mapper.CourseMapper;
 import com.example.courseapi.service.mapper.LessonMapper;
+import com.example.courseapi.util.MetamodelTestUtil;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -49,7 +68,9 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -60,6 +81,9 @@ class CourseServiceImplTest {
     @MockBean
     private CourseMapper courseMapper;
 
+    @MockBean
+    private CourseProgressService courseProgressService;
+
     @MockBean
     private CourseRepository courseRepository;
 
@@ -79,10 +103,25 @@ class CourseServiceImplTest {
     private StudentRepository studentRepository;
 
     @MockBean
-    private SubmissionService submissionService;
+    private UserRepository userRepository;
+
+    @MockBean
+    private UserDetailsCacheService userDetailsCacheService;
 
     @MockBean
-    private UserRepository userRepository;
+    private CourseMembershipService courseMembershipService;
+
+    @MockBean
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @MockBean
+    private FilterCompiler filterCompiler;
+
+    @MockBean
+    private KeysetPaginator keysetPaginator;
+
+    @MockBean
+    private OffsetPaginator offsetPaginator;
 
     /**
      * Method under test: {@link CourseServiceImpl#findById(Long)}
@@ -285,11 +324,12 @@ class CourseServiceImplTest {
     }
 
     /**
-     * Method under test: {@link CourseServiceImpl#findAll(Filters, Pageable, User)}
+     * Method under test: {@link CourseServiceImpl#findAll(Filters, Pageable, CountMode, CourseMembersView, User)}
      */
     @Test
     void testFindAll() {
-        when(courseRepository.findAll(Mockito.<Specification<Course>>any(), Mockito.<Pageable>any()))
+        when(courseRepository.findCatalogPage(Mockito.<Specification<Course>>any(), Mockito.<Pageable>any(),
+                Mockito.<CountMode>any()))
                 .thenReturn(new PageImpl<>(new ArrayList<>()));
         FiltersImpl filters = new FiltersImpl();
 
@@ -304,8 +344,47 @@ class CourseServiceImplTest {
         user.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         user.setPassword("SuperSecuredPassword");
         user.setRole(Roles.ADMIN);
-        assertTrue(courseServiceImpl.findAll(filters, null, user).toList().isEmpty());
-        verify(courseRepository).findAll(Mockito.<Specification<Course>>any(), Mockito.<Pageable>any());
+        assertTrue(courseServiceImpl.findAll(filters, null, CountMode.ESTIMATE, CourseMembersView.IDS, user)
+                .toList().isEmpty());
+        verify(courseRepository).findCatalogPage(Mockito.<Specification<Course>>any(), Mockito.<Pageable>any(),
+                Mockito.<CountMode>any());
+    }
+
+    /**
+     * Method under test: {@link CourseServiceImpl#findAllByCursor(Filters, String, Pageable, CourseMembersView, User)}
+     */
+    @Test
+    void testFindAllByCursor() {
+        KeysetPaginator.Keyset<Course> keyset = new KeysetPaginator(MetamodelTestUtil.sessionFactory()
+                .createEntityManager()).keyset(Course.class, "", PageRequest.of(0, 2, Sort.by("title")));
+        when(keysetPaginator.keyset(Mockito.eq(Course.class), Mockito.any(), Mockito.<Pageable>any()))
+                .thenReturn(keyset);
+        List<CourseCatalogRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            rows.add(new CourseCatalogRow(id, "Title " + id, null, true, null, null, null, null));
+        }
+        when(courseRepository.findCatalogRows(Mockito.<Specification<Course>>any(), Mockito.eq(keyset)))
+                .thenReturn(rows);
+        when(courseMapper.toResponseDto(Mockito.<CourseCatalogRow>any())).thenAnswer(invocation -> {
+            CourseResponseDTO course = new CourseResponseDTO();
+            course.setId(invocation.<CourseCatalogRow>getArgument(0).id());
+            return course;
+        });
+        when(courseRepository.findMembers(Mockito.<Collection<Long>>any(), Mockito.any()))
+                .thenReturn(new HashMap<>());
+        Student student = new Student();
+        student.setId(1L);
+        FiltersImpl filters = new FiltersImpl();
+
+        CursorPageResponseDTO<CourseResponseDTO> actualFindAllByCursorResult =
+                courseServiceImpl.findAllByCursor(filters, "", null, CourseMembersView.COUNT, student);
+
+        assertEquals(List.of(1L, 2L), actualFindAllByCursorResult.getContent().stream()
+                .map(CourseResponseDTO::getId).toList());
+        assertNotNull(actualFindAllByCursorResult.getNext());
+        // Students only page through available courses
+        assertEquals(1, filters.size());
+        verify(courseRepository).findMembers(Set.of(1L, 2L), CourseMembersView.COUNT);
     }
 
     /**
@@ -398,6 +477,60 @@ class CourseServiceImplTest {
         verify(courseRepository).findById(Mockito.<Long>any());
     }
 
+    /**
+     * Method under test: {@link CourseServiceImpl#enrollStudents(Long, Set)}
+     */
+    @Test
+    void testEnrollStudents() {
+        Course course = new Course();
+        course.setAvailable(true);
+        course.setId(1L);
+        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(course));
+        when(courseRepository.findEnrollmentStats(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(Map.of(
+                        1L, new StudentEnrollmentStats(1L, 0L, false),
+                        2L, new StudentEnrollmentStats(2L, 2L, true),
+                        3L, new StudentEnrollmentStats(3L, 6L, false),
+                        4L, new StudentEnrollmentStats(4L, 5L, false)));
+
+        CourseEnrollmentResultDTO actualEnrollStudentsResult = courseServiceImpl.enrollStudents(1L,
+                Set.of(1L, 2L, 3L, 4L, 5L));
+        assertEquals(Set.of(1L, 4L), actualEnrollStudentsResult.getEnrolled());
+        assertEquals(Map.of(
+                2L, EnrollmentRejection.ALREADY_ENROLLED,
+                3L, EnrollmentRejection.COURSE_LIMIT_EXCEEDED,
+                5L, EnrollmentRejection.STUDENT_NOT_FOUND), actualEnrollStudentsResult.getRejected());
+        verify(courseRepository).lockStudents(Set.of(1L, 2L, 3L, 4L, 5L));
+        verify(courseRepository).findEnrollmentStats(1L, Set.of(1L, 2L, 3L, 4L, 5L));
+        verify(courseRepository).enrollStudents(1L, Set.of(1L, 4L));
+        verify(userDetailsCacheService).evictAll(Set.of(1L, 4L));
+        verify(enrollmentIndexService).refreshCourses(Set.of(1L));
+    }
+
+    /**
+     * Method under test: {@link CourseServiceImpl#enrollStudents(Long, Set)}
+     */
+    @Test
+    void testEnrollStudents2() {
+        Course course = new Course();
+        course.setAvailable(false);
+        course.setId(1L);
+        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(course));
+        assertThrows(SystemException.class, () -> courseServiceImpl.enrollStudents(1L, Set.of(1L)));
+        verify(courseRepository, never()).enrollStudents(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
+    }
+
+    /**
+     * Method under test: {@link CourseServiceImpl#enrollStudents(Long, Set)}
+     */
+    @Test
+    void testEnrollStudents3() {
+        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        assertThrows(SystemException.class, () -> courseServiceImpl.enrollStudents(1L, Set.of(1L)));
+        verify(courseRepository, never())
+                .findEnrollmentStats(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
+    }
+
     /**
      * Method under test: {@link CourseServiceImpl#subscribeStudentToCourse(Long, Long)}
      */
@@ -447,11 +580,13 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult2 = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult2);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult2);
         courseServiceImpl.subscribeStudentToCourse(1L, 1L);
         verify(courseRepository).save(Mockito.<Course>any());
         verify(courseRepository).findById(Mockito.<Long>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
+        verify(userDetailsCacheService).evict(student.getEmail());
+        verify(enrollmentIndexService).refreshCourses(Set.of(1L));
     }
 
     /**
@@ -489,11 +624,11 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult2 = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult2);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult2);
         assertThrows(SystemException.class, () -> courseServiceImpl.subscribeStudentToCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
         verify(courseRepository).findById(Mockito.<Long>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
     }
 
     /**
@@ -558,7 +693,7 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult2 = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult2);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult2);
         when(course.getAvailable()).thenReturn(true);
         courseServiceImpl.subscribeStudentToCourse(1L, 1L);
         verify(courseRepository).save(Mockito.<Course>any());
@@ -576,7 +711,7 @@ class CourseServiceImplTest {
         verify(course).setLessons(Mockito.<Set<Lesson>>any());
         verify(course).setStudents(Mockito.<Set<Student>>any());
         verify(course).setTitle(Mockito.<String>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
     }
 
     /**
@@ -639,7 +774,7 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult);
         assertThrows(SystemException.class, () -> courseServiceImpl.subscribeStudentToCourse(1L, 1L));
         verify(courseRepository).findById(Mockito.<Long>any());
         verify(course2).setCreatedBy(Mockito.<String>any());
@@ -729,7 +864,7 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult2 = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult2);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult2);
         when(course.getAvailable()).thenReturn(true);
         courseServiceImpl.subscribeStudentToCourse(1L, 1L);
         verify(courseRepository).save(Mockito.<Course>any());
@@ -747,7 +882,7 @@ class CourseServiceImplTest {
         verify(course).setLessons(Mockito.<Set<Lesson>>any());
         verify(course).setStudents(Mockito.<Set<Student>>any());
         verify(course).setTitle(Mockito.<String>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
         verify(student).getStudentCourses();
         verify(student).setCreatedBy(Mockito.<String>any());
         verify(student).setCreatedDate(Mockito.<LocalDateTime>any());
@@ -781,19 +916,19 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         CourseStatusResponseDTO courseStatusResponseDTO = new CourseStatusResponseDTO();
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(courseStatusResponseDTO);
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertSame(courseStatusResponseDTO, courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -815,16 +950,16 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -860,18 +995,17 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         CourseStatusResponseDTO courseStatusResponseDTO = new CourseStatusResponseDTO();
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(courseStatusResponseDTO);
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertSame(courseStatusResponseDTO, courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
-        verify(course, times(5)).getId();
-        verify(course).getLessons();
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
+        verify(course, times(3)).getId();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -886,7 +1020,7 @@ class CourseServiceImplTest {
         verify(course).setTitle(Mockito.<String>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -949,18 +1083,17 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         CourseStatusResponseDTO courseStatusResponseDTO = new CourseStatusResponseDTO();
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(courseStatusResponseDTO);
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertSame(courseStatusResponseDTO, courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
-        verify(course2, times(5)).getId();
-        verify(course2).getLessons();
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
+        verify(course2, times(3)).getId();
         verify(course2).setCreatedBy(Mockito.<String>any());
         verify(course2).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course2).setModifiedBy(Mockito.<String>any());
@@ -975,7 +1108,7 @@ class CourseServiceImplTest {
         verify(course2).setTitle(Mockito.<String>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -983,8 +1116,8 @@ class CourseServiceImplTest {
      */
     @Test
     void testGetCourseStatus5() {
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         Course course = mock(Course.class);
         when(course.getId()).thenReturn(1L);
         when(course.getLessons()).thenReturn(new HashSet<>());
@@ -1014,11 +1147,11 @@ class CourseServiceImplTest {
         course.setTitle("Dr");
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertThrows(SystemException.class, () -> courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -1066,14 +1199,14 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(false);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(false);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertThrows(SystemException.class, () -> courseServiceImpl.getCourseStatus(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -1089,13 +1222,10 @@ class CourseServiceImplTest {
     }
 
     /**
-     * Method under test: {@link CourseServiceImpl#calculateCourseStatus(Long, Course)}
+     * Method under test: {@link CourseServiceImpl#getCourseStatus(Long, Long)}
      */
     @Test
-    void testCalculateCourseStatus() {
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
-                .thenReturn(new ArrayList<>());
-
+    void testGetCourseStatus7() {
         Course course = new Course();
         course.setAvailable(true);
         course.setCourseFeedbacks(new HashSet<>());
@@ -1109,15 +1239,25 @@ class CourseServiceImplTest {
         course.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
-        assertEquals(CourseStatus.FAILED, courseServiceImpl.calculateCourseStatus(1L, course).getCourseStatus());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(Optional.of(course));
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        CourseGradeDTO courseGradeDTO = new CourseGradeDTO(CourseStatus.COMPLETED, 90.0d);
+        when(courseProgressService.findCourseGrade(1L, 1L)).thenReturn(Optional.of(courseGradeDTO));
+        CourseStatusResponseDTO courseStatusResponseDTO = new CourseStatusResponseDTO();
+        when(courseMapper.toResponseStatusDto(course, 1L, courseGradeDTO)).thenReturn(courseStatusResponseDTO);
+        assertSame(courseStatusResponseDTO, courseServiceImpl.getCourseStatus(1L, 1L));
+        verify(courseProgressService).findCourseGrade(1L, 1L);
+        verify(courseRepository, never()).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
      * Method under test: {@link CourseServiceImpl#calculateCourseStatus(Long, Course)}
      */
     @Test
-    void testCalculateCourseStatus2() {
+    void testCalculateCourseStatus() {
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(new ArrayList<>());
+
         Course course = new Course();
         course.setAvailable(true);
         course.setCourseFeedbacks(new HashSet<>());
@@ -1131,49 +1271,17 @@ class CourseServiceImplTest {
         course.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
+        assertEquals(CourseStatus.FAILED, courseServiceImpl.calculateCourseStatus(1L, course).getCourseStatus());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
+    }
 
-        Lesson lesson = new Lesson();
-        lesson.setCourse(course);
-        lesson.setCreatedBy("Anonymous");
-        lesson.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        lesson.setDescription("The characteristics of someone or something");
-        lesson.setId(1L);
-        lesson.setModifiedBy("Anonymous");
-        lesson.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        lesson.setSubmissions(new HashSet<>());
-        lesson.setTitle("Dr");
-
-        Student student = new Student();
-        student.setCreatedBy("Anonymous");
-        student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setEmail("boom.boom@courseapi.org");
-        student.setFirstName("FirstName");
-        student.setId(1L);
-        student.setLastName("LastName");
-        student.setModifiedBy("Anonymous");
-        student.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setPassword("SuperSecuredPassword");
-        student.setRole(Roles.ADMIN);
-        student.setStudentCourses(new HashSet<>());
-
-        Submission.SubmissionId submissionId = new Submission.SubmissionId();
-        submissionId.setLessonId(1L);
-        submissionId.setStudentId(1L);
-
-        Submission submission = new Submission();
-        submission.setCreatedBy("Anonymous");
-        submission.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        submission.setGrade(80.0d);
-        submission.setLesson(lesson);
-        submission.setModifiedBy("Anonymous");
-        submission.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        submission.setStudent(student);
-        submission.setSubmissionId(submissionId);
-
-        ArrayList<Submission> submissionList = new ArrayList<>();
-        submissionList.add(submission);
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
-                .thenReturn(submissionList);
+    /**
+     * Method under test: {@link CourseServiceImpl#calculateCourseStatus(Long, Course)}
+     */
+    @Test
+    void testCalculateCourseStatus2() {
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(List.of(new CourseGradeAggregate(1L, 0L, 1L, 80.0d)));
 
         Course course2 = new Course();
         course2.setAvailable(true);
@@ -1189,7 +1297,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         assertEquals(CourseStatus.IN_PROGRESS, courseServiceImpl.calculateCourseStatus(1L, course2).getCourseStatus());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1197,7 +1305,7 @@ class CourseServiceImplTest {
      */
     @Test
     void testCalculateCourseStatus3() {
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         Course course = mock(Course.class);
         when(course.getId()).thenReturn(1L);
@@ -1227,9 +1335,8 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         assertEquals(CourseStatus.FAILED, courseServiceImpl.calculateCourseStatus(1L, course).getCourseStatus());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(course, times(5)).getId();
-        verify(course).getLessons();
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
+        verify(course, times(3)).getId();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -1257,7 +1364,7 @@ class CourseServiceImplTest {
      */
     @Test
     void testCalculateCourseStatus5() {
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
 
         Course course = new Course();
@@ -1277,7 +1384,7 @@ class CourseServiceImplTest {
         HashSet<Course> courses = new HashSet<>();
         courses.add(course);
         assertEquals(1, courseServiceImpl.calculateCourseStatus(1L, courses).size());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1285,62 +1392,8 @@ class CourseServiceImplTest {
      */
     @Test
     void testCalculateCourseStatus6() {
-        Course course = new Course();
-        course.setAvailable(true);
-        course.setCourseFeedbacks(new HashSet<>());
-        course.setCreatedBy("Anonymous");
-        course.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        course.setDescription("The characteristics of someone or something");
-        course.setId(1L);
-        course.setInstructors(new HashSet<>());
-        course.setLessons(new HashSet<>());
-        course.setModifiedBy("Anonymous");
-        course.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        course.setStudents(new HashSet<>());
-        course.setTitle("Dr");
-
-        Lesson lesson = new Lesson();
-        lesson.setCourse(course);
-        lesson.setCreatedBy("Anonymous");
-        lesson.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        lesson.setDescription("The characteristics of someone or something");
-        lesson.setId(1L);
-        lesson.setModifiedBy("Anonymous");
-        lesson.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        lesson.setSubmissions(new HashSet<>());
-        lesson.setTitle("Dr");
-
-        Student student = new Student();
-        student.setCreatedBy("Anonymous");
-        student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setEmail("boom.boom@courseapi.org");
-        student.setFirstName("FirstName");
-        student.setId(1L);
-        student.setLastName("LastName");
-        student.setModifiedBy("Anonymous");
-        student.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setPassword("SuperSecuredPassword");
-        student.setRole(Roles.ADMIN);
-        student.setStudentCourses(new HashSet<>());
-
-        Submission.SubmissionId submissionId = new Submission.SubmissionId();
-        submissionId.setLessonId(1L);
-        submissionId.setStudentId(1L);
-
-        Submission submission = new Submission();
-        submission.setCreatedBy("Anonymous");
-        submission.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        submission.setGrade(80.0d);
-        submission.setLesson(lesson);
-        submission.setModifiedBy("Anonymous");
-        submission.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        submission.setStudent(student);
-        submission.setSubmissionId(submissionId);
-
-        ArrayList<Submission> submissionList = new ArrayList<>();
-        submissionList.add(submission);
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
-                .thenReturn(submissionList);
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(List.of(new CourseGradeAggregate(1L, 0L, 1L, 80.0d)));
 
         Course course2 = new Course();
         course2.setAvailable(true);
@@ -1359,7 +1412,7 @@ class CourseServiceImplTest {
         HashSet<Course> courses = new HashSet<>();
         courses.add(course2);
         assertEquals(1, courseServiceImpl.calculateCourseStatus(1L, courses).size());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1367,7 +1420,7 @@ class CourseServiceImplTest {
      */
     @Test
     void testCalculateCourseStatus7() {
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
 
         Course course = new Course();
@@ -1402,7 +1455,7 @@ class CourseServiceImplTest {
         courses.add(course2);
         courses.add(course);
         assertEquals(1, courseServiceImpl.calculateCourseStatus(1L, courses).size());
-        verify(submissionService, atLeast(1)).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1410,7 +1463,7 @@ class CourseServiceImplTest {
      */
     @Test
     void testCalculateCourseStatus8() {
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         Course course = mock(Course.class);
         when(course.getId()).thenReturn(1L);
@@ -1443,9 +1496,8 @@ class CourseServiceImplTest {
         HashSet<Course> courses = new HashSet<>();
         courses.add(course);
         assertEquals(1, courseServiceImpl.calculateCourseStatus(1L, courses).size());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
-        verify(course, times(6)).getId();
-        verify(course).getLessons();
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
+        verify(course, times(2)).getId();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -1465,9 +1517,9 @@ class CourseServiceImplTest {
      */
     @Test
     void testIsStudentSubscribedToCourse() {
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(true);
         assertTrue(courseServiceImpl.isStudentSubscribedToCourse(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
     }
 
     /**
@@ -1475,9 +1527,9 @@ class CourseServiceImplTest {
      */
     @Test
     void testIsStudentSubscribedToCourse2() {
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(false);
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any())).thenReturn(false);
         assertFalse(courseServiceImpl.isStudentSubscribedToCourse(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
     }
 
     /**
@@ -1485,10 +1537,10 @@ class CourseServiceImplTest {
      */
     @Test
     void testIsStudentSubscribedToCourse3() {
-        when(courseRepository.existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseMembershipService.isStudent(Mockito.<Long>any(), Mockito.<Long>any()))
                 .thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> courseServiceImpl.isStudentSubscribedToCourse(1L, 1L));
-        verify(courseRepository).existsByIdAndStudentsId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseMembershipService).isStudent(Mockito.<Long>any(), Mockito.<Long>any());
     }
 
     /**
@@ -1652,7 +1704,7 @@ class CourseServiceImplTest {
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertEquals(1, courseServiceImpl.getMyCourses(1L).size());
         verify(userRepository).findById(Mockito.<Long>any());
@@ -1671,7 +1723,7 @@ class CourseServiceImplTest {
         verify(student).setRole(Mockito.<Roles>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1723,7 +1775,7 @@ class CourseServiceImplTest {
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> courseServiceImpl.getMyCourses(1L));
         verify(userRepository).findById(Mockito.<Long>any());
@@ -1740,7 +1792,7 @@ class CourseServiceImplTest {
         verify(student).setLastName(Mockito.<String>any());
         verify(student).setPassword(Mockito.<String>any());
         verify(student).setRole(Mockito.<Roles>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1807,7 +1859,7 @@ class CourseServiceImplTest {
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertEquals(1, courseServiceImpl.getMyCourses(1L).size());
         verify(userRepository).findById(Mockito.<Long>any());
@@ -1826,7 +1878,7 @@ class CourseServiceImplTest {
         verify(student).setRole(Mockito.<Roles>any());
         verify(courseMapper, atLeast(1)).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService, atLeast(1)).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -1892,7 +1944,7 @@ class CourseServiceImplTest {
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertEquals(1, courseServiceImpl.getMyCourses(1L).size());
         verify(userRepository).findById(Mockito.<Long>any());
@@ -1909,8 +1961,7 @@ class CourseServiceImplTest {
         verify(student).setLastName(Mockito.<String>any());
         verify(student).setPassword(Mockito.<String>any());
         verify(student).setRole(Mockito.<Roles>any());
-        verify(course, times(5)).getId();
-        verify(course).getLessons();
+        verify(course, times(2)).getId();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -1925,7 +1976,7 @@ class CourseServiceImplTest {
         verify(course).setTitle(Mockito.<String>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -2018,7 +2069,7 @@ class CourseServiceImplTest {
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertEquals(1, courseServiceImpl.getMyCourses(1L).size());
         verify(userRepository).findById(Mockito.<Long>any());
@@ -2035,8 +2086,7 @@ class CourseServiceImplTest {
         verify(student).setLastName(Mockito.<String>any());
         verify(student).setPassword(Mockito.<String>any());
         verify(student).setRole(Mockito.<Roles>any());
-        verify(course2, times(5)).getId();
-        verify(course2).getLessons();
+        verify(course2, times(2)).getId();
         verify(course2).setCreatedBy(Mockito.<String>any());
         verify(course2).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course2).setModifiedBy(Mockito.<String>any());
@@ -2051,7 +2101,7 @@ class CourseServiceImplTest {
         verify(course2).setTitle(Mockito.<String>any());
         verify(courseMapper).toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(),
                 Mockito.<CourseGradeDTO>any());
-        verify(submissionService).findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any());
+        verify(courseRepository).findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any());
     }
 
     /**
@@ -2116,7 +2166,7 @@ class CourseServiceImplTest {
         student.setRole(Roles.ADMIN);
         when(courseMapper.toResponseStatusDto(Mockito.<Course>any(), Mockito.<Long>any(), Mockito.<CourseGradeDTO>any()))
                 .thenReturn(new CourseStatusResponseDTO());
-        when(submissionService.findAllByStudentIdAndCourseId(Mockito.<Long>any(), Mockito.<Long>any()))
+        when(courseRepository.findGradeAggregates(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
                 .thenReturn(new ArrayList<>());
         assertThrows(SystemException.class, () -> courseServiceImpl.getMyCourses(1L));
         verify(userRepository).findById(Mockito.<Long>any());
@@ -2178,7 +2228,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2198,9 +2248,10 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(courseResponseDTO);
         assertSame(courseResponseDTO, courseServiceImpl.addInstructorToCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(instructorRepository).findById(Mockito.<Long>any());
         verify(courseMapper).toResponseDto(Mockito.<Course>any());
+        verify(enrollmentIndexService).refreshCourses(Set.of(1L));
     }
 
     /**
@@ -2237,7 +2288,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2256,7 +2307,7 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> courseServiceImpl.addInstructorToCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(instructorRepository).findById(Mockito.<Long>any());
         verify(courseMapper).toResponseDto(Mockito.<Course>any());
     }
@@ -2308,7 +2359,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2328,7 +2379,7 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(courseResponseDTO);
         assertSame(courseResponseDTO, courseServiceImpl.addInstructorToCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -2365,7 +2416,7 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(Optional.empty());
         Course course2 = mock(Course.class);
         doNothing().when(course2).setCreatedBy(Mockito.<String>any());
         doNothing().when(course2).setCreatedDate(Mockito.<LocalDateTime>any());
@@ -2409,7 +2460,7 @@ class CourseServiceImplTest {
         when(instructorRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(new CourseResponseDTO());
         assertThrows(SystemException.class, () -> courseServiceImpl.addInstructorToCourse(1L, 1L));
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course2).setCreatedBy(Mockito.<String>any());
         verify(course2).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course2).setModifiedBy(Mockito.<String>any());
@@ -2458,7 +2509,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2478,7 +2529,7 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(courseResponseDTO);
         assertSame(courseResponseDTO, courseServiceImpl.deleteInstructorForCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(instructorRepository).findById(Mockito.<Long>any());
         verify(courseMapper).toResponseDto(Mockito.<Course>any());
     }
@@ -2517,7 +2568,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2536,7 +2587,7 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> courseServiceImpl.deleteInstructorForCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(instructorRepository).findById(Mockito.<Long>any());
         verify(courseMapper).toResponseDto(Mockito.<Course>any());
     }
@@ -2588,7 +2639,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
@@ -2608,7 +2659,7 @@ class CourseServiceImplTest {
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(courseResponseDTO);
         assertSame(courseResponseDTO, courseServiceImpl.deleteInstructorForCourse(1L, 1L));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -2645,7 +2696,7 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(Optional.empty());
         Course course2 = mock(Course.class);
         doNothing().when(course2).setCreatedBy(Mockito.<String>any());
         doNothing().when(course2).setCreatedDate(Mockito.<LocalDateTime>any());
@@ -2689,7 +2740,7 @@ class CourseServiceImplTest {
         when(instructorRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(new CourseResponseDTO());
         assertThrows(SystemException.class, () -> courseServiceImpl.deleteInstructorForCourse(1L, 1L));
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course2).setCreatedBy(Mockito.<String>any());
         verify(course2).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course2).setModifiedBy(Mockito.<String>any());
@@ -2724,7 +2775,7 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
         courseServiceImpl.updateCourseLessonsAndSave(1L, new LessonsUpdateDTO(new HashSet<>()));
     }
 
@@ -2761,7 +2812,7 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         Optional<Course> ofResult = Optional.of(course);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
         courseServiceImpl.updateCourseLessonsAndSave(1L, new LessonsUpdateDTO(new HashSet<>()));
     }
 
@@ -2770,7 +2821,7 @@ class CourseServiceImplTest {
      */
     @Test
     void testUpdateCourseLessons3() {
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(Optional.empty());
         Course course = mock(Course.class);
         when(course.getLessons()).thenReturn(new HashSet<>());
         doNothing().when(course).setCreatedBy(Mockito.<String>any());
@@ -2798,7 +2849,7 @@ class CourseServiceImplTest {
         course.setStudents(new HashSet<>());
         course.setTitle("Dr");
         assertThrows(SystemException.class, () -> courseServiceImpl.updateCourseLessonsAndSave(1L, new LessonsUpdateDTO()));
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
         verify(course).setModifiedBy(Mockito.<String>any());
@@ -2860,7 +2911,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
         CourseResponseDTO courseResponseDTO = new CourseResponseDTO();
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenReturn(courseResponseDTO);
 
@@ -2868,7 +2919,7 @@ class CourseServiceImplTest {
         lessonsDTO.setLessons(new HashSet<>());
         assertSame(courseResponseDTO, courseServiceImpl.updateCourseLessonsAndSave(1L, lessonsDTO));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).getLessons();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
@@ -2932,14 +2983,14 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
         when(courseMapper.toResponseDto(Mockito.<Course>any())).thenThrow(new SystemException(ErrorCode.OK));
 
         LessonsUpdateDTO lessonsDTO = new LessonsUpdateDTO();
         lessonsDTO.setLessons(new HashSet<>());
         assertThrows(SystemException.class, () -> courseServiceImpl.updateCourseLessonsAndSave(1L, lessonsDTO));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).getLessons();
         verify(course).setCreatedBy(Mockito.<String>any());
         verify(course).setCreatedDate(Mockito.<LocalDateTime>any());
@@ -3005,7 +3056,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Course course3 = new Course();
         course3.setAvailable(true);
@@ -3068,7 +3119,7 @@ class CourseServiceImplTest {
         lessonsDTO.setLessons(lessons);
         assertSame(courseResponseDTO, courseServiceImpl.updateCourseLessonsAndSave(1L, lessonsDTO));
         verify(courseRepository).save(Mockito.<Course>any());
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).getId();
         verify(course).getLessons();
         verify(course).setCreatedBy(Mockito.<String>any());
@@ -3138,7 +3189,7 @@ class CourseServiceImplTest {
         course2.setStudents(new HashSet<>());
         course2.setTitle("Dr");
         when(courseRepository.save(Mockito.<Course>any())).thenReturn(course2);
-        when(courseRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(courseRepository.findWithLessonsById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Course course3 = new Course();
         course3.setAvailable(true);
@@ -3174,7 +3225,7 @@ class CourseServiceImplTest {
         LessonsUpdateDTO lessonsDTO = new LessonsUpdateDTO();
         lessonsDTO.setLessons(lessons);
         assertThrows(SystemException.class, () -> courseServiceImpl.updateCourseLessonsAndSave(1L, lessonsDTO));
-        verify(courseRepository).findById(Mockito.<Long>any());
+        verify(courseRepository).findWithLessonsById(Mockito.<Long>any());
         verify(course).getId();
         verify(course).getLessons();
         verify(course).setCreatedBy(Mockito.<String>any());
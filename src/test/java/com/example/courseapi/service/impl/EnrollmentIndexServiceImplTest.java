@@ -0,0 +1,151 @@
+package com.example.courseapi.service.impl;
+
+import com.example.courseapi.config.MembershipCacheProperties;
+import com.example.courseapi.repository.CourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EnrollmentIndexServiceImplTest {
+    private final List<long[]> studentRows = new ArrayList<>();
+
+    private final List<long[]> instructorRows = new ArrayList<>();
+
+    private CourseRepository courseRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private EnrollmentIndexServiceImpl enrollmentIndexServiceImpl;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        courseRepository = Mockito.mock(CourseRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            studentRows.forEach(row -> consumer.accept(row[0], row[1]));
+            return null;
+        }).when(courseRepository).forEachStudentEnrollment(any(BiConsumer.class));
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            instructorRows.forEach(row -> consumer.accept(row[0], row[1]));
+            return null;
+        }).when(courseRepository).forEachInstructorAssignment(any(BiConsumer.class));
+
+        studentRows.add(new long[]{1L, 10L});
+        studentRows.add(new long[]{1L, 11L});
+        studentRows.add(new long[]{2L, 10L});
+        instructorRows.add(new long[]{1L, 20L});
+
+        MembershipCacheProperties properties = new MembershipCacheProperties();
+        properties.setTtl(Duration.ofSeconds(30));
+        enrollmentIndexServiceImpl = new EnrollmentIndexServiceImpl(courseRepository, properties, meterRegistry,
+                nanoClock::get);
+        enrollmentIndexServiceImpl.afterSingletonsInstantiated();
+    }
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link EnrollmentIndexServiceImpl#isStudent(Long, Long)}
+     *   <li>{@link EnrollmentIndexServiceImpl#isInstructor(Long, Long)}
+     * </ul>
+     */
+    @Test
+    void testQueries() {
+        assertTrue(enrollmentIndexServiceImpl.isStudent(1L, 11L));
+        assertFalse(enrollmentIndexServiceImpl.isStudent(2L, 11L));
+        assertFalse(enrollmentIndexServiceImpl.isStudent(3L, 11L));
+        assertFalse(enrollmentIndexServiceImpl.isStudent(1L, 20L));
+        assertFalse(enrollmentIndexServiceImpl.isStudent(null, 11L));
+        assertTrue(enrollmentIndexServiceImpl.isInstructor(1L, 20L));
+        assertFalse(enrollmentIndexServiceImpl.isInstructor(2L, 20L));
+        assertTrue(meterRegistry.get("enrollment.index.memory").gauge().value() > 0);
+        verify(courseRepository, never()).findStudentIdsById(any());
+    }
+
+    /**
+     * Methods under test:
+     *
+     * <ul>
+     *   <li>{@link EnrollmentIndexServiceImpl#isStudent(Long, Long)}
+     *   <li>{@link EnrollmentIndexServiceImpl#isInstructor(Long, Long)}
+     * </ul>
+     */
+    @Test
+    void testQueriesReloadExpiredCourse() {
+        // The instructor was removed and the student unsubscribed on another instance
+        when(courseRepository.findStudentIdsById(1L)).thenReturn(List.of(10L));
+        when(courseRepository.findInstructorIdsById(1L)).thenReturn(List.of());
+        nanoClock.set(Duration.ofSeconds(31).toNanos());
+
+        assertFalse(enrollmentIndexServiceImpl.isStudent(1L, 11L));
+        assertFalse(enrollmentIndexServiceImpl.isInstructor(1L, 20L));
+        assertTrue(enrollmentIndexServiceImpl.isStudent(1L, 10L));
+        verify(courseRepository, times(1)).findStudentIdsById(1L);
+        verify(courseRepository, times(1)).findInstructorIdsById(1L);
+    }
+
+    /**
+     * Method under test: {@link EnrollmentIndexServiceImpl#refreshCourses(java.util.Collection)}
+     */
+    @Test
+    void testRefreshCourses() {
+        when(courseRepository.findStudentIdsById(1L)).thenReturn(List.of(11L, 12L));
+        when(courseRepository.findInstructorIdsById(1L)).thenReturn(List.of());
+
+        enrollmentIndexServiceImpl.refreshCourses(Set.of(1L));
+
+        assertFalse(enrollmentIndexServiceImpl.isStudent(1L, 10L));
+        assertTrue(enrollmentIndexServiceImpl.isStudent(1L, 12L));
+        assertFalse(enrollmentIndexServiceImpl.isInstructor(1L, 20L));
+        assertTrue(enrollmentIndexServiceImpl.isStudent(2L, 10L));
+    }
+
+    /**
+     * Method under test: {@link EnrollmentIndexServiceImpl#removeUser(Long)}
+     */
+    @Test
+    void testRemoveUser() {
+        enrollmentIndexServiceImpl.removeUser(10L);
+
+        assertFalse(enrollmentIndexServiceImpl.isStudent(1L, 10L));
+        assertFalse(enrollmentIndexServiceImpl.isStudent(2L, 10L));
+        assertTrue(enrollmentIndexServiceImpl.isStudent(1L, 11L));
+    }
+
+    /**
+     * Method under test: {@link EnrollmentIndexServiceImpl#verify()}
+     */
+    @Test
+    void testVerify() {
+        assertEquals(0, enrollmentIndexServiceImpl.verify());
+
+        studentRows.remove(0);
+        studentRows.add(new long[]{2L, 12L});
+        instructorRows.add(new long[]{2L, 21L});
+
+        assertEquals(3, enrollmentIndexServiceImpl.verify());
+        assertFalse(enrollmentIndexServiceImpl.isStudent(1L, 10L));
+        assertTrue(enrollmentIndexServiceImpl.isStudent(2L, 12L));
+        assertTrue(enrollmentIndexServiceImpl.isInstructor(2L, 21L));
+        assertEquals(3, meterRegistry.get("enrollment.index.drift").counter().count());
+        assertEquals(0, enrollmentIndexServiceImpl.verify());
+    }
+}
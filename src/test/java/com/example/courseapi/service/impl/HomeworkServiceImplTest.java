@@ -5,23 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.config.args.generic.FiltersImpl;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.Homework;
+import com.example.courseapi.domain.Instructor;
 import com.example.courseapi.domain.Lesson;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.dto.request.HomeworkRequestDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.dto.response.HomeworkResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.HomeworkRepository;
-import com.example.courseapi.repository.InstructorRepository;
 import com.example.courseapi.repository.LessonRepository;
 import com.example.courseapi.repository.StudentRepository;
 import com.example.courseapi.service.S3Service;
@@ -62,9 +69,6 @@ class HomeworkServiceImplTest {
     @Autowired
     private HomeworkServiceImpl homeworkServiceImpl;
 
-    @MockBean
-    private InstructorRepository instructorRepository;
-
     @MockBean
     private LessonRepository lessonRepository;
 
@@ -74,6 +78,15 @@ class HomeworkServiceImplTest {
     @MockBean
     private S3Service s3Service;
 
+    @MockBean
+    private FilterCompiler filterCompiler;
+
+    @MockBean
+    private KeysetPaginator keysetPaginator;
+
+    @MockBean
+    private OffsetPaginator offsetPaginator;
+
     /**
      * Method under test: {@link HomeworkServiceImpl#findById(Long)}
      */
@@ -389,7 +402,23 @@ class HomeworkServiceImplTest {
     }
 
     /**
-     * Method under test: {@link HomeworkServiceImpl#findAll(Filters, Pageable, User)}
+     * Method under test: {@link HomeworkServiceImpl#findAllByCursor(Filters, String, Pageable, User)}
+     */
+    @Test
+    void testFindAllByCursor() {
+        when(keysetPaginator.findPage(Mockito.eq(Homework.class), Mockito.<Specification<Homework>>any(),
+                Mockito.any(), Mockito.<Pageable>any())).thenReturn(new CursorPageResponseDTO<>(new ArrayList<>(), 20, null));
+        Student student = new Student();
+        student.setId(1L);
+
+        assertTrue(homeworkServiceImpl.findAllByCursor(new FiltersImpl(), "", null, student).getContent().isEmpty());
+        // Students only page through homeworks of their courses
+        verify(keysetPaginator).findPage(Mockito.eq(Homework.class), Mockito.<Specification<Homework>>notNull(),
+                Mockito.eq(""), Mockito.any());
+    }
+
+    /**
+     * Method under test: {@link HomeworkServiceImpl#findAll(Filters, Pageable, CountMode, User)}
      */
     @Test
     void testFindAll() {
@@ -408,12 +437,12 @@ class HomeworkServiceImplTest {
         user.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         user.setPassword("SuperSecuredPassword");
         user.setRole(Roles.ADMIN);
-        assertTrue(homeworkServiceImpl.findAll(filters, null, user).toList().isEmpty());
+        assertTrue(homeworkServiceImpl.findAll(filters, null, CountMode.EXACT, user).toList().isEmpty());
         verify(homeworkRepository).findAll(Mockito.<Specification<Homework>>any(), Mockito.<Pageable>any());
     }
 
     /**
-     * Method under test: {@link HomeworkServiceImpl#findAll(Filters, Pageable, User)}
+     * Method under test: {@link HomeworkServiceImpl#findAll(Filters, Pageable, CountMode, User)}
      */
     @Test
     void testFindAll2() {
@@ -485,7 +514,29 @@ class HomeworkServiceImplTest {
         user.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         user.setPassword("SuperSecuredPassword");
         user.setRole(Roles.ADMIN);
-        homeworkServiceImpl.findAll(filters, null, user);
+        homeworkServiceImpl.findAll(filters, null, CountMode.EXACT, user);
+    }
+
+    /**
+     * Method under test: {@link HomeworkServiceImpl#findAll(Filters, Pageable, CountMode, User)}
+     */
+    @Test
+    void testFindAll3() {
+        when(homeworkRepository.findAll(Mockito.<Specification<Homework>>any(), Mockito.<Pageable>any()))
+                .thenReturn(new PageImpl<>(new ArrayList<>()));
+
+        Student student = new Student();
+        student.setId(1L);
+        student.setRole(Roles.STUDENT);
+        assertTrue(homeworkServiceImpl.findAll(new FiltersImpl(), null, CountMode.EXACT, student).isEmpty());
+
+        Instructor instructor = new Instructor();
+        instructor.setId(2L);
+        instructor.setRole(Roles.INSTRUCTOR);
+        assertTrue(homeworkServiceImpl.findAll(new FiltersImpl(), null, CountMode.EXACT, instructor).isEmpty());
+
+        verify(homeworkRepository, times(2)).findAll(Mockito.<Specification<Homework>>any(), Mockito.<Pageable>any());
+        verify(studentRepository, never()).findWithCoursesById(Mockito.<Long>any());
     }
 
     /**
@@ -580,7 +631,7 @@ class HomeworkServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Course course = new Course();
         course.setAvailable(true);
@@ -610,7 +661,7 @@ class HomeworkServiceImplTest {
         when(lessonRepository.findById(Mockito.<Long>any())).thenReturn(ofResult2);
         assertThrows(SystemException.class, () -> homeworkServiceImpl.uploadHomeworkForLesson(1L,
                 new MockMultipartFile("Name", new ByteArrayInputStream("AXAXAXAX".getBytes(StandardCharsets.UTF_8))), 1L));
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
         verify(lessonRepository).findById(Mockito.<Long>any());
     }
 
@@ -632,11 +683,11 @@ class HomeworkServiceImplTest {
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
         Optional<Student> ofResult = Optional.of(student);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult);
         when(lessonRepository.findById(Mockito.<Long>any())).thenThrow(new SystemException(ErrorCode.OK));
         assertThrows(SystemException.class, () -> homeworkServiceImpl.uploadHomeworkForLesson(1L,
                 new MockMultipartFile("Name", new ByteArrayInputStream("AXAXAXAX".getBytes(StandardCharsets.UTF_8))), 1L));
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
         verify(lessonRepository).findById(Mockito.<Long>any());
     }
 
@@ -725,7 +776,7 @@ class HomeworkServiceImplTest {
         student2.setRole(Roles.ADMIN);
         student2.setStudentCourses(studentCourses);
         Optional<Student> ofResult = Optional.of(student2);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Course course3 = new Course();
         course3.setAvailable(true);
@@ -768,7 +819,7 @@ class HomeworkServiceImplTest {
         assertSame(homeworkResponseDTO, homeworkServiceImpl.uploadHomeworkForLesson(1L,
                 new MockMultipartFile("Name", new ByteArrayInputStream("AXAXAXAX".getBytes(StandardCharsets.UTF_8))), 1L));
         verify(homeworkRepository).save(Mockito.<Homework>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
         verify(lessonRepository).findById(Mockito.<Long>any());
         verify(homeworkMapper).toResponseDto(Mockito.<Homework>any());
     }
@@ -858,7 +909,7 @@ class HomeworkServiceImplTest {
         student2.setRole(Roles.ADMIN);
         student2.setStudentCourses(studentCourses);
         Optional<Student> ofResult = Optional.of(student2);
-        when(studentRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
+        when(studentRepository.findWithCoursesById(Mockito.<Long>any())).thenReturn(ofResult);
 
         Course course3 = new Course();
         course3.setAvailable(true);
@@ -890,7 +941,7 @@ class HomeworkServiceImplTest {
         assertThrows(SystemException.class, () -> homeworkServiceImpl.uploadHomeworkForLesson(1L,
                 new MockMultipartFile("Name", new ByteArrayInputStream("AXAXAXAX".getBytes(StandardCharsets.UTF_8))), 1L));
         verify(homeworkRepository).save(Mockito.<Homework>any());
-        verify(studentRepository).findById(Mockito.<Long>any());
+        verify(studentRepository).findWithCoursesById(Mockito.<Long>any());
         verify(lessonRepository).findById(Mockito.<Long>any());
         verify(homeworkMapper).toResponseDto(Mockito.<Homework>any());
     }
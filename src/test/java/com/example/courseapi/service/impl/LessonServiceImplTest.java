@@ -3,8 +3,10 @@ package com.example.courseapi.service.impl;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -12,13 +14,21 @@ import com.example.courseapi.config.args.generic.FilterImpl;
 import com.example.courseapi.config.args.generic.Filters;
 import com.example.courseapi.config.args.generic.FiltersImpl;
 import com.example.courseapi.config.args.generic.SpecificationComparison;
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Course;
 import com.example.courseapi.domain.Lesson;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.dto.request.LessonRequestDTO;
 import com.example.courseapi.dto.response.LessonResponseDTO;
+import com.example.courseapi.dto.response.CursorPageResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
+import com.example.courseapi.repository.CourseRepository;
 import com.example.courseapi.repository.LessonRepository;
+import com.example.courseapi.security.service.CourseMembershipService;
+import com.example.courseapi.service.CourseProgressService;
 import com.example.courseapi.service.mapper.LessonMapper;
 
 import java.time.LocalDate;
@@ -27,6 +37,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +47,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -46,9 +59,27 @@ class LessonServiceImplTest {
     @MockBean
     private LessonMapper lessonMapper;
 
+    @MockBean
+    private CourseProgressService courseProgressService;
+
     @MockBean
     private LessonRepository lessonRepository;
 
+    @MockBean
+    private CourseRepository courseRepository;
+
+    @MockBean
+    private CourseMembershipService courseMembershipService;
+
+    @MockBean
+    private FilterCompiler filterCompiler;
+
+    @MockBean
+    private KeysetPaginator keysetPaginator;
+
+    @MockBean
+    private OffsetPaginator offsetPaginator;
+
     @Autowired
     private LessonServiceImpl lessonServiceImpl;
 
@@ -182,8 +213,11 @@ class LessonServiceImplTest {
         when(lessonMapper.fromRequestDto(Mockito.<LessonRequestDTO>any())).thenReturn(lesson2);
         LessonResponseDTO lessonResponseDTO = new LessonResponseDTO();
         when(lessonMapper.toResponseDto(Mockito.<Lesson>any())).thenReturn(lessonResponseDTO);
-        assertSame(lessonResponseDTO, lessonServiceImpl.save(new LessonRequestDTO()));
+        LessonRequestDTO lessonRequestDTO = new LessonRequestDTO();
+        lessonRequestDTO.setCourseId(1L);
+        assertSame(lessonResponseDTO, lessonServiceImpl.save(lessonRequestDTO));
         verify(lessonRepository).save(Mockito.<Lesson>any());
+        verify(courseRepository).refreshAvailability(Set.of(1L));
         verify(lessonMapper).fromRequestDto(Mockito.<LessonRequestDTO>any());
         verify(lessonMapper).toResponseDto(Mockito.<Lesson>any());
     }
@@ -225,18 +259,55 @@ class LessonServiceImplTest {
     }
 
     /**
-     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link LessonServiceImpl#findAllByCursor(Filters, String, Pageable)}
+     */
+    @Test
+    void testFindAllByCursor() {
+        when(keysetPaginator.findPage(Mockito.eq(Lesson.class), Mockito.<Specification<Lesson>>any(), Mockito.any(),
+                Mockito.<Pageable>any())).thenReturn(new CursorPageResponseDTO<>(List.of(new Lesson()), 1, "next"));
+        when(lessonMapper.toResponseDto(Mockito.<Lesson>any())).thenReturn(new LessonResponseDTO());
+
+        CursorPageResponseDTO<LessonResponseDTO> actualFindAllByCursorResult =
+                lessonServiceImpl.findAllByCursor(new FiltersImpl(), "", PageRequest.of(0, 1));
+
+        assertEquals(1, actualFindAllByCursorResult.getContent().size());
+        assertEquals("next", actualFindAllByCursorResult.getNext());
+        verify(keysetPaginator).findPage(Mockito.eq(Lesson.class), Mockito.<Specification<Lesson>>any(),
+                Mockito.eq(""), Mockito.<Pageable>any());
+    }
+
+    /**
+     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable, CountMode)}
+     */
+    @Test
+    void testFindAllWithoutCount() {
+        PageRequest pageable = PageRequest.of(0, 1);
+        when(offsetPaginator.findPage(Mockito.eq(Lesson.class), Mockito.<Specification<Lesson>>any(),
+                Mockito.eq(pageable), Mockito.eq(CountMode.NONE)))
+                .thenReturn(new SliceImpl<>(List.of(new Lesson()), pageable, true));
+        when(lessonMapper.toResponseDto(Mockito.<Lesson>any())).thenReturn(new LessonResponseDTO());
+
+        Slice<LessonResponseDTO> actualFindAllResult =
+                lessonServiceImpl.findAll(new FiltersImpl(), pageable, CountMode.NONE);
+
+        assertEquals(1, actualFindAllResult.getContent().size());
+        assertTrue(actualFindAllResult.hasNext());
+        verify(lessonRepository, never()).findAll(Mockito.<Specification<Lesson>>any(), Mockito.<Pageable>any());
+    }
+
+    /**
+     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll() {
         when(lessonRepository.findAll(Mockito.<Specification<Lesson>>any(), Mockito.<Pageable>any()))
                 .thenReturn(new PageImpl<>(new ArrayList<>()));
-        assertTrue(lessonServiceImpl.findAll(new FiltersImpl(), null).toList().isEmpty());
+        assertTrue(lessonServiceImpl.findAll(new FiltersImpl(), null, CountMode.EXACT).toList().isEmpty());
         verify(lessonRepository).findAll(Mockito.<Specification<Lesson>>any(), Mockito.<Pageable>any());
     }
 
     /**
-     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll2() {
@@ -271,11 +342,11 @@ class LessonServiceImplTest {
         PageImpl<Lesson> pageImpl = new PageImpl<>(content);
         when(lessonRepository.findAll(Mockito.<Specification<Lesson>>any(), Mockito.<Pageable>any()))
                 .thenReturn(pageImpl);
-        lessonServiceImpl.findAll(new FiltersImpl(), PageRequest.of(0, 8));
+        lessonServiceImpl.findAll(new FiltersImpl(), PageRequest.of(0, 8), CountMode.EXACT);
     }
 
     /**
-     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll3() {
@@ -313,11 +384,11 @@ class LessonServiceImplTest {
 
         FiltersImpl filters = new FiltersImpl();
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
-        lessonServiceImpl.findAll(filters, PageRequest.of(0, 8));
+        lessonServiceImpl.findAll(filters, PageRequest.of(0, 8), CountMode.EXACT);
     }
 
     /**
-     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable)}
+     * Method under test: {@link LessonServiceImpl#findAll(Filters, Pageable, CountMode)}
      */
     @Test
     void testFindAll4() {
@@ -356,7 +427,7 @@ class LessonServiceImplTest {
         FiltersImpl filters = new FiltersImpl();
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
         filters.add(new FilterImpl("Name", SpecificationComparison.ENDS_WITH, "Value"));
-        lessonServiceImpl.findAll(filters, PageRequest.of(0, 8));
+        lessonServiceImpl.findAll(filters, PageRequest.of(0, 8), CountMode.EXACT);
     }
 
     /**
@@ -394,6 +465,7 @@ class LessonServiceImplTest {
         doNothing().when(lessonRepository).deleteById(Mockito.<Long>any());
         lessonServiceImpl.delete(1L);
         verify(lessonRepository).deleteById(Mockito.<Long>any());
+        verify(courseMembershipService).evictLessons(Set.of(1L));
     }
 
     /**
@@ -1,11 +1,13 @@
 package com.example.courseapi.service.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,7 +19,10 @@ import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.Submission;
 import com.example.courseapi.domain.User;
 import com.example.courseapi.domain.enums.Roles;
+import com.example.courseapi.domain.enums.SubmissionBatchStatus;
+import com.example.courseapi.dto.request.StudentGradeDTO;
 import com.example.courseapi.dto.request.SubmissionRequestDTO;
+import com.example.courseapi.dto.response.SubmissionBatchResultDTO;
 import com.example.courseapi.dto.response.SubmissionResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
@@ -25,14 +30,18 @@ import com.example.courseapi.repository.LessonRepository;
 import com.example.courseapi.repository.StudentRepository;
 import com.example.courseapi.repository.SubmissionRepository;
 import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.repository.projection.LessonEnrollment;
+import com.example.courseapi.service.CourseProgressService;
 import com.example.courseapi.service.mapper.SubmissionMapper;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -41,6 +50,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -56,6 +68,9 @@ class SubmissionServiceImplTest {
     @MockBean
     private SubmissionMapper submissionMapper;
 
+    @MockBean
+    private CourseProgressService courseProgressService;
+
     @MockBean
     private SubmissionRepository submissionRepository;
 
@@ -683,11 +698,14 @@ class SubmissionServiceImplTest {
      */
     @Test
     void testDelete() {
-        doNothing().when(submissionRepository)
-                .deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(Mockito.<Long>any(), Mockito.<Long>any());
+        Submission submission = new Submission();
+        submission.setGrade(80.0d);
+        when(submissionRepository.findById(Mockito.<Submission.SubmissionId>any())).thenReturn(Optional.of(submission));
+        doNothing().when(submissionRepository).delete(Mockito.<Submission>any());
         submissionServiceImpl.delete(1L, 1L);
-        verify(submissionRepository).deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(Mockito.<Long>any(),
-                Mockito.<Long>any());
+        verify(submissionRepository).findById(Mockito.<Submission.SubmissionId>any());
+        verify(submissionRepository).delete(Mockito.<Submission>any());
+        verify(courseProgressService).onSubmissionDeleted(1L, 1L, 80.0d);
     }
 
     /**
@@ -695,11 +713,25 @@ class SubmissionServiceImplTest {
      */
     @Test
     void testDelete2() {
-        doThrow(new SystemException(ErrorCode.OK)).when(submissionRepository)
-                .deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(Mockito.<Long>any(), Mockito.<Long>any());
+        when(submissionRepository.findById(Mockito.<Submission.SubmissionId>any()))
+                .thenReturn(Optional.of(new Submission()));
+        doThrow(new SystemException(ErrorCode.OK)).when(submissionRepository).delete(Mockito.<Submission>any());
         assertThrows(SystemException.class, () -> submissionServiceImpl.delete(1L, 1L));
-        verify(submissionRepository).deleteBySubmissionId_LessonIdAndSubmissionId_StudentId(Mockito.<Long>any(),
-                Mockito.<Long>any());
+        verify(submissionRepository).delete(Mockito.<Submission>any());
+        verify(courseProgressService, never()).onSubmissionDeleted(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Double>any());
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#delete(Long, Long)}
+     */
+    @Test
+    void testDelete3() {
+        when(submissionRepository.findById(Mockito.<Submission.SubmissionId>any())).thenReturn(Optional.empty());
+        submissionServiceImpl.delete(1L, 1L);
+        verify(submissionRepository, never()).delete(Mockito.<Submission>any());
+        verify(courseProgressService, never()).onSubmissionDeleted(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Double>any());
     }
 
     /**
@@ -1028,35 +1060,155 @@ class SubmissionServiceImplTest {
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#saveBatch(Long, List)}
+     */
+    @Test
+    void testSaveBatch() {
+        Course course = new Course();
+        course.setId(1L);
+        Lesson lesson = new Lesson();
+        lesson.setId(1L);
+        lesson.setCourse(course);
+        when(lessonRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(lesson));
+        when(submissionRepository.findEnrollments(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(List.of(new LessonEnrollment(1L, false), new LessonEnrollment(2L, true)));
+
+        List<SubmissionBatchResultDTO> actualSaveBatchResult = submissionServiceImpl.saveBatch(1L, List.of(
+                new StudentGradeDTO(1L, 90.0), new StudentGradeDTO(2L, 80.0),
+                new StudentGradeDTO(3L, 70.0), new StudentGradeDTO(1L, 60.0)));
+        assertEquals(List.of(
+                new SubmissionBatchResultDTO(1L, 90.0, SubmissionBatchStatus.CREATED),
+                new SubmissionBatchResultDTO(2L, 80.0, SubmissionBatchStatus.UPDATED),
+                new SubmissionBatchResultDTO(3L, 70.0, SubmissionBatchStatus.NOT_ENROLLED),
+                new SubmissionBatchResultDTO(1L, 60.0, SubmissionBatchStatus.DUPLICATE)), actualSaveBatchResult);
+        verify(submissionRepository).findEnrollments(1L, Set.of(1L, 2L, 3L));
+        verify(submissionRepository).upsertGrades(1L, Map.of(1L, 90.0, 2L, 80.0));
+        verify(courseProgressService).onSubmissionsBatchSaved(1L);
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#saveBatch(Long, List)}
+     */
+    @Test
+    void testSaveBatch2() {
+        Course course = new Course();
+        course.setId(1L);
+        Lesson lesson = new Lesson();
+        lesson.setId(1L);
+        lesson.setCourse(course);
+        when(lessonRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(lesson));
+        when(submissionRepository.findEnrollments(Mockito.<Long>any(), Mockito.<Collection<Long>>any()))
+                .thenReturn(new ArrayList<>());
+
+        List<SubmissionBatchResultDTO> actualSaveBatchResult = submissionServiceImpl.saveBatch(1L,
+                List.of(new StudentGradeDTO(1L, 90.0)));
+        assertEquals(SubmissionBatchStatus.NOT_ENROLLED, actualSaveBatchResult.get(0).getStatus());
+        verify(submissionRepository).upsertGrades(1L, Map.of());
+        verify(courseProgressService, never()).onSubmissionsBatchSaved(Mockito.<Long>any());
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#saveBatch(Long, List)}
+     */
+    @Test
+    void testSaveBatch3() {
+        when(lessonRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        assertThrows(SystemException.class, () -> submissionServiceImpl.saveBatch(1L,
+                List.of(new StudentGradeDTO(1L, 90.0))));
+        verify(submissionRepository, never()).upsertGrades(Mockito.<Long>any(), Mockito.<Map<Long, Double>>any());
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByLesson() {
-        when(submissionRepository.findAllByLessonId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        ArrayList<SubmissionResponseDTO> submissionResponseDTOList = new ArrayList<>();
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any())).thenReturn(submissionResponseDTOList);
-        List<SubmissionResponseDTO> actualFindAllByLessonResult = submissionServiceImpl.findAllByLesson(1L, 1L);
-        assertSame(submissionResponseDTOList, actualFindAllByLessonResult);
-        assertTrue(actualFindAllByLessonResult.isEmpty());
-        verify(submissionRepository).findAllByLessonId(Mockito.<Long>any());
-        verify(submissionMapper).toResponseDto(Mockito.<List<Submission>>any());
+        Admin admin = new Admin();
+        admin.setCreatedBy("Anonymous");
+        admin.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        admin.setEmail("boom.boom@courseapi.org");
+        admin.setFirstName("FirstName");
+        admin.setId(1L);
+        admin.setLastName("LastName");
+        admin.setModifiedBy("Anonymous");
+        admin.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        admin.setPassword("SuperSecuredPassword");
+        admin.setRole(Roles.ADMIN);
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(admin));
+        Submission submission = new Submission();
+        when(submissionRepository.findAllByLessonId(Mockito.<Long>any(), Mockito.<Pageable>any()))
+                .thenReturn(new PageImpl<>(List.of(submission)));
+        SubmissionResponseDTO submissionResponseDTO = new SubmissionResponseDTO();
+        when(submissionMapper.toResponseDto(Mockito.<Submission>any())).thenReturn(submissionResponseDTO);
+        Page<SubmissionResponseDTO> actualFindAllByLessonResult = submissionServiceImpl.findAllByLesson(1L, 1L,
+                Pageable.unpaged());
+        assertEquals(List.of(submissionResponseDTO), actualFindAllByLessonResult.getContent());
+        verify(submissionRepository).findAllByLessonId(Mockito.<Long>any(), Mockito.<Pageable>any());
+        verify(submissionMapper).toResponseDto(submission);
+        verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByLesson2() {
-        when(submissionRepository.findAllByLessonId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any()))
-                .thenThrow(new SystemException(ErrorCode.OK));
-        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByLesson(1L, 1L));
-        verify(submissionRepository).findAllByLessonId(Mockito.<Long>any());
-        verify(submissionMapper).toResponseDto(Mockito.<List<Submission>>any());
+        Instructor instructor = new Instructor();
+        instructor.setCreatedBy("Anonymous");
+        instructor.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        instructor.setEmail("boom.boom@courseapi.org");
+        instructor.setFirstName("FirstName");
+        instructor.setId(1L);
+        instructor.setLastName("LastName");
+        instructor.setModifiedBy("Anonymous");
+        instructor.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        instructor.setPassword("SuperSecuredPassword");
+        instructor.setRole(Roles.ADMIN);
+        instructor.setInstructorCourses(new HashSet<>());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(instructor));
+        when(submissionRepository.findAllByLessonIdAndInstructorId(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Pageable>any())).thenReturn(new PageImpl<>(new ArrayList<>()));
+        assertTrue(submissionServiceImpl.findAllByLesson(1L, 1L, Pageable.unpaged()).isEmpty());
+        verify(submissionRepository).findAllByLessonIdAndInstructorId(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Pageable>any());
+        verify(submissionRepository, never()).findAllByLessonId(Mockito.<Long>any(), Mockito.<Pageable>any());
+        verify(userRepository).findById(Mockito.<Long>any());
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long, Pageable)}
+     */
+    @Test
+    void testFindAllByLesson3() {
+        Student student = new Student();
+        student.setCreatedBy("Anonymous");
+        student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        student.setEmail("boom.boom@courseapi.org");
+        student.setFirstName("FirstName");
+        student.setId(1L);
+        student.setLastName("LastName");
+        student.setModifiedBy("Anonymous");
+        student.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
+        student.setPassword("SuperSecuredPassword");
+        student.setRole(Roles.ADMIN);
+        student.setStudentCourses(new HashSet<>());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(student));
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByLesson(1L, 1L, Pageable.unpaged()));
+        verify(userRepository).findById(Mockito.<Long>any());
+    }
+
+    /**
+     * Method under test: {@link SubmissionServiceImpl#findAllByLesson(Long, Long, Pageable)}
+     */
+    @Test
+    void testFindAllByLesson4() {
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByLesson(1L, 1L, Pageable.unpaged()));
+        verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent() {
@@ -1073,19 +1225,15 @@ class SubmissionServiceImplTest {
         user.setRole(Roles.ADMIN);
         Optional<User> ofResult = Optional.of(user);
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L));
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L, Pageable.unpaged()));
         verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent2() {
-        when(submissionRepository.findAllByStudentId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        ArrayList<SubmissionResponseDTO> submissionResponseDTOList = new ArrayList<>();
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any())).thenReturn(submissionResponseDTOList);
-
         Admin admin = new Admin();
         admin.setCreatedBy("Anonymous");
         admin.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
@@ -1097,35 +1245,25 @@ class SubmissionServiceImplTest {
         admin.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         admin.setPassword("SuperSecuredPassword");
         admin.setRole(Roles.ADMIN);
-        admin.setCreatedBy("Anonymous");
-        admin.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        admin.setEmail("boom.boom@courseapi.org");
-        admin.setFirstName("FirstName");
-        admin.setId(1L);
-        admin.setLastName("LastName");
-        admin.setModifiedBy("Anonymous");
-        admin.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        admin.setPassword("SuperSecuredPassword");
-        admin.setRole(Roles.ADMIN);
-        Optional<User> ofResult = Optional.of(admin);
-        when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        List<SubmissionResponseDTO> actualFindAllByStudentResult = submissionServiceImpl.findAllByStudent(1L, 1L);
-        assertSame(submissionResponseDTOList, actualFindAllByStudentResult);
-        assertTrue(actualFindAllByStudentResult.isEmpty());
-        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any());
-        verify(submissionMapper).toResponseDto(Mockito.<List<Submission>>any());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(admin));
+        Submission submission = new Submission();
+        when(submissionRepository.findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any()))
+                .thenReturn(new PageImpl<>(List.of(submission)));
+        SubmissionResponseDTO submissionResponseDTO = new SubmissionResponseDTO();
+        when(submissionMapper.toResponseDto(Mockito.<Submission>any())).thenReturn(submissionResponseDTO);
+        Page<SubmissionResponseDTO> actualFindAllByStudentResult = submissionServiceImpl.findAllByStudent(1L, 1L,
+                Pageable.unpaged());
+        assertEquals(List.of(submissionResponseDTO), actualFindAllByStudentResult.getContent());
+        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any());
+        verify(submissionMapper).toResponseDto(submission);
         verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent3() {
-        when(submissionRepository.findAllByStudentId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any()))
-                .thenThrow(new SystemException(ErrorCode.OK));
-
         Admin admin = new Admin();
         admin.setCreatedBy("Anonymous");
         admin.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
@@ -1137,80 +1275,48 @@ class SubmissionServiceImplTest {
         admin.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         admin.setPassword("SuperSecuredPassword");
         admin.setRole(Roles.ADMIN);
-        admin.setCreatedBy("Anonymous");
-        admin.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        admin.setEmail("boom.boom@courseapi.org");
-        admin.setFirstName("FirstName");
-        admin.setId(1L);
-        admin.setLastName("LastName");
-        admin.setModifiedBy("Anonymous");
-        admin.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        admin.setPassword("SuperSecuredPassword");
-        admin.setRole(Roles.ADMIN);
-        Optional<User> ofResult = Optional.of(admin);
-        when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L));
-        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any());
-        verify(submissionMapper).toResponseDto(Mockito.<List<Submission>>any());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(admin));
+        when(submissionRepository.findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any()))
+                .thenReturn(new PageImpl<>(List.of(new Submission())));
+        when(submissionMapper.toResponseDto(Mockito.<Submission>any())).thenThrow(new SystemException(ErrorCode.OK));
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L, Pageable.unpaged()));
+        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any());
+        verify(submissionMapper).toResponseDto(Mockito.<Submission>any());
         verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent4() {
-        when(submissionRepository.findAllByStudentId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any())).thenReturn(new ArrayList<>());
-
         Instructor instructor = new Instructor();
         instructor.setCreatedBy("Anonymous");
         instructor.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         instructor.setEmail("boom.boom@courseapi.org");
         instructor.setFirstName("FirstName");
         instructor.setId(1L);
-        instructor.setInstructorCourses(new HashSet<>());
         instructor.setLastName("LastName");
         instructor.setModifiedBy("Anonymous");
         instructor.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
         instructor.setPassword("SuperSecuredPassword");
         instructor.setRole(Roles.ADMIN);
-        instructor.setCreatedBy("Anonymous");
-        instructor.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        instructor.setEmail("boom.boom@courseapi.org");
-        instructor.setFirstName("FirstName");
-        instructor.setId(1L);
-        instructor.setLastName("LastName");
-        instructor.setModifiedBy("Anonymous");
-        instructor.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        instructor.setPassword("SuperSecuredPassword");
-        instructor.setRole(Roles.ADMIN);
-        instructor.setCreatedBy("Anonymous");
-        instructor.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        instructor.setEmail("boom.boom@courseapi.org");
-        instructor.setFirstName("FirstName");
-        instructor.setId(1L);
-        instructor.setLastName("LastName");
-        instructor.setModifiedBy("Anonymous");
-        instructor.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        instructor.setPassword("SuperSecuredPassword");
-        instructor.setRole(Roles.ADMIN);
-        Optional<User> ofResult = Optional.of(instructor);
-        when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        assertTrue(submissionServiceImpl.findAllByStudent(1L, 1L).isEmpty());
-        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any());
+        instructor.setInstructorCourses(new HashSet<>());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(instructor));
+        when(submissionRepository.findAllByStudentIdAndInstructorId(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Pageable>any())).thenReturn(new PageImpl<>(new ArrayList<>()));
+        assertTrue(submissionServiceImpl.findAllByStudent(1L, 1L, Pageable.unpaged()).isEmpty());
+        verify(submissionRepository).findAllByStudentIdAndInstructorId(Mockito.<Long>any(), Mockito.<Long>any(),
+                Mockito.<Pageable>any());
+        verify(submissionRepository, never()).findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any());
         verify(userRepository).findById(Mockito.<Long>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent5() {
-        when(submissionRepository.findAllByStudentId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        ArrayList<SubmissionResponseDTO> submissionResponseDTOList = new ArrayList<>();
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any())).thenReturn(submissionResponseDTOList);
-
         Student student = new Student();
         student.setCreatedBy("Anonymous");
         student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
@@ -1223,45 +1329,21 @@ class SubmissionServiceImplTest {
         student.setPassword("SuperSecuredPassword");
         student.setRole(Roles.ADMIN);
         student.setStudentCourses(new HashSet<>());
-        student.setCreatedBy("Anonymous");
-        student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setEmail("boom.boom@courseapi.org");
-        student.setFirstName("FirstName");
-        student.setId(1L);
-        student.setLastName("LastName");
-        student.setModifiedBy("Anonymous");
-        student.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setPassword("SuperSecuredPassword");
-        student.setRole(Roles.ADMIN);
-        student.setCreatedBy("Anonymous");
-        student.setCreatedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setEmail("boom.boom@courseapi.org");
-        student.setFirstName("FirstName");
-        student.setId(1L);
-        student.setLastName("LastName");
-        student.setModifiedBy("Anonymous");
-        student.setModifiedDate(LocalDate.of(1970, 1, 1).atStartOfDay());
-        student.setPassword("SuperSecuredPassword");
-        student.setRole(Roles.ADMIN);
-        Optional<User> ofResult = Optional.of(student);
-        when(userRepository.findById(Mockito.<Long>any())).thenReturn(ofResult);
-        List<SubmissionResponseDTO> actualFindAllByStudentResult = submissionServiceImpl.findAllByStudent(1L, 1L);
-        assertSame(submissionResponseDTOList, actualFindAllByStudentResult);
-        assertTrue(actualFindAllByStudentResult.isEmpty());
-        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any());
-        verify(submissionMapper).toResponseDto(Mockito.<List<Submission>>any());
-        verify(userRepository).findById(Mockito.<Long>any());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(student));
+        when(submissionRepository.findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any()))
+                .thenReturn(new PageImpl<>(new ArrayList<>()));
+        assertTrue(submissionServiceImpl.findAllByStudent(1L, 1L, Pageable.unpaged()).isEmpty());
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(2L, 1L, Pageable.unpaged()));
+        verify(submissionRepository).findAllByStudentId(Mockito.<Long>any(), Mockito.<Pageable>any());
     }
 
     /**
-     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long)}
+     * Method under test: {@link SubmissionServiceImpl#findAllByStudent(Long, Long, Pageable)}
      */
     @Test
     void testFindAllByStudent6() {
-        when(submissionRepository.findAllByStudentId(Mockito.<Long>any())).thenReturn(new ArrayList<>());
-        when(submissionMapper.toResponseDto(Mockito.<List<Submission>>any())).thenReturn(new ArrayList<>());
         when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
-        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L));
+        assertThrows(SystemException.class, () -> submissionServiceImpl.findAllByStudent(1L, 1L, Pageable.unpaged()));
         verify(userRepository).findById(Mockito.<Long>any());
     }
 
@@ -7,14 +7,21 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.courseapi.config.args.specs.FilterCompiler;
+import com.example.courseapi.config.args.specs.KeysetPaginator;
+import com.example.courseapi.config.args.specs.OffsetPaginator;
 import com.example.courseapi.domain.Student;
 import com.example.courseapi.domain.User;
+import com.example.courseapi.domain.enums.CountMode;
 import com.example.courseapi.domain.enums.Roles;
 import com.example.courseapi.dto.response.StudentResponseDTO;
 import com.example.courseapi.dto.response.UserResponseDTO;
 import com.example.courseapi.exception.SystemException;
 import com.example.courseapi.exception.code.ErrorCode;
 import com.example.courseapi.repository.UserRepository;
+import com.example.courseapi.security.service.TokenVersionService;
+import com.example.courseapi.security.service.UserDetailsCacheService;
+import com.example.courseapi.service.EnrollmentIndexService;
 import com.example.courseapi.service.mapper.InstructorMapper;
 import com.example.courseapi.service.mapper.StudentMapper;
 import com.example.courseapi.service.mapper.UserMapper;
@@ -46,6 +53,24 @@ class UserServiceImplTest {
     @MockBean
     private UserRepository userRepository;
 
+    @MockBean
+    private TokenVersionService tokenVersionService;
+
+    @MockBean
+    private UserDetailsCacheService userDetailsCacheService;
+
+    @MockBean
+    private EnrollmentIndexService enrollmentIndexService;
+
+    @MockBean
+    private FilterCompiler filterCompiler;
+
+    @MockBean
+    private KeysetPaginator keysetPaginator;
+
+    @MockBean
+    private OffsetPaginator offsetPaginator;
+
     @Autowired
     private UserServiceImpl userServiceImpl;
 
@@ -83,6 +108,8 @@ class UserServiceImplTest {
         userServiceImpl.addRoleToUser("boom.boom@courseapi.org", Roles.ADMIN);
         verify(userRepository).save(Mockito.<User>any());
         verify(userRepository).findByEmail(Mockito.<String>any());
+        verify(tokenVersionService).revoke(user);
+        verify(userDetailsCacheService).evict("boom.boom@courseapi.org");
     }
 
     /**
@@ -225,6 +252,9 @@ class UserServiceImplTest {
         userServiceImpl.delete(1L);
         verify(userRepository).findById(Mockito.<Long>any());
         verify(userRepository).deleteById(Mockito.<Long>any());
+        verify(tokenVersionService).evict(1L);
+        verify(userDetailsCacheService).evict("boom.boom@courseapi.org");
+        verify(enrollmentIndexService).removeUser(1L);
     }
 
     /**
@@ -381,6 +411,8 @@ class UserServiceImplTest {
         verify(userRepository).saveAndFlush(Mockito.<User>any());
         verify(userRepository).findById(Mockito.<Long>any());
         verify(userMapper).toResponseDto(Mockito.<User>any());
+        verify(tokenVersionService).revoke(user);
+        verify(userDetailsCacheService).evict("boom.boom@courseapi.org");
     }
 
     /**
@@ -526,5 +558,38 @@ class UserServiceImplTest {
         assertThrows(SystemException.class, () -> userServiceImpl.assingRoleForUser(1L, Roles.ADMIN));
         verify(userRepository).findById(Mockito.<Long>any());
     }
-}
 
+    /**
+     * Method under test: {@link UserServiceImpl#mapCurrentUser(User)}
+     */
+    @Test
+    void testMapCurrentUser() {
+        Student principal = Student.builder().id(1L).email("boom.boom@courseapi.org").role(Roles.STUDENT).build();
+
+        Student student = new Student();
+        student.setEmail("boom.boom@courseapi.org");
+        student.setFirstName("FirstName");
+        student.setId(1L);
+        student.setLastName("LastName");
+        student.setRole(Roles.STUDENT);
+        student.setStudentCourses(new HashSet<>());
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.of(student));
+
+        StudentResponseDTO studentResponseDTO = new StudentResponseDTO();
+        when(studentMapper.toResponseDto(Mockito.<Student>any())).thenReturn(studentResponseDTO);
+        assertSame(studentResponseDTO, userServiceImpl.mapCurrentUser(principal));
+        verify(userRepository).findById(1L);
+        verify(studentMapper).toResponseDto(student);
+    }
+
+    /**
+     * Method under test: {@link UserServiceImpl#mapCurrentUser(User)}
+     */
+    @Test
+    void testMapCurrentUser2() {
+        when(userRepository.findById(Mockito.<Long>any())).thenReturn(Optional.empty());
+        User principal = User.builder().id(1L).build();
+        assertThrows(SystemException.class, () -> userServiceImpl.mapCurrentUser(principal));
+        verify(userRepository).findById(1L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.courseapi.util;
+
+import com.example.courseapi.domain.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.DatabaseVersion;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+/**
+ * Hibernate session factory over the application entities that never opens a connection, for tests and
+ * benchmarks that only need the metamodel and the criteria API.
+ */
+public final class MetamodelTestUtil {
+
+    private MetamodelTestUtil() {
+        throw new IllegalStateException("Can not create instance of utility class");
+    }
+
+    public static SessionFactory sessionFactory() {
+        return Holder.SESSION_FACTORY;
+    }
+
+    private static final class Holder {
+        private static final SessionFactory SESSION_FACTORY = configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Admin.class)
+                .addAnnotatedClass(Instructor.class)
+                .addAnnotatedClass(Student.class)
+                .addAnnotatedClass(Course.class)
+                .addAnnotatedClass(CourseFeedback.class)
+                .addAnnotatedClass(CourseProgress.class)
+                .addAnnotatedClass(Lesson.class)
+                .addAnnotatedClass(Homework.class)
+                .addAnnotatedClass(Submission.class)
+                .addAnnotatedClass(RefreshToken.class)
+                .buildSessionFactory();
+
+        private static Configuration configuration() {
+            Configuration configuration = new Configuration()
+                    .setProperty("hibernate.temp.use_jdbc_metadata_defaults", "false");
+            // without JDBC metadata the dialect falls back to its oldest supported version
+            configuration.getProperties().put(AvailableSettings.DIALECT,
+                    new PostgreSQLDialect(DatabaseVersion.make(15)));
+            return configuration;
+        }
+    }
+}